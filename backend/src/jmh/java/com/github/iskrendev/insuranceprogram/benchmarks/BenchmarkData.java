@@ -0,0 +1,40 @@
+package com.github.iskrendev.insuranceprogram.benchmarks;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.github.iskrendev.insuranceprogram.models.LifeInsurance;
+import com.github.iskrendev.insuranceprogram.models.PropertyInsurance;
+import com.github.iskrendev.insuranceprogram.models.VehicleInsurance;
+import com.github.iskrendev.insuranceprogram.testdata.PortfolioGenerator;
+
+import java.util.List;
+
+final class BenchmarkData {
+    static final long SEED = 42L;
+    private static final PortfolioGenerator GENERATOR = new PortfolioGenerator(SEED);
+
+    private BenchmarkData() {
+    }
+
+    static ObjectMapper objectMapper() {
+        return JsonMapper.builder()
+                .findAndAddModules()
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+                .build();
+    }
+
+    static List<LifeInsurance> lifeInsurances(int size) {
+        return GENERATOR.lifeInsurances(size).toList();
+    }
+
+    static List<PropertyInsurance> propertyInsurances(int size) {
+        return GENERATOR.propertyInsurances(size).toList();
+    }
+
+    static List<VehicleInsurance> vehicleInsurances(int size) {
+        return GENERATOR.vehicleInsurances(size).toList();
+    }
+}
@@ -0,0 +1,42 @@
+package com.github.iskrendev.insuranceprogram.benchmarks;
+
+import com.github.iskrendev.insuranceprogram.models.LifeInsurance;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class InsuranceAmountBenchmark {
+    @Param({"1000", "10000", "100000"})
+    private int size;
+
+    private List<LifeInsurance> lifeInsurances;
+
+    @Setup
+    public void setUp() {
+        lifeInsurances = BenchmarkData.lifeInsurances(size);
+    }
+
+    @Benchmark
+    public BigDecimal streamReduce() {
+        return lifeInsurances.stream()
+                .map(LifeInsurance::calculateInsuranceAmount)
+                .reduce(BigDecimal.ZERO, BigDecimal::add);
+    }
+
+    @Benchmark
+    public BigDecimal loop() {
+        BigDecimal total = BigDecimal.ZERO;
+        for (LifeInsurance lifeInsurance : lifeInsurances) {
+            total = total.add(lifeInsurance.calculateInsuranceAmount());
+        }
+        return total;
+    }
+}
@@ -0,0 +1,79 @@
+package com.github.iskrendev.insuranceprogram.benchmarks;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.iskrendev.insuranceprogram.models.AllInsurancesResponse;
+import com.github.iskrendev.insuranceprogram.models.LifeInsurance;
+import com.github.iskrendev.insuranceprogram.models.PropertyInsurance;
+import com.github.iskrendev.insuranceprogram.models.VehicleInsurance;
+import com.github.iskrendev.insuranceprogram.services.InsuranceExportService;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JsonBenchmark {
+    @Param({"100", "10000"})
+    private int size;
+
+    private ObjectMapper objectMapper;
+    private AllInsurancesResponse allInsurancesResponse;
+    private byte[] allInsurancesResponseJson;
+    private LifeInsurance lifeInsurance;
+    private byte[] lifeInsuranceJson;
+    private InsuranceExportService insuranceExportService;
+
+    @Setup
+    public void setUp() throws IOException {
+        objectMapper = BenchmarkData.objectMapper();
+        List<LifeInsurance> lifeInsurances = BenchmarkData.lifeInsurances(size);
+        List<PropertyInsurance> propertyInsurances = BenchmarkData.propertyInsurances(size);
+        List<VehicleInsurance> vehicleInsurances = BenchmarkData.vehicleInsurances(size);
+        allInsurancesResponse = new AllInsurancesResponse(lifeInsurances, propertyInsurances, vehicleInsurances);
+        allInsurancesResponseJson = objectMapper.writeValueAsBytes(allInsurancesResponse);
+        lifeInsurance = lifeInsurances.get(0);
+        lifeInsuranceJson = objectMapper.writeValueAsBytes(lifeInsurance);
+        insuranceExportService = new InsuranceExportService(new StubMongoTemplate(Map.of(
+                LifeInsurance.class, lifeInsurances,
+                PropertyInsurance.class, propertyInsurances,
+                VehicleInsurance.class, vehicleInsurances)), objectMapper);
+    }
+
+    @Benchmark
+    public byte[] serializeAllInsurancesResponse() throws IOException {
+        return objectMapper.writeValueAsBytes(allInsurancesResponse);
+    }
+
+    @Benchmark
+    public AllInsurancesResponse deserializeAllInsurancesResponse() throws IOException {
+        return objectMapper.readValue(allInsurancesResponseJson, AllInsurancesResponse.class);
+    }
+
+    @Benchmark
+    public void streamAllInsurancesAsJson() throws IOException {
+        insuranceExportService.writeAllInsurancesAsJson(OutputStream.nullOutputStream());
+    }
+
+    @Benchmark
+    public void streamAllInsurancesAsNdjson() throws IOException {
+        insuranceExportService.writeAllInsurancesAsNdjson(OutputStream.nullOutputStream());
+    }
+
+    @Benchmark
+    public byte[] serializeLifeInsurance() throws IOException {
+        return objectMapper.writeValueAsBytes(lifeInsurance);
+    }
+
+    @Benchmark
+    public LifeInsurance deserializeLifeInsurance() throws IOException {
+        return objectMapper.readValue(lifeInsuranceJson, LifeInsurance.class);
+    }
+}
@@ -0,0 +1,91 @@
+package com.github.iskrendev.insuranceprogram.benchmarks;
+
+import com.github.iskrendev.insuranceprogram.config.SearchProperties;
+import com.github.iskrendev.insuranceprogram.models.AllInsurancesResponse;
+import com.github.iskrendev.insuranceprogram.models.LifeInsurance;
+import com.github.iskrendev.insuranceprogram.repositories.LifeInsuranceRepo;
+import com.github.iskrendev.insuranceprogram.repositories.NameCollation;
+import com.github.iskrendev.insuranceprogram.repositories.PropertyInsuranceRepo;
+import com.github.iskrendev.insuranceprogram.repositories.VehicleInsuranceRepo;
+import com.github.iskrendev.insuranceprogram.services.InsuranceSearchService;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.text.Collator;
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * Compares the anchored, case-insensitive regex matching that name searches used before they moved to collation-backed
+ * equality, and measures the dispatch and fan-out overhead of {@link InsuranceSearchService} around the repositories.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class NameSearchBenchmark {
+    @Param({"1000", "10000"})
+    private int size;
+
+    @Param({"Schneider", "SCHNEIDER"})
+    private String familyName;
+
+    private List<String> storedFamilyNames;
+    private Collator collator;
+    private ExecutorService searchExecutor;
+    private InsuranceSearchService insuranceSearchService;
+
+    @Setup
+    public void setUp() {
+        List<LifeInsurance> lifeInsurances = BenchmarkData.lifeInsurances(size);
+        storedFamilyNames = lifeInsurances.stream().map(LifeInsurance::familyName).toList();
+        collator = Collator.getInstance(Locale.forLanguageTag(NameCollation.LOCALE));
+        collator.setStrength(Collator.SECONDARY);
+
+        List<LifeInsurance> matches = lifeInsurances.subList(0, Math.min(10, size));
+        searchExecutor = Executors.newVirtualThreadPerTaskExecutor();
+        insuranceSearchService = new InsuranceSearchService(
+                StubRepositories.stub(LifeInsuranceRepo.class, matches),
+                StubRepositories.stub(PropertyInsuranceRepo.class, List.of()),
+                StubRepositories.stub(VehicleInsuranceRepo.class, List.of()),
+                searchExecutor,
+                new SearchProperties(Duration.ofSeconds(2)));
+    }
+
+    @TearDown
+    public void tearDown() {
+        searchExecutor.close();
+    }
+
+    @Benchmark
+    public void legacyAnchoredRegex(Blackhole blackhole) {
+        Pattern pattern = Pattern.compile("^" + Pattern.quote(familyName) + "$", Pattern.CASE_INSENSITIVE | Pattern.UNICODE_CASE);
+        for (String storedFamilyName : storedFamilyNames) {
+            blackhole.consume(pattern.matcher(storedFamilyName).matches());
+        }
+    }
+
+    @Benchmark
+    public void collationEquality(Blackhole blackhole) {
+        for (String storedFamilyName : storedFamilyNames) {
+            blackhole.consume(collator.equals(familyName, storedFamilyName));
+        }
+    }
+
+    @Benchmark
+    public List<LifeInsurance> searchLifeInsuranceByName() {
+        return insuranceSearchService.searchLifeInsuranceByName(null, familyName);
+    }
+
+    @Benchmark
+    public AllInsurancesResponse searchAllInsurancesByName() {
+        return insuranceSearchService.searchAllInsurancesByName(null, familyName);
+    }
+}
@@ -0,0 +1,78 @@
+package com.github.iskrendev.insuranceprogram.benchmarks;
+
+import com.mongodb.ClientSessionOptions;
+import com.mongodb.client.ClientSession;
+import com.mongodb.client.MongoDatabase;
+import com.mongodb.client.result.UpdateResult;
+import org.springframework.dao.support.PersistenceExceptionTranslator;
+import org.springframework.data.mongodb.MongoDatabaseFactory;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoExceptionTranslator;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.UpdateDefinition;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * Serves fixed in-memory documents so that benchmarks measure the application code around
+ * {@link MongoTemplate} calls without a database round trip.
+ */
+class StubMongoTemplate extends MongoTemplate {
+    private final Map<Class<?>, List<?>> documents;
+
+    StubMongoTemplate(Map<Class<?>, List<?>> documents) {
+        super(new UnconnectedDatabaseFactory());
+        this.documents = documents;
+    }
+
+    @Override
+    public <T> Stream<T> stream(Query query, Class<T> entityType) {
+        return documentsOf(entityType).stream();
+    }
+
+    @Override
+    public <T> T findAndModify(Query query, UpdateDefinition update, FindAndModifyOptions options, Class<T> entityClass) {
+        List<T> candidates = documentsOf(entityClass);
+        return candidates.isEmpty() ? null : candidates.get(0);
+    }
+
+    @Override
+    public UpdateResult updateFirst(Query query, UpdateDefinition update, Class<?> entityClass) {
+        return UpdateResult.acknowledged(1, 1L, null);
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> List<T> documentsOf(Class<T> entityClass) {
+        return (List<T>) documents.getOrDefault(entityClass, List.of());
+    }
+
+    private static class UnconnectedDatabaseFactory implements MongoDatabaseFactory {
+        @Override
+        public MongoDatabase getMongoDatabase() {
+            throw new UnsupportedOperationException("Benchmarks do not connect to MongoDB");
+        }
+
+        @Override
+        public MongoDatabase getMongoDatabase(String dbName) {
+            throw new UnsupportedOperationException("Benchmarks do not connect to MongoDB");
+        }
+
+        @Override
+        public PersistenceExceptionTranslator getExceptionTranslator() {
+            return new MongoExceptionTranslator();
+        }
+
+        @Override
+        public ClientSession getSession(ClientSessionOptions options) {
+            throw new UnsupportedOperationException("Benchmarks do not connect to MongoDB");
+        }
+
+        @Override
+        public MongoDatabaseFactory withSession(ClientSession session) {
+            throw new UnsupportedOperationException("Benchmarks do not connect to MongoDB");
+        }
+    }
+}
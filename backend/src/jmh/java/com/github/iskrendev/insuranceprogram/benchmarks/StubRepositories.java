@@ -0,0 +1,32 @@
+package com.github.iskrendev.insuranceprogram.benchmarks;
+
+import java.lang.reflect.Proxy;
+import java.util.List;
+import java.util.Optional;
+
+final class StubRepositories {
+    private StubRepositories() {
+    }
+
+    /**
+     * Creates a repository whose list queries return {@code documents} and whose single-result queries return the
+     * first of them. Everything else returns {@code null}.
+     */
+    static <R> R stub(Class<R> repositoryType, List<?> documents) {
+        return repositoryType.cast(Proxy.newProxyInstance(repositoryType.getClassLoader(), new Class<?>[]{repositoryType},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "equals" -> proxy == args[0];
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    case "toString" -> "Stub" + repositoryType.getSimpleName();
+                    default -> {
+                        if (method.getReturnType() == List.class) {
+                            yield documents;
+                        }
+                        if (method.getReturnType() == Optional.class) {
+                            yield documents.stream().findFirst();
+                        }
+                        yield null;
+                    }
+                }));
+    }
+}
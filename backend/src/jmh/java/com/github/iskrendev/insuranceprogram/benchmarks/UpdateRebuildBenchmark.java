@@ -0,0 +1,105 @@
+package com.github.iskrendev.insuranceprogram.benchmarks;
+
+import com.github.iskrendev.insuranceprogram.config.SuggestionProperties;
+import com.github.iskrendev.insuranceprogram.models.LifeInsurance;
+import com.github.iskrendev.insuranceprogram.models.LifeInsuranceDTO;
+import com.github.iskrendev.insuranceprogram.models.LifeInsuranceUpdateDTO;
+import com.github.iskrendev.insuranceprogram.repositories.LifeInsuranceRepo;
+import com.github.iskrendev.insuranceprogram.repositories.PortfolioSummaryRepo;
+import com.github.iskrendev.insuranceprogram.repositories.PropertyInsuranceRepo;
+import com.github.iskrendev.insuranceprogram.repositories.VehicleInsuranceRepo;
+import com.github.iskrendev.insuranceprogram.services.InsurancePaginationService;
+import com.github.iskrendev.insuranceprogram.services.LifeInsuranceService;
+import com.github.iskrendev.insuranceprogram.services.NameSuggestionService;
+import com.github.iskrendev.insuranceprogram.services.PortfolioCounterService;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the JVM side of the edit paths: mapping request DTOs to entities and building the {@code $set} update plus
+ * the merged result of PUT and PATCH. The database call itself is stubbed out.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UpdateRebuildBenchmark {
+    private LifeInsuranceDTO lifeInsuranceDTO;
+    private LifeInsuranceUpdateDTO fullUpdate;
+    private LifeInsuranceUpdateDTO partialUpdate;
+    private LifeInsuranceService lifeInsuranceService;
+    private String id;
+
+    @Setup
+    public void setUp() {
+        LifeInsurance stored = BenchmarkData.lifeInsurances(1).get(0);
+        id = stored.id();
+        lifeInsuranceDTO = LifeInsuranceDTO.builder()
+                .firstName(stored.firstName())
+                .familyName(stored.familyName())
+                .zipCode(stored.zipCode())
+                .city(stored.city())
+                .address(stored.address())
+                .telephone(stored.telephone())
+                .email(stored.email())
+                .type(stored.type())
+                .duration(stored.duration())
+                .paymentPerMonth(stored.paymentPerMonth())
+                .startDate(stored.startDate())
+                .endDate(stored.endDate())
+                .hasHealthIssues(stored.hasHealthIssues())
+                .healthConditionDetails(stored.healthConditionDetails())
+                .build();
+        fullUpdate = LifeInsuranceUpdateDTO.builder()
+                .firstName(stored.firstName())
+                .familyName(stored.familyName())
+                .zipCode("20095")
+                .city("Hamburg")
+                .address("Neue Straße 1")
+                .telephone(stored.telephone())
+                .email(stored.email())
+                .duration(stored.duration() + 12)
+                .paymentPerMonth(stored.paymentPerMonth().add(BigDecimal.TEN))
+                .endDate(LocalDate.of(2040, 1, 1))
+                .hasHealthIssues(false)
+                .healthConditionDetails("")
+                .build();
+        partialUpdate = LifeInsuranceUpdateDTO.builder()
+                .city("Hamburg")
+                .build();
+
+        StubMongoTemplate mongoTemplate = new StubMongoTemplate(Map.of(LifeInsurance.class, List.of(stored)));
+        LifeInsuranceRepo lifeInsuranceRepo = StubRepositories.stub(LifeInsuranceRepo.class, List.of(stored));
+        PortfolioCounterService portfolioCounterService = new PortfolioCounterService(mongoTemplate,
+                StubRepositories.stub(PortfolioSummaryRepo.class, List.of()),
+                lifeInsuranceRepo,
+                StubRepositories.stub(PropertyInsuranceRepo.class, List.of()),
+                StubRepositories.stub(VehicleInsuranceRepo.class, List.of()));
+        NameSuggestionService nameSuggestionService = new NameSuggestionService(mongoTemplate,
+                new SuggestionProperties(100000, 10, 2));
+        lifeInsuranceService = new LifeInsuranceService(lifeInsuranceRepo, portfolioCounterService,
+                nameSuggestionService, new InsurancePaginationService(mongoTemplate), mongoTemplate);
+    }
+
+    @Benchmark
+    public LifeInsurance dtoToEntity() {
+        return lifeInsuranceDTO.toLifeInsurance();
+    }
+
+    @Benchmark
+    public LifeInsurance putUpdate() {
+        return lifeInsuranceService.updateLifeInsurance(id, fullUpdate);
+    }
+
+    @Benchmark
+    public LifeInsurance patchUpdate() {
+        return lifeInsuranceService.patchLifeInsurance(id, partialUpdate);
+    }
+}
@@ -0,0 +1,29 @@
+package com.github.iskrendev.insuranceprogram.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+@ConfigurationProperties(prefix = "insurance.bulkheads")
+public record BulkheadProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue Map<String, Endpoint> endpoints
+) {
+    /**
+     * @param paths         request path patterns sharing one bulkhead
+     * @param methods       HTTP methods the bulkhead applies to, all methods when empty
+     * @param maxConcurrent number of requests allowed to run at the same time
+     * @param maxWait       how long a request may queue for a permit before it is rejected
+     */
+    public record Endpoint(
+            List<String> paths,
+            @DefaultValue Set<String> methods,
+            @DefaultValue("10") int maxConcurrent,
+            @DefaultValue("0ms") Duration maxWait
+    ) {
+    }
+}
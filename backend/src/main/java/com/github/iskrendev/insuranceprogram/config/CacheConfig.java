@@ -0,0 +1,13 @@
+package com.github.iskrendev.insuranceprogram.config;
+
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableCaching
+public class CacheConfig {
+    public static final String LIFE_INSURANCES = "lifeInsurances";
+    public static final String PROPERTY_INSURANCES = "propertyInsurances";
+    public static final String VEHICLE_INSURANCES = "vehicleInsurances";
+    public static final String INSURANCE_INDEXES = "insuranceIndexes";
+}
@@ -0,0 +1,28 @@
+package com.github.iskrendev.insuranceprogram.config;
+
+import lombok.AllArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Stops the application as soon as it is ready. The container build starts it once this way with
+ * {@code -XX:ArchiveClassesAtExit}, so the class-data sharing archive holds every class loaded during startup.
+ */
+@Slf4j
+@Component
+@AllArgsConstructor
+@ConditionalOnProperty(prefix = "insurance.startup", name = "training-run", havingValue = "true")
+public class CdsTrainingRun {
+    private ConfigurableApplicationContext applicationContext;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void exit() {
+        log.info("Training run finished, shutting down");
+        System.exit(SpringApplication.exit(applicationContext));
+    }
+}
@@ -0,0 +1,34 @@
+package com.github.iskrendev.insuranceprogram.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * @param initialLimit  in-flight requests allowed before any latency has been measured
+ * @param smoothing     weight of each new limit estimate, between 0 and 1
+ * @param tolerance     how much slower than the long-term latency requests may get before the limit shrinks
+ * @param longWindow    number of samples the long-term latency average spans
+ * @param backoffRatio  factor applied to the limit when a request fails on the server side
+ * @param priorityPaths GET path patterns that may use the whole limit; only their latency adjusts the limit
+ * @param reservedShare share of the limit that only priority requests may use
+ * @param retryAfter    delay suggested to rejected clients
+ */
+@ConfigurationProperties(prefix = "insurance.concurrency-limit")
+public record ConcurrencyLimitProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("/api/**") String paths,
+        @DefaultValue("20") int initialLimit,
+        @DefaultValue("4") int minLimit,
+        @DefaultValue("200") int maxLimit,
+        @DefaultValue("0.2") double smoothing,
+        @DefaultValue("1.5") double tolerance,
+        @DefaultValue("600") int longWindow,
+        @DefaultValue("0.9") double backoffRatio,
+        @DefaultValue({"/api/life/*", "/api/property/*", "/api/vehicle/*"}) List<String> priorityPaths,
+        @DefaultValue("0.2") double reservedShare,
+        @DefaultValue("1s") Duration retryAfter
+) {
+}
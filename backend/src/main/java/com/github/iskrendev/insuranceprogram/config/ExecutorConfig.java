@@ -0,0 +1,29 @@
+package com.github.iskrendev.insuranceprogram.config;
+
+import org.apache.coyote.ProtocolHandler;
+import org.springframework.boot.web.embedded.tomcat.TomcatProtocolHandlerCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+@Configuration
+public class ExecutorConfig {
+    public static final String SEARCH_EXECUTOR = "searchExecutor";
+
+    @Bean(name = SEARCH_EXECUTOR, destroyMethod = "close")
+    public ExecutorService searchExecutor() {
+        return Executors.newVirtualThreadPerTaskExecutor();
+    }
+
+    @Bean
+    public TomcatProtocolHandlerCustomizer<ProtocolHandler> virtualThreadRequestExecutorCustomizer(
+            VirtualThreadProperties virtualThreadProperties) {
+        return protocolHandler -> {
+            if (virtualThreadProperties.enabled()) {
+                protocolHandler.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+            }
+        };
+    }
+}
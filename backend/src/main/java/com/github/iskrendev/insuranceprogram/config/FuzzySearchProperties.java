@@ -0,0 +1,20 @@
+package com.github.iskrendev.insuranceprogram.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * @param maxDistance        edit distance a name may differ by from the searched name, per name
+ * @param maxCandidates      documents sharing the phonetic keys whose names are compared per collection, beyond which
+ *                           the result is marked partial
+ * @param backfillEnabled    whether documents stored before phonetic keys existed get them on startup
+ * @param backfillBatchSize  documents updated per bulk write of the backfill
+ */
+@ConfigurationProperties(prefix = "insurance.search.fuzzy")
+public record FuzzySearchProperties(
+        @DefaultValue("2") int maxDistance,
+        @DefaultValue("500") int maxCandidates,
+        @DefaultValue("true") boolean backfillEnabled,
+        @DefaultValue("1000") int backfillBatchSize
+) {
+}
@@ -0,0 +1,11 @@
+package com.github.iskrendev.insuranceprogram.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties(prefix = "insurance.import")
+public record ImportProperties(
+        @DefaultValue("1000") int batchSize,
+        @DefaultValue("1000") int maxReportedErrors
+) {
+}
@@ -0,0 +1,75 @@
+package com.github.iskrendev.insuranceprogram.config;
+
+import com.github.iskrendev.insuranceprogram.models.LifeInsurance;
+import com.github.iskrendev.insuranceprogram.models.PropertyInsurance;
+import com.github.iskrendev.insuranceprogram.models.VehicleInsurance;
+import com.github.iskrendev.insuranceprogram.repositories.NameCollation;
+import com.github.iskrendev.insuranceprogram.repositories.PhoneticKeys;
+import lombok.AllArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.Index;
+import org.springframework.data.mongodb.core.index.IndexOperations;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+@Slf4j
+@Component
+@AllArgsConstructor
+public class InsuranceIndexInitializer {
+    static final List<Class<?>> INSURANCE_TYPES = List.of(LifeInsurance.class, PropertyInsurance.class, VehicleInsurance.class);
+
+    private MongoTemplate mongoTemplate;
+
+    @EventListener(ContextRefreshedEvent.class)
+    public void createIndexes() {
+        for (Class<?> insuranceType : INSURANCE_TYPES) {
+            try {
+                IndexOperations indexOperations = mongoTemplate.indexOps(insuranceType);
+                nameIndexes().forEach(indexOperations::ensureIndex);
+                phoneticIndexes().forEach(indexOperations::ensureIndex);
+                contactIndexes().forEach(indexOperations::ensureIndex);
+                if (insuranceType == VehicleInsurance.class) {
+                    vehicleIndexes().forEach(indexOperations::ensureIndex);
+                }
+            } catch (DataAccessException e) {
+                log.warn("Could not create indexes for {}", mongoTemplate.getCollectionName(insuranceType), e);
+            }
+        }
+    }
+
+    static List<Index> nameIndexes() {
+        return List.of(
+                new Index().on("familyName", Sort.Direction.ASC).on("firstName", Sort.Direction.ASC).on("_id", Sort.Direction.ASC)
+                        .named("familyName_firstName_id_ci").collation(NameCollation.collation()),
+                new Index().on("firstName", Sort.Direction.ASC)
+                        .named("firstName_ci").collation(NameCollation.collation()));
+    }
+
+    static List<Index> phoneticIndexes() {
+        return List.of(
+                new Index().on(PhoneticKeys.FAMILY_NAME, Sort.Direction.ASC).on(PhoneticKeys.FIRST_NAME, Sort.Direction.ASC)
+                        .named("familyNamePhonetic_firstNamePhonetic"),
+                new Index().on(PhoneticKeys.FIRST_NAME, Sort.Direction.ASC)
+                        .named("firstNamePhonetic"));
+    }
+
+    static List<Index> contactIndexes() {
+        return List.of(
+                new Index().on("email", Sort.Direction.ASC)
+                        .named("email_ci").collation(NameCollation.collation()),
+                new Index().on("zipCode", Sort.Direction.ASC).on("city", Sort.Direction.ASC)
+                        .named("zipCode_city_ci").collation(NameCollation.collation()));
+    }
+
+    static List<Index> vehicleIndexes() {
+        return List.of(
+                new Index().on("licensePlateNumber", Sort.Direction.ASC)
+                        .named("licensePlateNumber_ci").collation(NameCollation.collation()));
+    }
+}
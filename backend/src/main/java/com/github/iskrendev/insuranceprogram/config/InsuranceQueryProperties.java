@@ -0,0 +1,11 @@
+package com.github.iskrendev.insuranceprogram.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties(prefix = "insurance.search.query")
+public record InsuranceQueryProperties(
+        @DefaultValue("50") int defaultLimit,
+        @DefaultValue("500") int maxLimit
+) {
+}
@@ -0,0 +1,58 @@
+package com.github.iskrendev.insuranceprogram.config;
+
+import com.github.iskrendev.insuranceprogram.enums.InsuranceType;
+import com.github.iskrendev.insuranceprogram.enums.MigrationStatus;
+import com.github.iskrendev.insuranceprogram.enums.NameField;
+import com.github.iskrendev.insuranceprogram.models.AllInsurancesResponse;
+import com.github.iskrendev.insuranceprogram.models.CounterDrift;
+import com.github.iskrendev.insuranceprogram.models.ExplainSummary;
+import com.github.iskrendev.insuranceprogram.models.ImportReport;
+import com.github.iskrendev.insuranceprogram.models.ImportRowError;
+import com.github.iskrendev.insuranceprogram.models.InsurancePage;
+import com.github.iskrendev.insuranceprogram.models.InsuranceQuery;
+import com.github.iskrendev.insuranceprogram.models.InsuranceSummaryDTO;
+import com.github.iskrendev.insuranceprogram.models.InsuranceTotals;
+import com.github.iskrendev.insuranceprogram.models.LifeInsurance;
+import com.github.iskrendev.insuranceprogram.models.LifeInsuranceDTO;
+import com.github.iskrendev.insuranceprogram.models.LifeInsuranceUpdateDTO;
+import com.github.iskrendev.insuranceprogram.models.MigrationProgress;
+import com.github.iskrendev.insuranceprogram.models.NameSuggestion;
+import com.github.iskrendev.insuranceprogram.models.PortfolioReconciliationReport;
+import com.github.iskrendev.insuranceprogram.models.PortfolioSummary;
+import com.github.iskrendev.insuranceprogram.models.PropertyInsurance;
+import com.github.iskrendev.insuranceprogram.models.PropertyInsuranceDTO;
+import com.github.iskrendev.insuranceprogram.models.PropertyInsuranceUpdateDTO;
+import com.github.iskrendev.insuranceprogram.models.SlowQuery;
+import com.github.iskrendev.insuranceprogram.models.VehicleInsurance;
+import com.github.iskrendev.insuranceprogram.models.VehicleInsuranceDTO;
+import com.github.iskrendev.insuranceprogram.models.VehicleInsuranceUpdateDTO;
+import com.mongodb.client.MongoCollection;
+import org.springframework.aot.hint.BindingReflectionHintsRegistrar;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+
+import java.util.List;
+
+/**
+ * Hints for the parts of the application a native image cannot discover on its own: the records that Jackson and the
+ * Mongo mapping create and read through their canonical constructors and accessors outside of controller signatures,
+ * such as import rows, streamed exports and aggregation results, and the JDK proxy behind the query deadlines.
+ */
+public class InsuranceRuntimeHints implements RuntimeHintsRegistrar {
+    static final List<Class<?>> BOUND_TYPES = List.of(
+            LifeInsurance.class, PropertyInsurance.class, VehicleInsurance.class,
+            LifeInsuranceDTO.class, PropertyInsuranceDTO.class, VehicleInsuranceDTO.class,
+            LifeInsuranceUpdateDTO.class, PropertyInsuranceUpdateDTO.class, VehicleInsuranceUpdateDTO.class,
+            AllInsurancesResponse.class, InsurancePage.class, InsuranceSummaryDTO.class, InsuranceTotals.class,
+            PortfolioSummary.class, PortfolioReconciliationReport.class, CounterDrift.class,
+            ImportReport.class, ImportRowError.class, MigrationProgress.class, SlowQuery.class, ExplainSummary.class,
+            NameSuggestion.class, InsuranceQuery.class, InsuranceType.class, MigrationStatus.class, NameField.class);
+
+    private final BindingReflectionHintsRegistrar bindingRegistrar = new BindingReflectionHintsRegistrar();
+
+    @Override
+    public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+        bindingRegistrar.registerReflectionHints(hints.reflection(), BOUND_TYPES.toArray(Class<?>[]::new));
+        hints.proxies().registerJdkProxy(MongoCollection.class);
+    }
+}
@@ -0,0 +1,68 @@
+package com.github.iskrendev.insuranceprogram.config;
+
+import com.github.iskrendev.insuranceprogram.metrics.InvocationMetrics;
+import com.github.iskrendev.insuranceprogram.models.LifeInsurance;
+import com.github.iskrendev.insuranceprogram.models.PropertyInsurance;
+import com.github.iskrendev.insuranceprogram.models.VehicleInsurance;
+import com.github.iskrendev.insuranceprogram.repositories.LifeInsuranceRepo;
+import com.github.iskrendev.insuranceprogram.repositories.PropertyInsuranceRepo;
+import com.github.iskrendev.insuranceprogram.repositories.VehicleInsuranceRepo;
+import com.github.iskrendev.insuranceprogram.services.InsuranceSearchService;
+import com.github.iskrendev.insuranceprogram.services.InsuranceSummaryService;
+import com.github.iskrendev.insuranceprogram.services.LifeInsuranceService;
+import com.github.iskrendev.insuranceprogram.services.PropertyInsuranceService;
+import com.github.iskrendev.insuranceprogram.services.VehicleInsuranceService;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.aop.Advisor;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.aop.support.StaticMethodMatcherPointcut;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Role;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+
+@Configuration(proxyBeanMethods = false)
+public class MetricsConfig {
+    public static final String REPOSITORY_METRICS = "insurance.repository";
+    public static final String SERVICE_METRICS = "insurance.service";
+    static final String ALL_COLLECTIONS = "all";
+
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    static Advisor repositoryMetricsAdvisor(ObjectProvider<MeterRegistry> meterRegistry) {
+        return advisor(new InvocationMetrics(REPOSITORY_METRICS, Map.of(
+                LifeInsuranceRepo.class, collection(LifeInsurance.class),
+                PropertyInsuranceRepo.class, collection(PropertyInsurance.class),
+                VehicleInsuranceRepo.class, collection(VehicleInsurance.class)), meterRegistry));
+    }
+
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    static Advisor serviceMetricsAdvisor(ObjectProvider<MeterRegistry> meterRegistry) {
+        return advisor(new InvocationMetrics(SERVICE_METRICS, Map.of(
+                LifeInsuranceService.class, collection(LifeInsurance.class),
+                PropertyInsuranceService.class, collection(PropertyInsurance.class),
+                VehicleInsuranceService.class, collection(VehicleInsurance.class),
+                InsuranceSearchService.class, ALL_COLLECTIONS,
+                InsuranceSummaryService.class, ALL_COLLECTIONS), meterRegistry));
+    }
+
+    private static Advisor advisor(InvocationMetrics invocationMetrics) {
+        return new DefaultPointcutAdvisor(new StaticMethodMatcherPointcut() {
+            @Override
+            public boolean matches(Method method, Class<?> targetClass) {
+                return method.getDeclaringClass() != Object.class && invocationMetrics.isInstrumented(targetClass);
+            }
+        }, invocationMetrics);
+    }
+
+    private static String collection(Class<?> entityClass) {
+        return AnnotatedElementUtils.findMergedAnnotation(entityClass, Document.class).collection();
+    }
+}
@@ -0,0 +1,65 @@
+package com.github.iskrendev.insuranceprogram.config;
+
+import com.github.iskrendev.insuranceprogram.converters.BigDecimalToDecimal128Converter;
+import com.github.iskrendev.insuranceprogram.converters.Decimal128ToBigDecimalConverter;
+import com.github.iskrendev.insuranceprogram.metrics.ConnectionPoolWaitMetrics;
+import com.github.iskrendev.insuranceprogram.metrics.SlowQueryRecorder;
+import com.github.iskrendev.insuranceprogram.repositories.DeadlineMongoTemplate;
+import com.github.iskrendev.insuranceprogram.repositories.QueryTimeoutExceptionTranslator;
+import com.mongodb.MongoClientSettings;
+import com.mongodb.client.MongoClient;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.mongo.MongoClientFactory;
+import org.springframework.boot.autoconfigure.mongo.MongoClientSettingsBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.mongodb.MongoDatabaseFactory;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.convert.MongoConverter;
+import org.springframework.data.mongodb.core.convert.MongoCustomConversions;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Configuration
+public class MongoConfig {
+    @Bean
+    public MongoClientSettingsBuilderCustomizer slowQueryListenerCustomizer(SlowQueryProperties slowQueryProperties,
+                                                                          SlowQueryRecorder slowQueryRecorder) {
+        return settings -> {
+            if (slowQueryProperties.enabled()) {
+                settings.addCommandListener(slowQueryRecorder);
+            }
+        };
+    }
+
+    /**
+     * Spring Boot's synchronous client, built from the same customizers, plus the pool wait listener. Customizer beans
+     * also apply to the reactive client, whose checkout events the listener cannot pair, so it is added here only.
+     */
+    @Bean
+    public MongoClient mongo(ObjectProvider<MongoClientSettingsBuilderCustomizer> builderCustomizers,
+                             MongoClientSettings settings, ConnectionPoolWaitMetrics connectionPoolWaitMetrics) {
+        List<MongoClientSettingsBuilderCustomizer> customizers =
+                new ArrayList<>(builderCustomizers.orderedStream().toList());
+        customizers.add(builder -> builder.applyToConnectionPoolSettings(
+                pool -> pool.addConnectionPoolListener(connectionPoolWaitMetrics)));
+        return new MongoClientFactory(customizers).createMongoClient(settings);
+    }
+
+    @Bean
+    public MongoTemplate mongoTemplate(MongoDatabaseFactory mongoDatabaseFactory, MongoConverter mongoConverter,
+                                       MeterRegistry meterRegistry) {
+        return new DeadlineMongoTemplate(mongoDatabaseFactory, mongoConverter,
+                new QueryTimeoutExceptionTranslator(meterRegistry));
+    }
+
+    @Bean
+    public MongoCustomConversions mongoCustomConversions() {
+        return new MongoCustomConversions(List.of(
+                new BigDecimalToDecimal128Converter(),
+                new Decimal128ToBigDecimalConverter()
+        ));
+    }
+}
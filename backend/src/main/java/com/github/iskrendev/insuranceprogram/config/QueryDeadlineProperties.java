@@ -0,0 +1,30 @@
+package com.github.iskrendev.insuranceprogram.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * @param header         request header a client may send its own timeout in, either in milliseconds or as a duration
+ * @param defaultTimeout deadline of requests that match none of the endpoints
+ * @param maxTimeout     upper bound for deadlines requested through the header
+ * @param endpoints      named endpoint classes with their own default deadline, the name is used as metric tag
+ */
+@ConfigurationProperties(prefix = "insurance.query-deadline")
+public record QueryDeadlineProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("/api/**") String paths,
+        @DefaultValue("X-Request-Timeout") String header,
+        @DefaultValue("5s") Duration defaultTimeout,
+        @DefaultValue("2m") Duration maxTimeout,
+        @DefaultValue Map<String, Endpoint> endpoints
+) {
+    public record Endpoint(
+            List<String> paths,
+            Duration timeout
+    ) {
+    }
+}
@@ -0,0 +1,12 @@
+package com.github.iskrendev.insuranceprogram.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "insurance.search")
+public record SearchProperties(
+        @DefaultValue("2s") Duration deadline
+) {
+}
@@ -0,0 +1,17 @@
+package com.github.iskrendev.insuranceprogram.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * @param maxNames           distinct names kept per name field, further names are not suggested until a rebuild
+ * @param maxSuggestions     upper bound for the number of suggestions a request may ask for
+ * @param cachedPrefixLength prefixes up to this length keep their ranked suggestions between requests
+ */
+@ConfigurationProperties(prefix = "insurance.suggestions")
+public record SuggestionProperties(
+        @DefaultValue("100000") int maxNames,
+        @DefaultValue("10") int maxSuggestions,
+        @DefaultValue("2") int cachedPrefixLength
+) {
+}
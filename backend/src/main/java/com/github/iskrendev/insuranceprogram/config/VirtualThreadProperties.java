@@ -0,0 +1,10 @@
+package com.github.iskrendev.insuranceprogram.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties(prefix = "insurance.virtual-threads")
+public record VirtualThreadProperties(
+        @DefaultValue("false") boolean enabled
+) {
+}
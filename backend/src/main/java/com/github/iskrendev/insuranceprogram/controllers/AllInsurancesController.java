@@ -1,43 +1,65 @@
 package com.github.iskrendev.insuranceprogram.controllers;
 
 import com.github.iskrendev.insuranceprogram.exceptions.AllInsurancesRetrievalException;
-import com.github.iskrendev.insuranceprogram.models.AllInsurancesResponse;
-import com.github.iskrendev.insuranceprogram.models.LifeInsurance;
-import com.github.iskrendev.insuranceprogram.models.PropertyInsurance;
-import com.github.iskrendev.insuranceprogram.models.VehicleInsurance;
-import com.github.iskrendev.insuranceprogram.services.LifeInsuranceService;
-import com.github.iskrendev.insuranceprogram.services.PropertyInsuranceService;
-import com.github.iskrendev.insuranceprogram.services.VehicleInsuranceService;
+import com.github.iskrendev.insuranceprogram.exceptions.ExportAbortedException;
+import com.github.iskrendev.insuranceprogram.services.InsuranceExportService;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.AllArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
-import java.util.List;
+import java.io.IOException;
+import java.io.OutputStream;
 
 @RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 @AllArgsConstructor
 @RequestMapping("/api/getall")
 public class AllInsurancesController {
-    private LifeInsuranceService lifeInsuranceService;
-    private PropertyInsuranceService propertyInsuranceService;
-    private VehicleInsuranceService vehicleInsuranceService;
+    private InsuranceExportService insuranceExportService;
 
-    @GetMapping
-    public AllInsurancesResponse getAllInsurances() {
-        List<LifeInsurance> lifeInsurances = lifeInsuranceService.getAllLifeInsurances();
-        List<PropertyInsurance> propertyInsurances = propertyInsuranceService.getAllPropertyInsurances();
-        List<VehicleInsurance> vehicleInsurances = vehicleInsuranceService.getAllVehicleInsurances();
+    @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
+    public void getAllInsurances(HttpServletResponse response) throws IOException {
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        export(response, insuranceExportService::writeAllInsurancesAsJson);
+    }
+
+    @GetMapping(produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public void getAllInsurancesAsNdjson(HttpServletResponse response) throws IOException {
+        response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+        export(response, insuranceExportService::writeAllInsurancesAsNdjson);
+    }
 
-        return new AllInsurancesResponse(lifeInsurances, propertyInsurances, vehicleInsurances);
+    /**
+     * Before the response is committed a failure still becomes an error status, without the part already buffered.
+     * After that the status is sent, so the export is aborted and the client sees the stream break off instead of a
+     * shorter document.
+     */
+    private void export(HttpServletResponse response, Export export) throws IOException {
+        try {
+            export.write(response.getOutputStream());
+        } catch (RuntimeException e) {
+            if (!response.isCommitted()) {
+                response.resetBuffer();
+                throw e;
+            }
+            throw new ExportAbortedException(e);
+        }
     }
 
     @ExceptionHandler(AllInsurancesRetrievalException.class)
     public ResponseEntity<String> handleAllInsurancesRetrievalException(AllInsurancesRetrievalException e) {
         return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(e.getMessage());
     }
-}
 
+    @FunctionalInterface
+    private interface Export {
+        void write(OutputStream out) throws IOException;
+    }
+}
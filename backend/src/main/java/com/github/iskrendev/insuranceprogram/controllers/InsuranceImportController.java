@@ -0,0 +1,49 @@
+package com.github.iskrendev.insuranceprogram.controllers;
+
+import com.github.iskrendev.insuranceprogram.enums.InsuranceType;
+import com.github.iskrendev.insuranceprogram.models.ImportReport;
+import com.github.iskrendev.insuranceprogram.services.InsuranceImportService;
+import lombok.AllArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.Optional;
+
+@RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@AllArgsConstructor
+@RequestMapping("/api/import")
+public class InsuranceImportController {
+    static final String TEXT_CSV_VALUE = "text/csv";
+
+    private final InsuranceImportService insuranceImportService;
+
+    @PostMapping(value = "/{type}", consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<ImportReport> importNdjson(@PathVariable String type, InputStream body) throws IOException {
+        Optional<InsuranceType> insuranceType = insuranceType(type);
+        if (insuranceType.isEmpty()) {
+            return ResponseEntity.notFound().build();
+        }
+        return ResponseEntity.ok(insuranceImportService.importNdjson(insuranceType.get(), body));
+    }
+
+    @PostMapping(value = "/{type}", consumes = TEXT_CSV_VALUE)
+    public ResponseEntity<ImportReport> importCsv(@PathVariable String type, InputStream body) throws IOException {
+        Optional<InsuranceType> insuranceType = insuranceType(type);
+        if (insuranceType.isEmpty()) {
+            return ResponseEntity.notFound().build();
+        }
+        return ResponseEntity.ok(insuranceImportService.importCsv(insuranceType.get(), body));
+    }
+
+    private static Optional<InsuranceType> insuranceType(String type) {
+        return Arrays.stream(InsuranceType.values())
+                .filter(insuranceType -> insuranceType.name().equalsIgnoreCase(type))
+                .findFirst();
+    }
+}
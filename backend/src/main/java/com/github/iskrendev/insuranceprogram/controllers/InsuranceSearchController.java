@@ -1,30 +1,54 @@
 package com.github.iskrendev.insuranceprogram.controllers;
 
+import com.github.iskrendev.insuranceprogram.enums.InsuranceType;
 import com.github.iskrendev.insuranceprogram.models.AllInsurancesResponse;
+import com.github.iskrendev.insuranceprogram.models.Insurance;
+import com.github.iskrendev.insuranceprogram.models.InsuranceQuery;
+import com.github.iskrendev.insuranceprogram.models.NameSuggestion;
 import com.github.iskrendev.insuranceprogram.exceptions.InvalidSearchCriteriaException;
+import com.github.iskrendev.insuranceprogram.services.FuzzyNameSearchService;
+import com.github.iskrendev.insuranceprogram.services.InsuranceQueryService;
 import com.github.iskrendev.insuranceprogram.services.InsuranceSearchService;
+import com.github.iskrendev.insuranceprogram.services.InsuranceUnionSearchService;
+import com.github.iskrendev.insuranceprogram.services.NameSuggestionService;
 import lombok.AllArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.data.domain.Sort;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Set;
 
 @RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 @AllArgsConstructor
 @RequestMapping("/api/search")
 public class InsuranceSearchController {
 
     private final InsuranceSearchService insuranceSearchService;
+    private final FuzzyNameSearchService fuzzyNameSearchService;
+    private final InsuranceQueryService insuranceQueryService;
+    private final InsuranceUnionSearchService insuranceUnionSearchService;
+    private final NameSuggestionService nameSuggestionService;
 
     @GetMapping
     public ResponseEntity<AllInsurancesResponse> searchInsurance(
             @RequestParam(required = false) String firstName,
             @RequestParam(required = false) String familyName,
-            @RequestParam(required = false, defaultValue = "all") String type) {
+            @RequestParam(required = false, defaultValue = "all") String type,
+            @RequestParam(required = false, defaultValue = "exact") String mode) {
 
         if ((firstName == null || firstName.isEmpty()) && (familyName == null || familyName.isEmpty())) {
             return ResponseEntity.badRequest().build();
         }
+        if (mode.equalsIgnoreCase("fuzzy")) {
+            return fuzzySearchInsurance(firstName, familyName, type);
+        }
+        if (!mode.equalsIgnoreCase("exact")) {
+            return ResponseEntity.badRequest().body(null);
+        }
 
         AllInsurancesResponse response;
         switch (type.toLowerCase()) {
@@ -38,14 +62,51 @@ public class InsuranceSearchController {
                 response = new AllInsurancesResponse(List.of(), List.of(), insuranceSearchService.searchVehicleInsuranceByName(firstName, familyName));
                 break;
             case "all":
-                response = insuranceSearchService.searchAllInsurancesByName(firstName, familyName);
-                break;
+                return SearchResponses.allTypes(insuranceSearchService.searchAllInsurancesByName(firstName, familyName));
             default:
                 return ResponseEntity.badRequest().body(null);
         }
         return ResponseEntity.ok(response);
     }
 
+    private ResponseEntity<AllInsurancesResponse> fuzzySearchInsurance(String firstName, String familyName, String type) {
+        Set<InsuranceType> types = searchedTypes(type);
+        if (types == null) {
+            return ResponseEntity.badRequest().body(null);
+        }
+        return SearchResponses.fuzzy(fuzzyNameSearchService.searchInsurancesByName(types, firstName, familyName));
+    }
+
+    private static Set<InsuranceType> searchedTypes(String type) {
+        return switch (type.toLowerCase()) {
+            case "life" -> EnumSet.of(InsuranceType.LIFE);
+            case "property" -> EnumSet.of(InsuranceType.PROPERTY);
+            case "vehicle" -> EnumSet.of(InsuranceType.VEHICLE);
+            case "all" -> EnumSet.allOf(InsuranceType.class);
+            default -> null;
+        };
+    }
+
+    @PostMapping("/query")
+    public AllInsurancesResponse queryInsurance(@RequestBody InsuranceQuery insuranceQuery) {
+        return insuranceQueryService.search(insuranceQuery);
+    }
+
+    @GetMapping("/top")
+    public List<Insurance> topInsurances(@RequestParam(required = false) String firstName,
+                                         @RequestParam(required = false) String familyName,
+                                         @RequestParam(defaultValue = "familyName") String sort,
+                                         @RequestParam(defaultValue = "ASC") Sort.Direction direction,
+                                         @RequestParam(defaultValue = "20") int limit) {
+        return insuranceUnionSearchService.searchTopInsurancesByName(firstName, familyName, sort, direction, limit);
+    }
+
+    @GetMapping("/suggestions")
+    public List<NameSuggestion> suggestNames(@RequestParam String prefix,
+                                             @RequestParam(defaultValue = "10") int limit) {
+        return nameSuggestionService.suggest(prefix, limit);
+    }
+
     @ExceptionHandler(InvalidSearchCriteriaException.class)
     public ResponseEntity<String> handleInvalidSearchCriteriaException(InvalidSearchCriteriaException e) {
         return ResponseEntity.badRequest().body(e.getMessage());
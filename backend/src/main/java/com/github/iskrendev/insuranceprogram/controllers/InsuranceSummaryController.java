@@ -1,12 +1,15 @@
 package com.github.iskrendev.insuranceprogram.controllers;
 
 import com.github.iskrendev.insuranceprogram.models.InsuranceSummaryDTO;
+import com.github.iskrendev.insuranceprogram.models.PortfolioReconciliationReport;
 import com.github.iskrendev.insuranceprogram.services.InsuranceSummaryService;
 import lombok.AllArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 @RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 @AllArgsConstructor
 @RequestMapping("/api/summary")
 public class InsuranceSummaryController {
@@ -18,4 +21,9 @@ public class InsuranceSummaryController {
         InsuranceSummaryDTO summary = insuranceSummaryService.getInsuranceSummary();
         return ResponseEntity.ok(summary);
     }
+
+    @PostMapping("/reconcile")
+    public ResponseEntity<PortfolioReconciliationReport> reconcileInsuranceSummary() {
+        return ResponseEntity.ok(insuranceSummaryService.reconcileInsuranceSummary());
+    }
 }
\ No newline at end of file
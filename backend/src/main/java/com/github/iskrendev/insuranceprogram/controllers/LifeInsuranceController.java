@@ -1,11 +1,15 @@
 package com.github.iskrendev.insuranceprogram.controllers;
 
+import com.github.iskrendev.insuranceprogram.exceptions.InvalidPageRequestException;
 import com.github.iskrendev.insuranceprogram.exceptions.NoSuchInsuranceException;
+import com.github.iskrendev.insuranceprogram.models.InsurancePage;
 import com.github.iskrendev.insuranceprogram.models.LifeInsuranceDTO;
 import com.github.iskrendev.insuranceprogram.models.LifeInsurance;
 import com.github.iskrendev.insuranceprogram.models.LifeInsuranceUpdateDTO;
+import com.github.iskrendev.insuranceprogram.services.InsurancePaginationService;
 import com.github.iskrendev.insuranceprogram.services.LifeInsuranceService;
 import lombok.AllArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -13,6 +17,7 @@ import org.springframework.web.bind.annotation.*;
 import java.util.List;
 
 @RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 @AllArgsConstructor
 @RequestMapping("/api/life")
 public class LifeInsuranceController {
@@ -22,6 +27,14 @@ public class LifeInsuranceController {
         return lifeInsuranceService.getAllLifeInsurances();
     }
 
+    @GetMapping("/page")
+    public InsurancePage<LifeInsurance> getLifeInsurancePage(
+            @RequestParam(defaultValue = "" + InsurancePaginationService.DEFAULT_PAGE_SIZE) int size,
+            @RequestParam(required = false) String pageToken,
+            @RequestParam(defaultValue = "false") boolean includeTotal) {
+        return lifeInsuranceService.getLifeInsurancePage(size, pageToken, includeTotal);
+    }
+
     @GetMapping("/{id}")
     public LifeInsurance getLifeInsuranceById(@PathVariable String id) {
         return lifeInsuranceService.getLifeInsuranceById(id);
@@ -29,23 +42,7 @@ public class LifeInsuranceController {
 
     @PostMapping("")
     public LifeInsurance addLifeInsurance(@RequestBody LifeInsuranceDTO lifeInsurance) {
-        LifeInsurance newLifeInsurance = LifeInsurance.builder()
-                .firstName(lifeInsurance.firstName())
-                .familyName(lifeInsurance.familyName())
-                .zipCode(lifeInsurance.zipCode())
-                .city(lifeInsurance.city())
-                .address(lifeInsurance.address())
-                .telephone(lifeInsurance.telephone())
-                .email(lifeInsurance.email())
-                .type(lifeInsurance.type())
-                .duration(lifeInsurance.duration())
-                .paymentPerMonth(lifeInsurance.paymentPerMonth())
-                .startDate(lifeInsurance.startDate())
-                .endDate(lifeInsurance.endDate())
-                .hasHealthIssues(lifeInsurance.hasHealthIssues())
-                .healthConditionDetails(lifeInsurance.healthConditionDetails())
-                .build();
-        return lifeInsuranceService.addLifeInsurance(newLifeInsurance);
+        return lifeInsuranceService.addLifeInsurance(lifeInsurance.toLifeInsurance());
     }
 
     @PutMapping("/{id}")
@@ -53,11 +50,21 @@ public class LifeInsuranceController {
         return lifeInsuranceService.updateLifeInsurance(id, lifeInsuranceUpdateDTO);
     }
 
+    @PatchMapping("/{id}")
+    public LifeInsurance patchLifeInsurance(@PathVariable String id, @RequestBody LifeInsuranceUpdateDTO lifeInsuranceUpdateDTO) {
+        return lifeInsuranceService.patchLifeInsurance(id, lifeInsuranceUpdateDTO);
+    }
+
     @DeleteMapping("/{id}")
     public void deleteLifeInsurance(@PathVariable String id) {
         lifeInsuranceService.deleteLifeInsurance(id);
     }
 
+    @ExceptionHandler(InvalidPageRequestException.class)
+    public ResponseEntity<String> handleInvalidPageRequestException(InvalidPageRequestException e) {
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(e.getMessage());
+    }
+
     @ExceptionHandler(NoSuchInsuranceException.class)
     public ResponseEntity<String> handleNoSuchInsuranceException(NoSuchInsuranceException e) {
         return ResponseEntity.status(HttpStatus.NOT_FOUND).body(e.getMessage());
@@ -0,0 +1,33 @@
+package com.github.iskrendev.insuranceprogram.controllers;
+
+import com.github.iskrendev.insuranceprogram.models.MigrationProgress;
+import com.github.iskrendev.insuranceprogram.services.PaymentPerMonthMigrationService;
+import lombok.AllArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@AllArgsConstructor
+@RequestMapping("/api/migrations")
+public class MigrationController {
+    private PaymentPerMonthMigrationService paymentPerMonthMigrationService;
+
+    @GetMapping("/payment-per-month")
+    public List<MigrationProgress> getPaymentPerMonthMigrationProgress() {
+        return paymentPerMonthMigrationService.getProgress();
+    }
+
+    @PostMapping("/payment-per-month")
+    public ResponseEntity<List<MigrationProgress>> startPaymentPerMonthMigration() {
+        HttpStatus status = paymentPerMonthMigrationService.startMigration() ? HttpStatus.ACCEPTED : HttpStatus.CONFLICT;
+        return ResponseEntity.status(status).body(paymentPerMonthMigrationService.getProgress());
+    }
+}
@@ -1,9 +1,12 @@
 package com.github.iskrendev.insuranceprogram.controllers;
 
+import com.github.iskrendev.insuranceprogram.exceptions.InvalidPageRequestException;
 import com.github.iskrendev.insuranceprogram.exceptions.NoSuchInsuranceException;
 import com.github.iskrendev.insuranceprogram.models.*;
+import com.github.iskrendev.insuranceprogram.services.InsurancePaginationService;
 import com.github.iskrendev.insuranceprogram.services.PropertyInsuranceService;
 import lombok.AllArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -11,6 +14,7 @@ import org.springframework.web.bind.annotation.*;
 import java.util.List;
 
 @RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 @AllArgsConstructor
 @RequestMapping("/api/property")
 public class PropertyInsuranceController {
@@ -20,6 +24,14 @@ public class PropertyInsuranceController {
         return propertyInsuranceService.getAllPropertyInsurances();
     }
 
+    @GetMapping("/page")
+    public InsurancePage<PropertyInsurance> getPropertyInsurancePage(
+            @RequestParam(defaultValue = "" + InsurancePaginationService.DEFAULT_PAGE_SIZE) int size,
+            @RequestParam(required = false) String pageToken,
+            @RequestParam(defaultValue = "false") boolean includeTotal) {
+        return propertyInsuranceService.getPropertyInsurancePage(size, pageToken, includeTotal);
+    }
+
     @GetMapping("/{id}")
     public PropertyInsurance getPropertyInsuranceById(@PathVariable String id) {
         return propertyInsuranceService.getPropertyInsuranceById(id);
@@ -27,24 +39,7 @@ public class PropertyInsuranceController {
 
     @PostMapping
     public PropertyInsurance addPropertyInsurance(@RequestBody PropertyInsuranceDTO propertyInsurance) {
-        PropertyInsurance newPropertyInsurance = PropertyInsurance.builder()
-                .firstName(propertyInsurance.firstName())
-                .familyName(propertyInsurance.familyName())
-                .zipCode(propertyInsurance.zipCode())
-                .city(propertyInsurance.city())
-                .address(propertyInsurance.address())
-                .telephone(propertyInsurance.telephone())
-                .email(propertyInsurance.email())
-                .type(propertyInsurance.type())
-                .duration(propertyInsurance.duration())
-                .paymentPerMonth(propertyInsurance.paymentPerMonth())
-                .startDate(propertyInsurance.startDate())
-                .endDate(propertyInsurance.endDate())
-                .propertyType(propertyInsurance.propertyType())
-                .propertyAddress(propertyInsurance.propertyAddress())
-                .constructionYear(propertyInsurance.constructionYear())
-                .build();
-        return propertyInsuranceService.addPropertyInsurance(newPropertyInsurance);
+        return propertyInsuranceService.addPropertyInsurance(propertyInsurance.toPropertyInsurance());
     }
 
     @PutMapping("/{id}")
@@ -52,11 +47,21 @@ public class PropertyInsuranceController {
         return propertyInsuranceService.updatePropertyInsurance(id, propertyInsuranceUpdateDTO);
     }
 
+    @PatchMapping("/{id}")
+    public PropertyInsurance patchPropertyInsurance(@PathVariable String id, @RequestBody PropertyInsuranceUpdateDTO propertyInsuranceUpdateDTO) {
+        return propertyInsuranceService.patchPropertyInsurance(id, propertyInsuranceUpdateDTO);
+    }
+
     @DeleteMapping("/{id}")
     public void deletePropertyInsurance(@PathVariable String id) {
         propertyInsuranceService.deletePropertyInsurance(id);
     }
 
+    @ExceptionHandler(InvalidPageRequestException.class)
+    public ResponseEntity<String> handleInvalidPageRequestException(InvalidPageRequestException e) {
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(e.getMessage());
+    }
+
     @ExceptionHandler(NoSuchInsuranceException.class)
     public ResponseEntity<String> handleNoSuchInsuranceException(NoSuchInsuranceException e) {
         return ResponseEntity.status(HttpStatus.NOT_FOUND).body(e.getMessage());
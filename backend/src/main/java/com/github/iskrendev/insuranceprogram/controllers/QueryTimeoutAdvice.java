@@ -0,0 +1,26 @@
+package com.github.iskrendev.insuranceprogram.controllers;
+
+import com.github.iskrendev.insuranceprogram.repositories.QueryDeadline;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+/**
+ * Answers requests whose queries ran out of their {@link QueryDeadline} with {@code 504 Gateway Timeout}. This is the
+ * one error every controller shares, so it is handled here rather than in each controller.
+ */
+@RestControllerAdvice
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class QueryTimeoutAdvice {
+    @ExceptionHandler(QueryTimeoutException.class)
+    public ResponseEntity<String> handleQueryTimeoutException(QueryTimeoutException e) {
+        QueryDeadline deadline = QueryDeadline.current();
+        String message = deadline == null
+                ? "Query timed out"
+                : "Query did not complete within the " + deadline.timeout().toMillis() + "ms deadline of the request";
+        return ResponseEntity.status(HttpStatus.GATEWAY_TIMEOUT).body(message);
+    }
+}
@@ -0,0 +1,45 @@
+package com.github.iskrendev.insuranceprogram.controllers;
+
+import com.github.iskrendev.insuranceprogram.enums.InsuranceType;
+import com.github.iskrendev.insuranceprogram.models.AllInsurancesResponse;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+/**
+ * Turns search results into responses the same way for the servlet and the reactive search controllers.
+ */
+public final class SearchResponses {
+    public static final String PARTIAL_RESULT_HEADER = "X-Partial-Result";
+
+    private SearchResponses() {
+    }
+
+    /**
+     * A search of all types with some types left is still a success, marked as partial. Once every type is
+     * unavailable it is a gateway timeout only if all of them missed their deadline; a Mongo error is not turned into
+     * a timeout.
+     */
+    public static ResponseEntity<AllInsurancesResponse> allTypes(AllInsurancesResponse response) {
+        if (response.unavailableTypes().isEmpty()) {
+            return ResponseEntity.ok(response);
+        }
+        return ResponseEntity.status(partialStatus(response)).header(PARTIAL_RESULT_HEADER, "true").body(response);
+    }
+
+    /**
+     * Fuzzy results are partial when a phonetic key matched more candidates than are compared.
+     */
+    public static ResponseEntity<AllInsurancesResponse> fuzzy(AllInsurancesResponse response) {
+        return response.truncatedTypes().isEmpty()
+                ? ResponseEntity.ok(response)
+                : ResponseEntity.ok().header(PARTIAL_RESULT_HEADER, "true").body(response);
+    }
+
+    private static HttpStatus partialStatus(AllInsurancesResponse response) {
+        if (response.unavailableTypes().size() < InsuranceType.values().length) {
+            return HttpStatus.OK;
+        }
+        return response.timedOutTypes().size() == response.unavailableTypes().size()
+                ? HttpStatus.GATEWAY_TIMEOUT : HttpStatus.INTERNAL_SERVER_ERROR;
+    }
+}
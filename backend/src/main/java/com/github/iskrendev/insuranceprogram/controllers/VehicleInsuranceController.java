@@ -1,9 +1,12 @@
 package com.github.iskrendev.insuranceprogram.controllers;
 
+import com.github.iskrendev.insuranceprogram.exceptions.InvalidPageRequestException;
 import com.github.iskrendev.insuranceprogram.exceptions.NoSuchInsuranceException;
 import com.github.iskrendev.insuranceprogram.models.*;
+import com.github.iskrendev.insuranceprogram.services.InsurancePaginationService;
 import com.github.iskrendev.insuranceprogram.services.VehicleInsuranceService;
 import lombok.AllArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -11,6 +14,7 @@ import org.springframework.web.bind.annotation.*;
 import java.util.List;
 
 @RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 @AllArgsConstructor
 @RequestMapping("/api/vehicle")
 public class VehicleInsuranceController {
@@ -20,6 +24,14 @@ public class VehicleInsuranceController {
         return vehicleInsuranceService.getAllVehicleInsurances();
     }
 
+    @GetMapping("/page")
+    public InsurancePage<VehicleInsurance> getVehicleInsurancePage(
+            @RequestParam(defaultValue = "" + InsurancePaginationService.DEFAULT_PAGE_SIZE) int size,
+            @RequestParam(required = false) String pageToken,
+            @RequestParam(defaultValue = "false") boolean includeTotal) {
+        return vehicleInsuranceService.getVehicleInsurancePage(size, pageToken, includeTotal);
+    }
+
     @GetMapping("/{id}")
     public VehicleInsurance getVehicleInsuranceById(@PathVariable String id) {
         return vehicleInsuranceService.getVehicleInsuranceById(id);
@@ -27,25 +39,7 @@ public class VehicleInsuranceController {
 
     @PostMapping
     public VehicleInsurance addVehicleInsurance(@RequestBody VehicleInsuranceDTO vehicleInsurance) {
-        VehicleInsurance newVehicleInsurance = VehicleInsurance.builder()
-                .firstName(vehicleInsurance.firstName())
-                .familyName(vehicleInsurance.familyName())
-                .zipCode(vehicleInsurance.zipCode())
-                .city(vehicleInsurance.city())
-                .address(vehicleInsurance.address())
-                .telephone(vehicleInsurance.telephone())
-                .email(vehicleInsurance.email())
-                .type(vehicleInsurance.type())
-                .duration(vehicleInsurance.duration())
-                .paymentPerMonth(vehicleInsurance.paymentPerMonth())
-                .startDate(vehicleInsurance.startDate())
-                .endDate(vehicleInsurance.endDate())
-                .vehicleMake(vehicleInsurance.vehicleMake())
-                .vehicleModel(vehicleInsurance.vehicleModel())
-                .vehicleYear(vehicleInsurance.vehicleYear())
-                .licensePlateNumber(vehicleInsurance.licensePlateNumber())
-                .build();
-        return vehicleInsuranceService.addVehicleInsurance(newVehicleInsurance);
+        return vehicleInsuranceService.addVehicleInsurance(vehicleInsurance.toVehicleInsurance());
     }
 
     @PutMapping("/{id}")
@@ -53,11 +47,21 @@ public class VehicleInsuranceController {
         return vehicleInsuranceService.updateVehicleInsurance(id, vehicleInsuranceUpdateDTO);
     }
 
+    @PatchMapping("/{id}")
+    public VehicleInsurance patchVehicleInsurance(@PathVariable String id, @RequestBody VehicleInsuranceUpdateDTO vehicleInsuranceUpdateDTO) {
+        return vehicleInsuranceService.patchVehicleInsurance(id, vehicleInsuranceUpdateDTO);
+    }
+
     @DeleteMapping("/{id}")
     public void deleteVehicleInsurance(@PathVariable String id) {
         vehicleInsuranceService.deleteVehicleInsurance(id);
     }
 
+    @ExceptionHandler(InvalidPageRequestException.class)
+    public ResponseEntity<String> handleInvalidPageRequestException(InvalidPageRequestException e) {
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(e.getMessage());
+    }
+
     @ExceptionHandler(NoSuchInsuranceException.class)
     public ResponseEntity<String> handleNoSuchInsuranceException(NoSuchInsuranceException e) {
         return ResponseEntity.status(HttpStatus.NOT_FOUND).body(e.getMessage());
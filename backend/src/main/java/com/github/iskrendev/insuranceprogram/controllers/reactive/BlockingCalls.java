@@ -0,0 +1,51 @@
+package com.github.iskrendev.insuranceprogram.controllers.reactive;
+
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.PipedInputStream;
+import java.io.PipedOutputStream;
+import java.util.concurrent.Callable;
+
+/**
+ * Bridges the reactive controllers to the blocking services, which keep owning writes, caches and counters.
+ */
+final class BlockingCalls {
+    private static final int PIPE_SIZE = 64 * 1024;
+
+    private BlockingCalls() {
+    }
+
+    static <T> Mono<T> call(Callable<T> call) {
+        return Mono.fromCallable(call).subscribeOn(Schedulers.boundedElastic());
+    }
+
+    static Mono<Void> run(Runnable call) {
+        return Mono.<Void>fromRunnable(call).subscribeOn(Schedulers.boundedElastic());
+    }
+
+    /**
+     * Exposes a request body as a stream that a blocking reader consumes on another thread. The body is only
+     * requested as fast as the reader drains the pipe.
+     */
+    static InputStream inputStream(Flux<DataBuffer> body) throws IOException {
+        PipedOutputStream out = new PipedOutputStream();
+        PipedInputStream in = new PipedInputStream(out, PIPE_SIZE);
+        DataBufferUtils.write(body.publishOn(Schedulers.boundedElastic()), out)
+                .doFinally(signal -> closeQuietly(out))
+                .subscribe(DataBufferUtils.releaseConsumer(), error -> closeQuietly(out));
+        return in;
+    }
+
+    private static void closeQuietly(PipedOutputStream out) {
+        try {
+            out.close();
+        } catch (IOException ignored) {
+        }
+    }
+}
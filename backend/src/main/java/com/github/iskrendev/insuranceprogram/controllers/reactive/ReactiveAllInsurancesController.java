@@ -0,0 +1,39 @@
+package com.github.iskrendev.insuranceprogram.controllers.reactive;
+
+import com.github.iskrendev.insuranceprogram.exceptions.AllInsurancesRetrievalException;
+import com.github.iskrendev.insuranceprogram.services.ReactiveInsuranceExportService;
+import lombok.AllArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
+
+@RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@AllArgsConstructor
+@RequestMapping("/api/getall")
+public class ReactiveAllInsurancesController {
+    private ReactiveInsuranceExportService reactiveInsuranceExportService;
+
+    @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
+    public Flux<DataBuffer> getAllInsurances(ServerHttpResponse response) {
+        return reactiveInsuranceExportService.streamAllInsurancesAsJson(response.bufferFactory());
+    }
+
+    @GetMapping(produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<DataBuffer> getAllInsurancesAsNdjson(ServerHttpResponse response) {
+        return reactiveInsuranceExportService.streamAllInsurancesAsNdjson(response.bufferFactory());
+    }
+
+    @ExceptionHandler(AllInsurancesRetrievalException.class)
+    public ResponseEntity<String> handleAllInsurancesRetrievalException(AllInsurancesRetrievalException e) {
+        return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(e.getMessage());
+    }
+}
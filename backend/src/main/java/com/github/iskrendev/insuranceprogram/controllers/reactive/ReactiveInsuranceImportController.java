@@ -0,0 +1,61 @@
+package com.github.iskrendev.insuranceprogram.controllers.reactive;
+
+import com.github.iskrendev.insuranceprogram.enums.InsuranceType;
+import com.github.iskrendev.insuranceprogram.models.ImportReport;
+import com.github.iskrendev.insuranceprogram.services.InsuranceImportService;
+import lombok.AllArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.Optional;
+
+@RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@AllArgsConstructor
+@RequestMapping("/api/import")
+public class ReactiveInsuranceImportController {
+    static final String TEXT_CSV_VALUE = "text/csv";
+
+    private final InsuranceImportService insuranceImportService;
+
+    @PostMapping(value = "/{type}", consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    public Mono<ResponseEntity<ImportReport>> importNdjson(@PathVariable String type, @RequestBody Flux<DataBuffer> body) {
+        return importBody(type, body, insuranceImportService::importNdjson);
+    }
+
+    @PostMapping(value = "/{type}", consumes = TEXT_CSV_VALUE)
+    public Mono<ResponseEntity<ImportReport>> importCsv(@PathVariable String type, @RequestBody Flux<DataBuffer> body) {
+        return importBody(type, body, insuranceImportService::importCsv);
+    }
+
+    private static Mono<ResponseEntity<ImportReport>> importBody(String type, Flux<DataBuffer> body, Importer importer) {
+        Optional<InsuranceType> insuranceType = insuranceType(type);
+        if (insuranceType.isEmpty()) {
+            return Mono.just(ResponseEntity.notFound().build());
+        }
+        return BlockingCalls.call(() -> {
+            try (InputStream in = BlockingCalls.inputStream(body)) {
+                return ResponseEntity.ok(importer.importBody(insuranceType.get(), in));
+            }
+        });
+    }
+
+    private static Optional<InsuranceType> insuranceType(String type) {
+        return Arrays.stream(InsuranceType.values())
+                .filter(insuranceType -> insuranceType.name().equalsIgnoreCase(type))
+                .findFirst();
+    }
+
+    @FunctionalInterface
+    private interface Importer {
+        ImportReport importBody(InsuranceType type, InputStream body) throws IOException;
+    }
+}
@@ -0,0 +1,131 @@
+package com.github.iskrendev.insuranceprogram.controllers.reactive;
+
+import com.github.iskrendev.insuranceprogram.controllers.SearchResponses;
+import com.github.iskrendev.insuranceprogram.enums.InsuranceType;
+import com.github.iskrendev.insuranceprogram.exceptions.InvalidSearchCriteriaException;
+import com.github.iskrendev.insuranceprogram.models.AllInsurancesResponse;
+import com.github.iskrendev.insuranceprogram.models.Insurance;
+import com.github.iskrendev.insuranceprogram.models.InsuranceQuery;
+import com.github.iskrendev.insuranceprogram.models.NameSuggestion;
+import com.github.iskrendev.insuranceprogram.services.FuzzyNameSearchService;
+import com.github.iskrendev.insuranceprogram.services.InsuranceQueryService;
+import com.github.iskrendev.insuranceprogram.services.InsuranceUnionSearchService;
+import com.github.iskrendev.insuranceprogram.services.NameSuggestionService;
+import com.github.iskrendev.insuranceprogram.services.ReactiveInsuranceSearchService;
+import lombok.AllArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+@RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@AllArgsConstructor
+@RequestMapping("/api/search")
+public class ReactiveInsuranceSearchController {
+
+    private final ReactiveInsuranceSearchService reactiveInsuranceSearchService;
+    private final FuzzyNameSearchService fuzzyNameSearchService;
+    private final InsuranceQueryService insuranceQueryService;
+    private final InsuranceUnionSearchService insuranceUnionSearchService;
+    private final NameSuggestionService nameSuggestionService;
+
+    @GetMapping
+    public Mono<ResponseEntity<AllInsurancesResponse>> searchInsurance(
+            @RequestParam(required = false) String firstName,
+            @RequestParam(required = false) String familyName,
+            @RequestParam(required = false, defaultValue = "all") String type,
+            @RequestParam(required = false, defaultValue = "exact") String mode) {
+
+        if ((firstName == null || firstName.isEmpty()) && (familyName == null || familyName.isEmpty())) {
+            return Mono.just(ResponseEntity.badRequest().build());
+        }
+        if (mode.equalsIgnoreCase("fuzzy")) {
+            return fuzzySearchInsurance(firstName, familyName, type);
+        }
+        if (!mode.equalsIgnoreCase("exact")) {
+            return Mono.just(ResponseEntity.badRequest().body(null));
+        }
+
+        return switch (type.toLowerCase()) {
+            case "life" -> reactiveInsuranceSearchService.searchLifeInsuranceByName(firstName, familyName).collectList()
+                    .map(lifeInsurances -> ResponseEntity.ok(new AllInsurancesResponse(lifeInsurances, List.of(), List.of())));
+            case "property" -> reactiveInsuranceSearchService.searchPropertyInsuranceByName(firstName, familyName).collectList()
+                    .map(propertyInsurances -> ResponseEntity.ok(new AllInsurancesResponse(List.of(), propertyInsurances, List.of())));
+            case "vehicle" -> reactiveInsuranceSearchService.searchVehicleInsuranceByName(firstName, familyName).collectList()
+                    .map(vehicleInsurances -> ResponseEntity.ok(new AllInsurancesResponse(List.of(), List.of(), vehicleInsurances)));
+            case "all" -> reactiveInsuranceSearchService.searchAllInsurancesByName(firstName, familyName)
+                    .map(SearchResponses::allTypes);
+            default -> Mono.just(ResponseEntity.badRequest().body(null));
+        };
+    }
+
+    @GetMapping(produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<Flux<? extends Insurance>> streamInsurance(
+            @RequestParam(required = false) String firstName,
+            @RequestParam(required = false) String familyName,
+            @RequestParam(required = false, defaultValue = "all") String type) {
+
+        if ((firstName == null || firstName.isEmpty()) && (familyName == null || familyName.isEmpty())) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        return switch (type.toLowerCase()) {
+            case "life" -> ResponseEntity.ok(reactiveInsuranceSearchService.searchLifeInsuranceByName(firstName, familyName));
+            case "property" -> ResponseEntity.ok(reactiveInsuranceSearchService.searchPropertyInsuranceByName(firstName, familyName));
+            case "vehicle" -> ResponseEntity.ok(reactiveInsuranceSearchService.searchVehicleInsuranceByName(firstName, familyName));
+            case "all" -> ResponseEntity.ok(reactiveInsuranceSearchService.streamAllInsurancesByName(firstName, familyName));
+            default -> ResponseEntity.badRequest().build();
+        };
+    }
+
+    private Mono<ResponseEntity<AllInsurancesResponse>> fuzzySearchInsurance(String firstName, String familyName, String type) {
+        Set<InsuranceType> types = searchedTypes(type);
+        if (types == null) {
+            return Mono.just(ResponseEntity.badRequest().body(null));
+        }
+        return BlockingCalls.call(() -> SearchResponses.fuzzy(fuzzyNameSearchService.searchInsurancesByName(types, firstName, familyName)));
+    }
+
+    private static Set<InsuranceType> searchedTypes(String type) {
+        return switch (type.toLowerCase()) {
+            case "life" -> EnumSet.of(InsuranceType.LIFE);
+            case "property" -> EnumSet.of(InsuranceType.PROPERTY);
+            case "vehicle" -> EnumSet.of(InsuranceType.VEHICLE);
+            case "all" -> EnumSet.allOf(InsuranceType.class);
+            default -> null;
+        };
+    }
+
+    @PostMapping("/query")
+    public Mono<AllInsurancesResponse> queryInsurance(@RequestBody InsuranceQuery insuranceQuery) {
+        return BlockingCalls.call(() -> insuranceQueryService.search(insuranceQuery));
+    }
+
+    @GetMapping("/top")
+    public Mono<List<Insurance>> topInsurances(@RequestParam(required = false) String firstName,
+                                               @RequestParam(required = false) String familyName,
+                                               @RequestParam(defaultValue = "familyName") String sort,
+                                               @RequestParam(defaultValue = "ASC") Sort.Direction direction,
+                                               @RequestParam(defaultValue = "20") int limit) {
+        return BlockingCalls.call(() -> insuranceUnionSearchService.searchTopInsurancesByName(firstName, familyName, sort, direction, limit));
+    }
+
+    @GetMapping("/suggestions")
+    public Mono<List<NameSuggestion>> suggestNames(@RequestParam String prefix,
+                                                   @RequestParam(defaultValue = "10") int limit) {
+        return Mono.fromSupplier(() -> nameSuggestionService.suggest(prefix, limit));
+    }
+
+    @ExceptionHandler(InvalidSearchCriteriaException.class)
+    public ResponseEntity<String> handleInvalidSearchCriteriaException(InvalidSearchCriteriaException e) {
+        return ResponseEntity.badRequest().body(e.getMessage());
+    }
+}
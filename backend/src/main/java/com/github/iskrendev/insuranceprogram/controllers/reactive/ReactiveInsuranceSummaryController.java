@@ -0,0 +1,31 @@
+package com.github.iskrendev.insuranceprogram.controllers.reactive;
+
+import com.github.iskrendev.insuranceprogram.models.InsuranceSummaryDTO;
+import com.github.iskrendev.insuranceprogram.models.PortfolioReconciliationReport;
+import com.github.iskrendev.insuranceprogram.services.InsuranceSummaryService;
+import lombok.AllArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
+
+@RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@AllArgsConstructor
+@RequestMapping("/api/summary")
+public class ReactiveInsuranceSummaryController {
+
+    private InsuranceSummaryService insuranceSummaryService;
+
+    @GetMapping
+    public Mono<InsuranceSummaryDTO> getInsuranceSummary() {
+        return BlockingCalls.call(insuranceSummaryService::getInsuranceSummary);
+    }
+
+    @PostMapping("/reconcile")
+    public Mono<PortfolioReconciliationReport> reconcileInsuranceSummary() {
+        return BlockingCalls.call(insuranceSummaryService::reconcileInsuranceSummary);
+    }
+}
@@ -0,0 +1,75 @@
+package com.github.iskrendev.insuranceprogram.controllers.reactive;
+
+import com.github.iskrendev.insuranceprogram.exceptions.InvalidPageRequestException;
+import com.github.iskrendev.insuranceprogram.exceptions.NoSuchInsuranceException;
+import com.github.iskrendev.insuranceprogram.models.InsurancePage;
+import com.github.iskrendev.insuranceprogram.models.LifeInsurance;
+import com.github.iskrendev.insuranceprogram.models.LifeInsuranceDTO;
+import com.github.iskrendev.insuranceprogram.models.LifeInsuranceUpdateDTO;
+import com.github.iskrendev.insuranceprogram.repositories.ReactiveLifeInsuranceRepo;
+import com.github.iskrendev.insuranceprogram.services.InsurancePaginationService;
+import com.github.iskrendev.insuranceprogram.services.LifeInsuranceService;
+import lombok.AllArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@AllArgsConstructor
+@RequestMapping("/api/life")
+public class ReactiveLifeInsuranceController {
+    private ReactiveLifeInsuranceRepo reactiveLifeInsuranceRepo;
+    private LifeInsuranceService lifeInsuranceService;
+
+    @GetMapping
+    public Flux<LifeInsurance> getAllLifeInsurances() {
+        return reactiveLifeInsuranceRepo.findAll();
+    }
+
+    @GetMapping("/page")
+    public Mono<InsurancePage<LifeInsurance>> getLifeInsurancePage(
+            @RequestParam(defaultValue = "" + InsurancePaginationService.DEFAULT_PAGE_SIZE) int size,
+            @RequestParam(required = false) String pageToken,
+            @RequestParam(defaultValue = "false") boolean includeTotal) {
+        return BlockingCalls.call(() -> lifeInsuranceService.getLifeInsurancePage(size, pageToken, includeTotal));
+    }
+
+    @GetMapping("/{id}")
+    public Mono<LifeInsurance> getLifeInsuranceById(@PathVariable String id) {
+        return BlockingCalls.call(() -> lifeInsuranceService.getLifeInsuranceById(id));
+    }
+
+    @PostMapping
+    public Mono<LifeInsurance> addLifeInsurance(@RequestBody LifeInsuranceDTO lifeInsurance) {
+        return BlockingCalls.call(() -> lifeInsuranceService.addLifeInsurance(lifeInsurance.toLifeInsurance()));
+    }
+
+    @PutMapping("/{id}")
+    public Mono<LifeInsurance> updateLifeInsurance(@PathVariable String id, @RequestBody LifeInsuranceUpdateDTO lifeInsuranceUpdateDTO) {
+        return BlockingCalls.call(() -> lifeInsuranceService.updateLifeInsurance(id, lifeInsuranceUpdateDTO));
+    }
+
+    @PatchMapping("/{id}")
+    public Mono<LifeInsurance> patchLifeInsurance(@PathVariable String id, @RequestBody LifeInsuranceUpdateDTO lifeInsuranceUpdateDTO) {
+        return BlockingCalls.call(() -> lifeInsuranceService.patchLifeInsurance(id, lifeInsuranceUpdateDTO));
+    }
+
+    @DeleteMapping("/{id}")
+    public Mono<Void> deleteLifeInsurance(@PathVariable String id) {
+        return BlockingCalls.run(() -> lifeInsuranceService.deleteLifeInsurance(id));
+    }
+
+    @ExceptionHandler(InvalidPageRequestException.class)
+    public ResponseEntity<String> handleInvalidPageRequestException(InvalidPageRequestException e) {
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(e.getMessage());
+    }
+
+    @ExceptionHandler(NoSuchInsuranceException.class)
+    public ResponseEntity<String> handleNoSuchInsuranceException(NoSuchInsuranceException e) {
+        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(e.getMessage());
+    }
+}
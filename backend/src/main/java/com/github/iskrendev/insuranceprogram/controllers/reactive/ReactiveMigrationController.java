@@ -0,0 +1,36 @@
+package com.github.iskrendev.insuranceprogram.controllers.reactive;
+
+import com.github.iskrendev.insuranceprogram.models.MigrationProgress;
+import com.github.iskrendev.insuranceprogram.services.PaymentPerMonthMigrationService;
+import lombok.AllArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+@RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@AllArgsConstructor
+@RequestMapping("/api/migrations")
+public class ReactiveMigrationController {
+    private PaymentPerMonthMigrationService paymentPerMonthMigrationService;
+
+    @GetMapping("/payment-per-month")
+    public Mono<List<MigrationProgress>> getPaymentPerMonthMigrationProgress() {
+        return BlockingCalls.call(paymentPerMonthMigrationService::getProgress);
+    }
+
+    @PostMapping("/payment-per-month")
+    public Mono<ResponseEntity<List<MigrationProgress>>> startPaymentPerMonthMigration() {
+        return BlockingCalls.call(() -> {
+            HttpStatus status = paymentPerMonthMigrationService.startMigration() ? HttpStatus.ACCEPTED : HttpStatus.CONFLICT;
+            return ResponseEntity.status(status).body(paymentPerMonthMigrationService.getProgress());
+        });
+    }
+}
@@ -0,0 +1,75 @@
+package com.github.iskrendev.insuranceprogram.controllers.reactive;
+
+import com.github.iskrendev.insuranceprogram.exceptions.InvalidPageRequestException;
+import com.github.iskrendev.insuranceprogram.exceptions.NoSuchInsuranceException;
+import com.github.iskrendev.insuranceprogram.models.InsurancePage;
+import com.github.iskrendev.insuranceprogram.models.PropertyInsurance;
+import com.github.iskrendev.insuranceprogram.models.PropertyInsuranceDTO;
+import com.github.iskrendev.insuranceprogram.models.PropertyInsuranceUpdateDTO;
+import com.github.iskrendev.insuranceprogram.repositories.ReactivePropertyInsuranceRepo;
+import com.github.iskrendev.insuranceprogram.services.InsurancePaginationService;
+import com.github.iskrendev.insuranceprogram.services.PropertyInsuranceService;
+import lombok.AllArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@AllArgsConstructor
+@RequestMapping("/api/property")
+public class ReactivePropertyInsuranceController {
+    private ReactivePropertyInsuranceRepo reactivePropertyInsuranceRepo;
+    private PropertyInsuranceService propertyInsuranceService;
+
+    @GetMapping
+    public Flux<PropertyInsurance> getAllPropertyInsurances() {
+        return reactivePropertyInsuranceRepo.findAll();
+    }
+
+    @GetMapping("/page")
+    public Mono<InsurancePage<PropertyInsurance>> getPropertyInsurancePage(
+            @RequestParam(defaultValue = "" + InsurancePaginationService.DEFAULT_PAGE_SIZE) int size,
+            @RequestParam(required = false) String pageToken,
+            @RequestParam(defaultValue = "false") boolean includeTotal) {
+        return BlockingCalls.call(() -> propertyInsuranceService.getPropertyInsurancePage(size, pageToken, includeTotal));
+    }
+
+    @GetMapping("/{id}")
+    public Mono<PropertyInsurance> getPropertyInsuranceById(@PathVariable String id) {
+        return BlockingCalls.call(() -> propertyInsuranceService.getPropertyInsuranceById(id));
+    }
+
+    @PostMapping
+    public Mono<PropertyInsurance> addPropertyInsurance(@RequestBody PropertyInsuranceDTO propertyInsurance) {
+        return BlockingCalls.call(() -> propertyInsuranceService.addPropertyInsurance(propertyInsurance.toPropertyInsurance()));
+    }
+
+    @PutMapping("/{id}")
+    public Mono<PropertyInsurance> updatePropertyInsurance(@PathVariable String id, @RequestBody PropertyInsuranceUpdateDTO propertyInsuranceUpdateDTO) {
+        return BlockingCalls.call(() -> propertyInsuranceService.updatePropertyInsurance(id, propertyInsuranceUpdateDTO));
+    }
+
+    @PatchMapping("/{id}")
+    public Mono<PropertyInsurance> patchPropertyInsurance(@PathVariable String id, @RequestBody PropertyInsuranceUpdateDTO propertyInsuranceUpdateDTO) {
+        return BlockingCalls.call(() -> propertyInsuranceService.patchPropertyInsurance(id, propertyInsuranceUpdateDTO));
+    }
+
+    @DeleteMapping("/{id}")
+    public Mono<Void> deletePropertyInsurance(@PathVariable String id) {
+        return BlockingCalls.run(() -> propertyInsuranceService.deletePropertyInsurance(id));
+    }
+
+    @ExceptionHandler(InvalidPageRequestException.class)
+    public ResponseEntity<String> handleInvalidPageRequestException(InvalidPageRequestException e) {
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(e.getMessage());
+    }
+
+    @ExceptionHandler(NoSuchInsuranceException.class)
+    public ResponseEntity<String> handleNoSuchInsuranceException(NoSuchInsuranceException e) {
+        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(e.getMessage());
+    }
+}
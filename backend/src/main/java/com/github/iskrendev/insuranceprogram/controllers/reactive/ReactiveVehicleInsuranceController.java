@@ -0,0 +1,75 @@
+package com.github.iskrendev.insuranceprogram.controllers.reactive;
+
+import com.github.iskrendev.insuranceprogram.exceptions.InvalidPageRequestException;
+import com.github.iskrendev.insuranceprogram.exceptions.NoSuchInsuranceException;
+import com.github.iskrendev.insuranceprogram.models.InsurancePage;
+import com.github.iskrendev.insuranceprogram.models.VehicleInsurance;
+import com.github.iskrendev.insuranceprogram.models.VehicleInsuranceDTO;
+import com.github.iskrendev.insuranceprogram.models.VehicleInsuranceUpdateDTO;
+import com.github.iskrendev.insuranceprogram.repositories.ReactiveVehicleInsuranceRepo;
+import com.github.iskrendev.insuranceprogram.services.InsurancePaginationService;
+import com.github.iskrendev.insuranceprogram.services.VehicleInsuranceService;
+import lombok.AllArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@AllArgsConstructor
+@RequestMapping("/api/vehicle")
+public class ReactiveVehicleInsuranceController {
+    private ReactiveVehicleInsuranceRepo reactiveVehicleInsuranceRepo;
+    private VehicleInsuranceService vehicleInsuranceService;
+
+    @GetMapping
+    public Flux<VehicleInsurance> getAllVehicleInsurances() {
+        return reactiveVehicleInsuranceRepo.findAll();
+    }
+
+    @GetMapping("/page")
+    public Mono<InsurancePage<VehicleInsurance>> getVehicleInsurancePage(
+            @RequestParam(defaultValue = "" + InsurancePaginationService.DEFAULT_PAGE_SIZE) int size,
+            @RequestParam(required = false) String pageToken,
+            @RequestParam(defaultValue = "false") boolean includeTotal) {
+        return BlockingCalls.call(() -> vehicleInsuranceService.getVehicleInsurancePage(size, pageToken, includeTotal));
+    }
+
+    @GetMapping("/{id}")
+    public Mono<VehicleInsurance> getVehicleInsuranceById(@PathVariable String id) {
+        return BlockingCalls.call(() -> vehicleInsuranceService.getVehicleInsuranceById(id));
+    }
+
+    @PostMapping
+    public Mono<VehicleInsurance> addVehicleInsurance(@RequestBody VehicleInsuranceDTO vehicleInsurance) {
+        return BlockingCalls.call(() -> vehicleInsuranceService.addVehicleInsurance(vehicleInsurance.toVehicleInsurance()));
+    }
+
+    @PutMapping("/{id}")
+    public Mono<VehicleInsurance> updateVehicleInsurance(@PathVariable String id, @RequestBody VehicleInsuranceUpdateDTO vehicleInsuranceUpdateDTO) {
+        return BlockingCalls.call(() -> vehicleInsuranceService.updateVehicleInsurance(id, vehicleInsuranceUpdateDTO));
+    }
+
+    @PatchMapping("/{id}")
+    public Mono<VehicleInsurance> patchVehicleInsurance(@PathVariable String id, @RequestBody VehicleInsuranceUpdateDTO vehicleInsuranceUpdateDTO) {
+        return BlockingCalls.call(() -> vehicleInsuranceService.patchVehicleInsurance(id, vehicleInsuranceUpdateDTO));
+    }
+
+    @DeleteMapping("/{id}")
+    public Mono<Void> deleteVehicleInsurance(@PathVariable String id) {
+        return BlockingCalls.run(() -> vehicleInsuranceService.deleteVehicleInsurance(id));
+    }
+
+    @ExceptionHandler(InvalidPageRequestException.class)
+    public ResponseEntity<String> handleInvalidPageRequestException(InvalidPageRequestException e) {
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(e.getMessage());
+    }
+
+    @ExceptionHandler(NoSuchInsuranceException.class)
+    public ResponseEntity<String> handleNoSuchInsuranceException(NoSuchInsuranceException e) {
+        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(e.getMessage());
+    }
+}
@@ -0,0 +1,15 @@
+package com.github.iskrendev.insuranceprogram.converters;
+
+import org.bson.types.Decimal128;
+import org.springframework.core.convert.converter.Converter;
+import org.springframework.data.convert.ReadingConverter;
+
+import java.math.BigDecimal;
+
+@ReadingConverter
+public class Decimal128ToBigDecimalConverter implements Converter<Decimal128, BigDecimal> {
+    @Override
+    public BigDecimal convert(Decimal128 source) {
+        return source.bigDecimalValue();
+    }
+}
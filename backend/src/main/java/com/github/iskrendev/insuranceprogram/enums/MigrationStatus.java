@@ -0,0 +1,5 @@
+package com.github.iskrendev.insuranceprogram.enums;
+
+public enum MigrationStatus {
+    PENDING, RUNNING, COMPLETED, FAILED
+}
@@ -0,0 +1,5 @@
+package com.github.iskrendev.insuranceprogram.enums;
+
+public enum NameField {
+    FIRST_NAME, FAMILY_NAME
+}
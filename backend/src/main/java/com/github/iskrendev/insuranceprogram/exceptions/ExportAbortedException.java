@@ -0,0 +1,12 @@
+package com.github.iskrendev.insuranceprogram.exceptions;
+
+/**
+ * Ends an export whose response is already committed. It carries the failure as a suppressed exception rather than
+ * its cause, so that no exception handler matches it and the container cuts the connection instead.
+ */
+public class ExportAbortedException extends RuntimeException {
+    public ExportAbortedException(Exception failure) {
+        super("Export aborted after the response was committed");
+        addSuppressed(failure);
+    }
+}
@@ -0,0 +1,7 @@
+package com.github.iskrendev.insuranceprogram.exceptions;
+
+public class InvalidPageRequestException extends RuntimeException {
+    public InvalidPageRequestException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,103 @@
+package com.github.iskrendev.insuranceprogram.filters;
+
+import com.github.iskrendev.insuranceprogram.config.ConcurrencyLimitProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.PathContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Sheds API requests beyond the {@link AdaptiveConcurrencyLimiter} limit with an immediate
+ * {@code 503 Service Unavailable}. It runs ahead of the {@link BulkheadFilter}, so queueing for a bulkhead counts
+ * towards the measured latency.
+ */
+@Component
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@Order(AdaptiveConcurrencyFilter.ORDER)
+public class AdaptiveConcurrencyFilter extends OncePerRequestFilter {
+    static final int ORDER = Ordered.HIGHEST_PRECEDENCE + 100;
+
+    private final boolean enabled;
+    private final PathPattern paths;
+    private final List<PathPattern> priorityPaths;
+    private final String retryAfterSeconds;
+    private final AdaptiveConcurrencyLimiter limiter;
+
+    public AdaptiveConcurrencyFilter(ConcurrencyLimitProperties concurrencyLimitProperties, MeterRegistry meterRegistry) {
+        this.enabled = concurrencyLimitProperties.enabled();
+        this.paths = PathPatternParser.defaultInstance.parse(concurrencyLimitProperties.paths());
+        this.priorityPaths = concurrencyLimitProperties.priorityPaths().stream()
+                .map(PathPatternParser.defaultInstance::parse)
+                .toList();
+        this.retryAfterSeconds = String.valueOf(Math.max(1, concurrencyLimitProperties.retryAfter().toSeconds()));
+        this.limiter = enabled ? new AdaptiveConcurrencyLimiter(concurrencyLimitProperties, meterRegistry) : null;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !enabled;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        PathContainer path = PathContainer.parsePath(request.getRequestURI().substring(request.getContextPath().length()));
+        if (!paths.matches(path)) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        AdaptiveConcurrencyLimiter.Permit permit = limiter.tryAcquire(priorityOf(request.getMethod(), path));
+        if (permit == null) {
+            reject(response);
+            return;
+        }
+        boolean completed = false;
+        try {
+            filterChain.doFilter(request, response);
+            completed = true;
+        } finally {
+            int status = response.getStatus();
+            if (!completed || status == HttpStatus.GATEWAY_TIMEOUT.value()) {
+                permit.dropped();
+            } else if (status == HttpStatus.SERVICE_UNAVAILABLE.value()) {
+                permit.ignore();
+            } else {
+                permit.success();
+            }
+        }
+    }
+
+    private AdaptiveConcurrencyLimiter.Priority priorityOf(String method, PathContainer path) {
+        if (HttpMethod.GET.matches(method)) {
+            for (PathPattern priorityPath : priorityPaths) {
+                if (priorityPath.matches(path)) {
+                    return AdaptiveConcurrencyLimiter.Priority.PRIORITY;
+                }
+            }
+        }
+        return AdaptiveConcurrencyLimiter.Priority.STANDARD;
+    }
+
+    private void reject(HttpServletResponse response) throws IOException {
+        response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, retryAfterSeconds);
+        response.setContentType(MediaType.TEXT_PLAIN_VALUE);
+        response.getWriter().write("Server is at its concurrency limit, retry later");
+    }
+}
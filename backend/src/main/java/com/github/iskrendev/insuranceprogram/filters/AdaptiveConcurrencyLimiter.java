@@ -0,0 +1,111 @@
+package com.github.iskrendev.insuranceprogram.filters;
+
+import com.github.iskrendev.insuranceprogram.config.ConcurrencyLimitProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Admits requests while fewer than the current {@link GradientLimit} are in flight. Standard requests may only use
+ * the part of the limit that is not reserved, so priority requests still get through once standard work saturates it.
+ * <p>
+ * Only priority requests feed their latency into the limit. Standard requests range from cheap summaries to exports
+ * that run for minutes, so a single finished export would look like a huge slowdown and shrink the limit without any
+ * overload.
+ */
+public class AdaptiveConcurrencyLimiter {
+    public enum Priority {
+        PRIORITY, STANDARD
+    }
+
+    private final GradientLimit limit;
+    private final double reservedShare;
+    private final AtomicInteger inflight = new AtomicInteger();
+    private final Counter priorityRejections;
+    private final Counter standardRejections;
+
+    public AdaptiveConcurrencyLimiter(ConcurrencyLimitProperties properties, MeterRegistry meterRegistry) {
+        this.limit = new GradientLimit(properties);
+        this.reservedShare = properties.reservedShare();
+        this.priorityRejections = rejectionCounter(meterRegistry, Priority.PRIORITY);
+        this.standardRejections = rejectionCounter(meterRegistry, Priority.STANDARD);
+        Gauge.builder("insurance.concurrency.limit", limit, GradientLimit::getLimit)
+                .description("Requests currently allowed in flight")
+                .register(meterRegistry);
+        Gauge.builder("insurance.concurrency.inflight", inflight, AtomicInteger::get)
+                .description("Requests currently in flight")
+                .register(meterRegistry);
+    }
+
+    private static Counter rejectionCounter(MeterRegistry meterRegistry, Priority priority) {
+        return Counter.builder("insurance.concurrency.rejections")
+                .description("Requests shed because the concurrency limit was reached")
+                .tag("priority", priority.name().toLowerCase(Locale.ROOT))
+                .register(meterRegistry);
+    }
+
+    /**
+     * @return a permit that must be completed exactly once, or {@code null} if the request has to be rejected
+     */
+    public Permit tryAcquire(Priority priority) {
+        int currentLimit = limit.getLimit();
+        int allowed = priority == Priority.PRIORITY
+                ? currentLimit
+                : Math.max(1, (int) (currentLimit * (1 - reservedShare)));
+        int current = inflight.incrementAndGet();
+        if (current > allowed) {
+            inflight.decrementAndGet();
+            (priority == Priority.PRIORITY ? priorityRejections : standardRejections).increment();
+            return null;
+        }
+        return new Permit(priority, current, System.nanoTime());
+    }
+
+    public int getLimit() {
+        return limit.getLimit();
+    }
+
+    public int getInflight() {
+        return inflight.get();
+    }
+
+    public final class Permit {
+        private final Priority priority;
+        private final int inflightOnStart;
+        private final long startNanos;
+
+        private Permit(Priority priority, int inflightOnStart, long startNanos) {
+            this.priority = priority;
+            this.inflightOnStart = inflightOnStart;
+            this.startNanos = startNanos;
+        }
+
+        /**
+         * The request completed normally; the latency of a priority request feeds the limit.
+         */
+        public void success() {
+            inflight.decrementAndGet();
+            if (priority == Priority.PRIORITY) {
+                limit.onSample(System.nanoTime() - startNanos, inflightOnStart);
+            }
+        }
+
+        /**
+         * The request failed in a way that suggests overload, such as a database timeout.
+         */
+        public void dropped() {
+            inflight.decrementAndGet();
+            limit.onDropped();
+        }
+
+        /**
+         * The request ended without saying anything about capacity, for example because an inner filter rejected it.
+         */
+        public void ignore() {
+            inflight.decrementAndGet();
+        }
+    }
+}
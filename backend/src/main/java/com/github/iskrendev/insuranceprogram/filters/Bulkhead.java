@@ -0,0 +1,99 @@
+package com.github.iskrendev.insuranceprogram.filters;
+
+import com.github.iskrendev.insuranceprogram.config.BulkheadProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.http.server.PathContainer;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Caps how many requests of one endpoint class may run at the same time, so that slow full-scan requests cannot
+ * occupy every request thread and Mongo connection.
+ */
+public class Bulkhead {
+    private final String name;
+    private final List<PathPattern> paths;
+    private final Set<String> methods;
+    private final int maxConcurrent;
+    private final long maxWaitNanos;
+    private final Semaphore permits;
+    private final Counter rejections;
+    private final Timer waits;
+
+    public Bulkhead(String name, BulkheadProperties.Endpoint endpoint, MeterRegistry meterRegistry) {
+        if (endpoint.maxConcurrent() < 1) {
+            throw new IllegalArgumentException("Bulkhead " + name + " must allow at least one concurrent request");
+        }
+        this.name = name;
+        this.paths = endpoint.paths() == null ? List.of() : endpoint.paths().stream()
+                .map(PathPatternParser.defaultInstance::parse)
+                .toList();
+        this.methods = endpoint.methods().stream()
+                .map(method -> method.toUpperCase(Locale.ROOT))
+                .collect(Collectors.toUnmodifiableSet());
+        this.maxConcurrent = endpoint.maxConcurrent();
+        this.maxWaitNanos = endpoint.maxWait().toNanos();
+        this.permits = new Semaphore(maxConcurrent, true);
+        this.rejections = Counter.builder("insurance.bulkhead.rejections")
+                .description("Requests rejected because their bulkhead was full")
+                .tag("bulkhead", name)
+                .register(meterRegistry);
+        this.waits = Timer.builder("insurance.bulkhead.wait")
+                .description("Time requests spent waiting for a bulkhead permit")
+                .tag("bulkhead", name)
+                .register(meterRegistry);
+        Gauge.builder("insurance.bulkhead.active", this, Bulkhead::active)
+                .description("Requests currently holding a bulkhead permit")
+                .tag("bulkhead", name)
+                .register(meterRegistry);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public boolean matches(String method, PathContainer path) {
+        if (!methods.isEmpty() && !methods.contains(method)) {
+            return false;
+        }
+        for (PathPattern pattern : paths) {
+            if (pattern.matches(path)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Waits up to the configured maximum for a permit. Every successful call must be paired with {@link #release()}.
+     */
+    public boolean tryAcquire() throws InterruptedException {
+        long start = System.nanoTime();
+        boolean acquired = maxWaitNanos > 0
+                ? permits.tryAcquire(maxWaitNanos, TimeUnit.NANOSECONDS)
+                : permits.tryAcquire();
+        waits.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        if (!acquired) {
+            rejections.increment();
+        }
+        return acquired;
+    }
+
+    public void release() {
+        permits.release();
+    }
+
+    public int active() {
+        return maxConcurrent - permits.availablePermits();
+    }
+}
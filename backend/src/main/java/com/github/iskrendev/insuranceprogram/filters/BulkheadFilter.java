@@ -0,0 +1,87 @@
+package com.github.iskrendev.insuranceprogram.filters;
+
+import com.github.iskrendev.insuranceprogram.config.BulkheadProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.PathContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Runs each request inside the first {@link Bulkhead} whose method and path match it and answers
+ * {@code 503 Service Unavailable} with a {@code Retry-After} header when that bulkhead is full.
+ */
+@Component
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class BulkheadFilter extends OncePerRequestFilter {
+    static final String RETRY_AFTER_SECONDS = "1";
+
+    private final List<Bulkhead> bulkheads;
+
+    public BulkheadFilter(BulkheadProperties bulkheadProperties, MeterRegistry meterRegistry) {
+        this.bulkheads = bulkheadProperties.enabled()
+                ? bulkheadProperties.endpoints().entrySet().stream()
+                .map(entry -> new Bulkhead(entry.getKey(), entry.getValue(), meterRegistry))
+                .toList()
+                : List.of();
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return bulkheads.isEmpty();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        Bulkhead bulkhead = bulkheadFor(request);
+        if (bulkhead == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        boolean acquired;
+        try {
+            acquired = bulkhead.tryAcquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            acquired = false;
+        }
+        if (!acquired) {
+            reject(response, bulkhead);
+            return;
+        }
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            bulkhead.release();
+        }
+    }
+
+    private Bulkhead bulkheadFor(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        PathContainer pathContainer = PathContainer.parsePath(path);
+        for (Bulkhead bulkhead : bulkheads) {
+            if (bulkhead.matches(request.getMethod(), pathContainer)) {
+                return bulkhead;
+            }
+        }
+        return null;
+    }
+
+    private static void reject(HttpServletResponse response, Bulkhead bulkhead) throws IOException {
+        response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, RETRY_AFTER_SECONDS);
+        response.setContentType(MediaType.TEXT_PLAIN_VALUE);
+        response.getWriter().write("Too many concurrent " + bulkhead.getName() + " requests, retry later");
+    }
+}
@@ -0,0 +1,67 @@
+package com.github.iskrendev.insuranceprogram.filters;
+
+import com.github.iskrendev.insuranceprogram.config.ConcurrencyLimitProperties;
+
+/**
+ * Gradient concurrency limit: compares each request latency with a long-term average and shrinks the limit while
+ * requests get slower, growing it again by roughly the square root of the limit while latency stays flat.
+ * <p>
+ * The limit only grows while at least half of it is in use, so a quiet service does not drift up to the maximum.
+ */
+public class GradientLimit {
+    private static final double MIN_GRADIENT = 0.5;
+    private static final double LONG_RTT_RECOVERY = 0.95;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double smoothing;
+    private final double tolerance;
+    private final double longRttWeight;
+    private final double backoffRatio;
+
+    private double limit;
+    private double longRttNanos = Double.NaN;
+
+    public GradientLimit(ConcurrencyLimitProperties properties) {
+        if (properties.minLimit() < 1 || properties.maxLimit() < properties.minLimit()) {
+            throw new IllegalArgumentException("Concurrency limit bounds must satisfy 1 <= min-limit <= max-limit");
+        }
+        this.minLimit = properties.minLimit();
+        this.maxLimit = properties.maxLimit();
+        this.smoothing = properties.smoothing();
+        this.tolerance = properties.tolerance();
+        this.longRttWeight = 2.0 / (properties.longWindow() + 1);
+        this.backoffRatio = properties.backoffRatio();
+        this.limit = clamp(properties.initialLimit());
+    }
+
+    public synchronized int getLimit() {
+        return (int) limit;
+    }
+
+    public synchronized void onSample(long rttNanos, int inflight) {
+        if (Double.isNaN(longRttNanos)) {
+            longRttNanos = rttNanos;
+        } else {
+            longRttNanos += longRttWeight * (rttNanos - longRttNanos);
+        }
+        // After a long stretch of slow requests the average itself is slow; let it catch up with recovered latency.
+        if (longRttNanos / rttNanos > 2) {
+            longRttNanos *= LONG_RTT_RECOVERY;
+        }
+        if (inflight < limit / 2) {
+            return;
+        }
+        double gradient = Math.max(MIN_GRADIENT, Math.min(1.0, tolerance * longRttNanos / rttNanos));
+        double estimate = limit * gradient + Math.sqrt(limit);
+        limit = clamp(limit * (1 - smoothing) + estimate * smoothing);
+    }
+
+    public synchronized void onDropped() {
+        limit = clamp(limit * backoffRatio);
+    }
+
+    private double clamp(double value) {
+        return Math.max(minLimit, Math.min(maxLimit, value));
+    }
+}
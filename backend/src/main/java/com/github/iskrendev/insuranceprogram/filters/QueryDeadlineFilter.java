@@ -0,0 +1,110 @@
+package com.github.iskrendev.insuranceprogram.filters;
+
+import com.github.iskrendev.insuranceprogram.config.QueryDeadlineProperties;
+import com.github.iskrendev.insuranceprogram.repositories.QueryDeadline;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.convert.DurationStyle;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.PathContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+/**
+ * Binds a {@link QueryDeadline} to each API request, taken from the timeout header or the default of the matching
+ * endpoint. It runs ahead of the {@link AdaptiveConcurrencyFilter}, so time spent queueing counts against the deadline.
+ */
+@Component
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@Order(QueryDeadlineFilter.ORDER)
+public class QueryDeadlineFilter extends OncePerRequestFilter {
+    static final int ORDER = AdaptiveConcurrencyFilter.ORDER - 10;
+    static final String DEFAULT_ENDPOINT = "default";
+
+    private final boolean enabled;
+    private final PathPattern paths;
+    private final String header;
+    private final Duration maxTimeout;
+    private final Endpoint defaultEndpoint;
+    private final List<Endpoint> endpoints;
+
+    public QueryDeadlineFilter(QueryDeadlineProperties queryDeadlineProperties) {
+        this.enabled = queryDeadlineProperties.enabled();
+        this.paths = PathPatternParser.defaultInstance.parse(queryDeadlineProperties.paths());
+        this.header = queryDeadlineProperties.header();
+        this.maxTimeout = queryDeadlineProperties.maxTimeout();
+        this.defaultEndpoint = new Endpoint(DEFAULT_ENDPOINT, List.of(), queryDeadlineProperties.defaultTimeout());
+        this.endpoints = queryDeadlineProperties.endpoints().entrySet().stream()
+                .map(entry -> new Endpoint(entry.getKey(),
+                        entry.getValue().paths() == null ? List.of() : entry.getValue().paths().stream()
+                                .map(PathPatternParser.defaultInstance::parse)
+                                .toList(),
+                        entry.getValue().timeout() == null ? queryDeadlineProperties.defaultTimeout() : entry.getValue().timeout()))
+                .toList();
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !enabled;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        PathContainer path = PathContainer.parsePath(request.getRequestURI().substring(request.getContextPath().length()));
+        if (!paths.matches(path)) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        Endpoint endpoint = endpointOf(path);
+        Duration timeout = endpoint.timeout();
+        String requestedTimeout = request.getHeader(header);
+        if (requestedTimeout != null) {
+            try {
+                timeout = parseTimeout(requestedTimeout);
+            } catch (IllegalArgumentException e) {
+                response.setStatus(HttpStatus.BAD_REQUEST.value());
+                response.setContentType(MediaType.TEXT_PLAIN_VALUE);
+                response.getWriter().write(header + " must be a positive number of milliseconds or a duration such as 2s");
+                return;
+            }
+        }
+        try (QueryDeadline.Scope ignored = QueryDeadline.start(endpoint.name(), timeout).bind()) {
+            filterChain.doFilter(request, response);
+        }
+    }
+
+    private Endpoint endpointOf(PathContainer path) {
+        for (Endpoint endpoint : endpoints) {
+            for (PathPattern pattern : endpoint.paths()) {
+                if (pattern.matches(path)) {
+                    return endpoint;
+                }
+            }
+        }
+        return defaultEndpoint;
+    }
+
+    private Duration parseTimeout(String value) {
+        Duration timeout = DurationStyle.detectAndParse(value.trim(), ChronoUnit.MILLIS);
+        if (timeout.isNegative() || timeout.isZero()) {
+            throw new IllegalArgumentException("Timeout must be positive: " + value);
+        }
+        return timeout.compareTo(maxTimeout) > 0 ? maxTimeout : timeout;
+    }
+
+    private record Endpoint(String name, List<PathPattern> paths, Duration timeout) {
+    }
+}
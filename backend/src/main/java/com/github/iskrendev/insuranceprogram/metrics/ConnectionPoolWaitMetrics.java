@@ -0,0 +1,79 @@
+package com.github.iskrendev.insuranceprogram.metrics;
+
+import com.mongodb.ServerAddress;
+import com.mongodb.event.ConnectionCheckOutFailedEvent;
+import com.mongodb.event.ConnectionCheckOutStartedEvent;
+import com.mongodb.event.ConnectionCheckedOutEvent;
+import com.mongodb.event.ConnectionPoolListener;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Times how long callers wait to check a connection out of the Mongo driver pool.
+ * <p>
+ * The driver's checkout events carry no elapsed time or correlation id, but the synchronous driver publishes the
+ * started event and its outcome on the calling thread, so the start time is kept in a thread local. The reactive
+ * driver may finish a checkout on another thread, so this listener is registered on the synchronous client only.
+ */
+@Component
+public class ConnectionPoolWaitMetrics implements ConnectionPoolListener {
+    static final String METRIC_NAME = "insurance.mongo.pool.wait";
+    static final String SUCCESS = "success";
+
+    private final MeterRegistry meterRegistry;
+    private final ThreadLocal<long[]> checkOutStart = ThreadLocal.withInitial(() -> new long[]{-1});
+    private final Map<ServerAddress, Timer> successTimers = new ConcurrentHashMap<>();
+
+    public ConnectionPoolWaitMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public void connectionCheckOutStarted(ConnectionCheckOutStartedEvent event) {
+        checkOutStart.get()[0] = System.nanoTime();
+    }
+
+    @Override
+    public void connectionCheckedOut(ConnectionCheckedOutEvent event) {
+        long elapsed = elapsedNanos();
+        if (elapsed >= 0) {
+            ServerAddress address = event.getConnectionId().getServerId().getAddress();
+            successTimers.computeIfAbsent(address, key -> timer(key, SUCCESS))
+                    .record(elapsed, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    @Override
+    public void connectionCheckOutFailed(ConnectionCheckOutFailedEvent event) {
+        long elapsed = elapsedNanos();
+        if (elapsed >= 0) {
+            timer(event.getServerId().getAddress(), event.getReason().name().toLowerCase(Locale.ROOT))
+                    .record(elapsed, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private long elapsedNanos() {
+        long[] start = checkOutStart.get();
+        if (start[0] < 0) {
+            return -1;
+        }
+        long elapsed = System.nanoTime() - start[0];
+        start[0] = -1;
+        return elapsed;
+    }
+
+    private Timer timer(ServerAddress address, String outcome) {
+        return Timer.builder(METRIC_NAME)
+                .description("Time spent waiting for a connection from the Mongo driver pool")
+                .tag("server.address", address.toString())
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,138 @@
+package com.github.iskrendev.insuranceprogram.metrics;
+
+import com.github.iskrendev.insuranceprogram.models.AllInsurancesResponse;
+import com.github.iskrendev.insuranceprogram.models.InsurancePage;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.util.function.SingletonSupplier;
+
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Times every call to an instrumented bean and records the size of collection-like results.
+ * <p>
+ * Meters are created once per bean class and method and looked up on later calls, so the hot path allocates neither
+ * tags nor meter ids.
+ */
+public class InvocationMetrics implements MethodInterceptor {
+    static final Duration MINIMUM_EXPECTED_LATENCY = Duration.ofMillis(1);
+    static final Duration MAXIMUM_EXPECTED_LATENCY = Duration.ofSeconds(10);
+
+    private final String metricPrefix;
+    private final Map<Class<?>, String> collections;
+    private final Supplier<MeterRegistry> meterRegistry;
+    private final Map<Class<?>, Map<Method, MethodMeters>> meters = new ConcurrentHashMap<>();
+
+    /**
+     * @param metricPrefix prefix of the {@code .invocations} timer and {@code .results} summary
+     * @param collections  instrumented types mapped to the collection tag of their meters
+     */
+    public InvocationMetrics(String metricPrefix, Map<Class<?>, String> collections, ObjectProvider<MeterRegistry> meterRegistry) {
+        this.metricPrefix = metricPrefix;
+        this.collections = Map.copyOf(collections);
+        this.meterRegistry = SingletonSupplier.of(() -> meterRegistry.getObject());
+    }
+
+    public boolean isInstrumented(Class<?> targetClass) {
+        return collectionOf(targetClass) != null;
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        MethodMeters methodMeters = metersFor(invocation.getThis().getClass(), invocation.getMethod());
+        long start = System.nanoTime();
+        try {
+            Object result = invocation.proceed();
+            methodMeters.success().record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            if (methodMeters.results() != null) {
+                recordResultSize(methodMeters.results(), result);
+            }
+            return result;
+        } catch (Throwable e) {
+            methodMeters.error().record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            throw e;
+        }
+    }
+
+    private MethodMeters metersFor(Class<?> targetClass, Method method) {
+        Map<Method, MethodMeters> classMeters = meters.get(targetClass);
+        if (classMeters == null) {
+            classMeters = meters.computeIfAbsent(targetClass, type -> new ConcurrentHashMap<>());
+        }
+        MethodMeters methodMeters = classMeters.get(method);
+        if (methodMeters == null) {
+            methodMeters = classMeters.computeIfAbsent(method, key -> createMeters(collectionOf(targetClass), key));
+        }
+        return methodMeters;
+    }
+
+    private MethodMeters createMeters(String collection, Method method) {
+        MeterRegistry registry = meterRegistry.get();
+        String operation = method.getName();
+        DistributionSummary results = hasCountableResult(method.getReturnType())
+                ? DistributionSummary.builder(metricPrefix + ".results")
+                .description("Number of documents returned per call")
+                .tag("collection", collection)
+                .tag("operation", operation)
+                .publishPercentileHistogram()
+                .register(registry)
+                : null;
+        return new MethodMeters(timer(registry, collection, operation, "success"),
+                timer(registry, collection, operation, "error"),
+                results);
+    }
+
+    private Timer timer(MeterRegistry registry, String collection, String operation, String outcome) {
+        return Timer.builder(metricPrefix + ".invocations")
+                .description("Latency and number of calls")
+                .tag("collection", collection)
+                .tag("operation", operation)
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .minimumExpectedValue(MINIMUM_EXPECTED_LATENCY)
+                .maximumExpectedValue(MAXIMUM_EXPECTED_LATENCY)
+                .register(registry);
+    }
+
+    private String collectionOf(Class<?> targetClass) {
+        for (Map.Entry<Class<?>, String> entry : collections.entrySet()) {
+            if (entry.getKey().isAssignableFrom(targetClass)) {
+                return entry.getValue();
+            }
+        }
+        return null;
+    }
+
+    private static boolean hasCountableResult(Class<?> returnType) {
+        return Collection.class.isAssignableFrom(returnType)
+                || Optional.class.equals(returnType)
+                || InsurancePage.class.equals(returnType)
+                || AllInsurancesResponse.class.equals(returnType);
+    }
+
+    private static void recordResultSize(DistributionSummary results, Object result) {
+        if (result instanceof Collection<?> collection) {
+            results.record(collection.size());
+        } else if (result instanceof Optional<?> optional) {
+            results.record(optional.isPresent() ? 1 : 0);
+        } else if (result instanceof InsurancePage<?> page) {
+            results.record(page.items().size());
+        } else if (result instanceof AllInsurancesResponse response) {
+            results.record(response.lifeInsurances().size() + response.propertyInsurances().size() + response.vehicleInsurances().size());
+        }
+    }
+
+    private record MethodMeters(Timer success, Timer error, DistributionSummary results) {
+    }
+}
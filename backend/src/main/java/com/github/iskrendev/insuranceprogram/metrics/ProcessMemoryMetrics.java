@@ -0,0 +1,64 @@
+package com.github.iskrendev.insuranceprogram.metrics;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.BaseUnits;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * Resident set size of the whole process as reported by Linux. Unlike the JVM memory pools it also covers a native
+ * image, so the JVM and native builds can be compared on the same gauge.
+ */
+@Component
+public class ProcessMemoryMetrics implements MeterBinder {
+    static final String RSS = "process.memory.rss";
+    static final String PEAK_RSS = "process.memory.rss.peak";
+
+    private final Path status;
+
+    public ProcessMemoryMetrics() {
+        this(Path.of("/proc/self/status"));
+    }
+
+    ProcessMemoryMetrics(Path status) {
+        this.status = status;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        if (!Files.isReadable(status)) {
+            return;
+        }
+        Gauge.builder(RSS, this, metrics -> metrics.read("VmRSS:"))
+                .description("Resident set size of the process")
+                .baseUnit(BaseUnits.BYTES)
+                .register(registry);
+        Gauge.builder(PEAK_RSS, this, metrics -> metrics.read("VmHWM:"))
+                .description("Peak resident set size of the process")
+                .baseUnit(BaseUnits.BYTES)
+                .register(registry);
+    }
+
+    private double read(String key) {
+        try {
+            return kilobytes(Files.readAllLines(status), key) * 1024.0;
+        } catch (IOException | IllegalArgumentException e) {
+            return Double.NaN;
+        }
+    }
+
+    static long kilobytes(List<String> lines, String key) {
+        for (String line : lines) {
+            if (line.startsWith(key)) {
+                return Long.parseLong(line.substring(key.length()).trim().split("\\s+")[0]);
+            }
+        }
+        throw new IllegalArgumentException(key + " missing from process status");
+    }
+}
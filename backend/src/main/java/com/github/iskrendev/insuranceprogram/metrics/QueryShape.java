@@ -0,0 +1,61 @@
+package com.github.iskrendev.insuranceprogram.metrics;
+
+import org.bson.BsonArray;
+import org.bson.BsonDocument;
+import org.bson.BsonString;
+import org.bson.BsonValue;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Reduces a command to its shape: literal values become {@code "?"} while field names, operators, sort and projection
+ * specifications are kept, so the same query with different values maps to the same shape and customer data does not
+ * leave the application.
+ */
+public final class QueryShape {
+    private static final BsonString PLACEHOLDER = new BsonString("?");
+    private static final Set<String> KEPT_AS_IS = Set.of("sort", "projection", "hint", "collation", "key", "collection",
+            "$sort", "$project", "coll", "from", "localField", "foreignField", "as");
+    private static final Set<String> DROPPED = Set.of("batchSize", "singleBatch", "cursor", "maxTimeMS", "comment",
+            "ordered", "bypassDocumentValidation", "allowDiskUse", "let");
+
+    private QueryShape() {
+    }
+
+    public static String of(BsonDocument command) {
+        BsonDocument shape = new BsonDocument();
+        boolean first = true;
+        for (Map.Entry<String, BsonValue> entry : command.entrySet()) {
+            if (first) {
+                shape.put(entry.getKey(), entry.getValue().isString() ? entry.getValue() : PLACEHOLDER);
+                first = false;
+            } else if (!DROPPED.contains(entry.getKey())) {
+                shape.put(entry.getKey(), normalize(entry.getKey(), entry.getValue()));
+            }
+        }
+        return shape.toJson();
+    }
+
+    static BsonValue normalize(String key, BsonValue value) {
+        if (KEPT_AS_IS.contains(key)) {
+            return value;
+        }
+        if (value.isDocument()) {
+            BsonDocument normalized = new BsonDocument();
+            value.asDocument().forEach((field, fieldValue) -> normalized.put(field, normalize(field, fieldValue)));
+            return normalized;
+        }
+        if (value.isArray()) {
+            BsonArray array = value.asArray();
+            if (array.stream().noneMatch(element -> element.isDocument() || element.isArray())) {
+                return new BsonArray(array.isEmpty() ? List.of() : List.of(PLACEHOLDER));
+            }
+            BsonArray normalized = new BsonArray();
+            array.forEach(element -> normalized.add(normalize(key, element)));
+            return normalized;
+        }
+        return PLACEHOLDER;
+    }
+}
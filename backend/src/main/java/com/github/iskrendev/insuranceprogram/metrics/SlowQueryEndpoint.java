@@ -0,0 +1,142 @@
+package com.github.iskrendev.insuranceprogram.metrics;
+
+import com.github.iskrendev.insuranceprogram.models.ExplainSummary;
+import com.github.iskrendev.insuranceprogram.models.SlowQuery;
+import com.mongodb.MongoException;
+import lombok.AllArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.BsonArray;
+import org.bson.BsonDocument;
+import org.bson.BsonString;
+import org.bson.BsonValue;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * {@code /actuator/slowqueries} lists the captured slow queries; {@code /actuator/slowqueries/{id}} adds the query
+ * planner's winning plan, which is computed on first request and kept with the entry. Literal values are redacted from
+ * the plan like they are from the query shape.
+ */
+@Slf4j
+@Component
+@AllArgsConstructor
+@Endpoint(id = "slowqueries")
+public class SlowQueryEndpoint {
+    private static final Set<String> REDACTED_PLAN_FIELDS = Set.of("filter", "indexBounds", "parsedQuery");
+
+    private final SlowQueryRecorder slowQueryRecorder;
+    private final MongoTemplate mongoTemplate;
+
+    @ReadOperation
+    public List<SlowQuery> slowQueries() {
+        return slowQueryRecorder.getSlowQueries();
+    }
+
+    @ReadOperation
+    public SlowQuery slowQuery(@Selector long id) {
+        return slowQueryRecorder.find(id)
+                .map(query -> query.slowQuery().withExplain(explain(query)))
+                .orElse(null);
+    }
+
+    @DeleteOperation
+    public void clear() {
+        slowQueryRecorder.clear();
+    }
+
+    private ExplainSummary explain(SlowQueryRecorder.CapturedQuery query) {
+        if (query.explain() == null && SlowQueryRecorder.EXPLAINABLE_COMMANDS.contains(query.slowQuery().command())) {
+            BsonDocument explainCommand = new BsonDocument("explain", query.command())
+                    .append("verbosity", new BsonString("queryPlanner"));
+            try {
+                query.explain(summarize(mongoTemplate.getMongoDatabaseFactory()
+                        .getMongoDatabase(query.slowQuery().database())
+                        .runCommand(explainCommand, BsonDocument.class)));
+            } catch (MongoException | DataAccessException e) {
+                log.warn("Could not explain slow query {}: {}", query.id(), e.getMessage());
+            }
+        }
+        return query.explain();
+    }
+
+    static ExplainSummary summarize(BsonDocument explain) {
+        BsonDocument winningPlan = findWinningPlan(explain);
+        if (winningPlan == null) {
+            return new ExplainSummary(false, List.of(), List.of(), null);
+        }
+        if (winningPlan.isDocument("queryPlan")) {
+            winningPlan = winningPlan.getDocument("queryPlan");
+        }
+        List<String> stages = new ArrayList<>();
+        List<String> indexes = new ArrayList<>();
+        collectStages(winningPlan, stages, indexes);
+        return new ExplainSummary(stages.contains("COLLSCAN"), stages, indexes, redact(winningPlan).toJson());
+    }
+
+    private static BsonDocument redact(BsonDocument plan) {
+        BsonDocument redacted = new BsonDocument();
+        plan.forEach((key, value) -> {
+            if (REDACTED_PLAN_FIELDS.contains(key)) {
+                redacted.put(key, QueryShape.normalize(key, value));
+            } else if (value.isDocument()) {
+                redacted.put(key, redact(value.asDocument()));
+            } else if (value.isArray()) {
+                BsonArray array = new BsonArray();
+                value.asArray().forEach(element -> array.add(element.isDocument() ? redact(element.asDocument()) : element));
+                redacted.put(key, array);
+            } else {
+                redacted.put(key, value);
+            }
+        });
+        return redacted;
+    }
+
+    private static BsonDocument findWinningPlan(BsonValue value) {
+        if (value.isDocument()) {
+            BsonDocument document = value.asDocument();
+            if (document.isDocument("winningPlan")) {
+                return document.getDocument("winningPlan");
+            }
+            for (BsonValue child : document.values()) {
+                BsonDocument found = findWinningPlan(child);
+                if (found != null) {
+                    return found;
+                }
+            }
+        } else if (value.isArray()) {
+            for (BsonValue child : value.asArray()) {
+                BsonDocument found = findWinningPlan(child);
+                if (found != null) {
+                    return found;
+                }
+            }
+        }
+        return null;
+    }
+
+    private static void collectStages(BsonDocument plan, List<String> stages, List<String> indexes) {
+        if (plan.isString("stage")) {
+            stages.add(plan.getString("stage").getValue());
+        }
+        if (plan.isString("indexName")) {
+            indexes.add(plan.getString("indexName").getValue());
+        }
+        if (plan.isDocument("inputStage")) {
+            collectStages(plan.getDocument("inputStage"), stages, indexes);
+        }
+        if (plan.isArray("inputStages")) {
+            plan.getArray("inputStages").stream()
+                    .filter(BsonValue::isDocument)
+                    .forEach(input -> collectStages(input.asDocument(), stages, indexes));
+        }
+    }
+}
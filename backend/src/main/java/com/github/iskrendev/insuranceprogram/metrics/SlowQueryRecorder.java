@@ -0,0 +1,206 @@
+package com.github.iskrendev.insuranceprogram.metrics;
+
+import com.github.iskrendev.insuranceprogram.config.SlowQueryProperties;
+import com.github.iskrendev.insuranceprogram.models.ExplainSummary;
+import com.github.iskrendev.insuranceprogram.models.SlowQuery;
+import com.mongodb.MongoException;
+import com.mongodb.event.CommandFailedEvent;
+import com.mongodb.event.CommandListener;
+import com.mongodb.event.CommandStartedEvent;
+import com.mongodb.event.CommandSucceededEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.BsonArray;
+import org.bson.BsonDocument;
+import org.bson.BsonString;
+import org.bson.BsonValue;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Times the data commands sent by the driver and keeps the ones slower than the configured threshold in a bounded
+ * buffer, oldest evicted first.
+ * <p>
+ * The driver releases a command's buffer once the started event has been published, so a trimmed copy of every data
+ * command is kept until it completes. Session and cluster metadata, inserted documents and the update documents of
+ * updates are left out; an update keeps an empty update document, which is all explain needs to plan its filter.
+ * Failures are kept as exception class and error code only, since Mongo error messages quote the values involved.
+ */
+@Slf4j
+@Component
+public class SlowQueryRecorder implements CommandListener {
+    static final Set<String> CAPTURED_COMMANDS = Set.of("find", "aggregate", "count", "distinct", "findAndModify",
+            "update", "delete", "insert", "getMore");
+    static final Set<String> EXPLAINABLE_COMMANDS = Set.of("find", "aggregate", "count", "distinct", "findAndModify",
+            "update", "delete");
+    private static final Set<String> IGNORED_FIELDS = Set.of("$db", "lsid", "$clusterTime", "txnNumber",
+            "$readPreference", "signature", "documents", "apiVersion", "apiStrict", "apiDeprecationErrors",
+            "autocommit", "startTransaction", "readConcern", "writeConcern");
+    private static final String UPDATE_STATEMENTS = "updates";
+    private static final String FIND_AND_MODIFY_UPDATE = "update";
+
+    private final SlowQueryProperties slowQueryProperties;
+    private final long thresholdNanos;
+    private final Map<Integer, StartedCommand> inFlight = new ConcurrentHashMap<>();
+    private final Deque<CapturedQuery> captured = new ArrayDeque<>();
+    private final AtomicLong sequence = new AtomicLong();
+
+    public SlowQueryRecorder(SlowQueryProperties slowQueryProperties) {
+        this.slowQueryProperties = slowQueryProperties;
+        this.thresholdNanos = slowQueryProperties.threshold().toNanos();
+    }
+
+    @Override
+    public void commandStarted(CommandStartedEvent event) {
+        if (CAPTURED_COMMANDS.contains(event.getCommandName())) {
+            inFlight.put(event.getRequestId(), new StartedCommand(event.getDatabaseName(), trim(event.getCommand())));
+        }
+    }
+
+    @Override
+    public void commandSucceeded(CommandSucceededEvent event) {
+        StartedCommand started = inFlight.remove(event.getRequestId());
+        if (started != null && event.getElapsedTime(TimeUnit.NANOSECONDS) >= thresholdNanos) {
+            record(started, event.getCommandName(), event.getElapsedTime(TimeUnit.NANOSECONDS), null);
+        }
+    }
+
+    @Override
+    public void commandFailed(CommandFailedEvent event) {
+        StartedCommand started = inFlight.remove(event.getRequestId());
+        if (started != null && event.getElapsedTime(TimeUnit.NANOSECONDS) >= thresholdNanos) {
+            record(started, event.getCommandName(), event.getElapsedTime(TimeUnit.NANOSECONDS), failure(event.getThrowable()));
+        }
+    }
+
+    /**
+     * Returns the captured queries, newest first.
+     */
+    public List<SlowQuery> getSlowQueries() {
+        List<SlowQuery> slowQueries = new ArrayList<>();
+        synchronized (captured) {
+            captured.descendingIterator().forEachRemaining(query -> slowQueries.add(query.slowQuery()));
+        }
+        return slowQueries;
+    }
+
+    public void clear() {
+        synchronized (captured) {
+            captured.clear();
+        }
+    }
+
+    Optional<CapturedQuery> find(long id) {
+        synchronized (captured) {
+            return captured.stream().filter(query -> query.id() == id).findFirst();
+        }
+    }
+
+    private void record(StartedCommand started, String commandName, long elapsedNanos, String failure) {
+        BsonDocument command = started.command();
+        BsonValue target = command.get(commandName);
+        String collection = target != null && target.isString()
+                ? target.asString().getValue()
+                : command.getString("collection", new BsonString("")).getValue();
+        SlowQuery slowQuery = new SlowQuery(sequence.incrementAndGet(), Instant.now(), started.database(), collection,
+                commandName, elapsedNanos / 1_000_000.0, QueryShape.of(command), failure, null);
+        log.warn("Slow MongoDB {} on {}.{} took {} ms: {}", commandName, started.database(), collection,
+                slowQuery.durationMillis(), slowQuery.shape());
+        synchronized (captured) {
+            if (captured.size() >= slowQueryProperties.capacity()) {
+                captured.removeFirst();
+            }
+            captured.addLast(new CapturedQuery(slowQuery, command));
+        }
+    }
+
+    private static String failure(Throwable throwable) {
+        String type = throwable.getClass().getSimpleName();
+        return throwable instanceof MongoException mongoException ? type + " " + mongoException.getCode() : type;
+    }
+
+    private static BsonDocument trim(BsonDocument command) {
+        BsonDocument trimmed = new BsonDocument();
+        for (Map.Entry<String, BsonValue> entry : command.entrySet()) {
+            String key = entry.getKey();
+            BsonValue value = entry.getValue();
+            if (IGNORED_FIELDS.contains(key)) {
+                continue;
+            }
+            if (UPDATE_STATEMENTS.equals(key) && value.isArray()) {
+                BsonArray statements = new BsonArray();
+                value.asArray().forEach(statement -> statements.add(
+                        statement.isDocument() ? withoutUpdateDocument(statement.asDocument()) : statement));
+                trimmed.put(key, statements);
+            } else if (FIND_AND_MODIFY_UPDATE.equals(key) && !value.isString()) {
+                // findAndModify names its update document "update"; the update command names its collection so.
+                trimmed.put(key, new BsonDocument());
+            } else {
+                trimmed.put(key, copy(value));
+            }
+        }
+        return trimmed;
+    }
+
+    private static BsonDocument withoutUpdateDocument(BsonDocument statement) {
+        BsonDocument trimmed = new BsonDocument();
+        statement.forEach((key, value) -> trimmed.put(key, key.equals("u") ? new BsonDocument() : copy(value)));
+        return trimmed;
+    }
+
+    private static BsonValue copy(BsonValue value) {
+        if (value.isDocument()) {
+            return value.asDocument().clone();
+        }
+        if (value.isArray()) {
+            BsonArray copy = new BsonArray();
+            value.asArray().forEach(element -> copy.add(copy(element)));
+            return copy;
+        }
+        return value;
+    }
+
+    private record StartedCommand(String database, BsonDocument command) {
+    }
+
+    static final class CapturedQuery {
+        private final SlowQuery slowQuery;
+        private final BsonDocument command;
+        private volatile ExplainSummary explain;
+
+        CapturedQuery(SlowQuery slowQuery, BsonDocument command) {
+            this.slowQuery = slowQuery;
+            this.command = command;
+        }
+
+        long id() {
+            return slowQuery.id();
+        }
+
+        SlowQuery slowQuery() {
+            return slowQuery;
+        }
+
+        BsonDocument command() {
+            return command;
+        }
+
+        ExplainSummary explain() {
+            return explain;
+        }
+
+        void explain(ExplainSummary explain) {
+            this.explain = explain;
+        }
+    }
+}
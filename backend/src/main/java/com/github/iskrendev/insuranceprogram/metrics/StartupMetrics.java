@@ -0,0 +1,54 @@
+package com.github.iskrendev.insuranceprogram.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.info.BuildProperties;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.support.ServletRequestHandledEvent;
+
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.LongSupplier;
+
+/**
+ * Records how long after the process started the first request was served, next to Boot's
+ * {@code application.ready.time}. The gauge is tagged with the build version so cold starts can be compared per release.
+ */
+@Component
+public class StartupMetrics {
+    static final String FIRST_REQUEST_TIME = "application.first.request.time";
+    static final String UNKNOWN_VERSION = "unknown";
+
+    private final MeterRegistry meterRegistry;
+    private final String version;
+    private final LongSupplier uptimeMillis;
+    private final AtomicBoolean firstRequestRecorded = new AtomicBoolean();
+
+    @Autowired
+    public StartupMetrics(MeterRegistry meterRegistry, ObjectProvider<BuildProperties> buildProperties) {
+        this(meterRegistry, buildProperties, () -> ManagementFactory.getRuntimeMXBean().getUptime());
+    }
+
+    StartupMetrics(MeterRegistry meterRegistry, ObjectProvider<BuildProperties> buildProperties, LongSupplier uptimeMillis) {
+        this.meterRegistry = meterRegistry;
+        BuildProperties build = buildProperties.getIfAvailable();
+        this.version = build == null || build.getVersion() == null ? UNKNOWN_VERSION : build.getVersion();
+        this.uptimeMillis = uptimeMillis;
+    }
+
+    @EventListener(ServletRequestHandledEvent.class)
+    public void requestHandled() {
+        if (firstRequestRecorded.get() || !firstRequestRecorded.compareAndSet(false, true)) {
+            return;
+        }
+        long firstRequestMillis = uptimeMillis.getAsLong();
+        TimeGauge.builder(FIRST_REQUEST_TIME, () -> firstRequestMillis, TimeUnit.MILLISECONDS)
+                .description("Time from process start until the first request was served")
+                .tag("version", version)
+                .register(meterRegistry);
+    }
+}
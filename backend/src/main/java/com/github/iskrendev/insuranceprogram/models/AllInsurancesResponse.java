@@ -1,11 +1,36 @@
 package com.github.iskrendev.insuranceprogram.models;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.github.iskrendev.insuranceprogram.enums.InsuranceType;
+
 import java.util.List;
 
+/**
+ * @param unavailableTypes types whose search failed or missed its deadline, so their list is empty rather than complete
+ * @param timedOutTypes    the unavailable types that missed their deadline; the others failed with an error
+ */
 public record AllInsurancesResponse(
         List<LifeInsurance> lifeInsurances,
         List<PropertyInsurance> propertyInsurances,
-        List<VehicleInsurance> vehicleInsurances
+        List<VehicleInsurance> vehicleInsurances,
+        @JsonInclude(JsonInclude.Include.NON_EMPTY)
+        List<InsuranceType> unavailableTypes,
+        @JsonInclude(JsonInclude.Include.NON_EMPTY)
+        List<InsuranceType> timedOutTypes,
+        @JsonInclude(JsonInclude.Include.NON_EMPTY)
+        List<InsuranceType> truncatedTypes
 ) {
+    public AllInsurancesResponse(List<LifeInsurance> lifeInsurances,
+                                 List<PropertyInsurance> propertyInsurances,
+                                 List<VehicleInsurance> vehicleInsurances) {
+        this(lifeInsurances, propertyInsurances, vehicleInsurances, List.of(), List.of(), List.of());
+    }
 
+    public AllInsurancesResponse(List<LifeInsurance> lifeInsurances,
+                                 List<PropertyInsurance> propertyInsurances,
+                                 List<VehicleInsurance> vehicleInsurances,
+                                 List<InsuranceType> unavailableTypes,
+                                 List<InsuranceType> timedOutTypes) {
+        this(lifeInsurances, propertyInsurances, vehicleInsurances, unavailableTypes, timedOutTypes, List.of());
+    }
 }
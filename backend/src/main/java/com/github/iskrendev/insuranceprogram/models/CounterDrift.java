@@ -0,0 +1,14 @@
+package com.github.iskrendev.insuranceprogram.models;
+
+import com.github.iskrendev.insuranceprogram.enums.InsuranceType;
+
+import java.math.BigDecimal;
+
+public record CounterDrift(
+        InsuranceType type,
+        long storedCount,
+        long actualCount,
+        BigDecimal storedAmount,
+        BigDecimal actualAmount
+) {
+}
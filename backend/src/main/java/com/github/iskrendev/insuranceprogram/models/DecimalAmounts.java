@@ -0,0 +1,24 @@
+package com.github.iskrendev.insuranceprogram.models;
+
+import org.bson.types.Decimal128;
+
+import java.math.BigDecimal;
+
+/**
+ * Amounts are stored as Decimal128, which holds at most 34 significant digits. Checking them while the request is
+ * read turns an amount that does not fit into a bad request instead of a failed save.
+ */
+final class DecimalAmounts {
+    private DecimalAmounts() {
+    }
+
+    static void requireDecimal128(String field, BigDecimal value) {
+        if (value != null) {
+            try {
+                new Decimal128(value);
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException(field + " must fit a Decimal128 of at most 34 significant digits");
+            }
+        }
+    }
+}
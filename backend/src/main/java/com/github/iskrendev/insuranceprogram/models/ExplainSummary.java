@@ -0,0 +1,11 @@
+package com.github.iskrendev.insuranceprogram.models;
+
+import java.util.List;
+
+public record ExplainSummary(
+        boolean collectionScan,
+        List<String> stages,
+        List<String> indexes,
+        String winningPlan
+) {
+}
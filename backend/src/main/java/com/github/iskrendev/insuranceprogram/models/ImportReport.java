@@ -0,0 +1,14 @@
+package com.github.iskrendev.insuranceprogram.models;
+
+import com.github.iskrendev.insuranceprogram.enums.InsuranceType;
+
+import java.util.List;
+
+public record ImportReport(
+        InsuranceType type,
+        long rows,
+        long imported,
+        long failed,
+        List<ImportRowError> errors
+) {
+}
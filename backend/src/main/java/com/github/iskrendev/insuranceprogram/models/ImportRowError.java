@@ -0,0 +1,7 @@
+package com.github.iskrendev.insuranceprogram.models;
+
+public record ImportRowError(
+        long row,
+        String message
+) {
+}
@@ -0,0 +1,17 @@
+package com.github.iskrendev.insuranceprogram.models;
+
+import com.github.iskrendev.insuranceprogram.enums.InsuranceType;
+
+import java.math.BigDecimal;
+
+public interface Insurance {
+    String id();
+
+    String firstName();
+
+    String familyName();
+
+    InsuranceType type();
+
+    BigDecimal calculateInsuranceAmount();
+}
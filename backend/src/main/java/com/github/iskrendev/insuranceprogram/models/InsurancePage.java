@@ -0,0 +1,13 @@
+package com.github.iskrendev.insuranceprogram.models;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.util.List;
+
+public record InsurancePage<T extends Insurance>(
+        List<T> items,
+        String nextPageToken,
+        @JsonInclude(JsonInclude.Include.NON_NULL)
+        Long estimatedTotal
+) {
+}
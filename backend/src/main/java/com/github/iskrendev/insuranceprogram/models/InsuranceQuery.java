@@ -0,0 +1,41 @@
+package com.github.iskrendev.insuranceprogram.models;
+
+import com.github.iskrendev.insuranceprogram.enums.InsuranceType;
+import lombok.Builder;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Criteria of a multi-field search. Text criteria match whole values case-insensitively, ranges include their bounds
+ * and may be open on either side. A search only runs when one of its criteria can use an index, unless
+ * {@code allowScan} is set.
+ */
+@Builder
+public record InsuranceQuery(
+        InsuranceType type,
+        String firstName,
+        String familyName,
+        String zipCode,
+        String city,
+        String email,
+        String telephone,
+        String licensePlateNumber,
+        DateRange startDate,
+        DateRange endDate,
+        AmountRange paymentPerMonth,
+        List<String> fields,
+        Integer limit,
+        boolean allowScan
+) {
+    public record DateRange(LocalDate from, LocalDate to) {
+    }
+
+    public record AmountRange(BigDecimal min, BigDecimal max) {
+        public AmountRange {
+            DecimalAmounts.requireDecimal128("paymentPerMonth.min", min);
+            DecimalAmounts.requireDecimal128("paymentPerMonth.max", max);
+        }
+    }
+}
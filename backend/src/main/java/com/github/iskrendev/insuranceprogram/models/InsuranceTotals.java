@@ -0,0 +1,10 @@
+package com.github.iskrendev.insuranceprogram.models;
+
+import java.math.BigDecimal;
+
+public record InsuranceTotals(
+        Long count,
+        BigDecimal totalAmount
+) {
+    public static final InsuranceTotals EMPTY = new InsuranceTotals(0L, BigDecimal.ZERO);
+}
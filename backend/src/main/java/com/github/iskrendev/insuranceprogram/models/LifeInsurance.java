@@ -28,8 +28,11 @@ public record LifeInsurance(
         Boolean hasHealthIssues,
         String healthConditionDetails
 
-) {
+) implements Insurance {
     public BigDecimal calculateInsuranceAmount() {
+        if (this.duration == null || this.paymentPerMonth == null) {
+            return BigDecimal.ZERO;
+        }
         return BigDecimal.valueOf(this.duration).multiply(this.paymentPerMonth);
     }
 }
\ No newline at end of file
@@ -22,6 +22,29 @@ public record LifeInsuranceDTO(String firstName,
                                String healthConditionDetails
 
 ) {
+    public LifeInsuranceDTO {
+        DecimalAmounts.requireDecimal128("paymentPerMonth", paymentPerMonth);
+    }
+
+    public LifeInsurance toLifeInsurance() {
+        return LifeInsurance.builder()
+                .firstName(firstName)
+                .familyName(familyName)
+                .zipCode(zipCode)
+                .city(city)
+                .address(address)
+                .telephone(telephone)
+                .email(email)
+                .type(type)
+                .duration(duration)
+                .paymentPerMonth(paymentPerMonth)
+                .startDate(startDate)
+                .endDate(endDate)
+                .hasHealthIssues(hasHealthIssues)
+                .healthConditionDetails(healthConditionDetails)
+                .build();
+    }
+
     public BigDecimal calculateInsuranceAmount(int duration, BigDecimal paymentPerMonth) {
         return BigDecimal.valueOf(duration).multiply(paymentPerMonth);
     }
@@ -20,6 +20,10 @@ public record LifeInsuranceUpdateDTO(
         Boolean hasHealthIssues,
         String healthConditionDetails
 ) {
+    public LifeInsuranceUpdateDTO {
+        DecimalAmounts.requireDecimal128("paymentPerMonth", paymentPerMonth);
+    }
+
     public BigDecimal calculateInsuranceAmount(int duration, BigDecimal paymentPerMonth) {
         return BigDecimal.valueOf(duration).multiply(paymentPerMonth);
     }
@@ -0,0 +1,15 @@
+package com.github.iskrendev.insuranceprogram.models;
+
+import com.github.iskrendev.insuranceprogram.enums.MigrationStatus;
+
+public record MigrationProgress(
+        String collection,
+        MigrationStatus status,
+        long total,
+        long migrated,
+        long failed
+) {
+    public MigrationProgress withStatus(MigrationStatus newStatus) {
+        return new MigrationProgress(collection, newStatus, total, migrated, failed);
+    }
+}
@@ -0,0 +1,10 @@
+package com.github.iskrendev.insuranceprogram.models;
+
+import com.github.iskrendev.insuranceprogram.enums.NameField;
+
+public record NameSuggestion(
+        String name,
+        NameField field,
+        long policyCount
+) {
+}
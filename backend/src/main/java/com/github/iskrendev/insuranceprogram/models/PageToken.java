@@ -0,0 +1,36 @@
+package com.github.iskrendev.insuranceprogram.models;
+
+import com.github.iskrendev.insuranceprogram.exceptions.InvalidPageRequestException;
+import org.bson.Document;
+import org.bson.json.JsonParseException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+public record PageToken(
+        String familyName,
+        String firstName,
+        String id
+) {
+    public static PageToken after(Insurance insurance) {
+        return new PageToken(insurance.familyName(), insurance.firstName(), insurance.id());
+    }
+
+    public String encode() {
+        String json = new Document("l", familyName).append("f", firstName).append("i", id).toJson();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(json.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static PageToken decode(String token) {
+        try {
+            Document document = Document.parse(new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8));
+            String id = document.getString("i");
+            if (id == null) {
+                throw new InvalidPageRequestException("Invalid page token.");
+            }
+            return new PageToken(document.getString("l"), document.getString("f"), id);
+        } catch (IllegalArgumentException | JsonParseException | ClassCastException e) {
+            throw new InvalidPageRequestException("Invalid page token.");
+        }
+    }
+}
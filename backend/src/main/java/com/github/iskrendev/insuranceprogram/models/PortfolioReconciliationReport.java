@@ -0,0 +1,11 @@
+package com.github.iskrendev.insuranceprogram.models;
+
+import java.time.Instant;
+import java.util.List;
+
+public record PortfolioReconciliationReport(
+        Instant reconciledAt,
+        boolean countersExisted,
+        List<CounterDrift> drift
+) {
+}
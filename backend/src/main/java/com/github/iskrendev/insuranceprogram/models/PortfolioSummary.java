@@ -0,0 +1,36 @@
+package com.github.iskrendev.insuranceprogram.models;
+
+import com.github.iskrendev.insuranceprogram.enums.InsuranceType;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Map;
+
+/**
+ * @param version incremented with every counter update, so a reconciliation can tell whether the counters moved while
+ *                it aggregated the collections
+ */
+@Document(collection = "portfolio_summary")
+public record PortfolioSummary(
+        @Id
+        String id,
+        Map<InsuranceType, Long> counts,
+        Map<InsuranceType, BigDecimal> amounts,
+        long version
+) {
+    public long count(InsuranceType type) {
+        return counts == null ? 0L : counts.getOrDefault(type, 0L);
+    }
+
+    public BigDecimal amount(InsuranceType type) {
+        return amounts == null ? BigDecimal.ZERO : amounts.getOrDefault(type, BigDecimal.ZERO);
+    }
+
+    public BigDecimal totalAmount() {
+        return Arrays.stream(InsuranceType.values())
+                .map(this::amount)
+                .reduce(BigDecimal.ZERO, BigDecimal::add);
+    }
+}
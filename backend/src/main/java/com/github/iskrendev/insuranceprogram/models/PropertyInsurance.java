@@ -29,8 +29,11 @@ public record PropertyInsurance(
         String propertyAddress,
         Integer constructionYear
 
-) {
+) implements Insurance {
     public BigDecimal calculateInsuranceAmount() {
+        if (this.duration == null || this.paymentPerMonth == null) {
+            return BigDecimal.ZERO;
+        }
         return BigDecimal.valueOf(this.duration).multiply(this.paymentPerMonth);
     }
 }
\ No newline at end of file
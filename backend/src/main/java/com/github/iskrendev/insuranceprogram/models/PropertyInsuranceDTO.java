@@ -23,6 +23,30 @@ public record PropertyInsuranceDTO(String firstName,
                                    Integer constructionYear
 
 ) {
+    public PropertyInsuranceDTO {
+        DecimalAmounts.requireDecimal128("paymentPerMonth", paymentPerMonth);
+    }
+
+    public PropertyInsurance toPropertyInsurance() {
+        return PropertyInsurance.builder()
+                .firstName(firstName)
+                .familyName(familyName)
+                .zipCode(zipCode)
+                .city(city)
+                .address(address)
+                .telephone(telephone)
+                .email(email)
+                .type(type)
+                .duration(duration)
+                .paymentPerMonth(paymentPerMonth)
+                .startDate(startDate)
+                .endDate(endDate)
+                .propertyType(propertyType)
+                .propertyAddress(propertyAddress)
+                .constructionYear(constructionYear)
+                .build();
+    }
+
     public BigDecimal calculateInsuranceAmount(int duration, BigDecimal paymentPerMonth) {
         return BigDecimal.valueOf(duration).multiply(paymentPerMonth);
     }
@@ -21,6 +21,10 @@ public record PropertyInsuranceUpdateDTO(
         String propertyAddress,
         Integer constructionYear
 ) {
+    public PropertyInsuranceUpdateDTO {
+        DecimalAmounts.requireDecimal128("paymentPerMonth", paymentPerMonth);
+    }
+
     public BigDecimal calculateInsuranceAmount(int duration, BigDecimal paymentPerMonth) {
         return BigDecimal.valueOf(duration).multiply(paymentPerMonth);
     }
@@ -0,0 +1,23 @@
+package com.github.iskrendev.insuranceprogram.models;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.time.Instant;
+
+public record SlowQuery(
+        long id,
+        Instant timestamp,
+        String database,
+        String collection,
+        String command,
+        double durationMillis,
+        String shape,
+        @JsonInclude(JsonInclude.Include.NON_NULL)
+        String failure,
+        @JsonInclude(JsonInclude.Include.NON_NULL)
+        ExplainSummary explain
+) {
+    public SlowQuery withExplain(ExplainSummary explain) {
+        return new SlowQuery(id, timestamp, database, collection, command, durationMillis, shape, failure, explain);
+    }
+}
@@ -30,8 +30,11 @@ public record VehicleInsurance(
         Integer vehicleYear,
         String licensePlateNumber
 
-) {
+) implements Insurance {
     public BigDecimal calculateInsuranceAmount() {
+        if (this.duration == null || this.paymentPerMonth == null) {
+            return BigDecimal.ZERO;
+        }
         return BigDecimal.valueOf(this.duration).multiply(this.paymentPerMonth);
     }
 }
\ No newline at end of file
@@ -24,6 +24,31 @@ public record VehicleInsuranceDTO(String firstName,
                                   String licensePlateNumber
 
 ) {
+    public VehicleInsuranceDTO {
+        DecimalAmounts.requireDecimal128("paymentPerMonth", paymentPerMonth);
+    }
+
+    public VehicleInsurance toVehicleInsurance() {
+        return VehicleInsurance.builder()
+                .firstName(firstName)
+                .familyName(familyName)
+                .zipCode(zipCode)
+                .city(city)
+                .address(address)
+                .telephone(telephone)
+                .email(email)
+                .type(type)
+                .duration(duration)
+                .paymentPerMonth(paymentPerMonth)
+                .startDate(startDate)
+                .endDate(endDate)
+                .vehicleMake(vehicleMake)
+                .vehicleModel(vehicleModel)
+                .vehicleYear(vehicleYear)
+                .licensePlateNumber(licensePlateNumber)
+                .build();
+    }
+
     public BigDecimal calculateInsuranceAmount(int duration, BigDecimal paymentPerMonth) {
         return BigDecimal.valueOf(duration).multiply(paymentPerMonth);
     }
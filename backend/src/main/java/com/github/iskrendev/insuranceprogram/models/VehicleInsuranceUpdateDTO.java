@@ -22,6 +22,10 @@ public record VehicleInsuranceUpdateDTO(
         Integer vehicleYear,
         String licensePlateNumber
 ) {
+    public VehicleInsuranceUpdateDTO {
+        DecimalAmounts.requireDecimal128("paymentPerMonth", paymentPerMonth);
+    }
+
     public BigDecimal calculateInsuranceAmount(int duration, BigDecimal paymentPerMonth) {
         return BigDecimal.valueOf(duration).multiply(paymentPerMonth);
     }
@@ -0,0 +1,152 @@
+package com.github.iskrendev.insuranceprogram.repositories;
+
+import com.mongodb.ClientSessionOptions;
+import com.mongodb.client.AggregateIterable;
+import com.mongodb.client.ClientSession;
+import com.mongodb.client.DistinctIterable;
+import com.mongodb.client.FindIterable;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.MongoDatabase;
+import com.mongodb.client.model.CountOptions;
+import com.mongodb.client.model.EstimatedDocumentCountOptions;
+import com.mongodb.client.model.FindOneAndDeleteOptions;
+import com.mongodb.client.model.FindOneAndReplaceOptions;
+import com.mongodb.client.model.FindOneAndUpdateOptions;
+import org.bson.Document;
+import org.bson.codecs.configuration.CodecRegistry;
+import org.springframework.dao.support.PersistenceExceptionTranslator;
+import org.springframework.data.mongodb.MongoDatabaseFactory;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.convert.MongoConverter;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.Set;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+/**
+ * {@link MongoTemplate} that bounds every read issued while a {@link QueryDeadline} is bound by the time the deadline
+ * has left. Queries that would start after the deadline fail right away, as a {@code maxTimeMS} of zero means no limit.
+ * <p>
+ * The template translates exceptions with its own translator rather than the one of the shared
+ * {@link MongoDatabaseFactory}, whose bean the Mongo client auto-configuration expects to own.
+ */
+public class DeadlineMongoTemplate extends MongoTemplate {
+    private static final Set<String> QUERY_METHODS = Set.of("find", "aggregate", "distinct", "countDocuments",
+            "estimatedDocumentCount", "findOneAndDelete", "findOneAndReplace", "findOneAndUpdate");
+
+    public DeadlineMongoTemplate(MongoDatabaseFactory mongoDatabaseFactory, MongoConverter mongoConverter,
+                                 PersistenceExceptionTranslator exceptionTranslator) {
+        super(new TranslatingDatabaseFactory(mongoDatabaseFactory, exceptionTranslator), mongoConverter);
+    }
+
+    @Override
+    protected MongoCollection<Document> prepareCollection(MongoCollection<Document> collection) {
+        MongoCollection<Document> prepared = super.prepareCollection(collection);
+        QueryDeadline deadline = QueryDeadline.current();
+        return deadline == null ? prepared : withDeadline(prepared, deadline);
+    }
+
+    @SuppressWarnings("unchecked")
+    static <T> MongoCollection<T> withDeadline(MongoCollection<T> collection, QueryDeadline deadline) {
+        return (MongoCollection<T>) Proxy.newProxyInstance(MongoCollection.class.getClassLoader(),
+                new Class<?>[]{MongoCollection.class}, new DeadlineHandler(collection, deadline));
+    }
+
+    private record DeadlineHandler(MongoCollection<?> collection, QueryDeadline deadline) implements InvocationHandler {
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            long maxTimeMillis = 0;
+            if (QUERY_METHODS.contains(method.getName())) {
+                maxTimeMillis = deadline.remainingMillis();
+                if (maxTimeMillis <= 0) {
+                    throw deadline.exceeded();
+                }
+                if (args != null) {
+                    for (Object arg : args) {
+                        limit(arg, maxTimeMillis);
+                    }
+                }
+            }
+            Object result;
+            try {
+                result = method.invoke(collection, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+            if (result instanceof MongoCollection<?> derived) {
+                return withDeadline(derived, deadline);
+            }
+            if (maxTimeMillis > 0) {
+                limit(result, maxTimeMillis);
+            }
+            return result;
+        }
+
+        private static void limit(Object target, long maxTimeMillis) {
+            switch (target) {
+                case FindIterable<?> find -> find.maxTime(maxTimeMillis, MILLISECONDS);
+                case AggregateIterable<?> aggregate -> aggregate.maxTime(maxTimeMillis, MILLISECONDS);
+                case DistinctIterable<?> distinct -> distinct.maxTime(maxTimeMillis, MILLISECONDS);
+                case CountOptions options when exceeds(options.getMaxTime(MILLISECONDS), maxTimeMillis) ->
+                        options.maxTime(maxTimeMillis, MILLISECONDS);
+                case EstimatedDocumentCountOptions options when exceeds(options.getMaxTime(MILLISECONDS), maxTimeMillis) ->
+                        options.maxTime(maxTimeMillis, MILLISECONDS);
+                case FindOneAndDeleteOptions options when exceeds(options.getMaxTime(MILLISECONDS), maxTimeMillis) ->
+                        options.maxTime(maxTimeMillis, MILLISECONDS);
+                case FindOneAndReplaceOptions options when exceeds(options.getMaxTime(MILLISECONDS), maxTimeMillis) ->
+                        options.maxTime(maxTimeMillis, MILLISECONDS);
+                case FindOneAndUpdateOptions options when exceeds(options.getMaxTime(MILLISECONDS), maxTimeMillis) ->
+                        options.maxTime(maxTimeMillis, MILLISECONDS);
+                case null, default -> {
+                }
+            }
+        }
+
+        private static boolean exceeds(long configuredMillis, long maxTimeMillis) {
+            return configuredMillis == 0 || configuredMillis > maxTimeMillis;
+        }
+    }
+
+    private record TranslatingDatabaseFactory(MongoDatabaseFactory delegate,
+                                              PersistenceExceptionTranslator exceptionTranslator)
+            implements MongoDatabaseFactory {
+        @Override
+        public MongoDatabase getMongoDatabase() {
+            return delegate.getMongoDatabase();
+        }
+
+        @Override
+        public MongoDatabase getMongoDatabase(String dbName) {
+            return delegate.getMongoDatabase(dbName);
+        }
+
+        @Override
+        public PersistenceExceptionTranslator getExceptionTranslator() {
+            return exceptionTranslator;
+        }
+
+        @Override
+        public CodecRegistry getCodecRegistry() {
+            return delegate.getCodecRegistry();
+        }
+
+        @Override
+        public ClientSession getSession(ClientSessionOptions options) {
+            return delegate.getSession(options);
+        }
+
+        @Override
+        public MongoDatabaseFactory withSession(ClientSession session) {
+            return new TranslatingDatabaseFactory(delegate.withSession(session), exceptionTranslator);
+        }
+
+        @Override
+        public boolean isTransactionActive() {
+            return delegate.isTransactionActive();
+        }
+    }
+}
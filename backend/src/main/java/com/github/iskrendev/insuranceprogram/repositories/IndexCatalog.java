@@ -0,0 +1,25 @@
+package com.github.iskrendev.insuranceprogram.repositories;
+
+import com.github.iskrendev.insuranceprogram.config.CacheConfig;
+import lombok.AllArgsConstructor;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.IndexInfo;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * The indexes that currently exist on the insurance collections, read from the server rather than from the
+ * application's index definitions so that indexes added or dropped by operators are taken into account.
+ */
+@Component
+@AllArgsConstructor
+public class IndexCatalog {
+    private MongoTemplate mongoTemplate;
+
+    @Cacheable(cacheNames = CacheConfig.INSURANCE_INDEXES, key = "#p0.name")
+    public List<IndexInfo> indexes(Class<?> entityClass) {
+        return List.copyOf(mongoTemplate.indexOps(entityClass).getIndexInfo());
+    }
+}
@@ -0,0 +1,16 @@
+package com.github.iskrendev.insuranceprogram.repositories;
+
+import org.springframework.data.mongodb.core.query.Collation;
+
+public final class NameCollation {
+    public static final String LOCALE = "en";
+    public static final int STRENGTH = 2;
+    public static final String JSON = "{ 'locale': 'en', 'strength': 2 }";
+
+    private NameCollation() {
+    }
+
+    public static Collation collation() {
+        return Collation.of(LOCALE).strength(STRENGTH);
+    }
+}
@@ -0,0 +1,28 @@
+package com.github.iskrendev.insuranceprogram.repositories;
+
+import com.github.iskrendev.insuranceprogram.models.Insurance;
+import org.bson.Document;
+import org.springframework.data.mongodb.core.mapping.event.BeforeSaveCallback;
+import org.springframework.stereotype.Component;
+
+/**
+ * Adds the phonetic keys of the names to every insurance document written through a save, an insert or a bulk
+ * insert. Updates of single fields set them in {@code InsuranceUpdates}.
+ */
+@Component
+public class PhoneticKeyCallback implements BeforeSaveCallback<Insurance> {
+    @Override
+    public Insurance onBeforeSave(Insurance insurance, Document document, String collection) {
+        put(document, PhoneticKeys.FIRST_NAME, insurance.firstName());
+        put(document, PhoneticKeys.FAMILY_NAME, insurance.familyName());
+        return insurance;
+    }
+
+    private static void put(Document document, String field, String name) {
+        if (name == null) {
+            document.remove(field);
+        } else {
+            document.put(field, PhoneticKeys.of(name));
+        }
+    }
+}
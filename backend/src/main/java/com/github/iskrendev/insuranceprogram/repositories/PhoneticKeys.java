@@ -0,0 +1,29 @@
+package com.github.iskrendev.insuranceprogram.repositories;
+
+import org.apache.commons.codec.language.ColognePhonetic;
+
+/**
+ * Kölner Phonetik codes of the customer names, stored next to the names so that spellings like Meier, Meyer and Maier
+ * are found through one indexed equality match. The codes are not part of the models and never leave the database.
+ */
+public final class PhoneticKeys {
+    public static final String FIRST_NAME = "firstNamePhonetic";
+    public static final String FAMILY_NAME = "familyNamePhonetic";
+
+    private static final ColognePhonetic COLOGNE_PHONETIC = new ColognePhonetic();
+
+    private PhoneticKeys() {
+    }
+
+    public static String of(String name) {
+        return name == null ? null : COLOGNE_PHONETIC.colognePhonetic(name);
+    }
+
+    public static String field(String nameField) {
+        return switch (nameField) {
+            case "firstName" -> FIRST_NAME;
+            case "familyName" -> FAMILY_NAME;
+            default -> throw new IllegalArgumentException("No phonetic key for " + nameField);
+        };
+    }
+}
@@ -0,0 +1,9 @@
+package com.github.iskrendev.insuranceprogram.repositories;
+
+import com.github.iskrendev.insuranceprogram.models.PortfolioSummary;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface PortfolioSummaryRepo extends MongoRepository<PortfolioSummary, String> {
+}
@@ -0,0 +1,96 @@
+package com.github.iskrendev.insuranceprogram.repositories;
+
+import com.mongodb.MongoExecutionTimeoutException;
+import org.springframework.lang.Nullable;
+
+import java.time.Duration;
+import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Time budget of the current request for its MongoDB queries. The {@link DeadlineMongoTemplate} sends what is left of
+ * it as {@code maxTimeMS} with every read, so the server gives up on work nobody is waiting for any more.
+ */
+public final class QueryDeadline {
+    static final int MAX_TIME_MS_EXPIRED = 50;
+
+    private static final ThreadLocal<QueryDeadline> CURRENT = new ThreadLocal<>();
+
+    private final String endpoint;
+    private final Duration timeout;
+    private final long expiresAtNanos;
+
+    private QueryDeadline(String endpoint, Duration timeout) {
+        this.endpoint = endpoint;
+        this.timeout = timeout;
+        this.expiresAtNanos = System.nanoTime() + timeout.toNanos();
+    }
+
+    public static QueryDeadline start(String endpoint, Duration timeout) {
+        return new QueryDeadline(endpoint, timeout);
+    }
+
+    @Nullable
+    public static QueryDeadline current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Returns the deadline of the calling thread, or a new one for {@code endpoint} if there is none, cut short to
+     * {@code timeout} from now. A fan-out that stops waiting after {@code timeout} binds it to its tasks, so the
+     * queries it abandons do not keep running on the server until the request deadline.
+     */
+    public static QueryDeadline within(String endpoint, Duration timeout) {
+        QueryDeadline deadline = current();
+        if (deadline != null && deadline.expiresAtNanos - System.nanoTime() <= timeout.toNanos()) {
+            return deadline;
+        }
+        return new QueryDeadline(deadline == null ? endpoint : deadline.endpoint, timeout);
+    }
+
+    /**
+     * Wraps {@code task} so that it runs under this deadline on whichever thread executes it.
+     */
+    public <T> Callable<T> propagate(Callable<T> task) {
+        return () -> {
+            try (Scope ignored = bind()) {
+                return task.call();
+            }
+        };
+    }
+
+    public Scope bind() {
+        QueryDeadline previous = CURRENT.get();
+        CURRENT.set(this);
+        return () -> {
+            if (previous == null) {
+                CURRENT.remove();
+            } else {
+                CURRENT.set(previous);
+            }
+        };
+    }
+
+    public String endpoint() {
+        return endpoint;
+    }
+
+    public Duration timeout() {
+        return timeout;
+    }
+
+    public long remainingMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(expiresAtNanos - System.nanoTime());
+    }
+
+    MongoExecutionTimeoutException exceeded() {
+        return new MongoExecutionTimeoutException(MAX_TIME_MS_EXPIRED,
+                "Deadline of " + timeout.toMillis() + "ms expired before the query was sent");
+    }
+
+    @FunctionalInterface
+    public interface Scope extends AutoCloseable {
+        @Override
+        void close();
+    }
+}
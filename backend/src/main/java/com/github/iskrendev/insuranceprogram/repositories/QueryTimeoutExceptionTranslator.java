@@ -0,0 +1,39 @@
+package com.github.iskrendev.insuranceprogram.repositories;
+
+import com.mongodb.MongoExecutionTimeoutException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.data.mongodb.core.MongoExceptionTranslator;
+import org.springframework.lang.Nullable;
+
+/**
+ * Translates queries cut off by {@code maxTimeMS} into a {@link QueryTimeoutException} instead of an uncategorized
+ * error, and counts them per {@link QueryDeadline#endpoint()}.
+ */
+public class QueryTimeoutExceptionTranslator extends MongoExceptionTranslator {
+    static final String METRIC_NAME = "insurance.query.timeouts";
+    static final String NO_DEADLINE = "none";
+
+    private final MeterRegistry meterRegistry;
+
+    public QueryTimeoutExceptionTranslator(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    @Nullable
+    public DataAccessException translateExceptionIfPossible(RuntimeException ex) {
+        if (ex instanceof MongoExecutionTimeoutException) {
+            QueryDeadline deadline = QueryDeadline.current();
+            Counter.builder(METRIC_NAME)
+                    .description("Queries aborted because their request deadline expired")
+                    .tag("endpoint", deadline == null ? NO_DEADLINE : deadline.endpoint())
+                    .register(meterRegistry)
+                    .increment();
+            return new QueryTimeoutException(ex.getMessage(), ex);
+        }
+        return super.translateExceptionIfPossible(ex);
+    }
+}
@@ -0,0 +1,17 @@
+package com.github.iskrendev.insuranceprogram.repositories;
+
+import com.github.iskrendev.insuranceprogram.models.LifeInsurance;
+import org.springframework.data.mongodb.repository.Query;
+import org.springframework.data.mongodb.repository.ReactiveMongoRepository;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+
+@Repository
+public interface ReactiveLifeInsuranceRepo extends ReactiveMongoRepository<LifeInsurance, String> {
+    @Query(value = "{ 'firstName': ?0 }", collation = NameCollation.JSON)
+    Flux<LifeInsurance> findByFirstName(String firstName);
+    @Query(value = "{ 'familyName': ?0 }", collation = NameCollation.JSON)
+    Flux<LifeInsurance> findByFamilyName(String familyName);
+    @Query(value = "{ 'firstName': ?0, 'familyName': ?1 }", collation = NameCollation.JSON)
+    Flux<LifeInsurance> findByFirstNameAndFamilyName(String firstName, String familyName);
+}
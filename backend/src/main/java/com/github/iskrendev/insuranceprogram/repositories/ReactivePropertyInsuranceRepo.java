@@ -0,0 +1,17 @@
+package com.github.iskrendev.insuranceprogram.repositories;
+
+import com.github.iskrendev.insuranceprogram.models.PropertyInsurance;
+import org.springframework.data.mongodb.repository.Query;
+import org.springframework.data.mongodb.repository.ReactiveMongoRepository;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+
+@Repository
+public interface ReactivePropertyInsuranceRepo extends ReactiveMongoRepository<PropertyInsurance, String> {
+    @Query(value = "{ 'firstName': ?0 }", collation = NameCollation.JSON)
+    Flux<PropertyInsurance> findByFirstName(String firstName);
+    @Query(value = "{ 'familyName': ?0 }", collation = NameCollation.JSON)
+    Flux<PropertyInsurance> findByFamilyName(String familyName);
+    @Query(value = "{ 'firstName': ?0, 'familyName': ?1 }", collation = NameCollation.JSON)
+    Flux<PropertyInsurance> findByFirstNameAndFamilyName(String firstName, String familyName);
+}
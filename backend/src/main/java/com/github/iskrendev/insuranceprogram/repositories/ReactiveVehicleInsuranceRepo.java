@@ -0,0 +1,17 @@
+package com.github.iskrendev.insuranceprogram.repositories;
+
+import com.github.iskrendev.insuranceprogram.models.VehicleInsurance;
+import org.springframework.data.mongodb.repository.Query;
+import org.springframework.data.mongodb.repository.ReactiveMongoRepository;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+
+@Repository
+public interface ReactiveVehicleInsuranceRepo extends ReactiveMongoRepository<VehicleInsurance, String> {
+    @Query(value = "{ 'firstName': ?0 }", collation = NameCollation.JSON)
+    Flux<VehicleInsurance> findByFirstName(String firstName);
+    @Query(value = "{ 'familyName': ?0 }", collation = NameCollation.JSON)
+    Flux<VehicleInsurance> findByFamilyName(String familyName);
+    @Query(value = "{ 'firstName': ?0, 'familyName': ?1 }", collation = NameCollation.JSON)
+    Flux<VehicleInsurance> findByFirstNameAndFamilyName(String firstName, String familyName);
+}
@@ -1,18 +1,47 @@
 package com.github.iskrendev.insuranceprogram.repositories;
 
+import com.github.iskrendev.insuranceprogram.config.CacheConfig;
+import com.github.iskrendev.insuranceprogram.models.InsuranceTotals;
 import com.github.iskrendev.insuranceprogram.models.VehicleInsurance;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.CachePut;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.mongodb.repository.Aggregation;
 import org.springframework.data.mongodb.repository.MongoRepository;
 import org.springframework.data.mongodb.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface VehicleInsuranceRepo extends MongoRepository <VehicleInsurance, String> {
-    @Query("{ 'firstName': { $regex: ?0, $options: 'i' } }")
+    @Query(value = "{ 'firstName': ?0 }", collation = NameCollation.JSON)
     List<VehicleInsurance> findByFirstName(String firstName);
-    @Query("{ 'familyName': { $regex: ?0, $options: 'i' } }")
+    @Query(value = "{ 'familyName': ?0 }", collation = NameCollation.JSON)
     List<VehicleInsurance> findByFamilyName(String familyName);
-    @Query("{ 'firstName': { $regex: ?0, $options: 'i' }, 'familyName': { $regex: ?1, $options: 'i' } }")
+    @Query(value = "{ 'firstName': ?0, 'familyName': ?1 }", collation = NameCollation.JSON)
     List<VehicleInsurance> findByFirstNameAndFamilyName(String firstName, String familyName);
+    @Aggregation(pipeline = {
+            "{ $group: { _id: null, count: { $sum: 1 }, totalAmount: { $sum: { $multiply: [ '$duration', { $toDecimal: '$paymentPerMonth' } ] } } } }",
+            "{ $project: { _id: 0, count: 1, totalAmount: 1 } }"
+    })
+    Optional<InsuranceTotals> aggregateTotals();
+    @Override
+    @Cacheable(cacheNames = CacheConfig.VEHICLE_INSURANCES, key = "#p0", unless = "#result == null")
+    Optional<VehicleInsurance> findById(String id);
+    @Override
+    @CachePut(cacheNames = CacheConfig.VEHICLE_INSURANCES, key = "#result.id")
+    <S extends VehicleInsurance> S save(S insurance);
+    @Override
+    @CacheEvict(cacheNames = CacheConfig.VEHICLE_INSURANCES, allEntries = true)
+    <S extends VehicleInsurance> List<S> saveAll(Iterable<S> insurances);
+    @CacheEvict(cacheNames = CacheConfig.VEHICLE_INSURANCES, key = "#p0")
+    Optional<VehicleInsurance> removeById(String id);
+    @Override
+    @CacheEvict(cacheNames = CacheConfig.VEHICLE_INSURANCES, key = "#p0")
+    void deleteById(String id);
+    @Override
+    @CacheEvict(cacheNames = CacheConfig.VEHICLE_INSURANCES, allEntries = true)
+    void deleteAll();
 }
@@ -0,0 +1,54 @@
+package com.github.iskrendev.insuranceprogram.services;
+
+/**
+ * Levenshtein distance that only tracks the diagonal band of width {@code 2 * max + 1}, the states a Levenshtein
+ * automaton for {@code max} edits can be in, and gives up as soon as every state exceeds {@code max}. Comparing a
+ * name against a candidate therefore costs O(max * length) instead of O(length²).
+ */
+final class BoundedLevenshtein {
+    private BoundedLevenshtein() {
+    }
+
+    /**
+     * @return the edit distance between {@code a} and {@code b}, or {@code max + 1} if it is larger than {@code max}
+     */
+    static int distance(CharSequence a, CharSequence b, int max) {
+        int n = a.length();
+        int m = b.length();
+        if (Math.abs(n - m) > max) {
+            return max + 1;
+        }
+        int outOfBand = max + 1;
+        int[] previous = new int[m + 1];
+        int[] current = new int[m + 1];
+        for (int j = 0; j <= m; j++) {
+            previous[j] = j <= max ? j : outOfBand;
+        }
+        for (int i = 1; i <= n; i++) {
+            int from = Math.max(1, i - max);
+            int to = Math.min(m, i + max);
+            current[0] = i <= max ? i : outOfBand;
+            if (from > 1) {
+                current[from - 1] = outOfBand;
+            }
+            int rowMinimum = current[0];
+            for (int j = from; j <= to; j++) {
+                int substitution = previous[j - 1] + (a.charAt(i - 1) == b.charAt(j - 1) ? 0 : 1);
+                int deletion = previous[j] + 1;
+                int insertion = current[j - 1] + 1;
+                current[j] = Math.min(outOfBand, Math.min(substitution, Math.min(deletion, insertion)));
+                rowMinimum = Math.min(rowMinimum, current[j]);
+            }
+            if (to < m) {
+                current[to + 1] = outOfBand;
+            }
+            if (rowMinimum > max) {
+                return outOfBand;
+            }
+            int[] swap = previous;
+            previous = current;
+            current = swap;
+        }
+        return previous[m];
+    }
+}
@@ -0,0 +1,169 @@
+package com.github.iskrendev.insuranceprogram.services;
+
+import com.github.iskrendev.insuranceprogram.config.FuzzySearchProperties;
+import com.github.iskrendev.insuranceprogram.enums.InsuranceType;
+import com.github.iskrendev.insuranceprogram.exceptions.InvalidSearchCriteriaException;
+import com.github.iskrendev.insuranceprogram.models.AllInsurancesResponse;
+import com.github.iskrendev.insuranceprogram.models.Insurance;
+import com.github.iskrendev.insuranceprogram.models.LifeInsurance;
+import com.github.iskrendev.insuranceprogram.models.PropertyInsurance;
+import com.github.iskrendev.insuranceprogram.models.VehicleInsurance;
+import com.github.iskrendev.insuranceprogram.repositories.NameCollation;
+import com.github.iskrendev.insuranceprogram.repositories.PhoneticKeys;
+import lombok.AllArgsConstructor;
+import org.bson.Document;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Finds customers whose names sound like the searched ones. Candidates are read through the indexed phonetic keys with
+ * only their names, then kept only if each name is within {@link FuzzySearchProperties#maxDistance()} edits of the
+ * searched name, and ranked by their total edit distance before the matching documents are read.
+ * <p>
+ * A common phonetic key can match more than {@link FuzzySearchProperties#maxCandidates()} documents. The candidates
+ * are then the first ones in {@code _id} order, so repeated searches agree, plus the exact matches, which are read
+ * separately so that they are never cut off. Such a type is reported in
+ * {@link AllInsurancesResponse#truncatedTypes()}.
+ */
+@Service
+@AllArgsConstructor
+public class FuzzyNameSearchService {
+    private static final int NO_MATCH = Integer.MAX_VALUE / 2;
+    private static final String FIRST_NAME = "firstName";
+    private static final String FAMILY_NAME = "familyName";
+
+    private final MongoTemplate mongoTemplate;
+    private final FuzzySearchProperties fuzzySearchProperties;
+
+    public AllInsurancesResponse searchInsurancesByName(Set<InsuranceType> types, String firstName, String familyName) {
+        String searchedFirstName = normalize(firstName);
+        String searchedFamilyName = normalize(familyName);
+        if (searchedFirstName == null && searchedFamilyName == null) {
+            throw new InvalidSearchCriteriaException("Both firstName and familyName cannot be null or empty.");
+        }
+        Criteria phoneticCriteria = new Criteria();
+        if (searchedFirstName != null) {
+            phoneticCriteria.and(PhoneticKeys.FIRST_NAME).is(phoneticKey(firstName));
+        }
+        if (searchedFamilyName != null) {
+            phoneticCriteria.and(PhoneticKeys.FAMILY_NAME).is(phoneticKey(familyName));
+        }
+        Criteria exactCriteria = new Criteria();
+        if (searchedFirstName != null) {
+            exactCriteria.and(FIRST_NAME).is(firstName.trim());
+        }
+        if (searchedFamilyName != null) {
+            exactCriteria.and(FAMILY_NAME).is(familyName.trim());
+        }
+
+        List<InsuranceType> truncatedTypes = new ArrayList<>();
+        Search search = new Search(searchedFirstName, searchedFamilyName, phoneticCriteria, exactCriteria, truncatedTypes);
+        return new AllInsurancesResponse(
+                types.contains(InsuranceType.LIFE) ? search(LifeInsurance.class, InsuranceType.LIFE, search) : List.of(),
+                types.contains(InsuranceType.PROPERTY) ? search(PropertyInsurance.class, InsuranceType.PROPERTY, search) : List.of(),
+                types.contains(InsuranceType.VEHICLE) ? search(VehicleInsurance.class, InsuranceType.VEHICLE, search) : List.of(),
+                List.of(),
+                List.of(),
+                List.copyOf(truncatedTypes));
+    }
+
+    private <T extends Insurance> List<T> search(Class<T> entityClass, InsuranceType type, Search search) {
+        String collectionName = mongoTemplate.getCollectionName(entityClass);
+        int maxCandidates = fuzzySearchProperties.maxCandidates();
+
+        Query phoneticQuery = new Query(search.phoneticCriteria())
+                .with(Sort.by(Sort.Direction.ASC, "_id"))
+                .limit(maxCandidates + 1);
+        phoneticQuery.fields().include(FIRST_NAME, FAMILY_NAME);
+        List<Document> phoneticCandidates = mongoTemplate.find(phoneticQuery, Document.class, collectionName);
+        if (phoneticCandidates.size() <= maxCandidates) {
+            return ranked(entityClass, collectionName, phoneticCandidates, search);
+        }
+        search.truncatedTypes().add(type);
+
+        Query exactQuery = new Query(search.exactCriteria())
+                .collation(NameCollation.collation())
+                .limit(maxCandidates);
+        exactQuery.fields().include(FIRST_NAME, FAMILY_NAME);
+        Map<Object, Document> candidates = new LinkedHashMap<>();
+        mongoTemplate.find(exactQuery, Document.class, collectionName)
+                .forEach(candidate -> candidates.put(candidate.get("_id"), candidate));
+        phoneticCandidates.subList(0, maxCandidates)
+                .forEach(candidate -> candidates.putIfAbsent(candidate.get("_id"), candidate));
+        return ranked(entityClass, collectionName, List.copyOf(candidates.values()), search);
+    }
+
+    private <T extends Insurance> List<T> ranked(Class<T> entityClass, String collectionName, List<Document> candidates,
+                                                 Search search) {
+        List<Match> matches = candidates.stream()
+                .map(candidate -> new Match(candidate.get("_id"),
+                        distance(search.firstName(), candidate.get(FIRST_NAME))
+                                + distance(search.familyName(), candidate.get(FAMILY_NAME)),
+                        name(candidate.get(FAMILY_NAME)), name(candidate.get(FIRST_NAME))))
+                .filter(match -> match.distance() < NO_MATCH)
+                .sorted(Comparator.comparingInt(Match::distance)
+                        .thenComparing(Match::familyName, Comparator.nullsLast(String.CASE_INSENSITIVE_ORDER))
+                        .thenComparing(Match::firstName, Comparator.nullsLast(String.CASE_INSENSITIVE_ORDER)))
+                .toList();
+        if (matches.isEmpty()) {
+            return List.of();
+        }
+
+        Map<String, Integer> ranks = new HashMap<>();
+        for (int rank = 0; rank < matches.size(); rank++) {
+            ranks.put(String.valueOf(matches.get(rank).id()), rank);
+        }
+        Query query = Query.query(Criteria.where("_id").in(matches.stream().map(Match::id).toList()));
+        return mongoTemplate.find(query, entityClass, collectionName).stream()
+                .filter(insurance -> ranks.containsKey(insurance.id()))
+                .sorted(Comparator.comparing(insurance -> ranks.get(insurance.id())))
+                .toList();
+    }
+
+    private int distance(String searchedName, Object candidateName) {
+        if (searchedName == null) {
+            return 0;
+        }
+        if (!(candidateName instanceof String name)) {
+            return NO_MATCH;
+        }
+        int maxDistance = fuzzySearchProperties.maxDistance();
+        int distance = BoundedLevenshtein.distance(searchedName, name.trim().toLowerCase(Locale.ROOT), maxDistance);
+        return distance > maxDistance ? NO_MATCH : distance;
+    }
+
+    private static String name(Object name) {
+        return name instanceof String value ? value : null;
+    }
+
+    private static String phoneticKey(String name) {
+        String key = PhoneticKeys.of(name);
+        if (key.isEmpty()) {
+            throw new InvalidSearchCriteriaException("'" + name + "' cannot be searched by its sound, search it exactly instead.");
+        }
+        return key;
+    }
+
+    private static String normalize(String name) {
+        return name == null || name.isBlank() ? null : name.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private record Search(String firstName, String familyName, Criteria phoneticCriteria, Criteria exactCriteria,
+                          List<InsuranceType> truncatedTypes) {
+    }
+
+    private record Match(Object id, int distance, String familyName, String firstName) {
+    }
+}
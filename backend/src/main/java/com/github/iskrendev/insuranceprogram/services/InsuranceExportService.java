@@ -0,0 +1,94 @@
+package com.github.iskrendev.insuranceprogram.services;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.iskrendev.insuranceprogram.exceptions.AllInsurancesRetrievalException;
+import com.github.iskrendev.insuranceprogram.models.LifeInsurance;
+import com.github.iskrendev.insuranceprogram.models.PropertyInsurance;
+import com.github.iskrendev.insuranceprogram.models.VehicleInsurance;
+import lombok.AllArgsConstructor;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.stream.Stream;
+
+@Service
+@AllArgsConstructor
+public class InsuranceExportService {
+    static final int CURSOR_BATCH_SIZE = 500;
+
+    private MongoTemplate mongoTemplate;
+    private ObjectMapper objectMapper;
+
+    public void writeAllInsurancesAsJson(OutputStream out) throws IOException {
+        try (JsonGenerator generator = createGenerator(out)) {
+            generator.writeStartObject();
+            writeArrayField(generator, "lifeInsurances", LifeInsurance.class);
+            writeArrayField(generator, "propertyInsurances", PropertyInsurance.class);
+            writeArrayField(generator, "vehicleInsurances", VehicleInsurance.class);
+            generator.writeEndObject();
+        }
+    }
+
+    public void writeAllInsurancesAsNdjson(OutputStream out) throws IOException {
+        try (JsonGenerator generator = createGenerator(out)) {
+            generator.setRootValueSeparator(null);
+            writeLines(generator, LifeInsurance.class);
+            writeLines(generator, PropertyInsurance.class);
+            writeLines(generator, VehicleInsurance.class);
+        }
+    }
+
+    /**
+     * A failing cursor leaves the document open: closing its arrays and object would hand the client a truncated
+     * export that still parses.
+     */
+    private JsonGenerator createGenerator(OutputStream out) throws IOException {
+        return objectMapper.createGenerator(out)
+                .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                .disable(JsonGenerator.Feature.AUTO_CLOSE_JSON_CONTENT);
+    }
+
+    private void writeArrayField(JsonGenerator generator, String fieldName, Class<?> entityClass) throws IOException {
+        generator.writeArrayFieldStart(fieldName);
+        forEachDocument(entityClass, generator::writeObject);
+        generator.writeEndArray();
+    }
+
+    private void writeLines(JsonGenerator generator, Class<?> entityClass) throws IOException {
+        forEachDocument(entityClass, document -> {
+            generator.writeObject(document);
+            generator.writeRaw('\n');
+        });
+    }
+
+    private <T> void forEachDocument(Class<T> entityClass, DocumentWriter writer) throws IOException {
+        Query query = new Query().cursorBatchSize(CURSOR_BATCH_SIZE);
+        try (Stream<T> documents = mongoTemplate.stream(query, entityClass)) {
+            documents.forEach(document -> {
+                try {
+                    writer.write(document);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        } catch (QueryTimeoutException e) {
+            throw e;
+        } catch (DataAccessException e) {
+            throw new AllInsurancesRetrievalException();
+        }
+    }
+
+    @FunctionalInterface
+    private interface DocumentWriter {
+        void write(Object document) throws IOException;
+    }
+}
@@ -0,0 +1,211 @@
+package com.github.iskrendev.insuranceprogram.services;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvSchema;
+import com.github.iskrendev.insuranceprogram.config.ImportProperties;
+import com.github.iskrendev.insuranceprogram.enums.InsuranceType;
+import com.github.iskrendev.insuranceprogram.models.ImportReport;
+import com.github.iskrendev.insuranceprogram.models.ImportRowError;
+import com.github.iskrendev.insuranceprogram.models.Insurance;
+import com.github.iskrendev.insuranceprogram.models.LifeInsurance;
+import com.github.iskrendev.insuranceprogram.models.LifeInsuranceDTO;
+import com.github.iskrendev.insuranceprogram.models.PropertyInsurance;
+import com.github.iskrendev.insuranceprogram.models.PropertyInsuranceDTO;
+import com.github.iskrendev.insuranceprogram.models.VehicleInsurance;
+import com.github.iskrendev.insuranceprogram.models.VehicleInsuranceDTO;
+import com.mongodb.bulk.BulkWriteError;
+import lombok.AllArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+@Slf4j
+@Service
+@AllArgsConstructor
+public class InsuranceImportService {
+    private static final ObjectReader CSV_ROW_READER = new CsvMapper()
+            .readerForMapOf(String.class)
+            .with(CsvSchema.emptySchema().withHeader());
+    private static final Map<InsuranceType, ImportTarget<?, ?>> IMPORT_TARGETS = Map.of(
+            InsuranceType.LIFE, new ImportTarget<>(LifeInsuranceDTO.class, LifeInsurance.class, LifeInsuranceDTO::toLifeInsurance),
+            InsuranceType.PROPERTY, new ImportTarget<>(PropertyInsuranceDTO.class, PropertyInsurance.class, PropertyInsuranceDTO::toPropertyInsurance),
+            InsuranceType.VEHICLE, new ImportTarget<>(VehicleInsuranceDTO.class, VehicleInsurance.class, VehicleInsuranceDTO::toVehicleInsurance));
+
+    private MongoTemplate mongoTemplate;
+    private ObjectMapper objectMapper;
+    private PortfolioCounterService portfolioCounterService;
+    private NameSuggestionService nameSuggestionService;
+    private ImportProperties importProperties;
+
+    public ImportReport importNdjson(InsuranceType type, InputStream body) throws IOException {
+        ImportJob<?> job = new ImportJob<>(type, IMPORT_TARGETS.get(type));
+        ObjectReader dtoReader = objectMapper.readerFor(job.target.dtoClass());
+        try (BufferedReader lines = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8))) {
+            long row = 0;
+            String line;
+            while ((line = lines.readLine()) != null) {
+                row++;
+                if (line.isBlank()) {
+                    continue;
+                }
+                try {
+                    job.add(row, dtoReader.readValue(line));
+                } catch (JsonProcessingException e) {
+                    job.reject(row, e.getOriginalMessage());
+                }
+            }
+        }
+        return job.finish();
+    }
+
+    public ImportReport importCsv(InsuranceType type, InputStream body) throws IOException {
+        ImportJob<?> job = new ImportJob<>(type, IMPORT_TARGETS.get(type));
+        try (MappingIterator<Map<String, String>> rows = CSV_ROW_READER.readValues(body)) {
+            long row = 0;
+            while (true) {
+                Map<String, String> values;
+                try {
+                    if (!rows.hasNextValue()) {
+                        break;
+                    }
+                    values = rows.nextValue();
+                } catch (JsonProcessingException e) {
+                    job.reject(row + 1, "Malformed CSV, import stopped: " + e.getOriginalMessage());
+                    break;
+                }
+                row++;
+                try {
+                    job.add(row, objectMapper.convertValue(nonEmptyValues(values), job.target.dtoClass()));
+                } catch (IllegalArgumentException e) {
+                    job.reject(row, e.getCause() instanceof JsonProcessingException cause ? cause.getOriginalMessage() : e.getMessage());
+                }
+            }
+        }
+        return job.finish();
+    }
+
+    private static Map<String, String> nonEmptyValues(Map<String, String> values) {
+        Map<String, String> nonEmpty = new HashMap<>();
+        values.forEach((column, value) -> {
+            if (value != null && !value.isEmpty()) {
+                nonEmpty.put(column, value);
+            }
+        });
+        return nonEmpty;
+    }
+
+    private record ImportTarget<D, E extends Insurance>(Class<D> dtoClass, Class<E> entityClass, Function<D, E> mapper) {
+        E toInsurance(Object dto) {
+            return mapper.apply(dtoClass.cast(dto));
+        }
+    }
+
+    private class ImportJob<E extends Insurance> {
+        private final InsuranceType type;
+        private final ImportTarget<?, E> target;
+        private List<E> batch = new ArrayList<>();
+        private List<Long> batchRows = new ArrayList<>();
+        private final List<ImportRowError> errors = new ArrayList<>();
+        private long rows;
+        private long imported;
+        private long failed;
+
+        @SuppressWarnings("unchecked")
+        ImportJob(InsuranceType type, ImportTarget<?, ?> target) {
+            this.type = type;
+            this.target = (ImportTarget<?, E>) target;
+        }
+
+        void add(long row, Object dto) {
+            if (dto == null) {
+                reject(row, "Row must be a JSON object");
+                return;
+            }
+            rows++;
+            E insurance = target.toInsurance(dto);
+            if (insurance.type() != type) {
+                fail(row, "type must be " + type);
+                return;
+            }
+            batch.add(insurance);
+            batchRows.add(row);
+            if (batch.size() >= importProperties.batchSize()) {
+                flush();
+            }
+        }
+
+        void reject(long row, String message) {
+            rows++;
+            fail(row, message);
+        }
+
+        ImportReport finish() {
+            flush();
+            log.info("Imported {} of {} {} insurance rows, {} failed", imported, rows, type, failed);
+            return new ImportReport(type, rows, imported, failed, List.copyOf(errors));
+        }
+
+        private void fail(long row, String message) {
+            failed++;
+            if (errors.size() < importProperties.maxReportedErrors()) {
+                errors.add(new ImportRowError(row, message));
+            }
+        }
+
+        private void flush() {
+            if (batch.isEmpty()) {
+                return;
+            }
+            try (PortfolioCounterService.PendingWrite write = portfolioCounterService.beginWrite()) {
+                Set<Integer> failedIndexes = new HashSet<>();
+                try {
+                    mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, target.entityClass())
+                            .insert(batch)
+                            .execute();
+                } catch (BulkOperationException e) {
+                    for (BulkWriteError error : e.getErrors()) {
+                        failedIndexes.add(error.getIndex());
+                        fail(batchRows.get(error.getIndex()), error.getMessage());
+                    }
+                }
+
+                List<E> inserted = new ArrayList<>();
+                BigDecimal amount = BigDecimal.ZERO;
+                for (int i = 0; i < batch.size(); i++) {
+                    if (!failedIndexes.contains(i)) {
+                        inserted.add(batch.get(i));
+                        amount = amount.add(batch.get(i).calculateInsuranceAmount());
+                    }
+                }
+                long count = inserted.size();
+                if (count > 0) {
+                    portfolioCounterService.recordAdded(type, count, amount);
+                    nameSuggestionService.recordAdded(inserted);
+                }
+                imported += count;
+            }
+            batch = new ArrayList<>();
+            batchRows = new ArrayList<>();
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package com.github.iskrendev.insuranceprogram.services;
+
+import com.github.iskrendev.insuranceprogram.exceptions.InvalidPageRequestException;
+import com.github.iskrendev.insuranceprogram.models.Insurance;
+import com.github.iskrendev.insuranceprogram.models.InsurancePage;
+import com.github.iskrendev.insuranceprogram.models.PageToken;
+import com.github.iskrendev.insuranceprogram.repositories.NameCollation;
+import lombok.AllArgsConstructor;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+@Service
+@AllArgsConstructor
+public class InsurancePaginationService {
+    public static final int DEFAULT_PAGE_SIZE = 20;
+    public static final int MAX_PAGE_SIZE = 100;
+    static final Sort KEYSET_SORT = Sort.by("familyName", "firstName", "id");
+
+    private MongoTemplate mongoTemplate;
+
+    public <T extends Insurance> InsurancePage<T> findPage(Class<T> insuranceClass, int size, String pageToken, boolean includeTotal) {
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new InvalidPageRequestException("Page size must be between 1 and " + MAX_PAGE_SIZE + ".");
+        }
+
+        Query query = new Query()
+                .with(KEYSET_SORT)
+                .limit(size + 1)
+                .collation(NameCollation.collation());
+        if (pageToken != null && !pageToken.isEmpty()) {
+            query.addCriteria(after(PageToken.decode(pageToken)));
+        }
+
+        List<T> items = mongoTemplate.find(query, insuranceClass);
+        String nextPageToken = null;
+        if (items.size() > size) {
+            items = items.subList(0, size);
+            nextPageToken = PageToken.after(items.get(size - 1)).encode();
+        }
+        Long estimatedTotal = includeTotal ? mongoTemplate.estimatedCount(insuranceClass) : null;
+        return new InsurancePage<>(List.copyOf(items), nextPageToken, estimatedTotal);
+    }
+
+    static Criteria after(PageToken token) {
+        Criteria keyset = new Criteria().orOperator(
+                greaterThan("familyName", token.familyName()),
+                new Criteria().andOperator(
+                        Criteria.where("familyName").is(token.familyName()),
+                        greaterThan("firstName", token.firstName())),
+                new Criteria().andOperator(
+                        Criteria.where("familyName").is(token.familyName()),
+                        Criteria.where("firstName").is(token.firstName()),
+                        Criteria.where("id").gt(token.id())));
+        if (token.familyName() == null) {
+            return keyset;
+        }
+        return new Criteria().andOperator(Criteria.where("familyName").gte(token.familyName()), keyset);
+    }
+
+    private static Criteria greaterThan(String field, String value) {
+        return value == null ? Criteria.where(field).ne(null) : Criteria.where(field).gt(value);
+    }
+}
@@ -0,0 +1,176 @@
+package com.github.iskrendev.insuranceprogram.services;
+
+import com.github.iskrendev.insuranceprogram.config.InsuranceQueryProperties;
+import com.github.iskrendev.insuranceprogram.exceptions.InvalidSearchCriteriaException;
+import com.github.iskrendev.insuranceprogram.models.InsuranceQuery;
+import com.github.iskrendev.insuranceprogram.repositories.IndexCatalog;
+import com.github.iskrendev.insuranceprogram.repositories.NameCollation;
+import lombok.AllArgsConstructor;
+import org.bson.Document;
+import org.springframework.data.mongodb.core.index.IndexField;
+import org.springframework.data.mongodb.core.index.IndexInfo;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.RecordComponent;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Compiles an {@link InsuranceQuery} into one {@link Query} per collection. Text criteria are compared under the
+ * case-insensitive name collation, so they can use the {@code *_ci} indexes. The query is hinted to the existing index
+ * whose leading keys the criteria cover best; if there is none it is rejected unless it allows a collection scan.
+ */
+@Component
+@AllArgsConstructor
+public class InsuranceQueryCompiler {
+    private final IndexCatalog indexCatalog;
+    private final InsuranceQueryProperties insuranceQueryProperties;
+
+    /**
+     * Checks everything that does not depend on the collection, so that an invalid query fails before any is searched.
+     *
+     * @return the fields the query has criteria for
+     */
+    public Set<String> validate(InsuranceQuery insuranceQuery, Collection<Class<?>> entityClasses) {
+        Map<String, Predicate> predicates = predicates(insuranceQuery);
+        if (predicates.isEmpty()) {
+            throw new InvalidSearchCriteriaException("At least one search criterion is required.");
+        }
+        limit(insuranceQuery);
+        if (insuranceQuery.fields() != null) {
+            Set<String> components = entityClasses.stream()
+                    .flatMap(entityClass -> components(entityClass).stream())
+                    .collect(Collectors.toSet());
+            for (String field : insuranceQuery.fields()) {
+                if (!components.contains(field)) {
+                    throw new InvalidSearchCriteriaException("Unknown field " + field + ".");
+                }
+            }
+        }
+        return predicates.keySet();
+    }
+
+    public Query compile(Class<?> entityClass, InsuranceQuery insuranceQuery) {
+        Map<String, Predicate> predicates = predicates(insuranceQuery);
+        Set<String> components = components(entityClass);
+        for (String field : predicates.keySet()) {
+            if (!components.contains(field)) {
+                throw new InvalidSearchCriteriaException(field + " cannot be searched in " + entityClass.getSimpleName() + ".");
+            }
+        }
+
+        Query query = new Query();
+        predicates.values().forEach(predicate -> query.addCriteria(predicate.criteria()));
+        query.collation(NameCollation.collation());
+        query.limit(limit(insuranceQuery));
+        if (insuranceQuery.fields() != null) {
+            insuranceQuery.fields().stream().filter(components::contains).forEach(query.fields()::include);
+        }
+
+        Optional<IndexInfo> hint = indexCatalog.indexes(entityClass).stream()
+                .filter(index -> coveredKeys(index, predicates) > 0)
+                .max(Comparator.<IndexInfo>comparingInt(index -> coveredKeys(index, predicates))
+                        .thenComparing(index -> -index.getIndexFields().size()));
+        if (hint.isPresent()) {
+            query.withHint(hint.get().getName());
+        } else if (!insuranceQuery.allowScan()) {
+            throw new InvalidSearchCriteriaException("None of " + predicates.keySet() + " is indexed in "
+                    + entityClass.getSimpleName() + ". Add an indexed criterion or set allowScan to search all documents.");
+        }
+        return query;
+    }
+
+    /**
+     * Number of leading index keys the criteria constrain. An index only serves text criteria under the collation it
+     * was built with, while dates and amounts can use any index.
+     */
+    static int coveredKeys(IndexInfo index, Map<String, Predicate> predicates) {
+        boolean nameCollation = index.getCollation().map(InsuranceQueryCompiler::isNameCollation).orElse(false);
+        int covered = 0;
+        for (IndexField indexField : index.getIndexFields()) {
+            Predicate predicate = predicates.get(indexField.getKey());
+            if (predicate == null || (predicate.text() && !nameCollation)) {
+                break;
+            }
+            covered++;
+        }
+        return covered;
+    }
+
+    static Map<String, Predicate> predicates(InsuranceQuery insuranceQuery) {
+        Map<String, Predicate> predicates = new LinkedHashMap<>();
+        text(predicates, "firstName", insuranceQuery.firstName());
+        text(predicates, "familyName", insuranceQuery.familyName());
+        text(predicates, "zipCode", insuranceQuery.zipCode());
+        text(predicates, "city", insuranceQuery.city());
+        text(predicates, "email", insuranceQuery.email());
+        text(predicates, "telephone", insuranceQuery.telephone());
+        text(predicates, "licensePlateNumber", insuranceQuery.licensePlateNumber());
+        if (insuranceQuery.startDate() != null) {
+            range(predicates, "startDate", insuranceQuery.startDate().from(), insuranceQuery.startDate().to());
+        }
+        if (insuranceQuery.endDate() != null) {
+            range(predicates, "endDate", insuranceQuery.endDate().from(), insuranceQuery.endDate().to());
+        }
+        if (insuranceQuery.paymentPerMonth() != null) {
+            range(predicates, "paymentPerMonth", insuranceQuery.paymentPerMonth().min(), insuranceQuery.paymentPerMonth().max());
+        }
+        return predicates;
+    }
+
+    private static void text(Map<String, Predicate> predicates, String field, String value) {
+        if (value != null && !value.isBlank()) {
+            predicates.put(field, new Predicate(Criteria.where(field).is(value.trim()), true));
+        }
+    }
+
+    private static <T extends Comparable<T>> void range(Map<String, Predicate> predicates, String field, T from, T to) {
+        if (from == null && to == null) {
+            return;
+        }
+        if (from != null && to != null && from.compareTo(to) > 0) {
+            throw new InvalidSearchCriteriaException("The " + field + " range ends before it starts.");
+        }
+        Criteria range = Criteria.where(field);
+        if (from != null) {
+            range.gte(from);
+        }
+        if (to != null) {
+            range.lte(to);
+        }
+        predicates.put(field, new Predicate(range, false));
+    }
+
+    private int limit(InsuranceQuery insuranceQuery) {
+        Integer limit = insuranceQuery.limit();
+        if (limit == null) {
+            return insuranceQueryProperties.defaultLimit();
+        }
+        if (limit < 1 || limit > insuranceQueryProperties.maxLimit()) {
+            throw new InvalidSearchCriteriaException("The limit must be between 1 and " + insuranceQueryProperties.maxLimit() + ".");
+        }
+        return limit;
+    }
+
+    static Set<String> components(Class<?> entityClass) {
+        return Arrays.stream(entityClass.getRecordComponents())
+                .map(RecordComponent::getName)
+                .collect(Collectors.toSet());
+    }
+
+    private static boolean isNameCollation(Document collation) {
+        return NameCollation.LOCALE.equals(collation.getString("locale"))
+                && Integer.valueOf(NameCollation.STRENGTH).equals(collation.getInteger("strength"));
+    }
+
+    record Predicate(Criteria criteria, boolean text) {
+    }
+}
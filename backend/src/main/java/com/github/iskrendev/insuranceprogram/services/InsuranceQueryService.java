@@ -0,0 +1,57 @@
+package com.github.iskrendev.insuranceprogram.services;
+
+import com.github.iskrendev.insuranceprogram.enums.InsuranceType;
+import com.github.iskrendev.insuranceprogram.exceptions.InvalidSearchCriteriaException;
+import com.github.iskrendev.insuranceprogram.models.AllInsurancesResponse;
+import com.github.iskrendev.insuranceprogram.models.InsuranceQuery;
+import com.github.iskrendev.insuranceprogram.models.LifeInsurance;
+import com.github.iskrendev.insuranceprogram.models.PropertyInsurance;
+import com.github.iskrendev.insuranceprogram.models.VehicleInsurance;
+import lombok.AllArgsConstructor;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Service;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+@Service
+@AllArgsConstructor
+public class InsuranceQueryService {
+    private static final Map<InsuranceType, Class<?>> ENTITY_CLASSES = new EnumMap<>(Map.of(
+            InsuranceType.LIFE, LifeInsurance.class,
+            InsuranceType.PROPERTY, PropertyInsurance.class,
+            InsuranceType.VEHICLE, VehicleInsurance.class));
+
+    private final MongoTemplate mongoTemplate;
+    private final InsuranceQueryCompiler insuranceQueryCompiler;
+
+    /**
+     * Searches the requested type, or without a type every type that has all the fields the query has criteria for.
+     * All queries are compiled before the first one runs.
+     */
+    public AllInsurancesResponse search(InsuranceQuery insuranceQuery) {
+        Set<String> criteriaFields = insuranceQueryCompiler.validate(insuranceQuery, ENTITY_CLASSES.values());
+        List<InsuranceType> types = insuranceQuery.type() != null
+                ? List.of(insuranceQuery.type())
+                : ENTITY_CLASSES.keySet().stream()
+                        .filter(type -> InsuranceQueryCompiler.components(ENTITY_CLASSES.get(type)).containsAll(criteriaFields))
+                        .toList();
+        if (types.isEmpty()) {
+            throw new InvalidSearchCriteriaException("No insurance type has all of " + criteriaFields + ".");
+        }
+
+        Map<InsuranceType, Query> queries = new EnumMap<>(InsuranceType.class);
+        types.forEach(type -> queries.put(type, insuranceQueryCompiler.compile(ENTITY_CLASSES.get(type), insuranceQuery)));
+        return new AllInsurancesResponse(
+                find(queries.get(InsuranceType.LIFE), LifeInsurance.class),
+                find(queries.get(InsuranceType.PROPERTY), PropertyInsurance.class),
+                find(queries.get(InsuranceType.VEHICLE), VehicleInsurance.class));
+    }
+
+    private <T> List<T> find(Query query, Class<T> entityClass) {
+        return query == null ? List.of() : mongoTemplate.find(query, entityClass);
+    }
+}
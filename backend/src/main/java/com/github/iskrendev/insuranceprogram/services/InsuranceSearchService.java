@@ -1,5 +1,8 @@
 package com.github.iskrendev.insuranceprogram.services;
 
+import com.github.iskrendev.insuranceprogram.config.ExecutorConfig;
+import com.github.iskrendev.insuranceprogram.config.SearchProperties;
+import com.github.iskrendev.insuranceprogram.enums.InsuranceType;
 import com.github.iskrendev.insuranceprogram.exceptions.InvalidSearchCriteriaException;
 import com.github.iskrendev.insuranceprogram.models.AllInsurancesResponse;
 import com.github.iskrendev.insuranceprogram.models.LifeInsurance;
@@ -7,20 +10,33 @@ import com.github.iskrendev.insuranceprogram.models.PropertyInsurance;
 import com.github.iskrendev.insuranceprogram.models.VehicleInsurance;
 import com.github.iskrendev.insuranceprogram.repositories.LifeInsuranceRepo;
 import com.github.iskrendev.insuranceprogram.repositories.PropertyInsuranceRepo;
+import com.github.iskrendev.insuranceprogram.repositories.QueryDeadline;
 import com.github.iskrendev.insuranceprogram.repositories.VehicleInsuranceRepo;
 import lombok.AllArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.dao.QueryTimeoutException;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import java.util.function.BiFunction;
-import java.util.regex.Pattern;
 
+@Slf4j
 @Service
 @AllArgsConstructor
 public class InsuranceSearchService {
     private final LifeInsuranceRepo lifeInsuranceRepo;
     private final PropertyInsuranceRepo propertyInsuranceRepo;
     private final VehicleInsuranceRepo vehicleInsuranceRepo;
+    @Qualifier(ExecutorConfig.SEARCH_EXECUTOR)
+    private final ExecutorService searchExecutor;
+    private final SearchProperties searchProperties;
 
     public List<LifeInsurance> searchLifeInsuranceByName(String firstName, String familyName) {
         return searchInsurance(firstName, familyName,
@@ -47,26 +63,67 @@ public class InsuranceSearchService {
                                         BiFunction<String, String, List<T>> searchBothNames,
                                         BiFunction<String, String, List<T>> searchFirstName,
                                         BiFunction<String, String, List<T>> searchFamilyName) {
-        if ((firstName == null || firstName.isEmpty()) && (familyName == null || familyName.isEmpty())) {
-            throw new InvalidSearchCriteriaException("Both firstName and familyName cannot be null or empty.");
-        }
+        validateSearchCriteria(firstName, familyName);
 
-        String firstNameRegex = firstName != null && !firstName.isEmpty() ? "^" + Pattern.quote(firstName) + "$" : null;
-        String familyNameRegex = familyName != null && !familyName.isEmpty() ? "^" + Pattern.quote(familyName) + "$" : null;
+        boolean hasFirstName = firstName != null && !firstName.isEmpty();
+        boolean hasFamilyName = familyName != null && !familyName.isEmpty();
 
-        if (firstNameRegex != null && familyNameRegex != null) {
-            return searchBothNames.apply(firstNameRegex, familyNameRegex);
-        } else if (firstNameRegex != null) {
-            return searchFirstName.apply(firstNameRegex, null);
+        if (hasFirstName && hasFamilyName) {
+            return searchBothNames.apply(firstName, familyName);
+        } else if (hasFirstName) {
+            return searchFirstName.apply(firstName, null);
         } else {
-            return searchFamilyName.apply(null, familyNameRegex);
+            return searchFamilyName.apply(null, familyName);
+        }
+    }
+
+    private void validateSearchCriteria(String firstName, String familyName) {
+        if ((firstName == null || firstName.isEmpty()) && (familyName == null || familyName.isEmpty())) {
+            throw new InvalidSearchCriteriaException("Both firstName and familyName cannot be null or empty.");
         }
     }
 
     public AllInsurancesResponse searchAllInsurancesByName(String firstName, String familyName) {
-        List<LifeInsurance> lifeInsurances = searchLifeInsuranceByName(firstName, familyName);
-        List<PropertyInsurance> propertyInsurances = searchPropertyInsuranceByName(firstName, familyName);
-        List<VehicleInsurance> vehicleInsurances = searchVehicleInsuranceByName(firstName, familyName);
-        return new AllInsurancesResponse(lifeInsurances, propertyInsurances, vehicleInsurances);
+        validateSearchCriteria(firstName, familyName);
+
+        long deadline = System.nanoTime() + searchProperties.deadline().toNanos();
+        QueryDeadline queryDeadline = QueryDeadline.within("search", searchProperties.deadline());
+        Future<List<LifeInsurance>> lifeSearch = searchExecutor.submit(queryDeadline.propagate(() -> searchLifeInsuranceByName(firstName, familyName)));
+        Future<List<PropertyInsurance>> propertySearch = searchExecutor.submit(queryDeadline.propagate(() -> searchPropertyInsuranceByName(firstName, familyName)));
+        Future<List<VehicleInsurance>> vehicleSearch = searchExecutor.submit(queryDeadline.propagate(() -> searchVehicleInsuranceByName(firstName, familyName)));
+
+        List<InsuranceType> unavailableTypes = new ArrayList<>();
+        List<InsuranceType> timedOutTypes = new ArrayList<>();
+        List<LifeInsurance> lifeInsurances = awaitSearch(lifeSearch, deadline, InsuranceType.LIFE, unavailableTypes, timedOutTypes);
+        List<PropertyInsurance> propertyInsurances = awaitSearch(propertySearch, deadline, InsuranceType.PROPERTY, unavailableTypes, timedOutTypes);
+        List<VehicleInsurance> vehicleInsurances = awaitSearch(vehicleSearch, deadline, InsuranceType.VEHICLE, unavailableTypes, timedOutTypes);
+        return new AllInsurancesResponse(lifeInsurances, propertyInsurances, vehicleInsurances,
+                List.copyOf(unavailableTypes), List.copyOf(timedOutTypes));
+    }
+
+    /**
+     * A search that was cut off by Mongo's {@code maxTimeMS} counts as timed out just like one that missed the
+     * search deadline here.
+     */
+    private <T> List<T> awaitSearch(Future<List<T>> search, long deadline, InsuranceType type,
+                                    List<InsuranceType> unavailableTypes, List<InsuranceType> timedOutTypes) {
+        try {
+            return search.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            log.warn("{} search did not finish within {}", type, searchProperties.deadline());
+            timedOutTypes.add(type);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof QueryTimeoutException) {
+                log.warn("{} search query timed out", type);
+                timedOutTypes.add(type);
+            } else {
+                log.error("{} search failed", type, e.getCause());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        search.cancel(true);
+        unavailableTypes.add(type);
+        return List.of();
     }
-}
\ No newline at end of file
+}
@@ -1,9 +1,10 @@
 package com.github.iskrendev.insuranceprogram.services;
 
+import com.github.iskrendev.insuranceprogram.enums.InsuranceType;
 import com.github.iskrendev.insuranceprogram.models.InsuranceSummaryDTO;
-import com.github.iskrendev.insuranceprogram.models.LifeInsurance;
-import com.github.iskrendev.insuranceprogram.models.PropertyInsurance;
-import com.github.iskrendev.insuranceprogram.models.VehicleInsurance;
+import com.github.iskrendev.insuranceprogram.models.InsuranceTotals;
+import com.github.iskrendev.insuranceprogram.models.PortfolioReconciliationReport;
+import com.github.iskrendev.insuranceprogram.models.PortfolioSummary;
 import com.github.iskrendev.insuranceprogram.repositories.LifeInsuranceRepo;
 import com.github.iskrendev.insuranceprogram.repositories.PropertyInsuranceRepo;
 import com.github.iskrendev.insuranceprogram.repositories.VehicleInsuranceRepo;
@@ -17,6 +18,7 @@ public class InsuranceSummaryService {
     private LifeInsuranceRepo lifeInsuranceRepo;
     private PropertyInsuranceRepo propertyInsuranceRepo;
     private VehicleInsuranceRepo vehicleInsuranceRepo;
+    private PortfolioCounterService portfolioCounterService;
 
     public long countLifeInsurances() {
         return lifeInsuranceRepo.count();
@@ -31,25 +33,21 @@ public class InsuranceSummaryService {
     }
 
     public BigDecimal calculateTotalInsuranceAmount() {
-        BigDecimal totalLifeInsurance = lifeInsuranceRepo.findAll().stream()
-                .map(LifeInsurance::calculateInsuranceAmount)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
-        BigDecimal totalPropertyInsurance = propertyInsuranceRepo.findAll().stream()
-                .map(PropertyInsurance::calculateInsuranceAmount)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
-        BigDecimal totalVehicleInsurance = vehicleInsuranceRepo.findAll().stream()
-                .map(VehicleInsurance::calculateInsuranceAmount)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
-
-        return totalLifeInsurance.add(totalPropertyInsurance).add(totalVehicleInsurance);
+        return lifeInsuranceRepo.aggregateTotals().orElse(InsuranceTotals.EMPTY).totalAmount()
+                .add(propertyInsuranceRepo.aggregateTotals().orElse(InsuranceTotals.EMPTY).totalAmount())
+                .add(vehicleInsuranceRepo.aggregateTotals().orElse(InsuranceTotals.EMPTY).totalAmount());
     }
 
     public InsuranceSummaryDTO getInsuranceSummary() {
-        BigDecimal totalAmount = calculateTotalInsuranceAmount();
-        long lifeCount = countLifeInsurances();
-        long propertyCount = countPropertyInsurances();
-        long vehicleCount = countVehicleInsurances();
+        PortfolioSummary summary = portfolioCounterService.getSummary();
 
-        return new InsuranceSummaryDTO(totalAmount, lifeCount, propertyCount, vehicleCount);
+        return new InsuranceSummaryDTO(summary.totalAmount(),
+                summary.count(InsuranceType.LIFE),
+                summary.count(InsuranceType.PROPERTY),
+                summary.count(InsuranceType.VEHICLE));
     }
-}
\ No newline at end of file
+
+    public PortfolioReconciliationReport reconcileInsuranceSummary() {
+        return portfolioCounterService.reconcile();
+    }
+}
@@ -0,0 +1,109 @@
+package com.github.iskrendev.insuranceprogram.services;
+
+import com.github.iskrendev.insuranceprogram.config.InsuranceQueryProperties;
+import com.github.iskrendev.insuranceprogram.enums.InsuranceType;
+import com.github.iskrendev.insuranceprogram.exceptions.InvalidSearchCriteriaException;
+import com.github.iskrendev.insuranceprogram.models.Insurance;
+import com.github.iskrendev.insuranceprogram.models.LifeInsurance;
+import com.github.iskrendev.insuranceprogram.models.PropertyInsurance;
+import com.github.iskrendev.insuranceprogram.models.VehicleInsurance;
+import com.github.iskrendev.insuranceprogram.repositories.NameCollation;
+import lombok.AllArgsConstructor;
+import org.bson.Document;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.AggregationOperation;
+import org.springframework.data.mongodb.core.aggregation.AggregationOptions;
+import org.springframework.data.mongodb.core.aggregation.UnionWithOperation;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Top matches across all insurance types in one round trip: a single aggregation on the life collection pulls in the
+ * other collections with {@code $unionWith}, tags each row with its type and sorts and limits the combined rows on the
+ * server. Every branch is sorted and limited on its own first, so no collection contributes more rows than can
+ * make it into the result.
+ */
+@Service
+@AllArgsConstructor
+public class InsuranceUnionSearchService {
+    static final List<String> SORT_FIELDS = List.of("familyName", "firstName", "startDate", "endDate", "paymentPerMonth");
+
+    private static final Map<InsuranceType, Class<? extends Insurance>> ENTITY_CLASSES = new EnumMap<>(Map.of(
+            InsuranceType.LIFE, LifeInsurance.class,
+            InsuranceType.PROPERTY, PropertyInsurance.class,
+            InsuranceType.VEHICLE, VehicleInsurance.class));
+
+    private final MongoTemplate mongoTemplate;
+    private final InsuranceQueryProperties insuranceQueryProperties;
+
+    public List<Insurance> searchTopInsurancesByName(String firstName, String familyName, String sortField,
+                                                     Sort.Direction direction, int limit) {
+        Aggregation aggregation = topInsurancesAggregation(firstName, familyName, sortField, direction, limit);
+        List<Document> rows = mongoTemplate.aggregate(aggregation,
+                mongoTemplate.getCollectionName(LifeInsurance.class), Document.class).getMappedResults();
+
+        List<Insurance> insurances = new ArrayList<>(rows.size());
+        for (Document row : rows) {
+            InsuranceType type = InsuranceType.valueOf(row.getString("type"));
+            insurances.add(mongoTemplate.getConverter().read(ENTITY_CLASSES.get(type), row));
+        }
+        return insurances;
+    }
+
+    Aggregation topInsurancesAggregation(String firstName, String familyName, String sortField,
+                                         Sort.Direction direction, int limit) {
+        boolean hasFirstName = firstName != null && !firstName.isEmpty();
+        boolean hasFamilyName = familyName != null && !familyName.isEmpty();
+        if (!hasFirstName && !hasFamilyName) {
+            throw new InvalidSearchCriteriaException("Both firstName and familyName cannot be null or empty.");
+        }
+        if (!SORT_FIELDS.contains(sortField)) {
+            throw new InvalidSearchCriteriaException("Results can only be sorted by " + SORT_FIELDS + ".");
+        }
+        if (limit < 1 || limit > insuranceQueryProperties.maxLimit()) {
+            throw new InvalidSearchCriteriaException("The limit must be between 1 and " + insuranceQueryProperties.maxLimit() + ".");
+        }
+
+        Criteria criteria = new Criteria();
+        if (hasFirstName) {
+            criteria.and("firstName").is(firstName);
+        }
+        if (hasFamilyName) {
+            criteria.and("familyName").is(familyName);
+        }
+        Sort sort = sort(sortField, direction);
+
+        List<AggregationOperation> operations = new ArrayList<>(branch(InsuranceType.LIFE, criteria, sort, limit));
+        for (InsuranceType type : List.of(InsuranceType.PROPERTY, InsuranceType.VEHICLE)) {
+            operations.add(UnionWithOperation.unionWith(mongoTemplate.getCollectionName(ENTITY_CLASSES.get(type)))
+                    .pipeline(branch(type, criteria, sort, limit)));
+        }
+        operations.add(Aggregation.sort(sort));
+        operations.add(Aggregation.limit(limit));
+        return Aggregation.newAggregation(operations)
+                .withOptions(AggregationOptions.builder().collation(NameCollation.collation()).build());
+    }
+
+    private static List<AggregationOperation> branch(InsuranceType type, Criteria criteria, Sort sort, int limit) {
+        return List.of(
+                Aggregation.match(criteria),
+                Aggregation.sort(sort),
+                Aggregation.limit(limit),
+                Aggregation.addFields().addFieldWithValue("type", type.name()).build());
+    }
+
+    private static Sort sort(String sortField, Sort.Direction direction) {
+        Sort sort = Sort.by(direction, sortField);
+        if (sortField.equals("familyName")) {
+            sort = sort.and(Sort.by(direction, "firstName"));
+        }
+        return sort.and(Sort.by(Sort.Direction.ASC, "_id"));
+    }
+}
@@ -0,0 +1,35 @@
+package com.github.iskrendev.insuranceprogram.services;
+
+import com.github.iskrendev.insuranceprogram.repositories.PhoneticKeys;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+final class InsuranceUpdates {
+    static final FindAndModifyOptions RETURN_PREVIOUS = FindAndModifyOptions.options().returnNew(false);
+
+    private InsuranceUpdates() {
+    }
+
+    static Query byId(String id) {
+        return Query.query(Criteria.where("id").is(id));
+    }
+
+    static void set(Update update, String field, Object value, boolean partial) {
+        if (!partial || value != null) {
+            update.set(field, value);
+        }
+    }
+
+    static void setName(Update update, String field, String value, boolean partial) {
+        if (!partial || value != null) {
+            update.set(field, value);
+            update.set(PhoneticKeys.field(field), PhoneticKeys.of(value));
+        }
+    }
+
+    static <T> T merge(T value, T previous, boolean partial) {
+        return partial && value == null ? previous : value;
+    }
+}
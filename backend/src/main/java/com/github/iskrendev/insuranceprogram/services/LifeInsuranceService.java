@@ -1,10 +1,16 @@
 package com.github.iskrendev.insuranceprogram.services;
 
+import com.github.iskrendev.insuranceprogram.config.CacheConfig;
+import com.github.iskrendev.insuranceprogram.enums.InsuranceType;
 import com.github.iskrendev.insuranceprogram.exceptions.NoSuchInsuranceException;
+import com.github.iskrendev.insuranceprogram.models.InsurancePage;
 import com.github.iskrendev.insuranceprogram.models.LifeInsurance;
 import com.github.iskrendev.insuranceprogram.models.LifeInsuranceUpdateDTO;
 import com.github.iskrendev.insuranceprogram.repositories.LifeInsuranceRepo;
 import lombok.AllArgsConstructor;
+import org.springframework.cache.annotation.CachePut;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Update;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
@@ -13,44 +19,98 @@ import java.util.List;
 @AllArgsConstructor
 public class LifeInsuranceService {
     private LifeInsuranceRepo lifeInsuranceRepo;
+    private PortfolioCounterService portfolioCounterService;
+    private NameSuggestionService nameSuggestionService;
+    private InsurancePaginationService insurancePaginationService;
+    private MongoTemplate mongoTemplate;
 
     public List<LifeInsurance> getAllLifeInsurances() {
         return lifeInsuranceRepo.findAll();
     }
 
+    public InsurancePage<LifeInsurance> getLifeInsurancePage(int size, String pageToken, boolean includeTotal) {
+        return insurancePaginationService.findPage(LifeInsurance.class, size, pageToken, includeTotal);
+    }
+
     public LifeInsurance getLifeInsuranceById(String id) {
         return lifeInsuranceRepo.findById(id).orElseThrow(NoSuchInsuranceException::new);
     }
 
     public LifeInsurance addLifeInsurance(LifeInsurance lifeInsurance) {
-        return lifeInsuranceRepo.save(lifeInsurance);
+        try (PortfolioCounterService.PendingWrite write = portfolioCounterService.beginWrite()) {
+            LifeInsurance savedLifeInsurance = lifeInsuranceRepo.save(lifeInsurance);
+            portfolioCounterService.recordAdded(InsuranceType.LIFE, savedLifeInsurance.calculateInsuranceAmount());
+            nameSuggestionService.recordAdded(savedLifeInsurance);
+            return savedLifeInsurance;
+        }
     }
 
+    @CachePut(cacheNames = CacheConfig.LIFE_INSURANCES, key = "#id")
     public LifeInsurance updateLifeInsurance(String id, LifeInsuranceUpdateDTO lifeInsuranceUpdateDTO) {
-        LifeInsurance lifeInsuranceToUpdate = getLifeInsuranceById(id);
-
-        LifeInsurance updatedLifeInsurance = LifeInsurance.builder()
-                .id(id)
-                .firstName(lifeInsuranceUpdateDTO.firstName())
-                .familyName(lifeInsuranceUpdateDTO.familyName())
-                .zipCode(lifeInsuranceUpdateDTO.zipCode())
-                .city(lifeInsuranceUpdateDTO.city())
-                .address(lifeInsuranceUpdateDTO.address())
-                .telephone(lifeInsuranceUpdateDTO.telephone())
-                .email(lifeInsuranceUpdateDTO.email())
-                .type(lifeInsuranceToUpdate.type())
-                .duration(lifeInsuranceUpdateDTO.duration())
-                .paymentPerMonth(lifeInsuranceUpdateDTO.paymentPerMonth())
-                .startDate(lifeInsuranceToUpdate.startDate())
-                .endDate(lifeInsuranceUpdateDTO.endDate())
-                .hasHealthIssues(lifeInsuranceUpdateDTO.hasHealthIssues())
-                .healthConditionDetails(lifeInsuranceUpdateDTO.healthConditionDetails())
-                .build();
-
-        return lifeInsuranceRepo.save(updatedLifeInsurance);
+        return modifyLifeInsurance(id, lifeInsuranceUpdateDTO, false);
+    }
+
+    @CachePut(cacheNames = CacheConfig.LIFE_INSURANCES, key = "#id")
+    public LifeInsurance patchLifeInsurance(String id, LifeInsuranceUpdateDTO lifeInsuranceUpdateDTO) {
+        return modifyLifeInsurance(id, lifeInsuranceUpdateDTO, true);
+    }
+
+    private LifeInsurance modifyLifeInsurance(String id, LifeInsuranceUpdateDTO lifeInsuranceUpdateDTO, boolean partial) {
+        Update update = new Update();
+        InsuranceUpdates.setName(update, "firstName", lifeInsuranceUpdateDTO.firstName(), partial);
+        InsuranceUpdates.setName(update, "familyName", lifeInsuranceUpdateDTO.familyName(), partial);
+        InsuranceUpdates.set(update, "zipCode", lifeInsuranceUpdateDTO.zipCode(), partial);
+        InsuranceUpdates.set(update, "city", lifeInsuranceUpdateDTO.city(), partial);
+        InsuranceUpdates.set(update, "address", lifeInsuranceUpdateDTO.address(), partial);
+        InsuranceUpdates.set(update, "telephone", lifeInsuranceUpdateDTO.telephone(), partial);
+        InsuranceUpdates.set(update, "email", lifeInsuranceUpdateDTO.email(), partial);
+        InsuranceUpdates.set(update, "duration", lifeInsuranceUpdateDTO.duration(), partial);
+        InsuranceUpdates.set(update, "paymentPerMonth", lifeInsuranceUpdateDTO.paymentPerMonth(), partial);
+        InsuranceUpdates.set(update, "endDate", lifeInsuranceUpdateDTO.endDate(), partial);
+        InsuranceUpdates.set(update, "hasHealthIssues", lifeInsuranceUpdateDTO.hasHealthIssues(), partial);
+        InsuranceUpdates.set(update, "healthConditionDetails", lifeInsuranceUpdateDTO.healthConditionDetails(), partial);
+        if (update.getUpdateObject().isEmpty()) {
+            return getLifeInsuranceById(id);
+        }
+
+        try (PortfolioCounterService.PendingWrite write = portfolioCounterService.beginWrite()) {
+            LifeInsurance previousLifeInsurance = mongoTemplate.findAndModify(InsuranceUpdates.byId(id), update,
+                    InsuranceUpdates.RETURN_PREVIOUS, LifeInsurance.class);
+            if (previousLifeInsurance == null) {
+                throw new NoSuchInsuranceException();
+            }
+
+            LifeInsurance updatedLifeInsurance = LifeInsurance.builder()
+                    .id(id)
+                    .firstName(InsuranceUpdates.merge(lifeInsuranceUpdateDTO.firstName(), previousLifeInsurance.firstName(), partial))
+                    .familyName(InsuranceUpdates.merge(lifeInsuranceUpdateDTO.familyName(), previousLifeInsurance.familyName(), partial))
+                    .zipCode(InsuranceUpdates.merge(lifeInsuranceUpdateDTO.zipCode(), previousLifeInsurance.zipCode(), partial))
+                    .city(InsuranceUpdates.merge(lifeInsuranceUpdateDTO.city(), previousLifeInsurance.city(), partial))
+                    .address(InsuranceUpdates.merge(lifeInsuranceUpdateDTO.address(), previousLifeInsurance.address(), partial))
+                    .telephone(InsuranceUpdates.merge(lifeInsuranceUpdateDTO.telephone(), previousLifeInsurance.telephone(), partial))
+                    .email(InsuranceUpdates.merge(lifeInsuranceUpdateDTO.email(), previousLifeInsurance.email(), partial))
+                    .type(previousLifeInsurance.type())
+                    .duration(InsuranceUpdates.merge(lifeInsuranceUpdateDTO.duration(), previousLifeInsurance.duration(), partial))
+                    .paymentPerMonth(InsuranceUpdates.merge(lifeInsuranceUpdateDTO.paymentPerMonth(), previousLifeInsurance.paymentPerMonth(), partial))
+                    .startDate(previousLifeInsurance.startDate())
+                    .endDate(InsuranceUpdates.merge(lifeInsuranceUpdateDTO.endDate(), previousLifeInsurance.endDate(), partial))
+                    .hasHealthIssues(InsuranceUpdates.merge(lifeInsuranceUpdateDTO.hasHealthIssues(), previousLifeInsurance.hasHealthIssues(), partial))
+                    .healthConditionDetails(InsuranceUpdates.merge(lifeInsuranceUpdateDTO.healthConditionDetails(), previousLifeInsurance.healthConditionDetails(), partial))
+                    .build();
+
+            portfolioCounterService.recordUpdated(InsuranceType.LIFE,
+                    previousLifeInsurance.calculateInsuranceAmount(), updatedLifeInsurance.calculateInsuranceAmount());
+            nameSuggestionService.recordUpdated(previousLifeInsurance, updatedLifeInsurance);
+            return updatedLifeInsurance;
+        }
     }
 
     public void deleteLifeInsurance(String id) {
-        lifeInsuranceRepo.deleteById(id);
+        try (PortfolioCounterService.PendingWrite write = portfolioCounterService.beginWrite()) {
+            lifeInsuranceRepo.removeById(id).ifPresent(deletedLifeInsurance -> {
+                portfolioCounterService.recordRemoved(InsuranceType.LIFE, deletedLifeInsurance.calculateInsuranceAmount());
+                nameSuggestionService.recordRemoved(deletedLifeInsurance);
+            });
+        }
     }
 }
\ No newline at end of file
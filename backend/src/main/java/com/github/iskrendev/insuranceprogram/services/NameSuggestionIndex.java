@@ -0,0 +1,146 @@
+package com.github.iskrendev.insuranceprogram.services;
+
+import com.github.iskrendev.insuranceprogram.config.SuggestionProperties;
+import com.github.iskrendev.insuranceprogram.enums.NameField;
+import com.github.iskrendev.insuranceprogram.models.Insurance;
+import com.github.iskrendev.insuranceprogram.models.NameSuggestion;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Customer names of all insurance types in sorted maps keyed by their case-folded form, matching the case-insensitive
+ * name collation of the search. A prefix lookup scans only the names sharing the prefix; the ranked results of short
+ * prefixes, whose ranges are the largest, are cached until a name starting with them changes. Only prefixes of stored
+ * names are cached, so the cache is bounded by the names and not by what clients type.
+ * <p>
+ * Reads are lock free, writes are serialized.
+ */
+@Slf4j
+public class NameSuggestionIndex {
+    static final Comparator<NameSuggestion> RANKING = Comparator.comparingLong(NameSuggestion::policyCount).reversed()
+            .thenComparing(NameSuggestion::name)
+            .thenComparing(NameSuggestion::field);
+
+    private final int maxNames;
+    private final int maxSuggestions;
+    private final int cachedPrefixLength;
+    private final Map<NameField, ConcurrentSkipListMap<String, NameCount>> names = new EnumMap<>(NameField.class);
+    private final Map<NameField, Integer> sizes = new EnumMap<>(NameField.class);
+    private final Map<String, List<NameSuggestion>> cachedSuggestions = new ConcurrentHashMap<>();
+    private final AtomicLong version = new AtomicLong();
+    private boolean full;
+
+    public NameSuggestionIndex(SuggestionProperties suggestionProperties) {
+        this.maxNames = suggestionProperties.maxNames();
+        this.maxSuggestions = suggestionProperties.maxSuggestions();
+        this.cachedPrefixLength = suggestionProperties.cachedPrefixLength();
+        for (NameField field : NameField.values()) {
+            names.put(field, new ConcurrentSkipListMap<>());
+            sizes.put(field, 0);
+        }
+    }
+
+    public List<NameSuggestion> suggest(String prefix, int limit) {
+        String key = normalize(prefix);
+        List<NameSuggestion> suggestions;
+        if (key.length() > cachedPrefixLength) {
+            suggestions = rank(key);
+        } else {
+            suggestions = cachedSuggestions.get(key);
+            if (suggestions == null) {
+                long versionBeforeRanking = version.get();
+                suggestions = rank(key);
+                if (!suggestions.isEmpty()) {
+                    cachedSuggestions.putIfAbsent(key, suggestions);
+                    // A write since ranking may have evicted the prefix before this entry was put; take it back out.
+                    if (version.get() != versionBeforeRanking) {
+                        cachedSuggestions.remove(key, suggestions);
+                    }
+                }
+            }
+        }
+        return suggestions.subList(0, Math.min(Math.min(limit, maxSuggestions), suggestions.size()));
+    }
+
+    public void add(Insurance insurance) {
+        adjust(NameField.FIRST_NAME, insurance.firstName(), 1);
+        adjust(NameField.FAMILY_NAME, insurance.familyName(), 1);
+    }
+
+    public void remove(Insurance insurance) {
+        adjust(NameField.FIRST_NAME, insurance.firstName(), -1);
+        adjust(NameField.FAMILY_NAME, insurance.familyName(), -1);
+    }
+
+    public synchronized void adjust(NameField field, String name, long policyCount) {
+        if (name == null || name.isBlank() || policyCount == 0) {
+            return;
+        }
+        String key = normalize(name);
+        ConcurrentSkipListMap<String, NameCount> fieldNames = names.get(field);
+        NameCount current = fieldNames.get(key);
+        if (current == null) {
+            if (policyCount < 0) {
+                return;
+            }
+            if (sizes.get(field) >= maxNames) {
+                if (!full) {
+                    log.warn("Name suggestion index is full at {} names per field, new names are not suggested", maxNames);
+                    full = true;
+                }
+                return;
+            }
+            fieldNames.put(key, new NameCount(name.trim(), policyCount));
+            sizes.merge(field, 1, Integer::sum);
+        } else if (current.policyCount() + policyCount > 0) {
+            fieldNames.put(key, new NameCount(current.name(), current.policyCount() + policyCount));
+        } else {
+            fieldNames.remove(key);
+            sizes.merge(field, -1, Integer::sum);
+        }
+        version.incrementAndGet();
+        for (int length = 0; length <= Math.min(cachedPrefixLength, key.length()); length++) {
+            cachedSuggestions.remove(key.substring(0, length));
+        }
+    }
+
+    public synchronized int size(NameField field) {
+        return sizes.get(field);
+    }
+
+    int cachedPrefixCount() {
+        return cachedSuggestions.size();
+    }
+
+    List<NameSuggestion> rank(String prefix) {
+        PriorityQueue<NameSuggestion> top = new PriorityQueue<>(maxSuggestions + 1, RANKING.reversed());
+        for (Map.Entry<NameField, ConcurrentSkipListMap<String, NameCount>> fieldNames : names.entrySet()) {
+            for (NameCount nameCount : fieldNames.getValue().subMap(prefix, prefix + Character.MAX_VALUE).values()) {
+                top.offer(new NameSuggestion(nameCount.name(), fieldNames.getKey(), nameCount.policyCount()));
+                if (top.size() > maxSuggestions) {
+                    top.poll();
+                }
+            }
+        }
+        List<NameSuggestion> ranked = new ArrayList<>(top);
+        ranked.sort(RANKING);
+        return List.copyOf(ranked);
+    }
+
+    static String normalize(String name) {
+        return name.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private record NameCount(String name, long policyCount) {
+    }
+}
@@ -0,0 +1,164 @@
+package com.github.iskrendev.insuranceprogram.services;
+
+import com.github.iskrendev.insuranceprogram.config.SuggestionProperties;
+import com.github.iskrendev.insuranceprogram.enums.InsuranceType;
+import com.github.iskrendev.insuranceprogram.enums.NameField;
+import com.github.iskrendev.insuranceprogram.exceptions.InvalidSearchCriteriaException;
+import com.github.iskrendev.insuranceprogram.models.Insurance;
+import com.github.iskrendev.insuranceprogram.models.LifeInsurance;
+import com.github.iskrendev.insuranceprogram.models.NameSuggestion;
+import com.github.iskrendev.insuranceprogram.models.PropertyInsurance;
+import com.github.iskrendev.insuranceprogram.models.VehicleInsurance;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.AggregationOptions;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+/**
+ * Typeahead suggestions for customer names served from a {@link NameSuggestionIndex}. The index is built from the
+ * collections once the application is ready and rebuilt nightly; in between the insurance services keep it current.
+ * <p>
+ * A rebuild loads one name field of one collection at a time. A write arriving meanwhile reaches the new index only
+ * for the fields whose load has already finished, because a load yet to run counts the stored document itself. A
+ * write to the field being loaded is left to that load, which may or may not see it; the next rebuild settles it.
+ */
+@Slf4j
+@Service
+public class NameSuggestionService {
+    private final MongoTemplate mongoTemplate;
+    private final SuggestionProperties suggestionProperties;
+    private final Map<InsuranceType, String> collectionNames = new EnumMap<>(InsuranceType.class);
+    private final AtomicBoolean rebuilding = new AtomicBoolean(false);
+    private volatile NameSuggestionIndex index;
+    private volatile Rebuild rebuild;
+
+    public NameSuggestionService(MongoTemplate mongoTemplate, SuggestionProperties suggestionProperties) {
+        this.mongoTemplate = mongoTemplate;
+        this.suggestionProperties = suggestionProperties;
+        collectionNames.put(InsuranceType.LIFE, mongoTemplate.getCollectionName(LifeInsurance.class));
+        collectionNames.put(InsuranceType.PROPERTY, mongoTemplate.getCollectionName(PropertyInsurance.class));
+        collectionNames.put(InsuranceType.VEHICLE, mongoTemplate.getCollectionName(VehicleInsurance.class));
+        this.index = new NameSuggestionIndex(suggestionProperties);
+    }
+
+    public List<NameSuggestion> suggest(String prefix, int limit) {
+        if (prefix == null || prefix.isBlank()) {
+            throw new InvalidSearchCriteriaException("A name prefix is required");
+        }
+        if (limit < 1) {
+            throw new InvalidSearchCriteriaException("The suggestion limit must be positive");
+        }
+        return index.suggest(prefix, limit);
+    }
+
+    public void recordAdded(Insurance insurance) {
+        record(insurance, 1);
+    }
+
+    public void recordAdded(List<? extends Insurance> insurances) {
+        insurances.forEach(insurance -> record(insurance, 1));
+    }
+
+    public void recordUpdated(Insurance previous, Insurance updated) {
+        if (Objects.equals(previous.firstName(), updated.firstName())
+                && Objects.equals(previous.familyName(), updated.familyName())) {
+            return;
+        }
+        record(previous, -1);
+        record(updated, 1);
+    }
+
+    public void recordRemoved(Insurance insurance) {
+        record(insurance, -1);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildOnStartup() {
+        Thread.ofVirtual().name("name-suggestion-index").start(this::rebuild);
+    }
+
+    @Scheduled(cron = "${insurance.suggestions.rebuild-cron:0 30 3 * * *}")
+    public void rebuild() {
+        if (!rebuilding.compareAndSet(false, true)) {
+            return;
+        }
+        Rebuild current = new Rebuild(new NameSuggestionIndex(suggestionProperties));
+        rebuild = current;
+        try {
+            for (Map.Entry<InsuranceType, String> collection : collectionNames.entrySet()) {
+                for (NameField field : NameField.values()) {
+                    load(current.target(), collection.getValue(), field);
+                    current.loaded().add(new LoadedField(collection.getKey(), field));
+                }
+            }
+            index = current.target();
+            log.info("Name suggestion index built with {} first names and {} family names",
+                    current.target().size(NameField.FIRST_NAME), current.target().size(NameField.FAMILY_NAME));
+        } catch (DataAccessException e) {
+            log.warn("Could not build the name suggestion index, keeping the current one: {}", e.getMessage());
+        } finally {
+            rebuild = null;
+            rebuilding.set(false);
+        }
+    }
+
+    private void load(NameSuggestionIndex target, String collectionName, NameField field) {
+        Aggregation aggregation = Aggregation.newAggregation(Aggregation.group(fieldName(field)).count().as("count"))
+                .withOptions(AggregationOptions.builder().allowDiskUse(true).build());
+        try (Stream<Document> names = mongoTemplate.aggregateStream(aggregation, collectionName, Document.class)) {
+            names.forEach(name -> {
+                if (name.get("_id") instanceof String value) {
+                    target.adjust(field, value, ((Number) name.get("count")).longValue());
+                }
+            });
+        }
+    }
+
+    /**
+     * The rebuild is read before the index: a rebuild is only cleared after its index is served, so a write that
+     * misses the rebuild always sees the new index, and one that sees both applies to the new index once.
+     */
+    private void record(Insurance insurance, long policyCount) {
+        Rebuild current = rebuild;
+        NameSuggestionIndex serving = index;
+        for (NameField field : NameField.values()) {
+            serving.adjust(field, name(insurance, field), policyCount);
+            if (current != null && current.target() != serving
+                    && current.loaded().contains(new LoadedField(insurance.type(), field))) {
+                current.target().adjust(field, name(insurance, field), policyCount);
+            }
+        }
+    }
+
+    private static String fieldName(NameField field) {
+        return field == NameField.FIRST_NAME ? "firstName" : "familyName";
+    }
+
+    private static String name(Insurance insurance, NameField field) {
+        return field == NameField.FIRST_NAME ? insurance.firstName() : insurance.familyName();
+    }
+
+    private record Rebuild(NameSuggestionIndex target, Set<LoadedField> loaded) {
+        Rebuild(NameSuggestionIndex target) {
+            this(target, ConcurrentHashMap.newKeySet());
+        }
+    }
+
+    private record LoadedField(InsuranceType type, NameField field) {
+    }
+}
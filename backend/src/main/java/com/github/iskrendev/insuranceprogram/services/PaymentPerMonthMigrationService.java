@@ -0,0 +1,170 @@
+package com.github.iskrendev.insuranceprogram.services;
+
+import com.github.iskrendev.insuranceprogram.config.PaymentPerMonthMigrationProperties;
+import com.github.iskrendev.insuranceprogram.enums.MigrationStatus;
+import com.github.iskrendev.insuranceprogram.models.LifeInsurance;
+import com.github.iskrendev.insuranceprogram.models.MigrationProgress;
+import com.github.iskrendev.insuranceprogram.models.PropertyInsurance;
+import com.github.iskrendev.insuranceprogram.models.VehicleInsurance;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.bson.types.Decimal128;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.data.mongodb.core.schema.JsonSchemaObject;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+@Slf4j
+@Service
+public class PaymentPerMonthMigrationService {
+    private static final String PAYMENT_PER_MONTH = "paymentPerMonth";
+
+    private final MongoTemplate mongoTemplate;
+    private final PaymentPerMonthMigrationProperties properties;
+    private final List<String> collectionNames;
+    private final Map<String, MigrationProgress> progressByCollection = new ConcurrentHashMap<>();
+    private final AtomicBoolean running = new AtomicBoolean(false);
+
+    public PaymentPerMonthMigrationService(MongoTemplate mongoTemplate, PaymentPerMonthMigrationProperties properties) {
+        this.mongoTemplate = mongoTemplate;
+        this.properties = properties;
+        this.collectionNames = List.of(
+                mongoTemplate.getCollectionName(LifeInsurance.class),
+                mongoTemplate.getCollectionName(PropertyInsurance.class),
+                mongoTemplate.getCollectionName(VehicleInsurance.class));
+        collectionNames.forEach(name -> progressByCollection.put(name, new MigrationProgress(name, MigrationStatus.PENDING, 0, 0, 0)));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void startMigrationOnStartup() {
+        if (properties.enabled()) {
+            startMigration();
+        }
+    }
+
+    public boolean startMigration() {
+        if (!running.compareAndSet(false, true)) {
+            return false;
+        }
+        Thread.ofVirtual().name("payment-per-month-migration").start(() -> {
+            try {
+                collectionNames.forEach(this::migrateCollection);
+            } finally {
+                running.set(false);
+            }
+        });
+        return true;
+    }
+
+    public List<MigrationProgress> getProgress() {
+        return collectionNames.stream().map(progressByCollection::get).toList();
+    }
+
+    MigrationProgress migrateCollection(String collectionName) {
+        long total = mongoTemplate.count(new Query(stringPaymentCriteria()), collectionName);
+        long migrated = 0;
+        long failed = 0;
+        updateProgress(new MigrationProgress(collectionName, MigrationStatus.RUNNING, total, migrated, 0));
+        log.info("Migrating {} string paymentPerMonth values in {} to Decimal128", total, collectionName);
+
+        try {
+            Object lastId = null;
+            List<Document> batch;
+            while (!(batch = findNextBatch(collectionName, lastId)).isEmpty()) {
+                BatchResult result = migrateBatch(collectionName, batch);
+                migrated += result.migrated();
+                failed += result.failed();
+                lastId = batch.get(batch.size() - 1).get("_id");
+                updateProgress(new MigrationProgress(collectionName, MigrationStatus.RUNNING, total, migrated, failed));
+                log.info("Migrated {}/{} paymentPerMonth values in {}", migrated, total, collectionName);
+                pauseBetweenBatches();
+            }
+        } catch (RuntimeException e) {
+            log.error("paymentPerMonth migration of {} failed", collectionName, e);
+            return updateProgress(progressByCollection.get(collectionName).withStatus(MigrationStatus.FAILED));
+        }
+        return updateProgress(new MigrationProgress(collectionName, MigrationStatus.COMPLETED, total, migrated, failed));
+    }
+
+    /**
+     * Walks the collection once in {@code _id} order, so each batch continues through the {@code _id} index after the
+     * previous one instead of rescanning the documents already migrated or skipped.
+     */
+    private List<Document> findNextBatch(String collectionName, Object lastId) {
+        Criteria criteria = stringPaymentCriteria();
+        if (lastId != null) {
+            criteria = criteria.and("_id").gt(lastId);
+        }
+        Query query = new Query(criteria)
+                .with(Sort.by(Sort.Direction.ASC, "_id"))
+                .limit(properties.batchSize());
+        query.fields().include(PAYMENT_PER_MONTH);
+        return mongoTemplate.find(query, Document.class, collectionName);
+    }
+
+    private BatchResult migrateBatch(String collectionName, List<Document> batch) {
+        BulkOperations bulkOperations = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, collectionName);
+        int updates = 0;
+        int failed = 0;
+        for (Document document : batch) {
+            Object id = document.get("_id");
+            String paymentPerMonth = document.getString(PAYMENT_PER_MONTH);
+            Decimal128 converted = toDecimal128(paymentPerMonth);
+            if (converted == null) {
+                log.warn("Skipping {} in {}: paymentPerMonth '{}' is not a decimal", id, collectionName, paymentPerMonth);
+                failed++;
+                continue;
+            }
+            // Only rewrite the value we read, so a concurrent save of a new premium is never overwritten.
+            bulkOperations.updateOne(
+                    Query.query(Criteria.where("_id").is(id).and(PAYMENT_PER_MONTH).is(paymentPerMonth)),
+                    Update.update(PAYMENT_PER_MONTH, converted));
+            updates++;
+        }
+        return new BatchResult(updates == 0 ? 0 : bulkOperations.execute().getModifiedCount(), failed);
+    }
+
+    private Decimal128 toDecimal128(String value) {
+        try {
+            return new Decimal128(new BigDecimal(value.trim()));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private void pauseBetweenBatches() {
+        if (properties.pauseBetweenBatches().isZero()) {
+            return;
+        }
+        try {
+            Thread.sleep(properties.pauseBetweenBatches());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("paymentPerMonth migration was interrupted", e);
+        }
+    }
+
+    private MigrationProgress updateProgress(MigrationProgress progress) {
+        progressByCollection.put(progress.collection(), progress);
+        return progress;
+    }
+
+    private static Criteria stringPaymentCriteria() {
+        return Criteria.where(PAYMENT_PER_MONTH).type(JsonSchemaObject.Type.STRING);
+    }
+
+    private record BatchResult(long migrated, int failed) {
+    }
+}
@@ -0,0 +1,108 @@
+package com.github.iskrendev.insuranceprogram.services;
+
+import com.github.iskrendev.insuranceprogram.config.FuzzySearchProperties;
+import com.github.iskrendev.insuranceprogram.models.LifeInsurance;
+import com.github.iskrendev.insuranceprogram.models.PropertyInsurance;
+import com.github.iskrendev.insuranceprogram.models.VehicleInsurance;
+import com.github.iskrendev.insuranceprogram.repositories.PhoneticKeys;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.data.mongodb.core.schema.JsonSchemaObject;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+/**
+ * Adds the phonetic keys to documents stored before they existed. The collections are walked once in {@code _id}
+ * order, so each batch is read through the {@code _id} index instead of rescanning the documents already done.
+ * A document whose names changed since it was read keeps the keys its update wrote.
+ */
+@Slf4j
+@Service
+public class PhoneticKeyBackfillService {
+    private static final String FIRST_NAME = "firstName";
+    private static final String FAMILY_NAME = "familyName";
+
+    private final MongoTemplate mongoTemplate;
+    private final FuzzySearchProperties fuzzySearchProperties;
+    private final List<String> collectionNames;
+
+    public PhoneticKeyBackfillService(MongoTemplate mongoTemplate, FuzzySearchProperties fuzzySearchProperties) {
+        this.mongoTemplate = mongoTemplate;
+        this.fuzzySearchProperties = fuzzySearchProperties;
+        this.collectionNames = List.of(
+                mongoTemplate.getCollectionName(LifeInsurance.class),
+                mongoTemplate.getCollectionName(PropertyInsurance.class),
+                mongoTemplate.getCollectionName(VehicleInsurance.class));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillOnStartup() {
+        if (fuzzySearchProperties.backfillEnabled()) {
+            Thread.ofVirtual().name("phonetic-key-backfill").start(() -> collectionNames.forEach(this::backfill));
+        }
+    }
+
+    long backfill(String collectionName) {
+        long updated = 0;
+        try {
+            Object lastId = null;
+            List<Document> batch;
+            while (!(batch = findNextBatch(collectionName, lastId)).isEmpty()) {
+                BulkOperations bulkOperations = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, collectionName);
+                for (Document document : batch) {
+                    bulkOperations.updateOne(unchangedNames(document), phoneticKeys(document));
+                }
+                updated += bulkOperations.execute().getModifiedCount();
+                lastId = batch.get(batch.size() - 1).get("_id");
+            }
+        } catch (DataAccessException e) {
+            log.warn("Could not add phonetic keys to {}: {}", collectionName, e.getMessage());
+            return updated;
+        }
+        if (updated > 0) {
+            log.info("Added phonetic keys to {} documents in {}", updated, collectionName);
+        }
+        return updated;
+    }
+
+    private List<Document> findNextBatch(String collectionName, Object lastId) {
+        Criteria criteria = new Criteria().orOperator(
+                Criteria.where(FIRST_NAME).type(JsonSchemaObject.Type.STRING).and(PhoneticKeys.FIRST_NAME).exists(false),
+                Criteria.where(FAMILY_NAME).type(JsonSchemaObject.Type.STRING).and(PhoneticKeys.FAMILY_NAME).exists(false));
+        if (lastId != null) {
+            criteria = new Criteria().andOperator(Criteria.where("_id").gt(lastId), criteria);
+        }
+        Query query = new Query(criteria)
+                .with(Sort.by(Sort.Direction.ASC, "_id"))
+                .limit(fuzzySearchProperties.backfillBatchSize());
+        query.fields().include(FIRST_NAME, FAMILY_NAME);
+        return mongoTemplate.find(query, Document.class, collectionName);
+    }
+
+    private static Query unchangedNames(Document document) {
+        return Query.query(Criteria.where("_id").is(document.get("_id"))
+                .and(FIRST_NAME).is(document.get(FIRST_NAME))
+                .and(FAMILY_NAME).is(document.get(FAMILY_NAME)));
+    }
+
+    private static Update phoneticKeys(Document document) {
+        Update update = new Update();
+        if (document.get(FIRST_NAME) instanceof String firstName) {
+            update.set(PhoneticKeys.FIRST_NAME, PhoneticKeys.of(firstName));
+        }
+        if (document.get(FAMILY_NAME) instanceof String familyName) {
+            update.set(PhoneticKeys.FAMILY_NAME, PhoneticKeys.of(familyName));
+        }
+        return update;
+    }
+}
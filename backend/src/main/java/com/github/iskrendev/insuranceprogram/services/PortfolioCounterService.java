@@ -0,0 +1,215 @@
+package com.github.iskrendev.insuranceprogram.services;
+
+import com.github.iskrendev.insuranceprogram.enums.InsuranceType;
+import com.github.iskrendev.insuranceprogram.models.CounterDrift;
+import com.github.iskrendev.insuranceprogram.models.InsuranceTotals;
+import com.github.iskrendev.insuranceprogram.models.PortfolioReconciliationReport;
+import com.github.iskrendev.insuranceprogram.models.PortfolioSummary;
+import com.github.iskrendev.insuranceprogram.repositories.LifeInsuranceRepo;
+import com.github.iskrendev.insuranceprogram.repositories.PortfolioSummaryRepo;
+import com.github.iskrendev.insuranceprogram.repositories.PropertyInsuranceRepo;
+import com.github.iskrendev.insuranceprogram.repositories.VehicleInsuranceRepo;
+import lombok.AllArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Slf4j
+@Service
+@AllArgsConstructor
+public class PortfolioCounterService {
+    static final String SUMMARY_ID = "portfolio";
+    static final int RECONCILE_ATTEMPTS = 20;
+    static final Duration RECONCILE_RETRY_PAUSE = Duration.ofMillis(50);
+    private static final String VERSION = "version";
+
+    private MongoTemplate mongoTemplate;
+    private PortfolioSummaryRepo portfolioSummaryRepo;
+    private LifeInsuranceRepo lifeInsuranceRepo;
+    private PropertyInsuranceRepo propertyInsuranceRepo;
+    private VehicleInsuranceRepo vehicleInsuranceRepo;
+    private final AtomicLong writesStarted = new AtomicLong();
+    private final AtomicLong writesFinished = new AtomicLong();
+
+    /**
+     * Marks a policy write together with its counter update, so a reconciliation can tell whether a write was between
+     * storing the policy and incrementing the counters while it aggregated. Close it after the counter update.
+     */
+    public PendingWrite beginWrite() {
+        writesStarted.incrementAndGet();
+        return writesFinished::incrementAndGet;
+    }
+
+    public void recordAdded(InsuranceType type, BigDecimal amount) {
+        increment(type, 1, amount);
+    }
+
+    public void recordAdded(InsuranceType type, long count, BigDecimal amount) {
+        increment(type, count, amount);
+    }
+
+    public void recordUpdated(InsuranceType type, BigDecimal oldAmount, BigDecimal newAmount) {
+        BigDecimal delta = newAmount.subtract(oldAmount);
+        if (delta.signum() != 0) {
+            increment(type, 0, delta);
+        }
+    }
+
+    public void recordRemoved(InsuranceType type, BigDecimal amount) {
+        increment(type, -1, amount.negate());
+    }
+
+    public PortfolioSummary getSummary() {
+        return portfolioSummaryRepo.findById(SUMMARY_ID).orElseGet(this::rebuild);
+    }
+
+    public PortfolioSummary rebuild() {
+        reconcile();
+        return portfolioSummaryRepo.findById(SUMMARY_ID).orElseThrow();
+    }
+
+    /**
+     * Corrects the counters by the difference to the collections with {@code $inc}, and only if their version is still
+     * the one read before aggregating; otherwise the pass starts over.
+     * <p>
+     * A write of this instance that stored its policy before the aggregation but increments the counters after the
+     * correction would be counted twice, once by the aggregation and once by its increment. A pass therefore waits
+     * until no write is pending, and checks again once the writes overlapping a correction have finished.
+     */
+    public PortfolioReconciliationReport reconcile() {
+        boolean countersExisted = true;
+        List<CounterDrift> corrected = List.of();
+        for (int attempt = 1; attempt <= RECONCILE_ATTEMPTS; attempt++) {
+            long started = writesStarted.get();
+            if (writesFinished.get() != started) {
+                pause();
+                continue;
+            }
+            PortfolioSummary stored = portfolioSummaryRepo.findById(SUMMARY_ID).orElse(null);
+            PortfolioSummary actual = calculateFromCollections();
+            if (stored == null) {
+                if (!insert(actual)) {
+                    continue;
+                }
+                countersExisted = false;
+            } else {
+                List<CounterDrift> drift = drift(stored, actual);
+                if (drift.isEmpty()) {
+                    return new PortfolioReconciliationReport(Instant.now(), countersExisted, corrected);
+                }
+                if (!correct(stored, actual)) {
+                    continue;
+                }
+                log.warn("Portfolio counters drifted from the stored policies and were corrected: {}", drift);
+                if (corrected.isEmpty()) {
+                    corrected = drift;
+                }
+            }
+            if (writesStarted.get() == started) {
+                return new PortfolioReconciliationReport(Instant.now(), countersExisted, corrected);
+            }
+            pause();
+        }
+        throw new OptimisticLockingFailureException("Portfolio counters kept changing during "
+                + RECONCILE_ATTEMPTS + " reconciliation attempts");
+    }
+
+    @Scheduled(cron = "${insurance.summary.reconcile-cron:0 0 3 * * *}")
+    public void scheduledReconcile() {
+        reconcile();
+    }
+
+    private void increment(InsuranceType type, long count, BigDecimal amount) {
+        Update update = new Update()
+                .inc("counts." + type.name(), count)
+                .inc("amounts." + type.name(), amount)
+                .inc(VERSION, 1);
+        // No upsert: until the document is built from the collections, increments on their own would be wrong.
+        mongoTemplate.updateFirst(Query.query(Criteria.where("_id").is(SUMMARY_ID)), update, PortfolioSummary.class);
+    }
+
+    /**
+     * Increments sent before the document exists are lost, so a write racing the first build is only corrected by the
+     * next reconciliation.
+     */
+    private boolean insert(PortfolioSummary actual) {
+        try {
+            portfolioSummaryRepo.insert(actual);
+            return true;
+        } catch (DuplicateKeyException e) {
+            return false;
+        }
+    }
+
+    private static void pause() {
+        try {
+            Thread.sleep(RECONCILE_RETRY_PAUSE.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new OptimisticLockingFailureException("Interrupted while waiting for portfolio writes to finish");
+        }
+    }
+
+    private boolean correct(PortfolioSummary stored, PortfolioSummary actual) {
+        Update update = new Update();
+        for (InsuranceType type : InsuranceType.values()) {
+            update.inc("counts." + type.name(), actual.count(type) - stored.count(type))
+                    .inc("amounts." + type.name(), actual.amount(type).subtract(stored.amount(type)));
+        }
+        update.inc(VERSION, 1);
+        // Counters stored before they were versioned have no version field yet.
+        Criteria unchanged = stored.version() == 0
+                ? Criteria.where(VERSION).in(0L, null)
+                : Criteria.where(VERSION).is(stored.version());
+        Query query = Query.query(Criteria.where("_id").is(SUMMARY_ID).andOperator(unchanged));
+        return mongoTemplate.updateFirst(query, update, PortfolioSummary.class).getModifiedCount() == 1;
+    }
+
+    private static List<CounterDrift> drift(PortfolioSummary stored, PortfolioSummary actual) {
+        List<CounterDrift> drift = new ArrayList<>();
+        for (InsuranceType type : InsuranceType.values()) {
+            if (stored.count(type) != actual.count(type) || stored.amount(type).compareTo(actual.amount(type)) != 0) {
+                drift.add(new CounterDrift(type, stored.count(type), actual.count(type), stored.amount(type), actual.amount(type)));
+            }
+        }
+        return drift;
+    }
+
+    private PortfolioSummary calculateFromCollections() {
+        Map<InsuranceType, InsuranceTotals> totals = new EnumMap<>(InsuranceType.class);
+        totals.put(InsuranceType.LIFE, lifeInsuranceRepo.aggregateTotals().orElse(InsuranceTotals.EMPTY));
+        totals.put(InsuranceType.PROPERTY, propertyInsuranceRepo.aggregateTotals().orElse(InsuranceTotals.EMPTY));
+        totals.put(InsuranceType.VEHICLE, vehicleInsuranceRepo.aggregateTotals().orElse(InsuranceTotals.EMPTY));
+
+        Map<InsuranceType, Long> counts = new EnumMap<>(InsuranceType.class);
+        Map<InsuranceType, BigDecimal> amounts = new EnumMap<>(InsuranceType.class);
+        totals.forEach((type, typeTotals) -> {
+            counts.put(type, typeTotals.count());
+            amounts.put(type, typeTotals.totalAmount());
+        });
+        return new PortfolioSummary(SUMMARY_ID, counts, amounts, 0);
+    }
+
+    /**
+     * A {@link #beginWrite() started} policy write; closing it does not throw.
+     */
+    public interface PendingWrite extends AutoCloseable {
+        @Override
+        void close();
+    }
+}
@@ -1,10 +1,16 @@
 package com.github.iskrendev.insuranceprogram.services;
 
+import com.github.iskrendev.insuranceprogram.config.CacheConfig;
+import com.github.iskrendev.insuranceprogram.enums.InsuranceType;
 import com.github.iskrendev.insuranceprogram.exceptions.NoSuchInsuranceException;
+import com.github.iskrendev.insuranceprogram.models.InsurancePage;
 import com.github.iskrendev.insuranceprogram.models.PropertyInsurance;
 import com.github.iskrendev.insuranceprogram.models.PropertyInsuranceUpdateDTO;
 import com.github.iskrendev.insuranceprogram.repositories.PropertyInsuranceRepo;
 import lombok.AllArgsConstructor;
+import org.springframework.cache.annotation.CachePut;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Update;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
@@ -12,45 +18,100 @@ import java.util.List;
 @AllArgsConstructor
 public class PropertyInsuranceService {
     private PropertyInsuranceRepo propertyInsuranceRepo;
+    private PortfolioCounterService portfolioCounterService;
+    private NameSuggestionService nameSuggestionService;
+    private InsurancePaginationService insurancePaginationService;
+    private MongoTemplate mongoTemplate;
 
     public List<PropertyInsurance> getAllPropertyInsurances() {
         return propertyInsuranceRepo.findAll();
     }
 
+    public InsurancePage<PropertyInsurance> getPropertyInsurancePage(int size, String pageToken, boolean includeTotal) {
+        return insurancePaginationService.findPage(PropertyInsurance.class, size, pageToken, includeTotal);
+    }
+
     public PropertyInsurance getPropertyInsuranceById(String id) {
         return propertyInsuranceRepo.findById(id).orElseThrow(NoSuchInsuranceException::new);
     }
 
     public PropertyInsurance addPropertyInsurance(PropertyInsurance propertyInsurance) {
-        return propertyInsuranceRepo.save(propertyInsurance);
+        try (PortfolioCounterService.PendingWrite write = portfolioCounterService.beginWrite()) {
+            PropertyInsurance savedPropertyInsurance = propertyInsuranceRepo.save(propertyInsurance);
+            portfolioCounterService.recordAdded(InsuranceType.PROPERTY, savedPropertyInsurance.calculateInsuranceAmount());
+            nameSuggestionService.recordAdded(savedPropertyInsurance);
+            return savedPropertyInsurance;
+        }
     }
 
+    @CachePut(cacheNames = CacheConfig.PROPERTY_INSURANCES, key = "#id")
     public PropertyInsurance updatePropertyInsurance(String id, PropertyInsuranceUpdateDTO propertyInsuranceUpdateDTO) {
-        PropertyInsurance propertyInsuranceToUpdate = getPropertyInsuranceById(id);
-
-        PropertyInsurance updatedPropertyInsurance = PropertyInsurance.builder()
-                .id(id)
-                .firstName(propertyInsuranceUpdateDTO.firstName())
-                .familyName(propertyInsuranceUpdateDTO.familyName())
-                .zipCode(propertyInsuranceUpdateDTO.zipCode())
-                .city(propertyInsuranceUpdateDTO.city())
-                .address(propertyInsuranceUpdateDTO.address())
-                .telephone(propertyInsuranceUpdateDTO.telephone())
-                .email(propertyInsuranceUpdateDTO.email())
-                .type(propertyInsuranceToUpdate.type())
-                .duration(propertyInsuranceUpdateDTO.duration())
-                .paymentPerMonth(propertyInsuranceUpdateDTO.paymentPerMonth())
-                .startDate(propertyInsuranceToUpdate.startDate())
-                .endDate(propertyInsuranceUpdateDTO.endDate())
-                .propertyType(propertyInsuranceUpdateDTO.propertyType())
-                .propertyAddress(propertyInsuranceUpdateDTO.propertyAddress())
-                .constructionYear(propertyInsuranceUpdateDTO.constructionYear())
-                .build();
-
-        return propertyInsuranceRepo.save(updatedPropertyInsurance);
+        return modifyPropertyInsurance(id, propertyInsuranceUpdateDTO, false);
+    }
+
+    @CachePut(cacheNames = CacheConfig.PROPERTY_INSURANCES, key = "#id")
+    public PropertyInsurance patchPropertyInsurance(String id, PropertyInsuranceUpdateDTO propertyInsuranceUpdateDTO) {
+        return modifyPropertyInsurance(id, propertyInsuranceUpdateDTO, true);
+    }
+
+    private PropertyInsurance modifyPropertyInsurance(String id, PropertyInsuranceUpdateDTO propertyInsuranceUpdateDTO, boolean partial) {
+        Update update = new Update();
+        InsuranceUpdates.setName(update, "firstName", propertyInsuranceUpdateDTO.firstName(), partial);
+        InsuranceUpdates.setName(update, "familyName", propertyInsuranceUpdateDTO.familyName(), partial);
+        InsuranceUpdates.set(update, "zipCode", propertyInsuranceUpdateDTO.zipCode(), partial);
+        InsuranceUpdates.set(update, "city", propertyInsuranceUpdateDTO.city(), partial);
+        InsuranceUpdates.set(update, "address", propertyInsuranceUpdateDTO.address(), partial);
+        InsuranceUpdates.set(update, "telephone", propertyInsuranceUpdateDTO.telephone(), partial);
+        InsuranceUpdates.set(update, "email", propertyInsuranceUpdateDTO.email(), partial);
+        InsuranceUpdates.set(update, "duration", propertyInsuranceUpdateDTO.duration(), partial);
+        InsuranceUpdates.set(update, "paymentPerMonth", propertyInsuranceUpdateDTO.paymentPerMonth(), partial);
+        InsuranceUpdates.set(update, "endDate", propertyInsuranceUpdateDTO.endDate(), partial);
+        InsuranceUpdates.set(update, "propertyType", propertyInsuranceUpdateDTO.propertyType(), partial);
+        InsuranceUpdates.set(update, "propertyAddress", propertyInsuranceUpdateDTO.propertyAddress(), partial);
+        InsuranceUpdates.set(update, "constructionYear", propertyInsuranceUpdateDTO.constructionYear(), partial);
+        if (update.getUpdateObject().isEmpty()) {
+            return getPropertyInsuranceById(id);
+        }
+
+        try (PortfolioCounterService.PendingWrite write = portfolioCounterService.beginWrite()) {
+            PropertyInsurance previousPropertyInsurance = mongoTemplate.findAndModify(InsuranceUpdates.byId(id), update,
+                    InsuranceUpdates.RETURN_PREVIOUS, PropertyInsurance.class);
+            if (previousPropertyInsurance == null) {
+                throw new NoSuchInsuranceException();
+            }
+
+            PropertyInsurance updatedPropertyInsurance = PropertyInsurance.builder()
+                    .id(id)
+                    .firstName(InsuranceUpdates.merge(propertyInsuranceUpdateDTO.firstName(), previousPropertyInsurance.firstName(), partial))
+                    .familyName(InsuranceUpdates.merge(propertyInsuranceUpdateDTO.familyName(), previousPropertyInsurance.familyName(), partial))
+                    .zipCode(InsuranceUpdates.merge(propertyInsuranceUpdateDTO.zipCode(), previousPropertyInsurance.zipCode(), partial))
+                    .city(InsuranceUpdates.merge(propertyInsuranceUpdateDTO.city(), previousPropertyInsurance.city(), partial))
+                    .address(InsuranceUpdates.merge(propertyInsuranceUpdateDTO.address(), previousPropertyInsurance.address(), partial))
+                    .telephone(InsuranceUpdates.merge(propertyInsuranceUpdateDTO.telephone(), previousPropertyInsurance.telephone(), partial))
+                    .email(InsuranceUpdates.merge(propertyInsuranceUpdateDTO.email(), previousPropertyInsurance.email(), partial))
+                    .type(previousPropertyInsurance.type())
+                    .duration(InsuranceUpdates.merge(propertyInsuranceUpdateDTO.duration(), previousPropertyInsurance.duration(), partial))
+                    .paymentPerMonth(InsuranceUpdates.merge(propertyInsuranceUpdateDTO.paymentPerMonth(), previousPropertyInsurance.paymentPerMonth(), partial))
+                    .startDate(previousPropertyInsurance.startDate())
+                    .endDate(InsuranceUpdates.merge(propertyInsuranceUpdateDTO.endDate(), previousPropertyInsurance.endDate(), partial))
+                    .propertyType(InsuranceUpdates.merge(propertyInsuranceUpdateDTO.propertyType(), previousPropertyInsurance.propertyType(), partial))
+                    .propertyAddress(InsuranceUpdates.merge(propertyInsuranceUpdateDTO.propertyAddress(), previousPropertyInsurance.propertyAddress(), partial))
+                    .constructionYear(InsuranceUpdates.merge(propertyInsuranceUpdateDTO.constructionYear(), previousPropertyInsurance.constructionYear(), partial))
+                    .build();
+
+            portfolioCounterService.recordUpdated(InsuranceType.PROPERTY,
+                    previousPropertyInsurance.calculateInsuranceAmount(), updatedPropertyInsurance.calculateInsuranceAmount());
+            nameSuggestionService.recordUpdated(previousPropertyInsurance, updatedPropertyInsurance);
+            return updatedPropertyInsurance;
+        }
     }
 
     public void deletePropertyInsurance(String id) {
-        propertyInsuranceRepo.deleteById(id);
+        try (PortfolioCounterService.PendingWrite write = portfolioCounterService.beginWrite()) {
+            propertyInsuranceRepo.removeById(id).ifPresent(deletedPropertyInsurance -> {
+                portfolioCounterService.recordRemoved(InsuranceType.PROPERTY, deletedPropertyInsurance.calculateInsuranceAmount());
+                nameSuggestionService.recordRemoved(deletedPropertyInsurance);
+            });
+        }
     }
 }
@@ -0,0 +1,92 @@
+package com.github.iskrendev.insuranceprogram.services;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.iskrendev.insuranceprogram.exceptions.AllInsurancesRetrievalException;
+import com.github.iskrendev.insuranceprogram.models.LifeInsurance;
+import com.github.iskrendev.insuranceprogram.models.PropertyInsurance;
+import com.github.iskrendev.insuranceprogram.models.VehicleInsurance;
+import lombok.AllArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Streams every insurance document as it comes off the cursor. Documents are only read as fast as the client consumes
+ * the encoded buffers, so a slow client holds a cursor instead of a thread.
+ */
+@Service
+@AllArgsConstructor
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveInsuranceExportService {
+    private static final byte[] ARRAY_SEPARATOR = {','};
+    private static final byte[] LINE_SEPARATOR = {'\n'};
+    private static final byte[] NO_SEPARATOR = {};
+
+    private ReactiveMongoTemplate reactiveMongoTemplate;
+    private ObjectMapper objectMapper;
+
+    public Flux<DataBuffer> streamAllInsurancesAsJson(DataBufferFactory bufferFactory) {
+        // The opening brace waits for the first cursor signal, so a failing query still gets an error status.
+        Flux<DataBuffer> lifeInsurances = array(bufferFactory, LifeInsurance.class)
+                .switchOnFirst((first, documents) -> first.isOnError()
+                        ? documents
+                        : Flux.concat(text(bufferFactory, "{\"lifeInsurances\":["), documents));
+        return Flux.concat(
+                lifeInsurances,
+                text(bufferFactory, "],\"propertyInsurances\":["),
+                array(bufferFactory, PropertyInsurance.class),
+                text(bufferFactory, "],\"vehicleInsurances\":["),
+                array(bufferFactory, VehicleInsurance.class),
+                text(bufferFactory, "]}"));
+    }
+
+    public Flux<DataBuffer> streamAllInsurancesAsNdjson(DataBufferFactory bufferFactory) {
+        return Flux.concat(
+                lines(bufferFactory, LifeInsurance.class),
+                lines(bufferFactory, PropertyInsurance.class),
+                lines(bufferFactory, VehicleInsurance.class));
+    }
+
+    private Flux<DataBuffer> array(DataBufferFactory bufferFactory, Class<?> entityClass) {
+        return documents(entityClass)
+                .index((index, document) -> encode(bufferFactory, index == 0 ? NO_SEPARATOR : ARRAY_SEPARATOR, document, NO_SEPARATOR));
+    }
+
+    private Flux<DataBuffer> lines(DataBufferFactory bufferFactory, Class<?> entityClass) {
+        return documents(entityClass)
+                .map(document -> encode(bufferFactory, NO_SEPARATOR, document, LINE_SEPARATOR));
+    }
+
+    private <T> Flux<T> documents(Class<T> entityClass) {
+        Query query = new Query().cursorBatchSize(InsuranceExportService.CURSOR_BATCH_SIZE);
+        return Flux.defer(() -> reactiveMongoTemplate.find(query, entityClass))
+                .onErrorMap(DataAccessException.class, e -> new AllInsurancesRetrievalException());
+    }
+
+    private DataBuffer encode(DataBufferFactory bufferFactory, byte[] prefix, Object document, byte[] suffix) {
+        byte[] json;
+        try {
+            json = objectMapper.writeValueAsBytes(document);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bufferFactory.allocateBuffer(prefix.length + json.length + suffix.length)
+                .write(prefix)
+                .write(json)
+                .write(suffix);
+    }
+
+    private static Mono<DataBuffer> text(DataBufferFactory bufferFactory, String text) {
+        return Mono.fromSupplier(() -> bufferFactory.wrap(text.getBytes(StandardCharsets.UTF_8)));
+    }
+}
@@ -0,0 +1,161 @@
+package com.github.iskrendev.insuranceprogram.services;
+
+import com.github.iskrendev.insuranceprogram.config.SearchProperties;
+import com.github.iskrendev.insuranceprogram.enums.InsuranceType;
+import com.github.iskrendev.insuranceprogram.exceptions.InvalidSearchCriteriaException;
+import com.github.iskrendev.insuranceprogram.models.AllInsurancesResponse;
+import com.github.iskrendev.insuranceprogram.models.Insurance;
+import com.github.iskrendev.insuranceprogram.models.LifeInsurance;
+import com.github.iskrendev.insuranceprogram.models.PropertyInsurance;
+import com.github.iskrendev.insuranceprogram.models.VehicleInsurance;
+import com.github.iskrendev.insuranceprogram.repositories.ReactiveLifeInsuranceRepo;
+import com.github.iskrendev.insuranceprogram.repositories.ReactivePropertyInsuranceRepo;
+import com.github.iskrendev.insuranceprogram.repositories.ReactiveVehicleInsuranceRepo;
+import lombok.AllArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeoutException;
+import java.util.function.BiFunction;
+
+@Slf4j
+@Service
+@AllArgsConstructor
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveInsuranceSearchService {
+    private final ReactiveLifeInsuranceRepo reactiveLifeInsuranceRepo;
+    private final ReactivePropertyInsuranceRepo reactivePropertyInsuranceRepo;
+    private final ReactiveVehicleInsuranceRepo reactiveVehicleInsuranceRepo;
+    private final SearchProperties searchProperties;
+
+    public Flux<LifeInsurance> searchLifeInsuranceByName(String firstName, String familyName) {
+        return searchInsurance(firstName, familyName,
+                reactiveLifeInsuranceRepo::findByFirstNameAndFamilyName,
+                (fn, ln) -> reactiveLifeInsuranceRepo.findByFirstName(fn),
+                (fn, ln) -> reactiveLifeInsuranceRepo.findByFamilyName(ln));
+    }
+
+    public Flux<PropertyInsurance> searchPropertyInsuranceByName(String firstName, String familyName) {
+        return searchInsurance(firstName, familyName,
+                reactivePropertyInsuranceRepo::findByFirstNameAndFamilyName,
+                (fn, ln) -> reactivePropertyInsuranceRepo.findByFirstName(fn),
+                (fn, ln) -> reactivePropertyInsuranceRepo.findByFamilyName(ln));
+    }
+
+    public Flux<VehicleInsurance> searchVehicleInsuranceByName(String firstName, String familyName) {
+        return searchInsurance(firstName, familyName,
+                reactiveVehicleInsuranceRepo::findByFirstNameAndFamilyName,
+                (fn, ln) -> reactiveVehicleInsuranceRepo.findByFirstName(fn),
+                (fn, ln) -> reactiveVehicleInsuranceRepo.findByFamilyName(ln));
+    }
+
+    /**
+     * Streams the matches of all three collections one after another, without a deadline.
+     */
+    public Flux<Insurance> streamAllInsurancesByName(String firstName, String familyName) {
+        return Flux.concat(
+                searchLifeInsuranceByName(firstName, familyName),
+                searchPropertyInsuranceByName(firstName, familyName),
+                searchVehicleInsuranceByName(firstName, familyName));
+    }
+
+    /**
+     * Searches the three collections concurrently and reports the types that failed or missed the search deadline
+     * instead of failing the whole search, telling the types that timed out apart from those that failed.
+     */
+    public Mono<AllInsurancesResponse> searchAllInsurancesByName(String firstName, String familyName) {
+        validateSearchCriteria(firstName, familyName);
+
+        return Mono.zip(
+                withinDeadline(searchLifeInsuranceByName(firstName, familyName), InsuranceType.LIFE),
+                withinDeadline(searchPropertyInsuranceByName(firstName, familyName), InsuranceType.PROPERTY),
+                withinDeadline(searchVehicleInsuranceByName(firstName, familyName), InsuranceType.VEHICLE)
+        ).map(results -> {
+            List<InsuranceType> unavailableTypes = new ArrayList<>();
+            List<InsuranceType> timedOutTypes = new ArrayList<>();
+            List<LifeInsurance> lifeInsurances = orUnavailable(results.getT1(), InsuranceType.LIFE, unavailableTypes, timedOutTypes);
+            List<PropertyInsurance> propertyInsurances = orUnavailable(results.getT2(), InsuranceType.PROPERTY, unavailableTypes, timedOutTypes);
+            List<VehicleInsurance> vehicleInsurances = orUnavailable(results.getT3(), InsuranceType.VEHICLE, unavailableTypes, timedOutTypes);
+            return new AllInsurancesResponse(lifeInsurances, propertyInsurances, vehicleInsurances,
+                    List.copyOf(unavailableTypes), List.copyOf(timedOutTypes));
+        });
+    }
+
+    private <T> Flux<T> searchInsurance(String firstName, String familyName,
+                                        BiFunction<String, String, Flux<T>> searchBothNames,
+                                        BiFunction<String, String, Flux<T>> searchFirstName,
+                                        BiFunction<String, String, Flux<T>> searchFamilyName) {
+        validateSearchCriteria(firstName, familyName);
+
+        boolean hasFirstName = firstName != null && !firstName.isEmpty();
+        boolean hasFamilyName = familyName != null && !familyName.isEmpty();
+
+        if (hasFirstName && hasFamilyName) {
+            return searchBothNames.apply(firstName, familyName);
+        } else if (hasFirstName) {
+            return searchFirstName.apply(firstName, null);
+        } else {
+            return searchFamilyName.apply(null, familyName);
+        }
+    }
+
+    private void validateSearchCriteria(String firstName, String familyName) {
+        if ((firstName == null || firstName.isEmpty()) && (familyName == null || familyName.isEmpty())) {
+            throw new InvalidSearchCriteriaException("Both firstName and familyName cannot be null or empty.");
+        }
+    }
+
+    private <T> Mono<TypeResult<T>> withinDeadline(Flux<T> search, InsuranceType type) {
+        return search.collectList()
+                .map(TypeResult::found)
+                .timeout(searchProperties.deadline())
+                .onErrorResume(e -> {
+                    if (e instanceof TimeoutException) {
+                        log.warn("{} search did not finish within {}", type, searchProperties.deadline());
+                        return Mono.just(TypeResult.missedDeadline());
+                    }
+                    if (e instanceof QueryTimeoutException) {
+                        log.warn("{} search query timed out", type);
+                        return Mono.just(TypeResult.missedDeadline());
+                    }
+                    log.error("{} search failed", type, e);
+                    return Mono.just(TypeResult.failed());
+                });
+    }
+
+    private static <T> List<T> orUnavailable(TypeResult<T> result, InsuranceType type,
+                                             List<InsuranceType> unavailableTypes, List<InsuranceType> timedOutTypes) {
+        if (result.insurances() == null) {
+            unavailableTypes.add(type);
+            if (result.timedOut()) {
+                timedOutTypes.add(type);
+            }
+            return List.of();
+        }
+        return result.insurances();
+    }
+
+    /**
+     * @param insurances the matches, or {@code null} if the search of this type failed
+     * @param timedOut   whether a failed search missed its deadline rather than failing with an error
+     */
+    private record TypeResult<T>(List<T> insurances, boolean timedOut) {
+        static <T> TypeResult<T> found(List<T> insurances) {
+            return new TypeResult<>(insurances, false);
+        }
+
+        static <T> TypeResult<T> missedDeadline() {
+            return new TypeResult<>(null, true);
+        }
+
+        static <T> TypeResult<T> failed() {
+            return new TypeResult<>(null, false);
+        }
+    }
+}
@@ -1,10 +1,16 @@
 package com.github.iskrendev.insuranceprogram.services;
 
+import com.github.iskrendev.insuranceprogram.config.CacheConfig;
+import com.github.iskrendev.insuranceprogram.enums.InsuranceType;
 import com.github.iskrendev.insuranceprogram.exceptions.NoSuchInsuranceException;
+import com.github.iskrendev.insuranceprogram.models.InsurancePage;
 import com.github.iskrendev.insuranceprogram.models.VehicleInsurance;
 import com.github.iskrendev.insuranceprogram.models.VehicleInsuranceUpdateDTO;
 import com.github.iskrendev.insuranceprogram.repositories.VehicleInsuranceRepo;
 import lombok.AllArgsConstructor;
+import org.springframework.cache.annotation.CachePut;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Update;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
@@ -12,45 +18,102 @@ import java.util.List;
 @AllArgsConstructor
 public class VehicleInsuranceService {
     private VehicleInsuranceRepo vehicleInsuranceRepo;
+    private PortfolioCounterService portfolioCounterService;
+    private NameSuggestionService nameSuggestionService;
+    private InsurancePaginationService insurancePaginationService;
+    private MongoTemplate mongoTemplate;
 
     public List<VehicleInsurance> getAllVehicleInsurances() {
         return vehicleInsuranceRepo.findAll();
     }
 
+    public InsurancePage<VehicleInsurance> getVehicleInsurancePage(int size, String pageToken, boolean includeTotal) {
+        return insurancePaginationService.findPage(VehicleInsurance.class, size, pageToken, includeTotal);
+    }
+
     public VehicleInsurance getVehicleInsuranceById(String id) {
         return vehicleInsuranceRepo.findById(id).orElseThrow(NoSuchInsuranceException::new);
     }
 
     public VehicleInsurance addVehicleInsurance(VehicleInsurance vehicleInsurance) {
-        return vehicleInsuranceRepo.save(vehicleInsurance);
+        try (PortfolioCounterService.PendingWrite write = portfolioCounterService.beginWrite()) {
+            VehicleInsurance savedVehicleInsurance = vehicleInsuranceRepo.save(vehicleInsurance);
+            portfolioCounterService.recordAdded(InsuranceType.VEHICLE, savedVehicleInsurance.calculateInsuranceAmount());
+            nameSuggestionService.recordAdded(savedVehicleInsurance);
+            return savedVehicleInsurance;
+        }
     }
 
+    @CachePut(cacheNames = CacheConfig.VEHICLE_INSURANCES, key = "#id")
     public VehicleInsurance updateVehicleInsurance(String id, VehicleInsuranceUpdateDTO vehicleInsuranceUpdateDTO) {
-        VehicleInsurance vehicleInsuranceToUpdate = getVehicleInsuranceById(id);
-
-        VehicleInsurance updatedVehicleInsurance = VehicleInsurance.builder()
-                .id(id)
-                .firstName(vehicleInsuranceUpdateDTO.firstName())
-                .familyName(vehicleInsuranceUpdateDTO.familyName())
-                .zipCode(vehicleInsuranceUpdateDTO.zipCode())
-                .city(vehicleInsuranceUpdateDTO.city())
-                .address(vehicleInsuranceUpdateDTO.address())
-                .telephone(vehicleInsuranceUpdateDTO.telephone())
-                .email(vehicleInsuranceUpdateDTO.email())
-                .type(vehicleInsuranceToUpdate.type())
-                .duration(vehicleInsuranceUpdateDTO.duration())
-                .paymentPerMonth(vehicleInsuranceUpdateDTO.paymentPerMonth())
-                .startDate(vehicleInsuranceToUpdate.startDate())
-                .endDate(vehicleInsuranceUpdateDTO.endDate())
-                .vehicleMake(vehicleInsuranceUpdateDTO.vehicleMake())
-                .vehicleModel(vehicleInsuranceUpdateDTO.vehicleModel())
-                .vehicleYear(vehicleInsuranceUpdateDTO.vehicleYear())
-                .licensePlateNumber(vehicleInsuranceUpdateDTO.licensePlateNumber())
-                .build();
-
-        return vehicleInsuranceRepo.save(updatedVehicleInsurance);
+        return modifyVehicleInsurance(id, vehicleInsuranceUpdateDTO, false);
+    }
+
+    @CachePut(cacheNames = CacheConfig.VEHICLE_INSURANCES, key = "#id")
+    public VehicleInsurance patchVehicleInsurance(String id, VehicleInsuranceUpdateDTO vehicleInsuranceUpdateDTO) {
+        return modifyVehicleInsurance(id, vehicleInsuranceUpdateDTO, true);
+    }
+
+    private VehicleInsurance modifyVehicleInsurance(String id, VehicleInsuranceUpdateDTO vehicleInsuranceUpdateDTO, boolean partial) {
+        Update update = new Update();
+        InsuranceUpdates.setName(update, "firstName", vehicleInsuranceUpdateDTO.firstName(), partial);
+        InsuranceUpdates.setName(update, "familyName", vehicleInsuranceUpdateDTO.familyName(), partial);
+        InsuranceUpdates.set(update, "zipCode", vehicleInsuranceUpdateDTO.zipCode(), partial);
+        InsuranceUpdates.set(update, "city", vehicleInsuranceUpdateDTO.city(), partial);
+        InsuranceUpdates.set(update, "address", vehicleInsuranceUpdateDTO.address(), partial);
+        InsuranceUpdates.set(update, "telephone", vehicleInsuranceUpdateDTO.telephone(), partial);
+        InsuranceUpdates.set(update, "email", vehicleInsuranceUpdateDTO.email(), partial);
+        InsuranceUpdates.set(update, "duration", vehicleInsuranceUpdateDTO.duration(), partial);
+        InsuranceUpdates.set(update, "paymentPerMonth", vehicleInsuranceUpdateDTO.paymentPerMonth(), partial);
+        InsuranceUpdates.set(update, "endDate", vehicleInsuranceUpdateDTO.endDate(), partial);
+        InsuranceUpdates.set(update, "vehicleMake", vehicleInsuranceUpdateDTO.vehicleMake(), partial);
+        InsuranceUpdates.set(update, "vehicleModel", vehicleInsuranceUpdateDTO.vehicleModel(), partial);
+        InsuranceUpdates.set(update, "vehicleYear", vehicleInsuranceUpdateDTO.vehicleYear(), partial);
+        InsuranceUpdates.set(update, "licensePlateNumber", vehicleInsuranceUpdateDTO.licensePlateNumber(), partial);
+        if (update.getUpdateObject().isEmpty()) {
+            return getVehicleInsuranceById(id);
+        }
+
+        try (PortfolioCounterService.PendingWrite write = portfolioCounterService.beginWrite()) {
+            VehicleInsurance previousVehicleInsurance = mongoTemplate.findAndModify(InsuranceUpdates.byId(id), update,
+                    InsuranceUpdates.RETURN_PREVIOUS, VehicleInsurance.class);
+            if (previousVehicleInsurance == null) {
+                throw new NoSuchInsuranceException();
+            }
+
+            VehicleInsurance updatedVehicleInsurance = VehicleInsurance.builder()
+                    .id(id)
+                    .firstName(InsuranceUpdates.merge(vehicleInsuranceUpdateDTO.firstName(), previousVehicleInsurance.firstName(), partial))
+                    .familyName(InsuranceUpdates.merge(vehicleInsuranceUpdateDTO.familyName(), previousVehicleInsurance.familyName(), partial))
+                    .zipCode(InsuranceUpdates.merge(vehicleInsuranceUpdateDTO.zipCode(), previousVehicleInsurance.zipCode(), partial))
+                    .city(InsuranceUpdates.merge(vehicleInsuranceUpdateDTO.city(), previousVehicleInsurance.city(), partial))
+                    .address(InsuranceUpdates.merge(vehicleInsuranceUpdateDTO.address(), previousVehicleInsurance.address(), partial))
+                    .telephone(InsuranceUpdates.merge(vehicleInsuranceUpdateDTO.telephone(), previousVehicleInsurance.telephone(), partial))
+                    .email(InsuranceUpdates.merge(vehicleInsuranceUpdateDTO.email(), previousVehicleInsurance.email(), partial))
+                    .type(previousVehicleInsurance.type())
+                    .duration(InsuranceUpdates.merge(vehicleInsuranceUpdateDTO.duration(), previousVehicleInsurance.duration(), partial))
+                    .paymentPerMonth(InsuranceUpdates.merge(vehicleInsuranceUpdateDTO.paymentPerMonth(), previousVehicleInsurance.paymentPerMonth(), partial))
+                    .startDate(previousVehicleInsurance.startDate())
+                    .endDate(InsuranceUpdates.merge(vehicleInsuranceUpdateDTO.endDate(), previousVehicleInsurance.endDate(), partial))
+                    .vehicleMake(InsuranceUpdates.merge(vehicleInsuranceUpdateDTO.vehicleMake(), previousVehicleInsurance.vehicleMake(), partial))
+                    .vehicleModel(InsuranceUpdates.merge(vehicleInsuranceUpdateDTO.vehicleModel(), previousVehicleInsurance.vehicleModel(), partial))
+                    .vehicleYear(InsuranceUpdates.merge(vehicleInsuranceUpdateDTO.vehicleYear(), previousVehicleInsurance.vehicleYear(), partial))
+                    .licensePlateNumber(InsuranceUpdates.merge(vehicleInsuranceUpdateDTO.licensePlateNumber(), previousVehicleInsurance.licensePlateNumber(), partial))
+                    .build();
+
+            portfolioCounterService.recordUpdated(InsuranceType.VEHICLE,
+                    previousVehicleInsurance.calculateInsuranceAmount(), updatedVehicleInsurance.calculateInsuranceAmount());
+            nameSuggestionService.recordUpdated(previousVehicleInsurance, updatedVehicleInsurance);
+            return updatedVehicleInsurance;
+        }
     }
+
     public void deleteVehicleInsurance(String id) {
-        vehicleInsuranceRepo.deleteById(id);
+        try (PortfolioCounterService.PendingWrite write = portfolioCounterService.beginWrite()) {
+            vehicleInsuranceRepo.removeById(id).ifPresent(deletedVehicleInsurance -> {
+                portfolioCounterService.recordRemoved(InsuranceType.VEHICLE, deletedVehicleInsurance.calculateInsuranceAmount());
+                nameSuggestionService.recordRemoved(deletedVehicleInsurance);
+            });
+        }
     }
 }
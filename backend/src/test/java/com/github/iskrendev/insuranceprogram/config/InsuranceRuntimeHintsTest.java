@@ -0,0 +1,33 @@
+package com.github.iskrendev.insuranceprogram.config;
+
+import com.github.iskrendev.insuranceprogram.models.InsuranceTotals;
+import com.github.iskrendev.insuranceprogram.models.LifeInsuranceDTO;
+import com.mongodb.client.MongoCollection;
+import org.junit.jupiter.api.Test;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.predicate.RuntimeHintsPredicates;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class InsuranceRuntimeHintsTest {
+    private final RuntimeHints hints = new RuntimeHints();
+
+    @Test
+    void registerHints_whenRegistered_thenRecordsCanBeBoundReflectively() throws Exception {
+        //WHEN
+        new InsuranceRuntimeHints().registerHints(hints, getClass().getClassLoader());
+        //THEN
+        assertTrue(RuntimeHintsPredicates.reflection()
+                .onConstructor(LifeInsuranceDTO.class.getDeclaredConstructors()[0]).test(hints));
+        assertTrue(RuntimeHintsPredicates.reflection()
+                .onMethod(InsuranceTotals.class.getMethod("totalAmount")).test(hints));
+    }
+
+    @Test
+    void registerHints_whenRegistered_thenMongoCollectionCanBeProxied() {
+        //WHEN
+        new InsuranceRuntimeHints().registerHints(hints, getClass().getClassLoader());
+        //THEN
+        assertTrue(RuntimeHintsPredicates.proxies().forInterfaces(MongoCollection.class).test(hints));
+    }
+}
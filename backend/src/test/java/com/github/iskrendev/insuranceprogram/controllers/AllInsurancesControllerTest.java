@@ -2,6 +2,8 @@ package com.github.iskrendev.insuranceprogram.controllers;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.github.iskrendev.insuranceprogram.enums.InsuranceType;
+import com.github.iskrendev.insuranceprogram.exceptions.AllInsurancesRetrievalException;
+import com.github.iskrendev.insuranceprogram.exceptions.ExportAbortedException;
 import com.github.iskrendev.insuranceprogram.models.AllInsurancesResponse;
 import com.github.iskrendev.insuranceprogram.models.LifeInsurance;
 import com.github.iskrendev.insuranceprogram.models.PropertyInsurance;
@@ -9,10 +11,13 @@ import com.github.iskrendev.insuranceprogram.models.VehicleInsurance;
 import com.github.iskrendev.insuranceprogram.repositories.LifeInsuranceRepo;
 import com.github.iskrendev.insuranceprogram.repositories.PropertyInsuranceRepo;
 import com.github.iskrendev.insuranceprogram.repositories.VehicleInsuranceRepo;
+import com.github.iskrendev.insuranceprogram.services.InsuranceExportService;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletResponse;
 import org.springframework.test.annotation.DirtiesContext;
 import org.springframework.test.web.servlet.MockMvc;
 
@@ -21,6 +26,10 @@ import java.time.LocalDate;
 import java.util.List;
 
 import static org.hamcrest.Matchers.hasSize;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
@@ -130,4 +139,61 @@ class AllInsurancesControllerTest {
                 .andExpect(status().isOk())
                 .andExpect(content().json(expectedAsJson));
     }
-}
\ No newline at end of file
+
+    @Test
+    @DirtiesContext
+    void getAllInsurances_whenNdjsonIsAccepted_thenReturnOneInsurancePerLine() throws Exception {
+        lifeInsuranceRepo.save(LifeInsurance.builder()
+                .id("1")
+                .firstName("TestFirstName")
+                .familyName("TestFamilyName")
+                .type(InsuranceType.LIFE)
+                .build());
+        vehicleInsuranceRepo.save(VehicleInsurance.builder()
+                .id("3")
+                .firstName("TestFirstName")
+                .familyName("TestFamilyName")
+                .type(InsuranceType.VEHICLE)
+                .build());
+
+        String body = mockMvc.perform(get(BASE_URI).accept(MediaType.APPLICATION_NDJSON))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+                .andReturn().getResponse().getContentAsString();
+
+        String[] lines = body.split("\n");
+        assertEquals(2, lines.length);
+        assertEquals("LIFE", objectMapper.readTree(lines[0]).get("type").asText());
+        assertEquals("VEHICLE", objectMapper.readTree(lines[1]).get("type").asText());
+    }
+
+    @Test
+    void getAllInsurances_whenExportFailsAfterTheResponseIsCommitted_thenAbortTheResponse() throws Exception {
+        //GIVEN
+        InsuranceExportService mockInsuranceExportService = mock(InsuranceExportService.class);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        doAnswer(invocation -> {
+            response.setCommitted(true);
+            throw new AllInsurancesRetrievalException();
+        }).when(mockInsuranceExportService).writeAllInsurancesAsJson(any());
+        //WHEN & THEN
+        ExportAbortedException actual = assertThrows(ExportAbortedException.class,
+                () -> new AllInsurancesController(mockInsuranceExportService).getAllInsurances(response));
+        assertNull(actual.getCause());
+    }
+
+    @Test
+    void getAllInsurances_whenExportFailsBeforeTheResponseIsCommitted_thenDropThePartialBody() throws Exception {
+        //GIVEN
+        InsuranceExportService mockInsuranceExportService = mock(InsuranceExportService.class);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        doAnswer(invocation -> {
+            response.getOutputStream().write("{\"lifeInsurances\":[".getBytes());
+            throw new AllInsurancesRetrievalException();
+        }).when(mockInsuranceExportService).writeAllInsurancesAsJson(any());
+        //WHEN & THEN
+        assertThrows(AllInsurancesRetrievalException.class,
+                () -> new AllInsurancesController(mockInsuranceExportService).getAllInsurances(response));
+        assertEquals("", response.getContentAsString());
+    }
+}
@@ -0,0 +1,201 @@
+package com.github.iskrendev.insuranceprogram.controllers;
+
+import com.github.iskrendev.insuranceprogram.enums.InsuranceType;
+import com.github.iskrendev.insuranceprogram.models.LifeInsurance;
+import com.github.iskrendev.insuranceprogram.models.PropertyInsurance;
+import com.github.iskrendev.insuranceprogram.models.VehicleInsurance;
+import com.github.iskrendev.insuranceprogram.repositories.LifeInsuranceRepo;
+import com.github.iskrendev.insuranceprogram.repositories.PropertyInsuranceRepo;
+import com.github.iskrendev.insuranceprogram.repositories.VehicleInsuranceRepo;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * HTTP contract shared by the servlet and the reactive stack. Every scenario runs once per stack through the
+ * subclasses, against a real server.
+ */
+abstract class InsuranceApiContractTest {
+    @Autowired
+    private WebTestClient webTestClient;
+    @Autowired
+    private LifeInsuranceRepo lifeInsuranceRepo;
+    @Autowired
+    private PropertyInsuranceRepo propertyInsuranceRepo;
+    @Autowired
+    private VehicleInsuranceRepo vehicleInsuranceRepo;
+
+    private static final String LIFE_INSURANCE_JSON = """
+            {"firstName":"TestFirstName","familyName":"TestFamilyName","zipCode":"12345","city":"Testcity",
+             "address":"Test str. 123","telephone":"012345","email":"testmail@example.com","type":"LIFE",
+             "duration":48,"paymentPerMonth":100,"startDate":"2024-01-01","endDate":"2028-01-01",
+             "hasHealthIssues":false,"healthConditionDetails":""}""";
+
+    private void saveOneInsuranceOfEachType() {
+        lifeInsuranceRepo.save(LifeInsurance.builder()
+                .id("1")
+                .firstName("TestFirstName")
+                .familyName("TestFamilyName")
+                .type(InsuranceType.LIFE)
+                .duration(48)
+                .paymentPerMonth(BigDecimal.valueOf(100))
+                .startDate(LocalDate.of(2024, 1, 1))
+                .endDate(LocalDate.of(2028, 1, 1))
+                .hasHealthIssues(false)
+                .build());
+        propertyInsuranceRepo.save(PropertyInsurance.builder()
+                .id("1")
+                .firstName("TestFirstName")
+                .familyName("TestFamilyName")
+                .type(InsuranceType.PROPERTY)
+                .duration(48)
+                .paymentPerMonth(BigDecimal.valueOf(100))
+                .startDate(LocalDate.of(2024, 1, 1))
+                .endDate(LocalDate.of(2028, 1, 1))
+                .propertyType("House")
+                .build());
+        vehicleInsuranceRepo.save(VehicleInsurance.builder()
+                .id("1")
+                .firstName("OtherFirstName")
+                .familyName("OtherFamilyName")
+                .type(InsuranceType.VEHICLE)
+                .duration(12)
+                .paymentPerMonth(BigDecimal.valueOf(100))
+                .startDate(LocalDate.of(2024, 1, 1))
+                .endDate(LocalDate.of(2025, 1, 1))
+                .vehicleMake("Testmake")
+                .build());
+    }
+
+    @Test
+    @DirtiesContext
+    void getAllLifeInsurances_whenNoLifeInsuranceIsInList_thenReturnEmptyList() {
+        webTestClient.get().uri("/api/life")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody().json("[]");
+    }
+
+    @Test
+    @DirtiesContext
+    void addLifeInsurance_whenInsuranceIsPosted_thenReturnItById() {
+        String id = webTestClient.post().uri("/api/life")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(LIFE_INSURANCE_JSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(LifeInsurance.class)
+                .returnResult().getResponseBody().id();
+
+        webTestClient.get().uri("/api/life/{id}", id)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.id").isEqualTo(id)
+                .jsonPath("$.familyName").isEqualTo("TestFamilyName");
+    }
+
+    @Test
+    @DirtiesContext
+    void getLifeInsuranceById_whenIdDoesNotExist_thenReturnNotFound() {
+        webTestClient.get().uri("/api/life/{id}", "missing")
+                .exchange()
+                .expectStatus().isNotFound();
+    }
+
+    @Test
+    @DirtiesContext
+    void deleteLifeInsurance_whenInsuranceExists_thenRemoveIt() {
+        saveOneInsuranceOfEachType();
+
+        webTestClient.delete().uri("/api/life/{id}", "1")
+                .exchange()
+                .expectStatus().isOk();
+
+        webTestClient.get().uri("/api/life")
+                .exchange()
+                .expectBody().json("[]");
+    }
+
+    @Test
+    @DirtiesContext
+    void getAllInsurances_whenOneInsuranceIsInEachList_thenReturnLists() {
+        saveOneInsuranceOfEachType();
+
+        webTestClient.get().uri("/api/getall")
+                .accept(MediaType.APPLICATION_JSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.lifeInsurances.length()").isEqualTo(1)
+                .jsonPath("$.propertyInsurances[0].propertyType").isEqualTo("House")
+                .jsonPath("$.vehicleInsurances[0].vehicleMake").isEqualTo("Testmake");
+    }
+
+    @Test
+    @DirtiesContext
+    void getAllInsurancesAsNdjson_whenOneInsuranceIsInEachList_thenReturnOneLinePerInsurance() {
+        saveOneInsuranceOfEachType();
+
+        String body = webTestClient.get().uri("/api/getall")
+                .accept(MediaType.APPLICATION_NDJSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(String.class)
+                .returnResult().getResponseBody();
+
+        assertEquals(3, body.lines().count());
+    }
+
+    @Test
+    @DirtiesContext
+    void searchInsurance_whenNoNameIsGiven_thenReturnBadRequest() {
+        webTestClient.get().uri("/api/search")
+                .exchange()
+                .expectStatus().isBadRequest();
+    }
+
+    @Test
+    @DirtiesContext
+    void searchInsurance_whenFamilyNameDiffersInCase_thenReturnMatchesOfAllTypes() {
+        saveOneInsuranceOfEachType();
+
+        webTestClient.get().uri("/api/search?familyName={familyName}", "testfamilyname")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.lifeInsurances.length()").isEqualTo(1)
+                .jsonPath("$.propertyInsurances.length()").isEqualTo(1)
+                .jsonPath("$.vehicleInsurances.length()").isEqualTo(0)
+                .jsonPath("$.unavailableTypes").doesNotExist();
+    }
+
+    @Test
+    @DirtiesContext
+    void getInsuranceSummary_whenOneInsuranceInEachRepo_thenReturnCorrectCountsAndTotalAmount() {
+        saveOneInsuranceOfEachType();
+
+        webTestClient.get().uri("/api/summary")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .json("{\"totalAmount\":10800,\"lifeInsuranceCount\":1,\"propertyInsuranceCount\":1,\"vehicleInsuranceCount\":1}");
+    }
+
+    @Test
+    @DirtiesContext
+    void importNdjson_whenTypeIsUnknown_thenReturnNotFound() {
+        webTestClient.post().uri("/api/import/{type}", "boat")
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .bodyValue("{}\n")
+                .exchange()
+                .expectStatus().isNotFound();
+    }
+}
@@ -0,0 +1,77 @@
+package com.github.iskrendev.insuranceprogram.controllers;
+
+import com.github.iskrendev.insuranceprogram.repositories.PropertyInsuranceRepo;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class InsuranceImportControllerTest {
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private PropertyInsuranceRepo propertyInsuranceRepo;
+    private static final String BASE_URI = "/api/import";
+
+    @Test
+    @DirtiesContext
+    void importNdjson_whenOneRowIsInvalid_thenImportTheOthersAndReportTheRow() throws Exception {
+        String ndjson = """
+                {"firstName":"Anna","familyName":"Adams","type":"PROPERTY","duration":12,"paymentPerMonth":100}
+                {"firstName":"Ben","familyName":"Brown","type":"PROPERTY","duration":"twelve"}
+                {"firstName":"Carl","familyName":"Clark","type":"PROPERTY","duration":24,"paymentPerMonth":50}
+                """;
+
+        mockMvc.perform(post(BASE_URI + "/property")
+                        .contentType(MediaType.APPLICATION_NDJSON)
+                        .content(ndjson))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.rows").value(3))
+                .andExpect(jsonPath("$.imported").value(2))
+                .andExpect(jsonPath("$.failed").value(1))
+                .andExpect(jsonPath("$.errors[0].row").value(2));
+
+        assertEquals(2, propertyInsuranceRepo.count());
+        mockMvc.perform(get("/api/summary"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.propertyInsuranceCount").value(2));
+    }
+
+    @Test
+    @DirtiesContext
+    void importCsv_whenHeaderAndRowsGiven_thenImportRows() throws Exception {
+        String csv = """
+                firstName,familyName,type,duration,paymentPerMonth,propertyType,constructionYear
+                Anna,Adams,PROPERTY,12,100,House,1994
+                Ben,Brown,PROPERTY,24,50,Flat,
+                """;
+
+        mockMvc.perform(post(BASE_URI + "/property")
+                        .contentType("text/csv")
+                        .content(csv))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.imported").value(2))
+                .andExpect(jsonPath("$.errors").isEmpty());
+
+        assertEquals(2, propertyInsuranceRepo.count());
+    }
+
+    @Test
+    @DirtiesContext
+    void importNdjson_whenTypeIsUnknown_thenReturnNotFound() throws Exception {
+        mockMvc.perform(post(BASE_URI + "/boat")
+                        .contentType(MediaType.APPLICATION_NDJSON)
+                        .content("{}"))
+                .andExpect(status().isNotFound());
+    }
+}
@@ -13,6 +13,7 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
 import org.springframework.test.annotation.DirtiesContext;
 import org.springframework.test.web.servlet.MockMvc;
 
@@ -21,6 +22,7 @@ import java.time.LocalDate;
 import java.util.List;
 
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 @SpringBootTest
@@ -55,6 +57,61 @@ class InsuranceSearchControllerTest {
                 .andExpect(status().isBadRequest());
     }
 
+    @Test
+    @DirtiesContext
+    void suggestNames_whenPrefixIsBlank_thenReturnBadRequest() throws Exception {
+        mockMvc.perform(get(BASE_URI + "/suggestions")
+                        .param("prefix", " "))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DirtiesContext
+    void queryInsurance_whenOnlyUnindexedCriteria_thenReturnBadRequest() throws Exception {
+        mockMvc.perform(post(BASE_URI + "/query")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"telephone\":\"0301234\"}"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DirtiesContext
+    void queryInsurance_whenIndexedCriteria_thenReturnMatchingResults() throws Exception {
+        lifeInsuranceRepo.save(LifeInsurance.builder().firstName("Anna").familyName("Meier").zipCode("10115").city("Berlin")
+                .type(InsuranceType.LIFE).build());
+        vehicleInsuranceRepo.save(VehicleInsurance.builder().firstName("Ben").familyName("Meier").zipCode("20095").city("Hamburg")
+                .type(InsuranceType.VEHICLE).build());
+
+        mockMvc.perform(post(BASE_URI + "/query")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"zipCode\":\"10115\",\"city\":\"berlin\",\"fields\":[\"firstName\"]}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.lifeInsurances[0].firstName").value("Anna"))
+                .andExpect(jsonPath("$.lifeInsurances[0].familyName").doesNotExist())
+                .andExpect(jsonPath("$.vehicleInsurances").isEmpty());
+    }
+
+    @Test
+    @DirtiesContext
+    void topInsurances_whenNamesMatchInSeveralCollections_thenReturnOneListSortedAndLimited() throws Exception {
+        lifeInsuranceRepo.save(LifeInsurance.builder().firstName("Anna").familyName("Meier").type(InsuranceType.LIFE)
+                .startDate(LocalDate.of(2024, 3, 1)).build());
+        propertyInsuranceRepo.save(PropertyInsurance.builder().firstName("anna").familyName("Schulz").type(InsuranceType.PROPERTY)
+                .startDate(LocalDate.of(2024, 1, 1)).build());
+        vehicleInsuranceRepo.save(VehicleInsurance.builder().firstName("Anna").familyName("Albers").type(InsuranceType.VEHICLE)
+                .startDate(LocalDate.of(2024, 2, 1)).build());
+
+        mockMvc.perform(get(BASE_URI + "/top")
+                        .param("firstName", "ANNA")
+                        .param("sort", "startDate")
+                        .param("direction", "DESC")
+                        .param("limit", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[0].type").value("LIFE"))
+                .andExpect(jsonPath("$[1].type").value("VEHICLE"));
+    }
+
     @Test
     @DirtiesContext
     void searchInsurance_whenNameDoesNotExistInDatabase_thenReturnEmptyResponseObject() throws Exception {
@@ -1,5 +1,6 @@
 package com.github.iskrendev.insuranceprogram.controllers;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.github.iskrendev.insuranceprogram.enums.InsuranceType;
 import com.github.iskrendev.insuranceprogram.models.LifeInsuranceDTO;
@@ -16,8 +17,10 @@ import org.springframework.test.web.servlet.MockMvc;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.List;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
@@ -161,6 +164,18 @@ class LifeInsuranceControllerTest {
                 .andExpect(content().json(lifeInsuranceAsJson));
     }
 
+    @Test
+    @DirtiesContext
+    void addLifeInsurance_whenPaymentPerMonthHasMoreDigitsThanDecimal128_thenReturnBadRequest() throws Exception {
+        mockMvc.perform(post(BASE_URI)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"firstName":"TestFirstName","paymentPerMonth":1.00000000000000000000000000000000001}
+                                """))
+                .andExpect(status().isBadRequest());
+        assertEquals(0, lifeInsuranceRepo.count());
+    }
+
     @Test
     @DirtiesContext
     void updateLifeInsurance_whenInsuranceIdExistsInDb_thenReturnUpdatedInsurance() throws Exception {
@@ -258,6 +273,50 @@ class LifeInsuranceControllerTest {
                 .andExpect(content().string("There is no insurance with this id"));
     }
 
+    @Test
+    @DirtiesContext
+    void patchLifeInsurance_whenOnlyCityIsSent_thenKeepAllOtherFields() throws Exception {
+        LifeInsurance lifeInsuranceBefore = LifeInsurance.builder()
+                .id("1")
+                .firstName("TestFirstName")
+                .familyName("TestFamilyName")
+                .zipCode("12345")
+                .city("Testcity")
+                .type(InsuranceType.LIFE)
+                .duration(48)
+                .paymentPerMonth(BigDecimal.valueOf(100))
+                .startDate(LocalDate.of(2024, 1, 1))
+                .build();
+        lifeInsuranceRepo.save(lifeInsuranceBefore);
+
+        mockMvc.perform(patch(BASE_URI + "/1")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"city": "NewTestCity"}
+                                """))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.city").value("NewTestCity"))
+                .andExpect(jsonPath("$.zipCode").value("12345"))
+                .andExpect(jsonPath("$.duration").value(48));
+
+        mockMvc.perform(get(BASE_URI + "/1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.city").value("NewTestCity"))
+                .andExpect(jsonPath("$.firstName").value("TestFirstName"));
+    }
+
+    @Test
+    @DirtiesContext
+    void patchLifeInsurance_whenInsuranceIdDoesNotExistsInDb_thenThrowException() throws Exception {
+        mockMvc.perform(patch(BASE_URI + "/invalidId")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"city": "NewTestCity"}
+                                """))
+                .andExpect(status().isNotFound())
+                .andExpect(content().string("There is no insurance with this id"));
+    }
+
     @Test
     @DirtiesContext
     void deleteLifeInsurance() throws Exception {
@@ -285,4 +344,38 @@ class LifeInsuranceControllerTest {
                 .andExpect(status().isOk())
                 .andExpect(content().string("[]"));
     }
-}
\ No newline at end of file
+
+    @Test
+    @DirtiesContext
+    void getLifeInsurancePage_whenWalkingAllPages_thenReturnEveryInsuranceOnceSortedByName() throws Exception {
+        lifeInsuranceRepo.save(LifeInsurance.builder().id("1").firstName("Carl").familyName("brown").type(InsuranceType.LIFE).build());
+        lifeInsuranceRepo.save(LifeInsurance.builder().id("2").firstName("Anna").familyName("Adams").type(InsuranceType.LIFE).build());
+        lifeInsuranceRepo.save(LifeInsurance.builder().id("3").firstName("Ben").familyName("Adams").type(InsuranceType.LIFE).build());
+        lifeInsuranceRepo.save(LifeInsurance.builder().id("4").firstName("anna").familyName("adams").type(InsuranceType.LIFE).build());
+        lifeInsuranceRepo.save(LifeInsurance.builder().id("5").firstName("Dora").familyName("Clark").type(InsuranceType.LIFE).build());
+
+        List<String> ids = new ArrayList<>();
+        String pageToken = null;
+        do {
+            var request = get(BASE_URI + "/page").param("size", "2").param("includeTotal", "true");
+            if (pageToken != null) {
+                request.param("pageToken", pageToken);
+            }
+            JsonNode page = objectMapper.readTree(mockMvc.perform(request)
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.estimatedTotal").value(5))
+                    .andReturn().getResponse().getContentAsString());
+            page.get("items").forEach(item -> ids.add(item.get("id").asText()));
+            pageToken = page.get("nextPageToken").isNull() ? null : page.get("nextPageToken").asText();
+        } while (pageToken != null);
+
+        assertEquals(List.of("2", "4", "3", "1", "5"), ids);
+    }
+
+    @Test
+    @DirtiesContext
+    void getLifeInsurancePage_whenPageTokenIsInvalid_thenReturnBadRequest() throws Exception {
+        mockMvc.perform(get(BASE_URI + "/page").param("pageToken", "not a token"))
+                .andExpect(status().isBadRequest());
+    }
+}
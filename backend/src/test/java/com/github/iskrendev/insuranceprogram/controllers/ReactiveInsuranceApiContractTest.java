@@ -0,0 +1,9 @@
+package com.github.iskrendev.insuranceprogram.controllers;
+
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("reactive")
+class ReactiveInsuranceApiContractTest extends InsuranceApiContractTest {
+}
@@ -0,0 +1,7 @@
+package com.github.iskrendev.insuranceprogram.controllers;
+
+import org.springframework.boot.test.context.SpringBootTest;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class ServletInsuranceApiContractTest extends InsuranceApiContractTest {
+}
@@ -0,0 +1,126 @@
+package com.github.iskrendev.insuranceprogram.filters;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AdaptiveConcurrencyFilterTest {
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AdaptiveConcurrencyFilter adaptiveConcurrencyFilter =
+            new AdaptiveConcurrencyFilter(GradientLimitTest.properties(5, 5, 5, 0.4), meterRegistry);
+
+    private MockHttpServletResponse perform(String method, String path, FilterChain chain)
+            throws ServletException, IOException {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        adaptiveConcurrencyFilter.doFilter(new MockHttpServletRequest(method, path), response, chain);
+        return response;
+    }
+
+    /**
+     * Runs {@code count} nested requests to {@code path}, so they are all in flight when {@code innermost} runs.
+     */
+    private FilterChain nested(int count, String path, List<Integer> statuses, FilterChain innermost) {
+        if (count == 0) {
+            return innermost;
+        }
+        return (request, response) -> statuses.add(perform("GET", path, nested(count - 1, path, statuses, innermost)).getStatus());
+    }
+
+    private double rejections(String priority) {
+        return meterRegistry.get("insurance.concurrency.rejections").tag("priority", priority).counter().count();
+    }
+
+    @Test
+    void doFilter_whenStandardShareIsUsedUp_thenRejectStandardButAdmitPriorityRequests() throws Exception {
+        //GIVEN
+        List<Integer> statuses = new ArrayList<>();
+        List<Integer> innerStatuses = new ArrayList<>();
+        //WHEN
+        perform("GET", "/api/getall", nested(2, "/api/summary", statuses, (request, response) -> {
+            innerStatuses.add(perform("GET", "/api/getall", new MockFilterChain()).getStatus());
+            innerStatuses.add(perform("GET", "/api/life/1", new MockFilterChain()).getStatus());
+        }));
+        //THEN
+        assertEquals(List.of(503, 200), innerStatuses);
+        assertEquals(List.of(200, 200), statuses);
+        assertEquals(1, rejections("standard"));
+        assertEquals(0, rejections("priority"));
+    }
+
+    @Test
+    void doFilter_whenWholeLimitIsInFlight_thenRejectPriorityRequestsWithRetryAfter() throws Exception {
+        //GIVEN
+        MockHttpServletResponse[] rejected = new MockHttpServletResponse[1];
+        //WHEN
+        perform("GET", "/api/life/1", nested(4, "/api/life/2", new ArrayList<>(),
+                (request, response) -> rejected[0] = perform("GET", "/api/life/3", new MockFilterChain())));
+        //THEN
+        assertEquals(503, rejected[0].getStatus());
+        assertEquals("1", rejected[0].getHeader("Retry-After"));
+        assertEquals(1, rejections("priority"));
+    }
+
+    @Test
+    void doFilter_whenPathIsOutsideApi_thenNeverReject() throws Exception {
+        //GIVEN
+        List<Integer> statuses = new ArrayList<>();
+        //WHEN
+        perform("GET", "/api/getall", nested(2, "/api/getall", statuses,
+                (request, response) -> statuses.add(perform("GET", "/actuator/health", new MockFilterChain()).getStatus())));
+        //THEN
+        assertEquals(List.of(200, 200, 200), statuses);
+    }
+
+    @Test
+    void doFilter_whenRequestsComplete_thenReleaseTheirPermits() throws Exception {
+        //GIVEN
+        FilterChain failingChain = (request, response) -> {
+            throw new IllegalStateException("boom");
+        };
+        assertThrows(IllegalStateException.class, () -> perform("GET", "/api/life/1", failingChain));
+        perform("GET", "/api/life/1", new MockFilterChain());
+        //WHEN
+        double inflight = meterRegistry.get("insurance.concurrency.inflight").gauge().value();
+        //THEN
+        assertEquals(0, inflight);
+    }
+
+    @Test
+    void doFilter_whenRequestsSucceed_thenOnlyPriorityLatencyMovesTheLimit() throws Exception {
+        //GIVEN
+        MeterRegistry registry = new SimpleMeterRegistry();
+        AdaptiveConcurrencyFilter filter =
+                new AdaptiveConcurrencyFilter(GradientLimitTest.properties(1, 1, 200, 0.0), registry);
+        FilterChain slowChain = (request, response) -> {
+            try {
+                Thread.sleep(5);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        };
+        //WHEN
+        for (int i = 0; i < 20; i++) {
+            filter.doFilter(new MockHttpServletRequest("GET", "/api/getall"), new MockHttpServletResponse(), slowChain);
+        }
+        double limitAfterStandard = registry.get("insurance.concurrency.limit").gauge().value();
+        for (int i = 0; i < 20; i++) {
+            filter.doFilter(new MockHttpServletRequest("GET", "/api/life/1"), new MockHttpServletResponse(),
+                    new MockFilterChain());
+        }
+        double limitAfterPriority = registry.get("insurance.concurrency.limit").gauge().value();
+        //THEN
+        assertEquals(1, limitAfterStandard);
+        assertTrue(limitAfterPriority > 1);
+    }
+}
@@ -0,0 +1,89 @@
+package com.github.iskrendev.insuranceprogram.filters;
+
+import com.github.iskrendev.insuranceprogram.config.BulkheadProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BulkheadFilterTest {
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final BulkheadFilter bulkheadFilter = new BulkheadFilter(new BulkheadProperties(true, Map.of(
+            "full-scan", new BulkheadProperties.Endpoint(List.of("/api/getall", "/api/life"), Set.of("GET"), 1, Duration.ZERO)
+    )), meterRegistry);
+
+    private MockHttpServletResponse perform(String method, String path, FilterChain chain)
+            throws ServletException, IOException {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        bulkheadFilter.doFilter(new MockHttpServletRequest(method, path), response, chain);
+        return response;
+    }
+
+    private double rejections() {
+        return meterRegistry.get("insurance.bulkhead.rejections").tag("bulkhead", "full-scan").counter().count();
+    }
+
+    @Test
+    void doFilter_whenBulkheadIsFull_thenRejectWithServiceUnavailable() throws Exception {
+        //GIVEN
+        MockHttpServletResponse[] nested = new MockHttpServletResponse[1];
+        //WHEN
+        MockHttpServletResponse outer = perform("GET", "/api/getall",
+                (request, response) -> nested[0] = perform("GET", "/api/life", new MockFilterChain()));
+        //THEN
+        assertEquals(200, outer.getStatus());
+        assertEquals(503, nested[0].getStatus());
+        assertEquals(BulkheadFilter.RETRY_AFTER_SECONDS, nested[0].getHeader("Retry-After"));
+        assertEquals(1, rejections());
+    }
+
+    @Test
+    void doFilter_whenRequestIsOutsideBulkhead_thenPassThroughWhileFull() throws Exception {
+        //GIVEN
+        MockHttpServletResponse[] nested = new MockHttpServletResponse[2];
+        //WHEN
+        perform("GET", "/api/getall", (request, response) -> {
+            nested[0] = perform("GET", "/api/life/1", new MockFilterChain());
+            nested[1] = perform("POST", "/api/life", new MockFilterChain());
+        });
+        //THEN
+        assertEquals(200, nested[0].getStatus());
+        assertEquals(200, nested[1].getStatus());
+        assertEquals(0, rejections());
+    }
+
+    @Test
+    void doFilter_whenPreviousRequestCompleted_thenReleasePermit() throws Exception {
+        //GIVEN
+        perform("GET", "/api/getall", new MockFilterChain());
+        //WHEN
+        MockHttpServletResponse response = perform("GET", "/api/getall", new MockFilterChain());
+        //THEN
+        assertEquals(200, response.getStatus());
+        assertEquals(0, meterRegistry.get("insurance.bulkhead.active").gauge().value());
+    }
+
+    @Test
+    void doFilter_whenChainThrows_thenReleasePermit() throws Exception {
+        //GIVEN
+        FilterChain failingChain = (request, response) -> {
+            throw new IllegalStateException("boom");
+        };
+        //WHEN
+        assertThrows(IllegalStateException.class, () -> perform("GET", "/api/getall", failingChain));
+        //THEN
+        assertEquals(200, perform("GET", "/api/getall", new MockFilterChain()).getStatus());
+    }
+}
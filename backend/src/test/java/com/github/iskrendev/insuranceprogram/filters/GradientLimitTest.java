@@ -0,0 +1,69 @@
+package com.github.iskrendev.insuranceprogram.filters;
+
+import com.github.iskrendev.insuranceprogram.config.ConcurrencyLimitProperties;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GradientLimitTest {
+    private static final long FAST = Duration.ofMillis(10).toNanos();
+    private static final long SLOW = Duration.ofMillis(100).toNanos();
+
+    static ConcurrencyLimitProperties properties(int initialLimit, int minLimit, int maxLimit, double reservedShare) {
+        return new ConcurrencyLimitProperties(true, "/api/**", initialLimit, minLimit, maxLimit, 0.2, 1.5, 100, 0.9,
+                List.of("/api/life/*"), reservedShare, Duration.ofSeconds(1));
+    }
+
+    private final GradientLimit gradientLimit = new GradientLimit(properties(20, 4, 200, 0.2));
+
+    @Test
+    void onSample_whenLatencyStaysFlatAndLimitIsUsed_thenGrowLimit() {
+        //WHEN
+        for (int i = 0; i < 50; i++) {
+            gradientLimit.onSample(FAST, gradientLimit.getLimit());
+        }
+        //THEN
+        assertTrue(gradientLimit.getLimit() > 20);
+    }
+
+    @Test
+    void onSample_whenLatencyStaysFlatButLimitIsMostlyIdle_thenKeepLimit() {
+        //WHEN
+        for (int i = 0; i < 50; i++) {
+            gradientLimit.onSample(FAST, 2);
+        }
+        //THEN
+        assertEquals(20, gradientLimit.getLimit());
+    }
+
+    @Test
+    void onSample_whenLatencyJumpsUnderLoad_thenShrinkLimit() {
+        //GIVEN
+        for (int i = 0; i < 50; i++) {
+            gradientLimit.onSample(FAST, 20);
+        }
+        int limitBeforeSlowdown = gradientLimit.getLimit();
+        //WHEN
+        for (int i = 0; i < 20; i++) {
+            gradientLimit.onSample(SLOW, gradientLimit.getLimit());
+        }
+        //THEN
+        assertTrue(gradientLimit.getLimit() < limitBeforeSlowdown / 2);
+        assertTrue(gradientLimit.getLimit() >= 4);
+    }
+
+    @Test
+    void onDropped_whenCalled_thenBackOffButNotBelowMinimum() {
+        //WHEN
+        gradientLimit.onDropped();
+        //THEN
+        assertEquals(18, gradientLimit.getLimit());
+        for (int i = 0; i < 100; i++) {
+            gradientLimit.onDropped();
+        }
+        assertEquals(4, gradientLimit.getLimit());
+    }
+}
@@ -0,0 +1,78 @@
+package com.github.iskrendev.insuranceprogram.filters;
+
+import com.github.iskrendev.insuranceprogram.config.QueryDeadlineProperties;
+import com.github.iskrendev.insuranceprogram.repositories.QueryDeadline;
+import jakarta.servlet.ServletException;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class QueryDeadlineFilterTest {
+    private final QueryDeadlineFilter queryDeadlineFilter = new QueryDeadlineFilter(new QueryDeadlineProperties(
+            true, "/api/**", "X-Request-Timeout", Duration.ofSeconds(5), Duration.ofSeconds(30),
+            Map.of("export", new QueryDeadlineProperties.Endpoint(List.of("/api/getall"), Duration.ofMinutes(2)))));
+
+    private final List<QueryDeadline> deadlines = new ArrayList<>();
+
+    private MockHttpServletResponse perform(String path, String timeoutHeader) throws ServletException, IOException {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", path);
+        if (timeoutHeader != null) {
+            request.addHeader("X-Request-Timeout", timeoutHeader);
+        }
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        queryDeadlineFilter.doFilter(request, response, (req, res) -> deadlines.add(QueryDeadline.current()));
+        return response;
+    }
+
+    @Test
+    void doFilter_whenEndpointMatches_thenBindEndpointDeadlineForTheRequestOnly() throws Exception {
+        //WHEN
+        perform("/api/getall", null);
+        perform("/api/life", null);
+        //THEN
+        assertEquals("export", deadlines.get(0).endpoint());
+        assertEquals(Duration.ofMinutes(2), deadlines.get(0).timeout());
+        assertEquals(QueryDeadlineFilter.DEFAULT_ENDPOINT, deadlines.get(1).endpoint());
+        assertEquals(Duration.ofSeconds(5), deadlines.get(1).timeout());
+        assertNull(QueryDeadline.current());
+    }
+
+    @Test
+    void doFilter_whenTimeoutHeaderIsSent_thenUseItUpToMaxTimeout() throws Exception {
+        //WHEN
+        perform("/api/getall", "250");
+        perform("/api/life", "10m");
+        //THEN
+        assertEquals(Duration.ofMillis(250), deadlines.get(0).timeout());
+        assertEquals("export", deadlines.get(0).endpoint());
+        assertEquals(Duration.ofSeconds(30), deadlines.get(1).timeout());
+    }
+
+    @Test
+    void doFilter_whenTimeoutHeaderIsInvalid_thenRespondBadRequest() throws Exception {
+        //WHEN
+        MockHttpServletResponse notADuration = perform("/api/life", "soon");
+        MockHttpServletResponse zero = perform("/api/life", "0");
+        //THEN
+        assertEquals(400, notADuration.getStatus());
+        assertEquals(400, zero.getStatus());
+        assertTrue(deadlines.isEmpty());
+    }
+
+    @Test
+    void doFilter_whenPathIsOutsideApi_thenBindNoDeadline() throws Exception {
+        //WHEN
+        perform("/actuator/health", "250");
+        //THEN
+        assertEquals(1, deadlines.size());
+        assertNull(deadlines.get(0));
+    }
+}
@@ -0,0 +1,32 @@
+package com.github.iskrendev.insuranceprogram.loadtest;
+
+import org.HdrHistogram.Histogram;
+
+import java.time.Duration;
+
+/**
+ * Latencies are in milliseconds and measured from the scheduled start of each request, so they include time spent
+ * queueing behind slow responses.
+ */
+public record EndpointReport(String name, long requests, long errors, double throughput,
+                             double p50, double p90, double p99, double p999, double max) {
+    static EndpointReport of(String name, Histogram latenciesMicros, long errors, Duration duration) {
+        return new EndpointReport(name,
+                latenciesMicros.getTotalCount(),
+                errors,
+                latenciesMicros.getTotalCount() / (duration.toNanos() / 1e9),
+                millis(latenciesMicros.getValueAtPercentile(50)),
+                millis(latenciesMicros.getValueAtPercentile(90)),
+                millis(latenciesMicros.getValueAtPercentile(99)),
+                millis(latenciesMicros.getValueAtPercentile(99.9)),
+                millis(latenciesMicros.getMaxValue()));
+    }
+
+    public double errorRate() {
+        return requests == 0 ? 0 : (double) errors / requests;
+    }
+
+    private static double millis(long micros) {
+        return micros / 1_000.0;
+    }
+}
@@ -0,0 +1,167 @@
+package com.github.iskrendev.insuranceprogram.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.github.iskrendev.insuranceprogram.enums.InsuranceType;
+import com.github.iskrendev.insuranceprogram.models.Insurance;
+import com.github.iskrendev.insuranceprogram.services.PortfolioCounterService;
+import com.github.iskrendev.insuranceprogram.testdata.PortfolioGenerator;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.test.annotation.DirtiesContext;
+
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Drives the REST API of a booted application backed by the embedded MongoDB with an open-model load and reports
+ * latency percentiles per endpoint. Excluded from the default build, run with {@code mvn test -Pload}.
+ * <p>
+ * The profile is configured with the system properties read by {@link LoadProfile#fromSystemProperties()}, the
+ * portfolio size with {@code loadtest.documents}. Results go to {@code target/load-test}. When the baseline file
+ * ({@code loadtest.baseline}) exists, any endpoint that regressed by more than {@code loadtest.regression-threshold}
+ * fails the run; {@code -Dloadtest.update-baseline=true} replaces the baseline with the current results.
+ */
+@Tag("load")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@DirtiesContext
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class HttpLoadTest {
+    private static final long DOCUMENTS_PER_TYPE = Long.getLong("loadtest.documents", 10_000L);
+    private static final Path BASELINE = Path.of(System.getProperty("loadtest.baseline", "src/test/resources/loadtest/baseline.json"));
+    private static final double REGRESSION_THRESHOLD = Double.parseDouble(System.getProperty("loadtest.regression-threshold", "0.2"));
+    private static final Path REPORT_DIRECTORY = Path.of("target", "load-test");
+    private static final List<InsuranceType> TYPES = List.of(InsuranceType.values());
+
+    @LocalServerPort
+    private int port;
+    @Autowired
+    private MongoTemplate mongoTemplate;
+    @Autowired
+    private PortfolioCounterService portfolioCounterService;
+
+    private final LoadProfile profile = LoadProfile.fromSystemProperties();
+    private final PortfolioGenerator generator = new PortfolioGenerator(profile.seed());
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .findAndRegisterModules()
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .enable(SerializationFeature.INDENT_OUTPUT);
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+    private long deletableDocuments;
+    private final AtomicLong nextDeletable = new AtomicLong();
+    private final AtomicLong nextCreated = new AtomicLong();
+
+    @BeforeAll
+    void loadPortfolio() {
+        deletableDocuments = profile.expectedRequests("delete");
+        for (InsuranceType type : TYPES) {
+            mongoTemplate.remove(new Query(), PortfolioGenerator.entityClass(type));
+            generator.insert(mongoTemplate, type, DOCUMENTS_PER_TYPE + deletableDocuments);
+        }
+        portfolioCounterService.rebuild();
+        nextDeletable.set(DOCUMENTS_PER_TYPE);
+        nextCreated.set(DOCUMENTS_PER_TYPE + deletableDocuments);
+    }
+
+    @Test
+    void restApi_underOpenModelLoad_thenDoNotRegressAgainstBaseline() throws Exception {
+        //GIVEN
+        OpenModelLoadGenerator loadGenerator = new OpenModelLoadGenerator(profile, Map.of(
+                "getById", random -> {
+                    InsuranceType type = randomType(random);
+                    return send(HttpRequest.newBuilder(uri(path(type) + "/" + PortfolioGenerator.id(type, randomExisting(random)))));
+                },
+                "search", random -> {
+                    String familyName = generator.lifeInsurance(randomExisting(random)).familyName();
+                    return send(HttpRequest.newBuilder(uri("/api/search?familyName=" + URLEncoder.encode(familyName, StandardCharsets.UTF_8))));
+                },
+                "summary", random -> send(HttpRequest.newBuilder(uri("/api/summary"))),
+                "getAll", random -> send(HttpRequest.newBuilder(uri("/api/getall"))),
+                "create", random -> {
+                    InsuranceType type = randomType(random);
+                    return send(HttpRequest.newBuilder(uri(path(type)))
+                            .POST(body(generator.insurance(type, nextCreated.getAndIncrement()))));
+                },
+                "update", random -> {
+                    InsuranceType type = randomType(random);
+                    return send(HttpRequest.newBuilder(uri(path(type) + "/" + PortfolioGenerator.id(type, randomExisting(random))))
+                            .PUT(body(generator.insurance(type, randomExisting(random)))));
+                },
+                "delete", random -> {
+                    InsuranceType type = randomType(random);
+                    return send(HttpRequest.newBuilder(uri(path(type) + "/" + PortfolioGenerator.id(type, nextDeletable.getAndIncrement())))
+                            .DELETE());
+                }));
+        //WHEN
+        LoadReport actual = loadGenerator.run();
+        //THEN
+        loadGenerator.writeHistograms(REPORT_DIRECTORY);
+        objectMapper.writeValue(REPORT_DIRECTORY.resolve("report.json").toFile(), actual);
+        System.out.println(actual.toTable());
+
+        if (Boolean.getBoolean("loadtest.update-baseline")) {
+            Files.createDirectories(BASELINE.toAbsolutePath().getParent());
+            objectMapper.writeValue(BASELINE.toFile(), actual);
+            return;
+        }
+        if (Files.exists(BASELINE)) {
+            LoadReport baseline = objectMapper.readValue(BASELINE.toFile(), LoadReport.class);
+            List<String> regressions = actual.regressionsAgainst(baseline, REGRESSION_THRESHOLD);
+            assertTrue(regressions.isEmpty(), String.join("\n", regressions));
+        }
+    }
+
+    private boolean send(HttpRequest.Builder request) throws Exception {
+        HttpResponse<Void> response = httpClient.send(request
+                .header("Content-Type", "application/json")
+                .timeout(Duration.ofSeconds(30))
+                .build(), HttpResponse.BodyHandlers.discarding());
+        return response.statusCode() == 200;
+    }
+
+    private HttpRequest.BodyPublisher body(Insurance insurance) throws Exception {
+        ObjectNode json = objectMapper.valueToTree(insurance);
+        json.remove("id");
+        return HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(json));
+    }
+
+    private URI uri(String path) {
+        return URI.create("http://localhost:" + port + path);
+    }
+
+    private static String path(InsuranceType type) {
+        return "/api/" + type.name().toLowerCase(Locale.ROOT);
+    }
+
+    private static InsuranceType randomType(SplittableRandom random) {
+        return TYPES.get(random.nextInt(TYPES.size()));
+    }
+
+    private static long randomExisting(SplittableRandom random) {
+        return random.nextLong(DOCUMENTS_PER_TYPE);
+    }
+}
@@ -0,0 +1,58 @@
+package com.github.iskrendev.insuranceprogram.loadtest;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Open-model load: requests arrive as a Poisson process at {@code requestsPerSecond}, independent of how fast the
+ * application answers, and are spread across operations according to the weights in {@code mix}.
+ */
+public record LoadProfile(double requestsPerSecond, Duration warmup, Duration duration, Map<String, Integer> mix, long seed) {
+    static final String DEFAULT_MIX = "getById:45,search:20,summary:10,update:10,create:8,delete:4,getAll:3";
+
+    public LoadProfile {
+        if (requestsPerSecond <= 0) {
+            throw new IllegalArgumentException("requestsPerSecond must be positive");
+        }
+        if (mix.isEmpty() || mix.values().stream().anyMatch(weight -> weight < 0)) {
+            throw new IllegalArgumentException("mix must contain non-negative weights");
+        }
+        mix = Map.copyOf(mix);
+    }
+
+    /**
+     * Reads {@code loadtest.rate}, {@code loadtest.warmup}, {@code loadtest.duration} (ISO-8601 durations),
+     * {@code loadtest.mix} ({@code name:weight,...}) and {@code loadtest.seed}.
+     */
+    public static LoadProfile fromSystemProperties() {
+        return new LoadProfile(
+                Double.parseDouble(System.getProperty("loadtest.rate", "100")),
+                Duration.parse(System.getProperty("loadtest.warmup", "PT10S")),
+                Duration.parse(System.getProperty("loadtest.duration", "PT60S")),
+                parseMix(System.getProperty("loadtest.mix", DEFAULT_MIX)),
+                Long.getLong("loadtest.seed", 42L));
+    }
+
+    static Map<String, Integer> parseMix(String mix) {
+        Map<String, Integer> weights = new LinkedHashMap<>();
+        Arrays.stream(mix.split(","))
+                .map(String::trim)
+                .filter(entry -> !entry.isEmpty())
+                .forEach(entry -> {
+                    String[] parts = entry.split(":");
+                    if (parts.length != 2) {
+                        throw new IllegalArgumentException("Invalid mix entry: " + entry);
+                    }
+                    weights.put(parts[0].trim(), Integer.parseInt(parts[1].trim()));
+                });
+        return weights;
+    }
+
+    public long expectedRequests(String operation) {
+        int totalWeight = mix.values().stream().mapToInt(Integer::intValue).sum();
+        double seconds = (warmup.toNanos() + duration.toNanos()) / 1e9;
+        return (long) Math.ceil(requestsPerSecond * seconds * mix.getOrDefault(operation, 0) / totalWeight);
+    }
+}
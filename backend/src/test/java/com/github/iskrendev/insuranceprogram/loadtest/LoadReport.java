@@ -0,0 +1,57 @@
+package com.github.iskrendev.insuranceprogram.loadtest;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+public record LoadReport(LoadProfile profile, Duration measured, List<EndpointReport> endpoints) {
+    static final double MAX_ERROR_RATE_INCREASE = 0.01;
+
+    public Optional<EndpointReport> endpoint(String name) {
+        return endpoints.stream().filter(endpoint -> endpoint.name().equals(name)).findFirst();
+    }
+
+    /**
+     * Compares each endpoint with the baseline and describes every percentile that got slower, and every throughput
+     * that dropped, by more than {@code threshold} (0.2 = 20 %). Endpoints missing from either report are skipped.
+     */
+    public List<String> regressionsAgainst(LoadReport baseline, double threshold) {
+        List<String> regressions = new ArrayList<>();
+        for (EndpointReport current : endpoints) {
+            baseline.endpoint(current.name()).ifPresent(previous -> {
+                checkSlower(regressions, current.name(), "p50", previous.p50(), current.p50(), threshold);
+                checkSlower(regressions, current.name(), "p90", previous.p90(), current.p90(), threshold);
+                checkSlower(regressions, current.name(), "p99", previous.p99(), current.p99(), threshold);
+                checkSlower(regressions, current.name(), "p99.9", previous.p999(), current.p999(), threshold);
+                if (current.throughput() < previous.throughput() * (1 - threshold)) {
+                    regressions.add(String.format("%s throughput dropped from %.1f/s to %.1f/s",
+                            current.name(), previous.throughput(), current.throughput()));
+                }
+                if (current.errorRate() > previous.errorRate() + MAX_ERROR_RATE_INCREASE) {
+                    regressions.add(String.format("%s error rate rose from %.2f%% to %.2f%%",
+                            current.name(), 100 * previous.errorRate(), 100 * current.errorRate()));
+                }
+            });
+        }
+        return regressions;
+    }
+
+    public String toTable() {
+        StringBuilder table = new StringBuilder(String.format("%-10s %9s %7s %9s %9s %9s %9s %9s %9s%n",
+                "endpoint", "requests", "errors", "req/s", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms"));
+        for (EndpointReport endpoint : endpoints) {
+            table.append(String.format("%-10s %9d %7d %9.1f %9.2f %9.2f %9.2f %9.2f %9.2f%n",
+                    endpoint.name(), endpoint.requests(), endpoint.errors(), endpoint.throughput(),
+                    endpoint.p50(), endpoint.p90(), endpoint.p99(), endpoint.p999(), endpoint.max()));
+        }
+        return table.toString();
+    }
+
+    private static void checkSlower(List<String> regressions, String name, String percentile,
+                                    double previous, double current, double threshold) {
+        if (current > previous * (1 + threshold)) {
+            regressions.add(String.format("%s %s rose from %.2f ms to %.2f ms", name, percentile, previous, current));
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package com.github.iskrendev.insuranceprogram.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LoadReportTest {
+    private static final LoadProfile PROFILE = new LoadProfile(100, Duration.ZERO, Duration.ofSeconds(10), Map.of("getById", 1), 42);
+
+    private static LoadReport report(EndpointReport... endpoints) {
+        return new LoadReport(PROFILE, PROFILE.duration(), List.of(endpoints));
+    }
+
+    @Test
+    void regressionsAgainst_whenWithinThreshold_thenReturnEmptyList() {
+        //GIVEN
+        LoadReport baseline = report(new EndpointReport("getById", 1000, 0, 100, 2, 4, 10, 20, 30));
+        LoadReport current = report(new EndpointReport("getById", 1000, 5, 95, 2.3, 4.5, 11.9, 23, 80));
+        //WHEN
+        List<String> actual = current.regressionsAgainst(baseline, 0.2);
+        //THEN
+        assertEquals(List.of(), actual);
+    }
+
+    @Test
+    void regressionsAgainst_whenPercentilesThroughputAndErrorsRegress_thenDescribeEachRegression() {
+        //GIVEN
+        LoadReport baseline = report(new EndpointReport("getById", 1000, 0, 100, 2, 4, 10, 20, 30));
+        LoadReport current = report(new EndpointReport("getById", 1000, 50, 70, 2, 4, 15, 20, 30));
+        //WHEN
+        List<String> actual = current.regressionsAgainst(baseline, 0.2);
+        //THEN
+        assertEquals(List.of(
+                "getById p99 rose from 10.00 ms to 15.00 ms",
+                "getById throughput dropped from 100.0/s to 70.0/s",
+                "getById error rate rose from 0.00% to 5.00%"), actual);
+    }
+
+    @Test
+    void regressionsAgainst_whenEndpointIsMissingFromBaseline_thenSkipIt() {
+        //GIVEN
+        LoadReport baseline = report(new EndpointReport("getById", 1000, 0, 100, 2, 4, 10, 20, 30));
+        LoadReport current = report(new EndpointReport("search", 1000, 0, 10, 200, 400, 1000, 2000, 3000));
+        //WHEN
+        List<String> actual = current.regressionsAgainst(baseline, 0.2);
+        //THEN
+        assertEquals(List.of(), actual);
+    }
+
+    @Test
+    void loadReport_whenWrittenAsBaselineAndReadBack_thenRoundTrip() throws Exception {
+        //GIVEN
+        ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+        LoadReport expected = report(new EndpointReport("getById", 1000, 1, 100, 2, 4, 10, 20, 30));
+        //WHEN
+        LoadReport actual = objectMapper.readValue(objectMapper.writeValueAsBytes(expected), LoadReport.class);
+        //THEN
+        assertEquals(expected, actual);
+    }
+
+    @Test
+    void parseMix_whenGivenWeights_thenKeepOrder() {
+        //WHEN
+        Map<String, Integer> actual = LoadProfile.parseMix(" getById:3, search:1 ,");
+        //THEN
+        assertEquals(List.of("getById", "search"), List.copyOf(actual.keySet()));
+        assertEquals(3, actual.get("getById"));
+        assertThrows(IllegalArgumentException.class, () -> LoadProfile.parseMix("getById"));
+    }
+}
@@ -0,0 +1,149 @@
+package com.github.iskrendev.insuranceprogram.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.HistogramLogWriter;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Issues requests at their scheduled times no matter how many are still in flight, each on its own virtual thread, and
+ * records the latency from the scheduled start. A stalled server therefore shows up in the percentiles instead of
+ * silently lowering the offered load (coordinated omission).
+ */
+public class OpenModelLoadGenerator {
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(5);
+
+    @FunctionalInterface
+    public interface Operation {
+        /**
+         * Performs one request and returns whether it succeeded. Exceptions count as errors.
+         */
+        boolean execute(SplittableRandom random) throws Exception;
+    }
+
+    private final LoadProfile profile;
+    private final Map<String, Operation> operations;
+    private final Map<String, Histogram> latencies = new LinkedHashMap<>();
+    private final Map<String, AtomicLong> errors = new LinkedHashMap<>();
+
+    public OpenModelLoadGenerator(LoadProfile profile, Map<String, Operation> operations) {
+        for (String name : profile.mix().keySet()) {
+            if (!operations.containsKey(name)) {
+                throw new IllegalArgumentException("No operation named " + name);
+            }
+        }
+        this.profile = profile;
+        this.operations = operations;
+        profile.mix().forEach((name, weight) -> {
+            if (weight > 0) {
+                latencies.put(name, new ConcurrentHistogram(HIGHEST_TRACKABLE_MICROS, 3));
+                errors.put(name, new AtomicLong());
+            }
+        });
+    }
+
+    public LoadReport run() throws InterruptedException {
+        List<String> names = new ArrayList<>(latencies.keySet());
+        int[] cumulativeWeights = new int[names.size()];
+        int totalWeight = 0;
+        for (int i = 0; i < names.size(); i++) {
+            totalWeight += profile.mix().get(names.get(i));
+            cumulativeWeights[i] = totalWeight;
+        }
+
+        SplittableRandom random = new SplittableRandom(profile.seed());
+        double meanIntervalNanos = 1e9 / profile.requestsPerSecond();
+        long start = System.nanoTime();
+        long measureFrom = start + profile.warmup().toNanos();
+        long end = measureFrom + profile.duration().toNanos();
+        double offset = 0;
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            while (true) {
+                offset += -Math.log(1 - random.nextDouble()) * meanIntervalNanos;
+                long scheduled = start + (long) offset;
+                if (scheduled >= end) {
+                    break;
+                }
+                String name = names.get(pick(cumulativeWeights, random.nextInt(totalWeight)));
+                SplittableRandom requestRandom = random.split();
+                parkUntil(scheduled);
+                executor.execute(() -> execute(name, requestRandom, scheduled, scheduled >= measureFrom));
+            }
+            executor.shutdown();
+            if (!executor.awaitTermination(1, TimeUnit.MINUTES)) {
+                executor.shutdownNow();
+            }
+        }
+
+        List<EndpointReport> endpoints = new ArrayList<>();
+        latencies.forEach((name, histogram) ->
+                endpoints.add(EndpointReport.of(name, histogram, errors.get(name).get(), profile.duration())));
+        return new LoadReport(profile, profile.duration(), endpoints);
+    }
+
+    /**
+     * Writes one HdrHistogram log per operation, readable with HistogramLogProcessor or the HdrHistogram plotter.
+     */
+    public void writeHistograms(Path directory) throws IOException {
+        Files.createDirectories(directory);
+        for (Map.Entry<String, Histogram> entry : latencies.entrySet()) {
+            try (PrintStream out = new PrintStream(Files.newOutputStream(directory.resolve(entry.getKey() + ".hlog")))) {
+                HistogramLogWriter writer = new HistogramLogWriter(out);
+                writer.outputComment("Latency in microseconds from scheduled start, operation " + entry.getKey());
+                writer.outputLogFormatVersion();
+                writer.outputLegend();
+                writer.outputIntervalHistogram(entry.getValue());
+            }
+        }
+    }
+
+    private void execute(String name, SplittableRandom random, long scheduled, boolean measured) {
+        boolean succeeded;
+        try {
+            succeeded = operations.get(name).execute(random);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            succeeded = false;
+        } catch (Exception e) {
+            succeeded = false;
+        }
+        if (!measured) {
+            return;
+        }
+        long micros = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - scheduled);
+        latencies.get(name).recordValue(Math.min(micros, HIGHEST_TRACKABLE_MICROS));
+        if (!succeeded) {
+            errors.get(name).incrementAndGet();
+        }
+    }
+
+    private static int pick(int[] cumulativeWeights, int value) {
+        for (int i = 0; i < cumulativeWeights.length; i++) {
+            if (value < cumulativeWeights[i]) {
+                return i;
+            }
+        }
+        return cumulativeWeights.length - 1;
+    }
+
+    private static void parkUntil(long deadline) {
+        long remaining;
+        while ((remaining = deadline - System.nanoTime()) > 0) {
+            LockSupport.parkNanos(remaining);
+        }
+    }
+}
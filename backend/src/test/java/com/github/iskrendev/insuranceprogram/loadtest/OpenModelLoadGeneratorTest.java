@@ -0,0 +1,71 @@
+package com.github.iskrendev.insuranceprogram.loadtest;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OpenModelLoadGeneratorTest {
+
+    @Test
+    void run_whenOperationsAreMixed_thenIssueRequestsAtConfiguredRateAndMix() throws Exception {
+        //GIVEN
+        Map<String, Integer> mix = new LinkedHashMap<>();
+        mix.put("fast", 3);
+        mix.put("failing", 1);
+        LoadProfile profile = new LoadProfile(400, Duration.ofMillis(100), Duration.ofSeconds(1), mix, 42);
+        OpenModelLoadGenerator generator = new OpenModelLoadGenerator(profile, Map.of(
+                "fast", random -> true,
+                "failing", random -> {
+                    throw new IllegalStateException("boom");
+                }));
+        //WHEN
+        LoadReport actual = generator.run();
+        //THEN
+        EndpointReport fast = actual.endpoint("fast").orElseThrow();
+        EndpointReport failing = actual.endpoint("failing").orElseThrow();
+        long total = fast.requests() + failing.requests();
+        assertTrue(total > 300 && total < 500, "total " + total);
+        assertTrue(fast.requests() > 2 * failing.requests(), fast.requests() + " vs " + failing.requests());
+        assertEquals(0, fast.errors());
+        assertEquals(failing.requests(), failing.errors());
+    }
+
+    @Test
+    void run_whenServerStalls_thenMeasureLatencyFromScheduledStart() throws Exception {
+        //GIVEN
+        AtomicInteger calls = new AtomicInteger();
+        LoadProfile profile = new LoadProfile(200, Duration.ZERO, Duration.ofMillis(500), Map.of("stalling", 1), 42);
+        ReentrantLock lock = new ReentrantLock();
+        OpenModelLoadGenerator generator = new OpenModelLoadGenerator(profile, Map.of(
+                "stalling", random -> {
+                    lock.lock();
+                    try {
+                        calls.incrementAndGet();
+                        Thread.sleep(10);
+                    } finally {
+                        lock.unlock();
+                    }
+                    return true;
+                }));
+        //WHEN
+        LoadReport actual = generator.run();
+        //THEN
+        EndpointReport stalling = actual.endpoint("stalling").orElseThrow();
+        assertEquals(calls.get(), stalling.requests());
+        assertTrue(stalling.p99() > 250, "p99 " + stalling.p99());
+    }
+
+    @Test
+    void constructor_whenMixNamesUnknownOperation_thenThrowIllegalArgumentException() {
+        //GIVEN
+        LoadProfile profile = new LoadProfile(10, Duration.ZERO, Duration.ofSeconds(1), Map.of("missing", 1), 42);
+        //WHEN & THEN
+        assertThrows(IllegalArgumentException.class, () -> new OpenModelLoadGenerator(profile, Map.of()));
+    }
+}
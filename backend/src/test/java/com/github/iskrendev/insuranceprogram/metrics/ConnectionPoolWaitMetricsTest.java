@@ -0,0 +1,61 @@
+package com.github.iskrendev.insuranceprogram.metrics;
+
+import com.mongodb.ServerAddress;
+import com.mongodb.connection.ClusterId;
+import com.mongodb.connection.ConnectionId;
+import com.mongodb.connection.ServerId;
+import com.mongodb.event.ConnectionCheckOutFailedEvent;
+import com.mongodb.event.ConnectionCheckOutStartedEvent;
+import com.mongodb.event.ConnectionCheckedOutEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConnectionPoolWaitMetricsTest {
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ConnectionPoolWaitMetrics connectionPoolWaitMetrics = new ConnectionPoolWaitMetrics(meterRegistry);
+    private final ServerId serverId = new ServerId(new ClusterId(), new ServerAddress("localhost", 27017));
+
+    private Timer timer(String outcome) {
+        return meterRegistry.find(ConnectionPoolWaitMetrics.METRIC_NAME)
+                .tags("server.address", "localhost:27017", "outcome", outcome)
+                .timer();
+    }
+
+    @Test
+    void connectionCheckedOut_whenCheckOutStarted_thenRecordWaitTime() {
+        //GIVEN
+        connectionPoolWaitMetrics.connectionCheckOutStarted(new ConnectionCheckOutStartedEvent(serverId));
+        //WHEN
+        connectionPoolWaitMetrics.connectionCheckedOut(new ConnectionCheckedOutEvent(new ConnectionId(serverId)));
+        //THEN
+        assertEquals(1, timer(ConnectionPoolWaitMetrics.SUCCESS).count());
+    }
+
+    @Test
+    void connectionCheckOutFailed_whenCheckOutTimesOut_thenRecordWaitTimeWithReason() {
+        //GIVEN
+        connectionPoolWaitMetrics.connectionCheckOutStarted(new ConnectionCheckOutStartedEvent(serverId));
+        //WHEN
+        connectionPoolWaitMetrics.connectionCheckOutFailed(
+                new ConnectionCheckOutFailedEvent(serverId, ConnectionCheckOutFailedEvent.Reason.TIMEOUT));
+        //THEN
+        assertEquals(1, timer("timeout").count());
+        assertNull(timer(ConnectionPoolWaitMetrics.SUCCESS));
+    }
+
+    @Test
+    void connectionCheckedOut_whenCheckOutStartedOnAnotherThread_thenRecordNothing() throws InterruptedException {
+        //GIVEN
+        Thread thread = Thread.ofVirtual().start(() ->
+                connectionPoolWaitMetrics.connectionCheckOutStarted(new ConnectionCheckOutStartedEvent(serverId)));
+        thread.join();
+        //WHEN
+        connectionPoolWaitMetrics.connectionCheckedOut(new ConnectionCheckedOutEvent(new ConnectionId(serverId)));
+        //THEN
+        assertNull(timer(ConnectionPoolWaitMetrics.SUCCESS));
+    }
+}
@@ -0,0 +1,98 @@
+package com.github.iskrendev.insuranceprogram.metrics;
+
+import com.github.iskrendev.insuranceprogram.enums.InsuranceType;
+import com.github.iskrendev.insuranceprogram.models.LifeInsurance;
+import com.github.iskrendev.insuranceprogram.repositories.LifeInsuranceRepo;
+import com.github.iskrendev.insuranceprogram.repositories.VehicleInsuranceRepo;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class InvocationMetricsTest {
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final LifeInsuranceRepo mockLifeInsuranceRepo = mock(LifeInsuranceRepo.class);
+    private final InvocationMetrics invocationMetrics = new InvocationMetrics("insurance.repository",
+            Map.of(LifeInsuranceRepo.class, "life_insurance"), meterRegistryProvider());
+    private final LifeInsuranceRepo instrumentedRepo = instrument(mockLifeInsuranceRepo);
+
+    private ObjectProvider<MeterRegistry> meterRegistryProvider() {
+        DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+        beanFactory.registerSingleton("meterRegistry", meterRegistry);
+        return beanFactory.getBeanProvider(MeterRegistry.class);
+    }
+
+    private LifeInsuranceRepo instrument(LifeInsuranceRepo target) {
+        ProxyFactory proxyFactory = new ProxyFactory(target);
+        proxyFactory.addInterface(LifeInsuranceRepo.class);
+        proxyFactory.addAdvice(invocationMetrics);
+        return (LifeInsuranceRepo) proxyFactory.getProxy();
+    }
+
+    private Timer timer(String operation, String outcome) {
+        return meterRegistry.find("insurance.repository.invocations")
+                .tags("collection", "life_insurance", "operation", operation, "outcome", outcome)
+                .timer();
+    }
+
+    @Test
+    void invoke_whenCallSucceeds_thenRecordLatencyAndResultSize() {
+        //GIVEN
+        LifeInsurance lifeInsurance = LifeInsurance.builder().id("1").type(InsuranceType.LIFE).build();
+        when(mockLifeInsuranceRepo.findByFamilyName("Doe")).thenReturn(List.of(lifeInsurance, lifeInsurance));
+        //WHEN
+        instrumentedRepo.findByFamilyName("Doe");
+        instrumentedRepo.findByFamilyName("Doe");
+        //THEN
+        assertEquals(2, timer("findByFamilyName", "success").count());
+        assertEquals(0, timer("findByFamilyName", "error").count());
+        DistributionSummary results = meterRegistry.find("insurance.repository.results")
+                .tags("collection", "life_insurance", "operation", "findByFamilyName")
+                .summary();
+        assertEquals(2, results.count());
+        assertEquals(4, results.totalAmount());
+    }
+
+    @Test
+    void invoke_whenResultIsOptional_thenRecordZeroOrOneDocument() {
+        //GIVEN
+        when(mockLifeInsuranceRepo.findById("1")).thenReturn(Optional.of(LifeInsurance.builder().id("1").build()));
+        when(mockLifeInsuranceRepo.findById("2")).thenReturn(Optional.empty());
+        //WHEN
+        instrumentedRepo.findById("1");
+        instrumentedRepo.findById("2");
+        //THEN
+        DistributionSummary results = meterRegistry.find("insurance.repository.results").tag("operation", "findById").summary();
+        assertEquals(2, results.count());
+        assertEquals(1, results.totalAmount());
+    }
+
+    @Test
+    void invoke_whenCallThrows_thenRecordErrorOutcomeAndRethrow() {
+        //GIVEN
+        when(mockLifeInsuranceRepo.count()).thenThrow(new IllegalStateException("down"));
+        //WHEN
+        assertThrows(IllegalStateException.class, instrumentedRepo::count);
+        //THEN
+        assertEquals(1, timer("count", "error").count());
+        assertEquals(0, timer("count", "success").count());
+        assertNull(meterRegistry.find("insurance.repository.results").tag("operation", "count").summary());
+    }
+
+    @Test
+    void isInstrumented_whenClassIsNotConfigured_thenReturnFalse() {
+        assertTrue(invocationMetrics.isInstrumented(mockLifeInsuranceRepo.getClass()));
+        assertFalse(invocationMetrics.isInstrumented(mock(VehicleInsuranceRepo.class).getClass()));
+    }
+}
@@ -0,0 +1,42 @@
+package com.github.iskrendev.insuranceprogram.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ProcessMemoryMetricsTest {
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void bindTo_whenProcessStatusIsReadable_thenReportRssInBytes(@TempDir Path dir) throws Exception {
+        //GIVEN
+        Path status = dir.resolve("status");
+        Files.write(status, List.of("Name:\tjava", "VmHWM:\t  204800 kB", "VmRSS:\t  102400 kB", "Threads:\t42"));
+        //WHEN
+        new ProcessMemoryMetrics(status).bindTo(meterRegistry);
+        //THEN
+        assertEquals(100 * 1024 * 1024, meterRegistry.get(ProcessMemoryMetrics.RSS).gauge().value());
+        assertEquals(200 * 1024 * 1024, meterRegistry.get(ProcessMemoryMetrics.PEAK_RSS).gauge().value());
+    }
+
+    @Test
+    void bindTo_whenProcessStatusIsMissing_thenRegisterNoGauges(@TempDir Path dir) {
+        //WHEN
+        new ProcessMemoryMetrics(dir.resolve("status")).bindTo(meterRegistry);
+        //THEN
+        assertNull(meterRegistry.find(ProcessMemoryMetrics.RSS).gauge());
+    }
+
+    @Test
+    void kilobytes_whenKeyIsMissing_thenThrowIllegalArgumentException() {
+        //WHEN & THEN
+        assertThrows(IllegalArgumentException.class, () -> ProcessMemoryMetrics.kilobytes(List.of("Name:\tjava"), "VmRSS:"));
+    }
+}
@@ -0,0 +1,60 @@
+package com.github.iskrendev.insuranceprogram.metrics;
+
+import org.bson.BsonDocument;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class QueryShapeTest {
+
+    @Test
+    void of_whenFindHasLiterals_thenReplaceLiteralsAndKeepStructure() {
+        //GIVEN
+        BsonDocument command = BsonDocument.parse("""
+                {"find": "life_insurance",
+                 "filter": {"familyName": "Müller", "$or": [{"zipCode": {"$in": ["10115", "10117"]}}, {"duration": {"$gt": 12}}]},
+                 "sort": {"familyName": 1, "_id": 1},
+                 "limit": 21, "batchSize": 500, "maxTimeMS": 2000}""");
+        //WHEN
+        String actual = QueryShape.of(command);
+        //THEN
+        assertEquals(BsonDocument.parse("""
+                {"find": "life_insurance",
+                 "filter": {"familyName": "?", "$or": [{"zipCode": {"$in": ["?"]}}, {"duration": {"$gt": "?"}}]},
+                 "sort": {"familyName": 1, "_id": 1},
+                 "limit": "?"}""").toJson(), actual);
+    }
+
+    @Test
+    void of_whenSameQueryWithDifferentValues_thenReturnSameShape() {
+        //GIVEN
+        BsonDocument first = BsonDocument.parse("{\"find\": \"vehicle_insurance\", \"filter\": {\"firstName\": \"Anna\"}}");
+        BsonDocument second = BsonDocument.parse("{\"find\": \"vehicle_insurance\", \"filter\": {\"firstName\": \"Ben\"}}");
+        //WHEN & THEN
+        assertEquals(QueryShape.of(first), QueryShape.of(second));
+    }
+
+    @Test
+    void of_whenUpdateCommand_thenNormalizeQueryAndUpdateDocuments() {
+        //GIVEN
+        BsonDocument command = BsonDocument.parse("""
+                {"update": "portfolio_summary",
+                 "updates": [{"q": {"_id": "portfolio"}, "u": {"$inc": {"counts.LIFE": 1}}, "upsert": true}]}""");
+        //WHEN
+        String actual = QueryShape.of(command);
+        //THEN
+        assertEquals(BsonDocument.parse("""
+                {"update": "portfolio_summary",
+                 "updates": [{"q": {"_id": "?"}, "u": {"$inc": {"counts.LIFE": "?"}}, "upsert": "?"}]}""").toJson(), actual);
+    }
+
+    @Test
+    void of_whenGetMore_thenKeepCollectionAndHideCursorId() {
+        //GIVEN
+        BsonDocument command = BsonDocument.parse("{\"getMore\": {\"$numberLong\": \"123456789\"}, \"collection\": \"life_insurance\", \"batchSize\": 500}");
+        //WHEN
+        String actual = QueryShape.of(command);
+        //THEN
+        assertEquals(BsonDocument.parse("{\"getMore\": \"?\", \"collection\": \"life_insurance\"}").toJson(), actual);
+    }
+}
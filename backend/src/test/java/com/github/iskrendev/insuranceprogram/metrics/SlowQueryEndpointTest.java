@@ -0,0 +1,84 @@
+package com.github.iskrendev.insuranceprogram.metrics;
+
+import com.github.iskrendev.insuranceprogram.config.SlowQueryProperties;
+import com.github.iskrendev.insuranceprogram.models.ExplainSummary;
+import com.github.iskrendev.insuranceprogram.models.SlowQuery;
+import com.mongodb.ServerAddress;
+import com.mongodb.client.MongoDatabase;
+import com.mongodb.connection.ClusterId;
+import com.mongodb.connection.ConnectionDescription;
+import com.mongodb.connection.ServerId;
+import com.mongodb.event.CommandStartedEvent;
+import com.mongodb.event.CommandSucceededEvent;
+import org.bson.BsonDocument;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mongodb.MongoDatabaseFactory;
+import org.springframework.data.mongodb.core.MongoTemplate;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class SlowQueryEndpointTest {
+    private static final String COLLSCAN_EXPLAIN = """
+            {"queryPlanner": {"winningPlan": {"queryPlan": {"stage": "COLLSCAN", "filter": {"city": {"$regex": "^Berlin$"}}}}}}""";
+    private static final String IXSCAN_EXPLAIN = """
+            {"queryPlanner": {"winningPlan": {"stage": "FETCH", "inputStage": {"stage": "IXSCAN",
+             "indexName": "familyName_firstName_id_ci", "indexBounds": {"familyName": ["[\\"doe\\", \\"doe\\"]"]}}}}}""";
+
+    private final MongoTemplate mockMongoTemplate = mock(MongoTemplate.class);
+    private final MongoDatabaseFactory mockMongoDatabaseFactory = mock(MongoDatabaseFactory.class);
+    private final MongoDatabase mockMongoDatabase = mock(MongoDatabase.class);
+    private final SlowQueryRecorder slowQueryRecorder = new SlowQueryRecorder(new SlowQueryProperties(true, Duration.ZERO, 10));
+    private final SlowQueryEndpoint slowQueryEndpoint = new SlowQueryEndpoint(slowQueryRecorder, mockMongoTemplate);
+
+    @Test
+    void summarize_whenPlanScansCollection_thenReportCollectionScanAndRedactLiterals() {
+        //WHEN
+        ExplainSummary actual = SlowQueryEndpoint.summarize(BsonDocument.parse(COLLSCAN_EXPLAIN));
+        //THEN
+        assertTrue(actual.collectionScan());
+        assertEquals(List.of("COLLSCAN"), actual.stages());
+        assertEquals(List.of(), actual.indexes());
+        assertFalse(actual.winningPlan().contains("Berlin"), actual.winningPlan());
+    }
+
+    @Test
+    void summarize_whenPlanUsesIndex_thenReportStagesAndIndexes() {
+        //WHEN
+        ExplainSummary actual = SlowQueryEndpoint.summarize(BsonDocument.parse(IXSCAN_EXPLAIN));
+        //THEN
+        assertFalse(actual.collectionScan());
+        assertEquals(List.of("FETCH", "IXSCAN"), actual.stages());
+        assertEquals(List.of("familyName_firstName_id_ci"), actual.indexes());
+        assertFalse(actual.winningPlan().contains("doe"), actual.winningPlan());
+    }
+
+    @Test
+    void slowQuery_whenRequestedTwice_thenExplainOnceWithQueryPlannerVerbosity() {
+        //GIVEN
+        ConnectionDescription connection = new ConnectionDescription(new ServerId(new ClusterId(), new ServerAddress()));
+        BsonDocument command = BsonDocument.parse("{\"find\": \"life_insurance\", \"filter\": {\"city\": \"Berlin\"}}");
+        slowQueryRecorder.commandStarted(new CommandStartedEvent(null, 1, connection, "insurance", "find", command));
+        slowQueryRecorder.commandSucceeded(new CommandSucceededEvent(null, 1, connection, "find", new BsonDocument(), 1));
+        long id = slowQueryRecorder.getSlowQueries().get(0).id();
+        when(mockMongoTemplate.getMongoDatabaseFactory()).thenReturn(mockMongoDatabaseFactory);
+        when(mockMongoDatabaseFactory.getMongoDatabase("insurance")).thenReturn(mockMongoDatabase);
+        when(mockMongoDatabase.runCommand(any(BsonDocument.class), eq(BsonDocument.class))).thenReturn(BsonDocument.parse(COLLSCAN_EXPLAIN));
+        //WHEN
+        slowQueryEndpoint.slowQuery(id);
+        SlowQuery actual = slowQueryEndpoint.slowQuery(id);
+        //THEN
+        assertTrue(actual.explain().collectionScan());
+        verify(mockMongoDatabase, times(1)).runCommand(
+                BsonDocument.parse("{\"explain\": {\"find\": \"life_insurance\", \"filter\": {\"city\": \"Berlin\"}}, \"verbosity\": \"queryPlanner\"}"),
+                BsonDocument.class);
+    }
+
+    @Test
+    void slowQuery_whenIdIsUnknown_thenReturnNull() {
+        assertNull(slowQueryEndpoint.slowQuery(42));
+    }
+}
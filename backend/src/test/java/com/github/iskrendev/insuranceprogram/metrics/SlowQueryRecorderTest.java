@@ -0,0 +1,125 @@
+package com.github.iskrendev.insuranceprogram.metrics;
+
+import com.github.iskrendev.insuranceprogram.config.SlowQueryProperties;
+import com.github.iskrendev.insuranceprogram.models.SlowQuery;
+import com.mongodb.MongoException;
+import com.mongodb.ServerAddress;
+import com.mongodb.connection.ClusterId;
+import com.mongodb.connection.ConnectionDescription;
+import com.mongodb.connection.ServerId;
+import com.mongodb.event.CommandFailedEvent;
+import com.mongodb.event.CommandStartedEvent;
+import com.mongodb.event.CommandSucceededEvent;
+import org.bson.BsonDocument;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SlowQueryRecorderTest {
+    private static final ConnectionDescription CONNECTION = new ConnectionDescription(new ServerId(new ClusterId(), new ServerAddress()));
+    private static final long SLOW = TimeUnit.MILLISECONDS.toNanos(150);
+    private static final long FAST = TimeUnit.MILLISECONDS.toNanos(5);
+
+    private final SlowQueryRecorder slowQueryRecorder = new SlowQueryRecorder(new SlowQueryProperties(true, Duration.ofMillis(100), 2));
+    private int requestId;
+
+    private void run(String commandName, String command, long elapsedNanos) {
+        requestId++;
+        slowQueryRecorder.commandStarted(new CommandStartedEvent(null, requestId, CONNECTION, "insurance", commandName, BsonDocument.parse(command)));
+        slowQueryRecorder.commandSucceeded(new CommandSucceededEvent(null, requestId, CONNECTION, commandName, new BsonDocument(), elapsedNanos));
+    }
+
+    @Test
+    void commandSucceeded_whenFasterThanThreshold_thenDoNotRecord() {
+        //WHEN
+        run("find", "{\"find\": \"life_insurance\", \"filter\": {\"familyName\": \"Doe\"}}", FAST);
+        //THEN
+        assertEquals(List.of(), slowQueryRecorder.getSlowQueries());
+    }
+
+    @Test
+    void commandSucceeded_whenSlowerThanThreshold_thenRecordShapeWithoutSessionMetadata() {
+        //WHEN
+        run("find", "{\"find\": \"life_insurance\", \"filter\": {\"familyName\": \"Doe\"}, \"$db\": \"insurance\", \"lsid\": {\"id\": 1}}", SLOW);
+        //THEN
+        List<SlowQuery> actual = slowQueryRecorder.getSlowQueries();
+        assertEquals(1, actual.size());
+        assertEquals("insurance", actual.get(0).database());
+        assertEquals("life_insurance", actual.get(0).collection());
+        assertEquals("find", actual.get(0).command());
+        assertEquals(150.0, actual.get(0).durationMillis());
+        assertEquals("{\"find\": \"life_insurance\", \"filter\": {\"familyName\": \"?\"}}", actual.get(0).shape());
+        assertEquals(BsonDocument.parse("{\"find\": \"life_insurance\", \"filter\": {\"familyName\": \"Doe\"}}"),
+                slowQueryRecorder.find(actual.get(0).id()).orElseThrow().command());
+    }
+
+    @Test
+    void commandFailed_whenSlowerThanThreshold_thenRecordFailureWithoutItsMessage() {
+        //GIVEN
+        slowQueryRecorder.commandStarted(new CommandStartedEvent(null, 1, CONNECTION, "insurance", "aggregate",
+                BsonDocument.parse("{\"aggregate\": \"vehicle_insurance\", \"pipeline\": [{\"$match\": {\"city\": \"Berlin\"}}]}")));
+        //WHEN
+        slowQueryRecorder.commandFailed(new CommandFailedEvent(null, 1, CONNECTION, "aggregate", SLOW,
+                new MongoException(11000, "E11000 duplicate key error dup key: { email: \"doe@example.com\" }")));
+        //THEN
+        SlowQuery actual = slowQueryRecorder.getSlowQueries().get(0);
+        assertEquals("MongoException 11000", actual.failure());
+        assertEquals("{\"aggregate\": \"vehicle_insurance\", \"pipeline\": [{\"$match\": {\"city\": \"?\"}}]}", actual.shape());
+    }
+
+    @Test
+    void commandSucceeded_whenBufferIsFull_thenEvictOldestAndListNewestFirst() {
+        //WHEN
+        run("find", "{\"find\": \"life_insurance\"}", SLOW);
+        run("find", "{\"find\": \"property_insurance\"}", SLOW);
+        run("find", "{\"find\": \"vehicle_insurance\"}", SLOW);
+        //THEN
+        assertEquals(List.of("vehicle_insurance", "property_insurance"),
+                slowQueryRecorder.getSlowQueries().stream().map(SlowQuery::collection).toList());
+    }
+
+    @Test
+    void commandSucceeded_whenCommandIsNotADataCommand_thenIgnoreIt() {
+        //WHEN
+        run("hello", "{\"hello\": 1}", SLOW);
+        //THEN
+        assertEquals(List.of(), slowQueryRecorder.getSlowQueries());
+    }
+
+    @Test
+    void commandSucceeded_whenInsertIsSlow_thenDoNotKeepInsertedDocuments() {
+        //WHEN
+        run("insert", "{\"insert\": \"life_insurance\", \"documents\": [{\"familyName\": \"Doe\"}]}", SLOW);
+        //THEN
+        SlowQuery actual = slowQueryRecorder.getSlowQueries().get(0);
+        assertEquals("{\"insert\": \"life_insurance\"}", actual.shape());
+        assertFalse(slowQueryRecorder.find(actual.id()).orElseThrow().command().containsKey("documents"));
+    }
+
+    @Test
+    void commandSucceeded_whenUpdateIsSlow_thenKeepFiltersButNotUpdateDocuments() {
+        //WHEN
+        run("update", "{\"update\": \"life_insurance\", \"updates\": [{\"q\": {\"_id\": \"1\"}, \"u\": {\"familyName\": \"Doe\"}, \"upsert\": true}]}", SLOW);
+        run("findAndModify", "{\"findAndModify\": \"life_insurance\", \"query\": {\"_id\": \"1\"}, \"update\": {\"$set\": {\"city\": \"Berlin\"}}}", SLOW);
+        //THEN
+        List<SlowQuery> actual = slowQueryRecorder.getSlowQueries();
+        assertEquals(BsonDocument.parse("{\"findAndModify\": \"life_insurance\", \"query\": {\"_id\": \"1\"}, \"update\": {}}"),
+                slowQueryRecorder.find(actual.get(0).id()).orElseThrow().command());
+        assertEquals(BsonDocument.parse("{\"update\": \"life_insurance\", \"updates\": [{\"q\": {\"_id\": \"1\"}, \"u\": {}, \"upsert\": true}]}"),
+                slowQueryRecorder.find(actual.get(1).id()).orElseThrow().command());
+    }
+
+    @Test
+    void clear_whenQueriesRecorded_thenRemoveAll() {
+        //GIVEN
+        run("find", "{\"find\": \"life_insurance\"}", SLOW);
+        //WHEN
+        slowQueryRecorder.clear();
+        //THEN
+        assertEquals(List.of(), slowQueryRecorder.getSlowQueries());
+    }
+}
@@ -0,0 +1,54 @@
+package com.github.iskrendev.insuranceprogram.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.info.BuildProperties;
+
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class StartupMetricsTest {
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AtomicLong uptimeMillis = new AtomicLong(4200);
+
+    @SuppressWarnings("unchecked")
+    private ObjectProvider<BuildProperties> buildProperties(String version) {
+        ObjectProvider<BuildProperties> provider = mock(ObjectProvider.class);
+        if (version != null) {
+            Properties properties = new Properties();
+            properties.setProperty("version", version);
+            when(provider.getIfAvailable()).thenReturn(new BuildProperties(properties));
+        }
+        return provider;
+    }
+
+    @Test
+    void requestHandled_whenFirstRequest_thenRecordUptimeTaggedWithVersion() {
+        //GIVEN
+        StartupMetrics startupMetrics = new StartupMetrics(meterRegistry, buildProperties("1.2.0"), uptimeMillis::get);
+        //WHEN
+        startupMetrics.requestHandled();
+        uptimeMillis.set(9000);
+        startupMetrics.requestHandled();
+        //THEN
+        TimeGauge gauge = meterRegistry.get(StartupMetrics.FIRST_REQUEST_TIME).tag("version", "1.2.0").timeGauge();
+        assertEquals(4200, gauge.value(TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    void requestHandled_whenNoBuildInfo_thenTagUnknownVersion() {
+        //GIVEN
+        StartupMetrics startupMetrics = new StartupMetrics(meterRegistry, buildProperties(null), uptimeMillis::get);
+        //WHEN
+        startupMetrics.requestHandled();
+        //THEN
+        assertNotNull(meterRegistry.find(StartupMetrics.FIRST_REQUEST_TIME).tag("version", StartupMetrics.UNKNOWN_VERSION).timeGauge());
+    }
+}
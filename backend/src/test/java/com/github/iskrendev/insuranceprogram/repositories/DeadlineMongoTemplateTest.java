@@ -0,0 +1,81 @@
+package com.github.iskrendev.insuranceprogram.repositories;
+
+import com.mongodb.MongoExecutionTimeoutException;
+import com.mongodb.ReadPreference;
+import com.mongodb.client.FindIterable;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.model.CountOptions;
+import org.bson.Document;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.longThat;
+import static org.mockito.Mockito.*;
+
+class DeadlineMongoTemplateTest {
+    @SuppressWarnings("unchecked")
+    private final MongoCollection<Document> collection = mock(MongoCollection.class);
+    @SuppressWarnings("unchecked")
+    private final FindIterable<Document> findIterable = mock(FindIterable.class);
+
+    @Test
+    void find_whenDeadlineIsBound_thenSendRemainingTimeAsMaxTime() {
+        //GIVEN
+        Document filter = new Document("firstName", "Anna");
+        when(collection.find(filter)).thenReturn(findIterable);
+        MongoCollection<Document> bounded = DeadlineMongoTemplate.withDeadline(collection,
+                QueryDeadline.start("search", Duration.ofSeconds(2)));
+        //WHEN
+        bounded.find(filter);
+        //THEN
+        verify(findIterable).maxTime(longThat(millis -> millis > 0 && millis <= 2000), eq(TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    void countDocuments_whenOptionsAllowMoreTime_thenLowerMaxTimeToDeadline() {
+        //GIVEN
+        Document filter = new Document();
+        CountOptions options = new CountOptions().maxTime(1, TimeUnit.MINUTES);
+        MongoCollection<Document> bounded = DeadlineMongoTemplate.withDeadline(collection,
+                QueryDeadline.start("summary", Duration.ofSeconds(2)));
+        //WHEN
+        bounded.countDocuments(filter, options);
+        //THEN
+        long maxTime = options.getMaxTime(TimeUnit.MILLISECONDS);
+        assertTrue(maxTime > 0 && maxTime <= 2000);
+        verify(collection).countDocuments(filter, options);
+    }
+
+    @Test
+    void find_whenDeadlineHasExpired_thenFailWithoutQuerying() {
+        //GIVEN
+        MongoCollection<Document> bounded = DeadlineMongoTemplate.withDeadline(collection,
+                QueryDeadline.start("search", Duration.ZERO));
+        //WHEN & THEN
+        MongoExecutionTimeoutException exception = assertThrows(MongoExecutionTimeoutException.class,
+                () -> bounded.find(new Document()));
+        assertEquals(QueryDeadline.MAX_TIME_MS_EXPIRED, exception.getCode());
+        verify(collection, never()).find(any(Document.class));
+    }
+
+    @Test
+    void withReadPreference_whenDeadlineIsBound_thenKeepDeadlineOnDerivedCollection() {
+        //GIVEN
+        @SuppressWarnings("unchecked")
+        MongoCollection<Document> secondary = mock(MongoCollection.class);
+        when(collection.withReadPreference(ReadPreference.secondary())).thenReturn(secondary);
+        when(secondary.find()).thenReturn(findIterable);
+        MongoCollection<Document> bounded = DeadlineMongoTemplate.withDeadline(collection,
+                QueryDeadline.start("export", Duration.ofSeconds(2)));
+        //WHEN
+        bounded.withReadPreference(ReadPreference.secondary()).find();
+        //THEN
+        verify(findIterable).maxTime(anyLong(), eq(TimeUnit.MILLISECONDS));
+    }
+}
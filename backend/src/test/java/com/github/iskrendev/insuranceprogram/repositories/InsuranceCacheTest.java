@@ -0,0 +1,83 @@
+package com.github.iskrendev.insuranceprogram.repositories;
+
+import com.github.iskrendev.insuranceprogram.config.CacheConfig;
+import com.github.iskrendev.insuranceprogram.enums.InsuranceType;
+import com.github.iskrendev.insuranceprogram.exceptions.NoSuchInsuranceException;
+import com.github.iskrendev.insuranceprogram.models.LifeInsurance;
+import com.github.iskrendev.insuranceprogram.models.LifeInsuranceUpdateDTO;
+import com.github.iskrendev.insuranceprogram.services.LifeInsuranceService;
+import org.bson.Document;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.mongodb.core.MongoTemplate;
+
+import java.math.BigDecimal;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+class InsuranceCacheTest {
+    @Autowired
+    private MongoTemplate mongoTemplate;
+    @Autowired
+    private CacheManager cacheManager;
+    @Autowired
+    private LifeInsuranceRepo lifeInsuranceRepo;
+    @Autowired
+    private LifeInsuranceService lifeInsuranceService;
+
+    private LifeInsurance lifeInsurance;
+
+    @BeforeEach
+    void setUp() {
+        lifeInsuranceRepo.deleteAll();
+        lifeInsurance = lifeInsuranceService.addLifeInsurance(LifeInsurance.builder()
+                .firstName("TestFirstName")
+                .familyName("TestFamilyName")
+                .type(InsuranceType.LIFE)
+                .duration(12)
+                .paymentPerMonth(BigDecimal.valueOf(100))
+                .build());
+    }
+
+    @Test
+    void getLifeInsuranceById_whenCached_thenDoNotReadCollectionAgain() {
+        lifeInsuranceService.getLifeInsuranceById(lifeInsurance.id());
+        mongoTemplate.getCollection("life_insurance").updateOne(
+                new Document("firstName", "TestFirstName"),
+                new Document("$set", new Document("city", "ChangedBehindTheCache")));
+
+        assertNull(lifeInsuranceService.getLifeInsuranceById(lifeInsurance.id()).city());
+    }
+
+    @Test
+    void updateLifeInsurance_whenCached_thenCacheHoldsUpdatedInsurance() {
+        lifeInsuranceService.getLifeInsuranceById(lifeInsurance.id());
+        LifeInsuranceUpdateDTO update = LifeInsuranceUpdateDTO.builder()
+                .firstName("NewFirstName")
+                .familyName("TestFamilyName")
+                .duration(24)
+                .paymentPerMonth(BigDecimal.valueOf(50))
+                .build();
+
+        lifeInsuranceService.updateLifeInsurance(lifeInsurance.id(), update);
+
+        LifeInsurance cached = cacheManager.getCache(CacheConfig.LIFE_INSURANCES).get(lifeInsurance.id(), LifeInsurance.class);
+        assertNotNull(cached);
+        assertEquals("NewFirstName", cached.firstName());
+        assertEquals("NewFirstName", lifeInsuranceService.getLifeInsuranceById(lifeInsurance.id()).firstName());
+    }
+
+    @Test
+    void deleteLifeInsurance_whenCached_thenEvictInsurance() {
+        lifeInsuranceService.getLifeInsuranceById(lifeInsurance.id());
+
+        lifeInsuranceService.deleteLifeInsurance(lifeInsurance.id());
+
+        assertNull(cacheManager.getCache(CacheConfig.LIFE_INSURANCES).get(lifeInsurance.id()));
+        assertThrows(NoSuchInsuranceException.class, () -> lifeInsuranceService.getLifeInsuranceById(lifeInsurance.id()));
+    }
+}
@@ -0,0 +1,116 @@
+package com.github.iskrendev.insuranceprogram.repositories;
+
+import com.github.iskrendev.insuranceprogram.enums.InsuranceType;
+import com.github.iskrendev.insuranceprogram.models.LifeInsurance;
+import com.github.iskrendev.insuranceprogram.models.PropertyInsurance;
+import com.github.iskrendev.insuranceprogram.models.VehicleInsurance;
+import org.bson.Document;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.mongodb.core.MongoTemplate;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+class InsuranceNameIndexTest {
+    @Autowired
+    private MongoTemplate mongoTemplate;
+    @Autowired
+    private LifeInsuranceRepo lifeInsuranceRepo;
+    @Autowired
+    private PropertyInsuranceRepo propertyInsuranceRepo;
+    @Autowired
+    private VehicleInsuranceRepo vehicleInsuranceRepo;
+
+    @BeforeEach
+    void setUp() {
+        lifeInsuranceRepo.deleteAll();
+        propertyInsuranceRepo.deleteAll();
+        vehicleInsuranceRepo.deleteAll();
+        for (int i = 0; i < 20; i++) {
+            lifeInsuranceRepo.save(LifeInsurance.builder().firstName("First" + i).familyName("Family" + i).type(InsuranceType.LIFE).build());
+            propertyInsuranceRepo.save(PropertyInsurance.builder().firstName("First" + i).familyName("Family" + i).type(InsuranceType.PROPERTY).build());
+            vehicleInsuranceRepo.save(VehicleInsurance.builder().firstName("First" + i).familyName("Family" + i).type(InsuranceType.VEHICLE).build());
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"life_insurance", "property_insurance", "vehicle_insurance"})
+    void nameSearch_whenSearchingByFirstName_thenUseIndexScan(String collection) {
+        assertIndexScan(explain(collection, new Document("firstName", "first7")));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"life_insurance", "property_insurance", "vehicle_insurance"})
+    void nameSearch_whenSearchingByFamilyName_thenUseIndexScan(String collection) {
+        assertIndexScan(explain(collection, new Document("familyName", "FAMILY7")));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"life_insurance", "property_insurance", "vehicle_insurance"})
+    void nameSearch_whenSearchingByBothNames_thenUseIndexScan(String collection) {
+        assertIndexScan(explain(collection, new Document("firstName", "First7").append("familyName", "family7")));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"life_insurance", "property_insurance", "vehicle_insurance"})
+    void keysetPage_whenSortingByNameAndId_thenUseIndexWithoutInMemorySort(String collection) {
+        Document explain = mongoTemplate.getCollection(collection)
+                .find(new Document("familyName", new Document("$gte", "family3")))
+                .sort(new Document("familyName", 1).append("firstName", 1).append("_id", 1))
+                .limit(5)
+                .collation(NameCollation.collation().toMongoCollation())
+                .explain();
+        assertIndexScan(explain);
+        String winningPlan = explain.get("queryPlanner", Document.class).get("winningPlan", Document.class).toJson();
+        assertFalse(winningPlan.contains("\"SORT\""), winningPlan);
+    }
+
+    @Test
+    void findByFirstNameAndFamilyName_whenCaseDiffers_thenMatchCaseInsensitively() {
+        List<LifeInsurance> actual = lifeInsuranceRepo.findByFirstNameAndFamilyName("FIRST7", "family7");
+        assertEquals(1, actual.size());
+        assertEquals("First7", actual.get(0).firstName());
+    }
+
+    @Test
+    void findByFamilyName_whenOnlyPrefixMatches_thenReturnNothing() {
+        assertTrue(vehicleInsuranceRepo.findByFamilyName("Family").isEmpty());
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"life_insurance", "property_insurance", "vehicle_insurance"})
+    void fuzzySearch_whenSearchingByPhoneticKeys_thenUseIndexScan(String collection) {
+        Document explain = mongoTemplate.getCollection(collection)
+                .find(new Document(PhoneticKeys.FAMILY_NAME, PhoneticKeys.of("Family7")))
+                .explain();
+        assertIndexScan(explain);
+    }
+
+    @Test
+    void save_whenNamesAreSet_thenStorePhoneticKeys() {
+        Document stored = mongoTemplate.getCollection("life_insurance").find(new Document("firstName", "First7")).first();
+        assertNotNull(stored);
+        assertEquals(PhoneticKeys.of("First7"), stored.getString(PhoneticKeys.FIRST_NAME));
+        assertEquals(PhoneticKeys.of("Family7"), stored.getString(PhoneticKeys.FAMILY_NAME));
+    }
+
+    private Document explain(String collection, Document filter) {
+        return mongoTemplate.getCollection(collection)
+                .find(filter)
+                .collation(NameCollation.collation().toMongoCollation())
+                .explain();
+    }
+
+    private static void assertIndexScan(Document explain) {
+        String winningPlan = explain.get("queryPlanner", Document.class).get("winningPlan", Document.class).toJson();
+        assertTrue(winningPlan.contains("IXSCAN"), winningPlan);
+        assertFalse(winningPlan.contains("COLLSCAN"), winningPlan);
+    }
+}
@@ -0,0 +1,36 @@
+package com.github.iskrendev.insuranceprogram.repositories;
+
+import com.github.iskrendev.insuranceprogram.enums.InsuranceType;
+import com.github.iskrendev.insuranceprogram.models.LifeInsurance;
+import org.bson.Document;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PhoneticKeyCallbackTest {
+    private final PhoneticKeyCallback phoneticKeyCallback = new PhoneticKeyCallback();
+
+    @Test
+    void onBeforeSave_whenNamesAreSet_thenAddTheirPhoneticKeys() {
+        //GIVEN
+        LifeInsurance lifeInsurance = LifeInsurance.builder().firstName("Anna").familyName("Meyer").type(InsuranceType.LIFE).build();
+        Document document = new Document("firstName", "Anna").append("familyName", "Meyer");
+        //WHEN
+        phoneticKeyCallback.onBeforeSave(lifeInsurance, document, "life_insurance");
+        //THEN
+        assertEquals("06", document.getString(PhoneticKeys.FIRST_NAME));
+        assertEquals("67", document.getString(PhoneticKeys.FAMILY_NAME));
+    }
+
+    @Test
+    void onBeforeSave_whenNameIsMissing_thenStoreNoKeyForIt() {
+        //GIVEN
+        LifeInsurance lifeInsurance = LifeInsurance.builder().familyName("Maier").type(InsuranceType.LIFE).build();
+        Document document = new Document("familyName", "Maier");
+        //WHEN
+        phoneticKeyCallback.onBeforeSave(lifeInsurance, document, "life_insurance");
+        //THEN
+        assertFalse(document.containsKey(PhoneticKeys.FIRST_NAME));
+        assertEquals(PhoneticKeys.of("Meier"), document.getString(PhoneticKeys.FAMILY_NAME));
+    }
+}
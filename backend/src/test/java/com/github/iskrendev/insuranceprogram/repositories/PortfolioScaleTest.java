@@ -0,0 +1,108 @@
+package com.github.iskrendev.insuranceprogram.repositories;
+
+import com.github.iskrendev.insuranceprogram.enums.InsuranceType;
+import com.github.iskrendev.insuranceprogram.models.InsurancePage;
+import com.github.iskrendev.insuranceprogram.models.LifeInsurance;
+import com.github.iskrendev.insuranceprogram.models.PortfolioSummary;
+import com.github.iskrendev.insuranceprogram.models.VehicleInsurance;
+import com.github.iskrendev.insuranceprogram.services.InsurancePaginationService;
+import com.github.iskrendev.insuranceprogram.services.InsuranceSearchService;
+import com.github.iskrendev.insuranceprogram.services.PortfolioCounterService;
+import com.github.iskrendev.insuranceprogram.testdata.PortfolioGenerator;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.test.annotation.DirtiesContext;
+
+import java.math.BigDecimal;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Loads a generated portfolio into the embedded MongoDB. Excluded from the default build, run with {@code mvn test
+ * -Pscale}; the number of documents per type can be set with {@code -Dportfolio.scale.documents}.
+ */
+@Tag("scale")
+@SpringBootTest
+@DirtiesContext
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class PortfolioScaleTest {
+    private static final long DOCUMENTS_PER_TYPE = Long.getLong("portfolio.scale.documents", 100_000L);
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+    @Autowired
+    private PortfolioCounterService portfolioCounterService;
+    @Autowired
+    private InsuranceSearchService insuranceSearchService;
+    @Autowired
+    private InsurancePaginationService insurancePaginationService;
+
+    private final PortfolioGenerator generator = new PortfolioGenerator(42);
+
+    @BeforeAll
+    void loadPortfolio() {
+        for (InsuranceType type : InsuranceType.values()) {
+            mongoTemplate.remove(new Query(), PortfolioGenerator.entityClass(type));
+            generator.insert(mongoTemplate, type, DOCUMENTS_PER_TYPE);
+        }
+        portfolioCounterService.rebuild();
+    }
+
+    @Test
+    void rebuild_whenPortfolioIsLoaded_thenCountersMatchGeneratedDocuments() {
+        //WHEN
+        PortfolioSummary actual = portfolioCounterService.getSummary();
+        //THEN
+        for (InsuranceType type : InsuranceType.values()) {
+            assertEquals(DOCUMENTS_PER_TYPE, actual.count(type));
+        }
+        assertEquals(generator.lifeInsurances(DOCUMENTS_PER_TYPE)
+                        .map(LifeInsurance::calculateInsuranceAmount)
+                        .reduce(BigDecimal.ZERO, BigDecimal::add),
+                actual.amount(InsuranceType.LIFE));
+    }
+
+    @Test
+    void searchLifeInsuranceByName_whenSearchingMostFrequentFamilyName_thenFindAllMatches() {
+        //GIVEN
+        String familyName = PortfolioGenerator.familyNameAtRank(0);
+        long expected = generator.lifeInsurances(DOCUMENTS_PER_TYPE)
+                .filter(lifeInsurance -> lifeInsurance.familyName().equals(familyName))
+                .count();
+        //WHEN
+        List<LifeInsurance> actual = insuranceSearchService.searchLifeInsuranceByName(null, familyName.toUpperCase(Locale.GERMAN));
+        //THEN
+        assertEquals(expected, actual.size());
+    }
+
+    @Test
+    void findPage_whenPagingThroughPortfolio_thenReturnEachDocumentOnce() {
+        //GIVEN
+        Set<String> ids = new HashSet<>();
+        long documents = 0;
+        long pages = 0;
+        String pageToken = null;
+        //WHEN
+        do {
+            InsurancePage<VehicleInsurance> page = insurancePaginationService.findPage(VehicleInsurance.class,
+                    InsurancePaginationService.MAX_PAGE_SIZE, pageToken, false);
+            documents += page.items().size();
+            page.items().forEach(vehicleInsurance -> ids.add(vehicleInsurance.id()));
+            pageToken = page.nextPageToken();
+            pages++;
+        } while (pageToken != null && pages < 50);
+        //THEN
+        assertEquals(Math.min(DOCUMENTS_PER_TYPE, 50L * InsurancePaginationService.MAX_PAGE_SIZE), documents);
+        assertEquals(documents, ids.size());
+    }
+}
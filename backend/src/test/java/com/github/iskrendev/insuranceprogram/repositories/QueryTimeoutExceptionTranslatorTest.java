@@ -0,0 +1,59 @@
+package com.github.iskrendev.insuranceprogram.repositories;
+
+import com.mongodb.MongoExecutionTimeoutException;
+import com.mongodb.MongoSocketReadException;
+import com.mongodb.ServerAddress;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.QueryTimeoutException;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class QueryTimeoutExceptionTranslatorTest {
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final QueryTimeoutExceptionTranslator queryTimeoutExceptionTranslator =
+            new QueryTimeoutExceptionTranslator(meterRegistry);
+
+    private double timeouts(String endpoint) {
+        return meterRegistry.get(QueryTimeoutExceptionTranslator.METRIC_NAME).tag("endpoint", endpoint).counter().count();
+    }
+
+    @Test
+    void translateExceptionIfPossible_whenMaxTimeExpired_thenReturnQueryTimeoutCountedByEndpoint() {
+        //GIVEN
+        MongoExecutionTimeoutException timeout = new MongoExecutionTimeoutException(50, "operation exceeded time limit");
+        DataAccessException translated;
+        //WHEN
+        try (QueryDeadline.Scope ignored = QueryDeadline.start("search", Duration.ofSeconds(2)).bind()) {
+            translated = queryTimeoutExceptionTranslator.translateExceptionIfPossible(timeout);
+        }
+        //THEN
+        assertInstanceOf(QueryTimeoutException.class, translated);
+        assertSame(timeout, translated.getCause());
+        assertEquals(1, timeouts("search"));
+    }
+
+    @Test
+    void translateExceptionIfPossible_whenNoDeadlineIsBound_thenCountWithoutEndpoint() {
+        //WHEN
+        queryTimeoutExceptionTranslator.translateExceptionIfPossible(new MongoExecutionTimeoutException(50, "expired"));
+        //THEN
+        assertEquals(1, timeouts(QueryTimeoutExceptionTranslator.NO_DEADLINE));
+        assertNull(QueryDeadline.current());
+    }
+
+    @Test
+    void translateExceptionIfPossible_whenOtherMongoException_thenTranslateAsBefore() {
+        //WHEN
+        DataAccessException translated = queryTimeoutExceptionTranslator.translateExceptionIfPossible(
+                new MongoSocketReadException("connection reset", new ServerAddress()));
+        //THEN
+        assertInstanceOf(DataAccessResourceFailureException.class, translated);
+        assertNull(meterRegistry.find(QueryTimeoutExceptionTranslator.METRIC_NAME).counter());
+    }
+}
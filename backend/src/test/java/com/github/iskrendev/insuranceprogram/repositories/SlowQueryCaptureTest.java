@@ -0,0 +1,66 @@
+package com.github.iskrendev.insuranceprogram.repositories;
+
+import com.github.iskrendev.insuranceprogram.enums.InsuranceType;
+import com.github.iskrendev.insuranceprogram.metrics.SlowQueryEndpoint;
+import com.github.iskrendev.insuranceprogram.metrics.SlowQueryRecorder;
+import com.github.iskrendev.insuranceprogram.models.LifeInsurance;
+import com.github.iskrendev.insuranceprogram.models.SlowQuery;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.test.annotation.DirtiesContext;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = "insurance.slow-queries.threshold=0ms")
+@DirtiesContext
+class SlowQueryCaptureTest {
+    @Autowired
+    private MongoTemplate mongoTemplate;
+    @Autowired
+    private LifeInsuranceRepo lifeInsuranceRepo;
+    @Autowired
+    private SlowQueryRecorder slowQueryRecorder;
+    @Autowired
+    private SlowQueryEndpoint slowQueryEndpoint;
+
+    @BeforeEach
+    void setUp() {
+        lifeInsuranceRepo.deleteAll();
+        lifeInsuranceRepo.save(LifeInsurance.builder().firstName("Jane").familyName("Doe").city("Berlin").type(InsuranceType.LIFE).build());
+        slowQueryRecorder.clear();
+    }
+
+    private SlowQuery lastFindOnLifeInsurances() {
+        return slowQueryRecorder.getSlowQueries().stream()
+                .filter(query -> query.command().equals("find") && query.collection().equals("life_insurance"))
+                .findFirst()
+                .orElseThrow();
+    }
+
+    @Test
+    void slowQuery_whenFilteringUnindexedFieldByRegex_thenExplainShowsCollectionScan() {
+        //GIVEN
+        mongoTemplate.find(new Query(Criteria.where("city").regex("^berlin$", "i")), LifeInsurance.class);
+        //WHEN
+        SlowQuery actual = slowQueryEndpoint.slowQuery(lastFindOnLifeInsurances().id());
+        //THEN
+        assertTrue(actual.explain().collectionScan(), actual.explain().winningPlan());
+        assertFalse(actual.shape().contains("berlin"), actual.shape());
+    }
+
+    @Test
+    void slowQuery_whenSearchingByFamilyName_thenExplainShowsIndexScan() {
+        //GIVEN
+        lifeInsuranceRepo.findByFamilyName("DOE");
+        //WHEN
+        SlowQuery actual = slowQueryEndpoint.slowQuery(lastFindOnLifeInsurances().id());
+        //THEN
+        assertFalse(actual.explain().collectionScan(), actual.explain().winningPlan());
+        assertTrue(actual.explain().stages().contains("IXSCAN"), actual.explain().stages().toString());
+    }
+}
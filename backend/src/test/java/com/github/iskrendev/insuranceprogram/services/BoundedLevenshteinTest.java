@@ -0,0 +1,34 @@
+package com.github.iskrendev.insuranceprogram.services;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BoundedLevenshteinTest {
+    @ParameterizedTest
+    @CsvSource({
+            "meier, meier, 0",
+            "meier, meyer, 1",
+            "meier, maier, 1",
+            "meier, mayer, 2",
+            "schmidt, schmitt, 1",
+            "'', ab, 2",
+            "anna, hanna, 1",
+            "mueller, müller, 2"
+    })
+    void distance_whenWithinBound_thenReturnEditDistance(String a, String b, int expected) {
+        assertEquals(expected, BoundedLevenshtein.distance(a, b, 2));
+        assertEquals(expected, BoundedLevenshtein.distance(b, a, 2));
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+            "meier, schmidt",
+            "ab, abcde",
+            "abcdef, fedcba"
+    })
+    void distance_whenBeyondBound_thenReturnBoundPlusOne(String a, String b) {
+        assertEquals(3, BoundedLevenshtein.distance(a, b, 2));
+    }
+}
@@ -0,0 +1,133 @@
+package com.github.iskrendev.insuranceprogram.services;
+
+import com.github.iskrendev.insuranceprogram.config.FuzzySearchProperties;
+import com.github.iskrendev.insuranceprogram.enums.InsuranceType;
+import com.github.iskrendev.insuranceprogram.exceptions.InvalidSearchCriteriaException;
+import com.github.iskrendev.insuranceprogram.models.AllInsurancesResponse;
+import com.github.iskrendev.insuranceprogram.models.LifeInsurance;
+import com.github.iskrendev.insuranceprogram.models.PropertyInsurance;
+import com.github.iskrendev.insuranceprogram.repositories.NameCollation;
+import com.github.iskrendev.insuranceprogram.repositories.PhoneticKeys;
+import org.bson.Document;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class FuzzyNameSearchServiceTest {
+    private static final Set<InsuranceType> LIFE = EnumSet.of(InsuranceType.LIFE);
+
+    private final MongoTemplate mockMongoTemplate = mock(MongoTemplate.class);
+    private final FuzzyNameSearchService fuzzyNameSearchService = new FuzzyNameSearchService(mockMongoTemplate,
+            new FuzzySearchProperties(2, 100, true, 10));
+
+    @BeforeEach
+    void setUp() {
+        when(mockMongoTemplate.getCollectionName(LifeInsurance.class)).thenReturn("life_insurance");
+        when(mockMongoTemplate.getCollectionName(PropertyInsurance.class)).thenReturn("property_insurance");
+    }
+
+    private static LifeInsurance lifeInsurance(String id, String firstName, String familyName) {
+        return LifeInsurance.builder().id(id).firstName(firstName).familyName(familyName).type(InsuranceType.LIFE).build();
+    }
+
+    private static Document candidate(LifeInsurance lifeInsurance) {
+        return new Document("_id", lifeInsurance.id())
+                .append("firstName", lifeInsurance.firstName())
+                .append("familyName", lifeInsurance.familyName());
+    }
+
+    private void givenCandidates(LifeInsurance... candidates) {
+        when(mockMongoTemplate.find(any(Query.class), eq(Document.class), eq("life_insurance")))
+                .thenReturn(List.of(candidates).stream().map(FuzzyNameSearchServiceTest::candidate).toList());
+        when(mockMongoTemplate.find(any(Query.class), eq(LifeInsurance.class), eq("life_insurance")))
+                .thenReturn(List.of(candidates));
+    }
+
+    @Test
+    void searchInsurancesByName_whenCandidatesSoundAlike_thenRankByEditDistance() {
+        //GIVEN
+        LifeInsurance meier = lifeInsurance("1", "Anna", "Meier");
+        LifeInsurance mayer = lifeInsurance("2", "Anna", "Mayer");
+        LifeInsurance meyer = lifeInsurance("3", "Anna", "MEYER");
+        LifeInsurance meiermann = lifeInsurance("4", "Anna", "Meiermann");
+        givenCandidates(mayer, meiermann, meyer, meier);
+        //WHEN
+        AllInsurancesResponse actual = fuzzyNameSearchService.searchInsurancesByName(LIFE, null, "Meier");
+        //THEN
+        assertEquals(List.of(meier, meyer, mayer), actual.lifeInsurances());
+        assertEquals(List.of(), actual.truncatedTypes());
+    }
+
+    @Test
+    void searchInsurancesByName_whenBothNamesGiven_thenReadOnlyNamesOfCandidatesInIdOrder() {
+        //GIVEN
+        ArgumentCaptor<Query> query = ArgumentCaptor.forClass(Query.class);
+        when(mockMongoTemplate.find(query.capture(), eq(Document.class), eq("life_insurance"))).thenReturn(List.of());
+        //WHEN
+        fuzzyNameSearchService.searchInsurancesByName(LIFE, "Jana", "Maier");
+        //THEN
+        assertEquals(new Document(PhoneticKeys.FIRST_NAME, PhoneticKeys.of("Jana"))
+                .append(PhoneticKeys.FAMILY_NAME, PhoneticKeys.of("Maier")), query.getValue().getQueryObject());
+        assertEquals(new Document("firstName", 1).append("familyName", 1), query.getValue().getFieldsObject());
+        assertEquals(new Document("_id", 1), query.getValue().getSortObject());
+        assertEquals(101, query.getValue().getLimit());
+        assertTrue(query.getValue().getCollation().isEmpty());
+        verify(mockMongoTemplate, never()).find(any(Query.class), eq(LifeInsurance.class), anyString());
+        verify(mockMongoTemplate, never()).find(any(Query.class), any(), eq("property_insurance"));
+    }
+
+    @Test
+    void searchInsurancesByName_whenOneNameIsTooFar_thenDropCandidate() {
+        //GIVEN
+        LifeInsurance match = lifeInsurance("1", "Jana", "Maier");
+        LifeInsurance tooFar = lifeInsurance("2", "Johanna", "Meier");
+        givenCandidates(tooFar, match);
+        ArgumentCaptor<Query> query = ArgumentCaptor.forClass(Query.class);
+        //WHEN
+        fuzzyNameSearchService.searchInsurancesByName(LIFE, "Jana", "Meier");
+        //THEN
+        verify(mockMongoTemplate).find(query.capture(), eq(LifeInsurance.class), eq("life_insurance"));
+        assertEquals(new Document("_id", new Document("$in", List.of("1"))), query.getValue().getQueryObject());
+    }
+
+    @Test
+    void searchInsurancesByName_whenCandidatesExceedTheLimit_thenKeepExactMatchesAndReportTruncation() {
+        //GIVEN
+        FuzzyNameSearchService limitedSearch = new FuzzyNameSearchService(mockMongoTemplate, new FuzzySearchProperties(2, 2, true, 10));
+        LifeInsurance mahler = lifeInsurance("1", "Anna", "Mahler");
+        LifeInsurance miller = lifeInsurance("2", "Anna", "Miller");
+        LifeInsurance moller = lifeInsurance("3", "Anna", "Moller");
+        LifeInsurance mueller = lifeInsurance("9", "Anna", "Müller");
+        ArgumentCaptor<Query> candidateQueries = ArgumentCaptor.forClass(Query.class);
+        when(mockMongoTemplate.find(candidateQueries.capture(), eq(Document.class), eq("life_insurance")))
+                .thenReturn(List.of(candidate(mahler), candidate(miller), candidate(moller)))
+                .thenReturn(List.of(candidate(mueller)));
+        when(mockMongoTemplate.find(any(Query.class), eq(LifeInsurance.class), eq("life_insurance")))
+                .thenReturn(List.of(miller, mahler, mueller));
+        //WHEN
+        AllInsurancesResponse actual = limitedSearch.searchInsurancesByName(LIFE, null, "Müller");
+        //THEN
+        assertEquals(List.of(mueller, miller, mahler), actual.lifeInsurances());
+        assertEquals(List.of(InsuranceType.LIFE), actual.truncatedTypes());
+        Query exactQuery = candidateQueries.getAllValues().get(1);
+        assertEquals(new Document("familyName", "Müller"), exactQuery.getQueryObject());
+        assertEquals(NameCollation.collation(), exactQuery.getCollation().orElseThrow());
+    }
+
+    @Test
+    void searchInsurancesByName_whenNameHasNoPhoneticKey_thenThrowInvalidSearchCriteriaException() {
+        //WHEN & THEN
+        assertThrows(InvalidSearchCriteriaException.class, () -> fuzzyNameSearchService.searchInsurancesByName(LIFE, "H", null));
+        verify(mockMongoTemplate, never()).find(any(Query.class), any(), anyString());
+    }
+}
@@ -0,0 +1,98 @@
+package com.github.iskrendev.insuranceprogram.services;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.iskrendev.insuranceprogram.enums.InsuranceType;
+import com.github.iskrendev.insuranceprogram.exceptions.AllInsurancesRetrievalException;
+import com.github.iskrendev.insuranceprogram.models.LifeInsurance;
+import com.github.iskrendev.insuranceprogram.models.PropertyInsurance;
+import com.github.iskrendev.insuranceprogram.models.VehicleInsurance;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+
+import java.io.ByteArrayOutputStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class InsuranceExportServiceTest {
+    private final MongoTemplate mockMongoTemplate = mock(MongoTemplate.class);
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final InsuranceExportService insuranceExportService = new InsuranceExportService(mockMongoTemplate, objectMapper);
+
+    private void givenOneInsuranceOfEachType() {
+        when(mockMongoTemplate.stream(any(Query.class), eq(LifeInsurance.class)))
+                .thenReturn(Stream.of(LifeInsurance.builder().id("1").type(InsuranceType.LIFE).build()));
+        when(mockMongoTemplate.stream(any(Query.class), eq(PropertyInsurance.class)))
+                .thenReturn(Stream.of(PropertyInsurance.builder().id("2").type(InsuranceType.PROPERTY).build()));
+        when(mockMongoTemplate.stream(any(Query.class), eq(VehicleInsurance.class)))
+                .thenReturn(Stream.of(VehicleInsurance.builder().id("3").type(InsuranceType.VEHICLE).build()));
+    }
+
+    @Test
+    void writeAllInsurancesAsJson_whenOneInsuranceOfEachType_thenWriteAllInsurancesResponseShape() throws Exception {
+        //GIVEN
+        givenOneInsuranceOfEachType();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        //WHEN
+        insuranceExportService.writeAllInsurancesAsJson(out);
+        //THEN
+        JsonNode actual = objectMapper.readTree(out.toByteArray());
+        assertEquals("1", actual.get("lifeInsurances").get(0).get("id").asText());
+        assertEquals("2", actual.get("propertyInsurances").get(0).get("id").asText());
+        assertEquals("3", actual.get("vehicleInsurances").get(0).get("id").asText());
+        verify(mockMongoTemplate, never()).findAll(any());
+    }
+
+    @Test
+    void writeAllInsurancesAsNdjson_whenOneInsuranceOfEachType_thenWriteOnePolicyPerLine() throws Exception {
+        //GIVEN
+        givenOneInsuranceOfEachType();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        //WHEN
+        insuranceExportService.writeAllInsurancesAsNdjson(out);
+        //THEN
+        String[] lines = out.toString().split("\n");
+        assertEquals(3, lines.length);
+        assertEquals("LIFE", objectMapper.readTree(lines[0]).get("type").asText());
+        assertEquals("PROPERTY", objectMapper.readTree(lines[1]).get("type").asText());
+        assertEquals("VEHICLE", objectMapper.readTree(lines[2]).get("type").asText());
+    }
+
+    @Test
+    void writeAllInsurancesAsJson_whenCursorFails_thenThrowAllInsurancesRetrievalException() {
+        //GIVEN
+        when(mockMongoTemplate.stream(any(Query.class), eq(LifeInsurance.class)))
+                .thenThrow(new DataAccessResourceFailureException("connection lost"));
+        //WHEN & THEN
+        assertThrows(AllInsurancesRetrievalException.class,
+                () -> insuranceExportService.writeAllInsurancesAsJson(new ByteArrayOutputStream()));
+    }
+
+    @Test
+    void writeAllInsurancesAsJson_whenCursorFailsMidStream_thenLeaveTheDocumentUnterminated() {
+        //GIVEN
+        givenOneInsuranceOfEachType();
+        LifeInsurance lifeInsurance = LifeInsurance.builder().id("1").type(InsuranceType.LIFE).build();
+        when(mockMongoTemplate.stream(any(Query.class), eq(LifeInsurance.class)))
+                .thenReturn(Stream.of(1, 2).map(i -> {
+                    if (i == 2) {
+                        throw new DataAccessResourceFailureException("connection lost");
+                    }
+                    return lifeInsurance;
+                }));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        //WHEN
+        assertThrows(AllInsurancesRetrievalException.class, () -> insuranceExportService.writeAllInsurancesAsJson(out));
+        //THEN
+        assertTrue(out.toString().startsWith("{\"lifeInsurances\":[{"));
+        assertThrows(JsonProcessingException.class, () -> objectMapper.readTree(out.toByteArray()));
+    }
+}
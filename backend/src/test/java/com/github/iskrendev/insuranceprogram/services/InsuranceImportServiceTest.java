@@ -0,0 +1,185 @@
+package com.github.iskrendev.insuranceprogram.services;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.github.iskrendev.insuranceprogram.config.ImportProperties;
+import com.github.iskrendev.insuranceprogram.enums.InsuranceType;
+import com.github.iskrendev.insuranceprogram.models.ImportReport;
+import com.github.iskrendev.insuranceprogram.models.ImportRowError;
+import com.github.iskrendev.insuranceprogram.models.LifeInsurance;
+import com.github.iskrendev.insuranceprogram.models.VehicleInsurance;
+import com.mongodb.MongoBulkWriteException;
+import com.mongodb.ServerAddress;
+import com.mongodb.bulk.BulkWriteError;
+import com.mongodb.bulk.BulkWriteResult;
+import org.bson.BsonDocument;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class InsuranceImportServiceTest {
+    private final MongoTemplate mockMongoTemplate = mock(MongoTemplate.class);
+    private final BulkOperations mockBulkOperations = mock(BulkOperations.class);
+    private final PortfolioCounterService mockPortfolioCounterService = mock(PortfolioCounterService.class);
+    private final NameSuggestionService mockNameSuggestionService = mock(NameSuggestionService.class);
+    private final ObjectMapper objectMapper = JsonMapper.builder()
+            .findAndAddModules()
+            .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+            .build();
+    private final InsuranceImportService insuranceImportService = new InsuranceImportService(mockMongoTemplate, objectMapper,
+            mockPortfolioCounterService, mockNameSuggestionService, new ImportProperties(2, 10));
+
+    private static InputStream body(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void importNdjson_whenRowsExceedBatchSize_thenInsertInUnorderedBatchesAndUpdateCounters() throws Exception {
+        //GIVEN
+        when(mockMongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, LifeInsurance.class)).thenReturn(mockBulkOperations);
+        when(mockBulkOperations.insert(anyList())).thenReturn(mockBulkOperations);
+        ArgumentCaptor<List<LifeInsurance>> batchCaptor = ArgumentCaptor.forClass(List.class);
+        String ndjson = """
+                {"firstName":"Anna","familyName":"Adams","type":"LIFE","duration":12,"paymentPerMonth":100,"startDate":"2024-01-01"}
+                {"firstName":"Ben","familyName":"Brown","type":"LIFE","duration":24,"paymentPerMonth":50}
+
+                {"firstName":"Carl","familyName":"Clark","type":"LIFE","duration":10,"paymentPerMonth":10}
+                """;
+        //WHEN
+        ImportReport actual = insuranceImportService.importNdjson(InsuranceType.LIFE, body(ndjson));
+        //THEN
+        verify(mockBulkOperations, times(2)).insert(batchCaptor.capture());
+        verify(mockBulkOperations, times(2)).execute();
+        assertEquals(List.of(2, 1), batchCaptor.getAllValues().stream().map(List::size).toList());
+        assertEquals(LocalDate.of(2024, 1, 1), batchCaptor.getAllValues().get(0).get(0).startDate());
+        verify(mockPortfolioCounterService).recordAdded(InsuranceType.LIFE, 2, BigDecimal.valueOf(2400));
+        verify(mockPortfolioCounterService).recordAdded(InsuranceType.LIFE, 1, BigDecimal.valueOf(100));
+        assertEquals(new ImportReport(InsuranceType.LIFE, 3, 3, 0, List.of()), actual);
+    }
+
+    @Test
+    void importNdjson_whenRowsAreInvalid_thenReportThemAndImportTheRest() throws Exception {
+        //GIVEN
+        when(mockMongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, LifeInsurance.class)).thenReturn(mockBulkOperations);
+        when(mockBulkOperations.insert(anyList())).thenReturn(mockBulkOperations);
+        String ndjson = """
+                {"firstName":"Anna","type":"LIFE","duration":"twelve"}
+                {"firstName":"Ben","type":"VEHICLE"}
+                {"firstName":"Carl","type":"LIFE"
+                {"firstName":"Dora","type":"LIFE","duration":12,"paymentPerMonth":100}
+                """;
+        //WHEN
+        ImportReport actual = insuranceImportService.importNdjson(InsuranceType.LIFE, body(ndjson));
+        //THEN
+        assertEquals(4, actual.rows());
+        assertEquals(1, actual.imported());
+        assertEquals(3, actual.failed());
+        assertEquals(List.of(1L, 2L, 3L), actual.errors().stream().map(ImportRowError::row).toList());
+        assertEquals("type must be LIFE", actual.errors().get(1).message());
+        verify(mockPortfolioCounterService).recordAdded(InsuranceType.LIFE, 1, BigDecimal.valueOf(1200));
+        verify(mockNameSuggestionService).recordAdded(argThat((List<LifeInsurance> inserted) ->
+                inserted.size() == 1 && inserted.get(0).firstName().equals("Dora")));
+    }
+
+    @Test
+    void importNdjson_whenPaymentPerMonthDoesNotFitDecimal128_thenReportTheRow() throws Exception {
+        //GIVEN
+        when(mockMongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, LifeInsurance.class)).thenReturn(mockBulkOperations);
+        when(mockBulkOperations.insert(anyList())).thenReturn(mockBulkOperations);
+        String ndjson = """
+                {"firstName":"Anna","type":"LIFE","duration":12,"paymentPerMonth":1.00000000000000000000000000000000001}
+                {"firstName":"Ben","type":"LIFE","duration":12,"paymentPerMonth":1.000000000000000000000000000000001}
+                """;
+        //WHEN
+        ImportReport actual = insuranceImportService.importNdjson(InsuranceType.LIFE, body(ndjson));
+        //THEN
+        assertEquals(1, actual.imported());
+        assertEquals(List.of(1L), actual.errors().stream().map(ImportRowError::row).toList());
+        assertTrue(actual.errors().get(0).message().endsWith("paymentPerMonth must fit a Decimal128 of at most 34 significant digits"));
+    }
+
+    @Test
+    void importNdjson_whenRowsAreNotObjects_thenReportThemAndImportTheRest() throws Exception {
+        //GIVEN
+        when(mockMongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, LifeInsurance.class)).thenReturn(mockBulkOperations);
+        when(mockBulkOperations.insert(anyList())).thenReturn(mockBulkOperations);
+        String ndjson = """
+                null
+                [1,2]
+                42
+                {"firstName":"Dora","type":"LIFE","duration":12,"paymentPerMonth":100}
+                """;
+        //WHEN
+        ImportReport actual = insuranceImportService.importNdjson(InsuranceType.LIFE, body(ndjson));
+        //THEN
+        assertEquals(4, actual.rows());
+        assertEquals(1, actual.imported());
+        assertEquals(3, actual.failed());
+        assertEquals(List.of(1L, 2L, 3L), actual.errors().stream().map(ImportRowError::row).toList());
+        assertEquals("Row must be a JSON object", actual.errors().get(0).message());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void importCsv_whenHeaderAndRowsGiven_thenMapRowsThroughDto() throws Exception {
+        //GIVEN
+        when(mockMongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, VehicleInsurance.class)).thenReturn(mockBulkOperations);
+        when(mockBulkOperations.insert(anyList())).thenReturn(mockBulkOperations);
+        ArgumentCaptor<List<VehicleInsurance>> batchCaptor = ArgumentCaptor.forClass(List.class);
+        String csv = """
+                firstName,familyName,type,duration,paymentPerMonth,startDate,vehicleYear,licensePlateNumber
+                Anna,Adams,VEHICLE,12,100.50,2024-01-01,2015,"AB 123, CD"
+                Ben,Brown,VEHICLE,abc,,,,
+                Carl,Clark,VEHICLE,,,,,
+                """;
+        //WHEN
+        ImportReport actual = insuranceImportService.importCsv(InsuranceType.VEHICLE, body(csv));
+        //THEN
+        verify(mockBulkOperations).insert(batchCaptor.capture());
+        VehicleInsurance anna = batchCaptor.getValue().get(0);
+        assertEquals("AB 123, CD", anna.licensePlateNumber());
+        assertEquals(new BigDecimal("100.50"), anna.paymentPerMonth());
+        assertEquals(2015, anna.vehicleYear());
+        assertNull(batchCaptor.getValue().get(1).duration());
+        assertEquals(3, actual.rows());
+        assertEquals(2, actual.imported());
+        assertEquals(List.of(2L), actual.errors().stream().map(ImportRowError::row).toList());
+    }
+
+    @Test
+    void importNdjson_whenBulkWriteRejectsDocuments_thenReportTheirRowsAndCountOnlyInserted() throws Exception {
+        //GIVEN
+        when(mockMongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, LifeInsurance.class)).thenReturn(mockBulkOperations);
+        when(mockBulkOperations.insert(anyList())).thenReturn(mockBulkOperations);
+        MongoBulkWriteException bulkWriteException = new MongoBulkWriteException(
+                BulkWriteResult.acknowledged(1, 0, 0, 0, List.of(), List.of()),
+                List.of(new BulkWriteError(11000, "duplicate key", new BsonDocument(), 0)),
+                null, new ServerAddress(), Set.of());
+        when(mockBulkOperations.execute()).thenThrow(new BulkOperationException("bulk write failed", bulkWriteException));
+        String ndjson = """
+                {"firstName":"Anna","type":"LIFE","duration":12,"paymentPerMonth":100}
+                {"firstName":"Ben","type":"LIFE","duration":1,"paymentPerMonth":5}
+                """;
+        //WHEN
+        ImportReport actual = insuranceImportService.importNdjson(InsuranceType.LIFE, body(ndjson));
+        //THEN
+        assertEquals(1, actual.imported());
+        assertEquals(List.of(new ImportRowError(1, "duplicate key")), actual.errors());
+        verify(mockPortfolioCounterService).recordAdded(InsuranceType.LIFE, 1, BigDecimal.valueOf(5));
+    }
+}
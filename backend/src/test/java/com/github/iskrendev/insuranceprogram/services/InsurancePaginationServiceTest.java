@@ -0,0 +1,103 @@
+package com.github.iskrendev.insuranceprogram.services;
+
+import com.github.iskrendev.insuranceprogram.exceptions.InvalidPageRequestException;
+import com.github.iskrendev.insuranceprogram.models.InsurancePage;
+import com.github.iskrendev.insuranceprogram.models.LifeInsurance;
+import com.github.iskrendev.insuranceprogram.models.PageToken;
+import org.bson.Document;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class InsurancePaginationServiceTest {
+    private final MongoTemplate mockMongoTemplate = mock(MongoTemplate.class);
+    private final InsurancePaginationService insurancePaginationService = new InsurancePaginationService(mockMongoTemplate);
+
+    private static LifeInsurance lifeInsurance(String id, String firstName, String familyName) {
+        return LifeInsurance.builder().id(id).firstName(firstName).familyName(familyName).build();
+    }
+
+    @Test
+    void findPage_whenMoreResultsThanPageSize_thenReturnPageWithNextPageToken() {
+        //GIVEN
+        List<LifeInsurance> found = List.of(
+                lifeInsurance("1", "Anna", "Adams"),
+                lifeInsurance("2", "Ben", "Adams"),
+                lifeInsurance("3", "Carl", "Brown"));
+        when(mockMongoTemplate.find(any(Query.class), eq(LifeInsurance.class))).thenReturn(found);
+        ArgumentCaptor<Query> queryCaptor = ArgumentCaptor.forClass(Query.class);
+        //WHEN
+        InsurancePage<LifeInsurance> actual = insurancePaginationService.findPage(LifeInsurance.class, 2, null, false);
+        //THEN
+        verify(mockMongoTemplate).find(queryCaptor.capture(), eq(LifeInsurance.class));
+        Query query = queryCaptor.getValue();
+        assertEquals(3, query.getLimit());
+        assertEquals(new Document("familyName", 1).append("firstName", 1).append("id", 1), query.getSortObject());
+        assertTrue(query.getCollation().isPresent());
+        assertEquals(found.subList(0, 2), actual.items());
+        assertEquals(new PageToken("Adams", "Ben", "2"), PageToken.decode(actual.nextPageToken()));
+        assertNull(actual.estimatedTotal());
+        verify(mockMongoTemplate, never()).estimatedCount(any(Class.class));
+    }
+
+    @Test
+    void findPage_whenLastPage_thenReturnNoNextPageToken() {
+        //GIVEN
+        List<LifeInsurance> found = List.of(lifeInsurance("3", "Carl", "Brown"));
+        when(mockMongoTemplate.find(any(Query.class), eq(LifeInsurance.class))).thenReturn(found);
+        //WHEN
+        InsurancePage<LifeInsurance> actual = insurancePaginationService.findPage(LifeInsurance.class, 2, null, false);
+        //THEN
+        assertEquals(found, actual.items());
+        assertNull(actual.nextPageToken());
+    }
+
+    @Test
+    void findPage_whenPageTokenGiven_thenContinueAfterTokenKey() {
+        //GIVEN
+        String pageToken = new PageToken("Adams", "Ben", "2").encode();
+        when(mockMongoTemplate.find(any(Query.class), eq(LifeInsurance.class))).thenReturn(List.of());
+        ArgumentCaptor<Query> queryCaptor = ArgumentCaptor.forClass(Query.class);
+        //WHEN
+        insurancePaginationService.findPage(LifeInsurance.class, 2, pageToken, false);
+        //THEN
+        verify(mockMongoTemplate).find(queryCaptor.capture(), eq(LifeInsurance.class));
+        assertEquals(InsurancePaginationService.after(new PageToken("Adams", "Ben", "2")).getCriteriaObject(),
+                queryCaptor.getValue().getQueryObject());
+    }
+
+    @Test
+    void findPage_whenIncludeTotal_thenReturnEstimatedTotal() {
+        //GIVEN
+        when(mockMongoTemplate.find(any(Query.class), eq(LifeInsurance.class))).thenReturn(List.of());
+        when(mockMongoTemplate.estimatedCount(LifeInsurance.class)).thenReturn(42L);
+        //WHEN
+        InsurancePage<LifeInsurance> actual = insurancePaginationService.findPage(LifeInsurance.class, 2, null, true);
+        //THEN
+        assertEquals(42L, actual.estimatedTotal());
+    }
+
+    @Test
+    void findPage_whenPageSizeOutOfRange_thenThrowInvalidPageRequestException() {
+        assertThrows(InvalidPageRequestException.class,
+                () -> insurancePaginationService.findPage(LifeInsurance.class, 0, null, false));
+        assertThrows(InvalidPageRequestException.class,
+                () -> insurancePaginationService.findPage(LifeInsurance.class, InsurancePaginationService.MAX_PAGE_SIZE + 1, null, false));
+        verifyNoInteractions(mockMongoTemplate);
+    }
+
+    @Test
+    void findPage_whenPageTokenIsMalformed_thenThrowInvalidPageRequestException() {
+        assertThrows(InvalidPageRequestException.class,
+                () -> insurancePaginationService.findPage(LifeInsurance.class, 2, "not a token", false));
+        verifyNoInteractions(mockMongoTemplate);
+    }
+}
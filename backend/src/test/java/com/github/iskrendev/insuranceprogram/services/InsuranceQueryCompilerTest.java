@@ -0,0 +1,124 @@
+package com.github.iskrendev.insuranceprogram.services;
+
+import com.github.iskrendev.insuranceprogram.config.InsuranceQueryProperties;
+import com.github.iskrendev.insuranceprogram.exceptions.InvalidSearchCriteriaException;
+import com.github.iskrendev.insuranceprogram.models.InsuranceQuery;
+import com.github.iskrendev.insuranceprogram.models.LifeInsurance;
+import com.github.iskrendev.insuranceprogram.models.VehicleInsurance;
+import com.github.iskrendev.insuranceprogram.repositories.IndexCatalog;
+import com.github.iskrendev.insuranceprogram.repositories.NameCollation;
+import org.bson.Document;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mongodb.core.index.IndexInfo;
+import org.springframework.data.mongodb.core.query.Query;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class InsuranceQueryCompilerTest {
+    private static final Document NAME_COLLATION = new Document("locale", "en").append("strength", 2);
+
+    private final IndexCatalog mockIndexCatalog = mock(IndexCatalog.class);
+    private final InsuranceQueryCompiler insuranceQueryCompiler = new InsuranceQueryCompiler(mockIndexCatalog,
+            new InsuranceQueryProperties(50, 500));
+
+    private static IndexInfo index(String name, Document key, Document collation) {
+        Document index = new Document("name", name).append("key", key);
+        if (collation != null) {
+            index.append("collation", collation);
+        }
+        return IndexInfo.indexInfoOf(index);
+    }
+
+    @BeforeEach
+    void setUp() {
+        when(mockIndexCatalog.indexes(LifeInsurance.class)).thenReturn(List.of(
+                index("_id_", new Document("_id", 1), null),
+                index("familyName_firstName_id_ci", new Document("familyName", 1).append("firstName", 1).append("_id", 1), NAME_COLLATION),
+                index("firstName_ci", new Document("firstName", 1), NAME_COLLATION),
+                index("firstNamePhonetic", new Document("firstNamePhonetic", 1), null),
+                index("zipCode_city_ci", new Document("zipCode", 1).append("city", 1), NAME_COLLATION),
+                index("startDate", new Document("startDate", 1), null),
+                index("email_simple", new Document("email", 1), null)));
+    }
+
+    @Test
+    void compile_whenCriteriaCoverSeveralIndexes_thenHintTheOneWithTheLongestCoveredPrefix() {
+        //GIVEN
+        InsuranceQuery insuranceQuery = InsuranceQuery.builder()
+                .firstName("Anna").familyName(" Meier ")
+                .paymentPerMonth(new InsuranceQuery.AmountRange(BigDecimal.TEN, null))
+                .fields(List.of("firstName", "familyName"))
+                .limit(20)
+                .build();
+        //WHEN
+        Query actual = insuranceQueryCompiler.compile(LifeInsurance.class, insuranceQuery);
+        //THEN
+        assertEquals(new Document("firstName", "Anna").append("familyName", "Meier")
+                .append("paymentPerMonth", new Document("$gte", BigDecimal.TEN)), actual.getQueryObject());
+        assertEquals("familyName_firstName_id_ci", actual.getHint());
+        assertEquals(20, actual.getLimit());
+        assertEquals(new Document("firstName", 1).append("familyName", 1), actual.getFieldsObject());
+        assertEquals(NameCollation.collation(), actual.getCollation().orElseThrow());
+    }
+
+    @Test
+    void compile_whenOnlyRangeCriteria_thenUseIndexRegardlessOfCollation() {
+        //GIVEN
+        InsuranceQuery insuranceQuery = InsuranceQuery.builder()
+                .startDate(new InsuranceQuery.DateRange(LocalDate.of(2024, 1, 1), LocalDate.of(2024, 12, 31)))
+                .build();
+        //WHEN
+        Query actual = insuranceQueryCompiler.compile(LifeInsurance.class, insuranceQuery);
+        //THEN
+        assertEquals("startDate", actual.getHint());
+        assertEquals(50, actual.getLimit());
+    }
+
+    @Test
+    void compile_whenTextCriterionOnlyHasIndexWithOtherCollation_thenRejectWithoutAllowScan() {
+        //GIVEN
+        InsuranceQuery insuranceQuery = InsuranceQuery.builder().email("anna@example.com").build();
+        //WHEN & THEN
+        InvalidSearchCriteriaException actual = assertThrows(InvalidSearchCriteriaException.class,
+                () -> insuranceQueryCompiler.compile(LifeInsurance.class, insuranceQuery));
+        assertTrue(actual.getMessage().contains("allowScan"));
+    }
+
+    @Test
+    void compile_whenNoIndexButAllowScan_thenCompileWithoutHint() {
+        //GIVEN
+        InsuranceQuery insuranceQuery = InsuranceQuery.builder().city("Berlin").telephone("0301234").allowScan(true).build();
+        //WHEN
+        Query actual = insuranceQueryCompiler.compile(LifeInsurance.class, insuranceQuery);
+        //THEN
+        assertNull(actual.getHint());
+        assertEquals(new Document("city", "Berlin").append("telephone", "0301234"), actual.getQueryObject());
+    }
+
+    @Test
+    void compile_whenCriterionIsNotAFieldOfTheType_thenThrowInvalidSearchCriteriaException() {
+        //GIVEN
+        InsuranceQuery insuranceQuery = InsuranceQuery.builder().licensePlateNumber("B-AB 123").build();
+        //WHEN & THEN
+        assertThrows(InvalidSearchCriteriaException.class, () -> insuranceQueryCompiler.compile(LifeInsurance.class, insuranceQuery));
+    }
+
+    @Test
+    void validate_whenQueryIsInvalid_thenThrowInvalidSearchCriteriaException() {
+        List<Class<?>> entityClasses = List.of(LifeInsurance.class, VehicleInsurance.class);
+        assertThrows(InvalidSearchCriteriaException.class,
+                () -> insuranceQueryCompiler.validate(InsuranceQuery.builder().fields(List.of("firstName")).build(), entityClasses));
+        assertThrows(InvalidSearchCriteriaException.class,
+                () -> insuranceQueryCompiler.validate(InsuranceQuery.builder().firstName("Anna").limit(501).build(), entityClasses));
+        assertThrows(InvalidSearchCriteriaException.class,
+                () -> insuranceQueryCompiler.validate(InsuranceQuery.builder().firstName("Anna").fields(List.of("password")).build(), entityClasses));
+        assertThrows(InvalidSearchCriteriaException.class, () -> insuranceQueryCompiler.validate(InsuranceQuery.builder()
+                .endDate(new InsuranceQuery.DateRange(LocalDate.of(2025, 1, 1), LocalDate.of(2024, 1, 1))).build(), entityClasses));
+    }
+}
@@ -0,0 +1,56 @@
+package com.github.iskrendev.insuranceprogram.services;
+
+import com.github.iskrendev.insuranceprogram.enums.InsuranceType;
+import com.github.iskrendev.insuranceprogram.models.AllInsurancesResponse;
+import com.github.iskrendev.insuranceprogram.models.InsuranceQuery;
+import com.github.iskrendev.insuranceprogram.models.LifeInsurance;
+import com.github.iskrendev.insuranceprogram.models.PropertyInsurance;
+import com.github.iskrendev.insuranceprogram.models.VehicleInsurance;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class InsuranceQueryServiceTest {
+    private final MongoTemplate mockMongoTemplate = mock(MongoTemplate.class);
+    private final InsuranceQueryCompiler mockInsuranceQueryCompiler = mock(InsuranceQueryCompiler.class);
+    private final InsuranceQueryService insuranceQueryService = new InsuranceQueryService(mockMongoTemplate, mockInsuranceQueryCompiler);
+
+    @Test
+    void search_whenCriterionOnlyExistsForVehicles_thenSearchOnlyVehicleInsurances() {
+        //GIVEN
+        InsuranceQuery insuranceQuery = InsuranceQuery.builder().licensePlateNumber("B-AB 123").build();
+        Query vehicleQuery = new Query();
+        VehicleInsurance vehicleInsurance = VehicleInsurance.builder().licensePlateNumber("B-AB 123").type(InsuranceType.VEHICLE).build();
+        when(mockInsuranceQueryCompiler.validate(eq(insuranceQuery), anyCollection())).thenReturn(Set.of("licensePlateNumber"));
+        when(mockInsuranceQueryCompiler.compile(VehicleInsurance.class, insuranceQuery)).thenReturn(vehicleQuery);
+        when(mockMongoTemplate.find(vehicleQuery, VehicleInsurance.class)).thenReturn(List.of(vehicleInsurance));
+        //WHEN
+        AllInsurancesResponse actual = insuranceQueryService.search(insuranceQuery);
+        //THEN
+        assertEquals(new AllInsurancesResponse(List.of(), List.of(), List.of(vehicleInsurance)), actual);
+        verify(mockInsuranceQueryCompiler, never()).compile(eq(LifeInsurance.class), any());
+        verify(mockInsuranceQueryCompiler, never()).compile(eq(PropertyInsurance.class), any());
+    }
+
+    @Test
+    void search_whenTypeIsGiven_thenSearchOnlyThatType() {
+        //GIVEN
+        InsuranceQuery insuranceQuery = InsuranceQuery.builder().type(InsuranceType.LIFE).zipCode("10115").build();
+        Query lifeQuery = new Query();
+        when(mockInsuranceQueryCompiler.validate(eq(insuranceQuery), anyCollection())).thenReturn(Set.of("zipCode"));
+        when(mockInsuranceQueryCompiler.compile(LifeInsurance.class, insuranceQuery)).thenReturn(lifeQuery);
+        when(mockMongoTemplate.find(lifeQuery, LifeInsurance.class)).thenReturn(List.of());
+        //WHEN
+        insuranceQueryService.search(insuranceQuery);
+        //THEN
+        verify(mockMongoTemplate).find(lifeQuery, LifeInsurance.class);
+        verifyNoMoreInteractions(mockMongoTemplate);
+    }
+}
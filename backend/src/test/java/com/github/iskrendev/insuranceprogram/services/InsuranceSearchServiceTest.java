@@ -1,5 +1,6 @@
 package com.github.iskrendev.insuranceprogram.services;
 
+import com.github.iskrendev.insuranceprogram.config.SearchProperties;
 import com.github.iskrendev.insuranceprogram.enums.InsuranceType;
 import com.github.iskrendev.insuranceprogram.exceptions.InvalidSearchCriteriaException;
 import com.github.iskrendev.insuranceprogram.models.AllInsurancesResponse;
@@ -8,14 +9,20 @@ import com.github.iskrendev.insuranceprogram.models.PropertyInsurance;
 import com.github.iskrendev.insuranceprogram.models.VehicleInsurance;
 import com.github.iskrendev.insuranceprogram.repositories.LifeInsuranceRepo;
 import com.github.iskrendev.insuranceprogram.repositories.PropertyInsuranceRepo;
+import com.github.iskrendev.insuranceprogram.repositories.QueryDeadline;
 import com.github.iskrendev.insuranceprogram.repositories.VehicleInsuranceRepo;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentMatchers;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.QueryTimeoutException;
 
 import java.math.BigDecimal;
+import java.time.Duration;
 import java.time.LocalDate;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -25,7 +32,8 @@ class InsuranceSearchServiceTest {
     private final PropertyInsuranceRepo mockPropertyInsuranceRepo = mock(PropertyInsuranceRepo.class);
     private final VehicleInsuranceRepo mockVehicleInsuranceRepo = mock(VehicleInsuranceRepo.class);
 
-    private final InsuranceSearchService insuranceSearchService = new InsuranceSearchService(mockLifeInsuranceRepo, mockPropertyInsuranceRepo, mockVehicleInsuranceRepo);
+    private final InsuranceSearchService insuranceSearchService = new InsuranceSearchService(mockLifeInsuranceRepo, mockPropertyInsuranceRepo, mockVehicleInsuranceRepo,
+            Executors.newVirtualThreadPerTaskExecutor(), new SearchProperties(Duration.ofSeconds(2)));
 
     @Test
     void searchLifeInsuranceByName_whenNoFirstOrFamilyNameAsInput_throwsInvalidSearchCriteriaException() {
@@ -61,8 +69,8 @@ class InsuranceSearchServiceTest {
 
         List<LifeInsurance> expected = List.of(lifeInsurance);
         when(mockLifeInsuranceRepo.findByFirstName(ArgumentMatchers.anyString())).thenAnswer(invocation -> {
-            String firstNameRegex = invocation.getArgument(0);
-            if (firstNameRegex.equals("^\\QTESTFIRSTNAME\\E$") || firstNameRegex.equals("^\\Qtestfirstname\\E$") || firstNameRegex.equals("^\\QTestFirstName\\E$")) {
+            String firstName = invocation.getArgument(0);
+            if (firstName.equals("TESTFIRSTNAME") || firstName.equals("testfirstname") || firstName.equals("TestFirstName")) {
                 return expected;
             } else {
                 return Collections.emptyList();
@@ -73,9 +81,9 @@ class InsuranceSearchServiceTest {
         List<LifeInsurance> actualLowerCase = insuranceSearchService.searchLifeInsuranceByName("testfirstname", null);
         List<LifeInsurance> actualMixedCase = insuranceSearchService.searchLifeInsuranceByName("TestFirstName", null);
         //THEN
-        verify(mockLifeInsuranceRepo).findByFirstName("^\\QTESTFIRSTNAME\\E$");
-        verify(mockLifeInsuranceRepo).findByFirstName("^\\Qtestfirstname\\E$");
-        verify(mockLifeInsuranceRepo).findByFirstName("^\\QTestFirstName\\E$");
+        verify(mockLifeInsuranceRepo).findByFirstName("TESTFIRSTNAME");
+        verify(mockLifeInsuranceRepo).findByFirstName("testfirstname");
+        verify(mockLifeInsuranceRepo).findByFirstName("TestFirstName");
         assertEquals(expected, actualUpperCase);
         assertEquals(expected, actualLowerCase);
         assertEquals(expected, actualMixedCase);
@@ -104,8 +112,8 @@ class InsuranceSearchServiceTest {
 
         List<LifeInsurance> expected = List.of(lifeInsurance);
         when(mockLifeInsuranceRepo.findByFamilyName(ArgumentMatchers.anyString())).thenAnswer(invocation -> {
-            String familyNameRegex = invocation.getArgument(0);
-            if (familyNameRegex.equals("^\\QTESTFAMILYNAME\\E$") || familyNameRegex.equals("^\\Qtestfamilyname\\E$") || familyNameRegex.equals("^\\QTestFamilyName\\E$")) {
+            String familyName = invocation.getArgument(0);
+            if (familyName.equals("TESTFAMILYNAME") || familyName.equals("testfamilyname") || familyName.equals("TestFamilyName")) {
                 return expected;
             } else {
                 return Collections.emptyList();
@@ -116,9 +124,9 @@ class InsuranceSearchServiceTest {
         List<LifeInsurance> actualLowerCase = insuranceSearchService.searchLifeInsuranceByName(null, "testfamilyname");
         List<LifeInsurance> actualMixedCase = insuranceSearchService.searchLifeInsuranceByName(null, "TestFamilyName");
         //THEN
-        verify(mockLifeInsuranceRepo).findByFamilyName("^\\QTESTFAMILYNAME\\E$");
-        verify(mockLifeInsuranceRepo).findByFamilyName("^\\Qtestfamilyname\\E$");
-        verify(mockLifeInsuranceRepo).findByFamilyName("^\\QTestFamilyName\\E$");
+        verify(mockLifeInsuranceRepo).findByFamilyName("TESTFAMILYNAME");
+        verify(mockLifeInsuranceRepo).findByFamilyName("testfamilyname");
+        verify(mockLifeInsuranceRepo).findByFamilyName("TestFamilyName");
         assertEquals(expected, actualUpperCase);
         assertEquals(expected, actualLowerCase);
         assertEquals(expected, actualMixedCase);
@@ -148,11 +156,11 @@ class InsuranceSearchServiceTest {
         List<LifeInsurance> expected = List.of(lifeInsurance);
         when(mockLifeInsuranceRepo.findByFirstNameAndFamilyName(ArgumentMatchers.anyString(), ArgumentMatchers.anyString()))
                 .thenAnswer(invocation -> {
-                    String firstNameRegex = invocation.getArgument(0);
-                    String familyNameRegex = invocation.getArgument(1);
-                    if ((firstNameRegex.equals("^\\QTESTFIRSTNAME\\E$") && familyNameRegex.equals("^\\QTESTFAMILYNAME\\E$")) ||
-                            (firstNameRegex.equals("^\\Qtestfirstname\\E$") && familyNameRegex.equals("^\\Qtestfamilyname\\E$")) ||
-                            (firstNameRegex.equals("^\\QTestFirstName\\E$") && familyNameRegex.equals("^\\QTestFamilyName\\E$"))) {
+                    String firstName = invocation.getArgument(0);
+                    String familyName = invocation.getArgument(1);
+                    if ((firstName.equals("TESTFIRSTNAME") && familyName.equals("TESTFAMILYNAME")) ||
+                            (firstName.equals("testfirstname") && familyName.equals("testfamilyname")) ||
+                            (firstName.equals("TestFirstName") && familyName.equals("TestFamilyName"))) {
                         return expected;
                     } else {
                         return Collections.emptyList();
@@ -163,9 +171,9 @@ class InsuranceSearchServiceTest {
         List<LifeInsurance> actualLowerCase = insuranceSearchService.searchLifeInsuranceByName("testfirstname", "testfamilyname");
         List<LifeInsurance> actualMixedCase = insuranceSearchService.searchLifeInsuranceByName("TestFirstName", "TestFamilyName");
         //THEN
-        verify(mockLifeInsuranceRepo).findByFirstNameAndFamilyName("^\\QTESTFIRSTNAME\\E$", "^\\QTESTFAMILYNAME\\E$");
-        verify(mockLifeInsuranceRepo).findByFirstNameAndFamilyName("^\\Qtestfirstname\\E$", "^\\Qtestfamilyname\\E$");
-        verify(mockLifeInsuranceRepo).findByFirstNameAndFamilyName("^\\QTestFirstName\\E$", "^\\QTestFamilyName\\E$");
+        verify(mockLifeInsuranceRepo).findByFirstNameAndFamilyName("TESTFIRSTNAME", "TESTFAMILYNAME");
+        verify(mockLifeInsuranceRepo).findByFirstNameAndFamilyName("testfirstname", "testfamilyname");
+        verify(mockLifeInsuranceRepo).findByFirstNameAndFamilyName("TestFirstName", "TestFamilyName");
         assertEquals(expected, actualUpperCase);
         assertEquals(expected, actualLowerCase);
         assertEquals(expected, actualMixedCase);
@@ -206,8 +214,8 @@ class InsuranceSearchServiceTest {
 
         List<PropertyInsurance> expected = List.of(propertyInsurance);
         when(mockPropertyInsuranceRepo.findByFirstName(ArgumentMatchers.anyString())).thenAnswer(invocation -> {
-            String firstNameRegex = invocation.getArgument(0);
-            if (firstNameRegex.equals("^\\QTESTFIRSTNAME\\E$") || firstNameRegex.equals("^\\Qtestfirstname\\E$") || firstNameRegex.equals("^\\QTestFirstName\\E$")) {
+            String firstName = invocation.getArgument(0);
+            if (firstName.equals("TESTFIRSTNAME") || firstName.equals("testfirstname") || firstName.equals("TestFirstName")) {
                 return expected;
             } else {
                 return Collections.emptyList();
@@ -218,9 +226,9 @@ class InsuranceSearchServiceTest {
         List<PropertyInsurance> actualLowerCase = insuranceSearchService.searchPropertyInsuranceByName("testfirstname", null);
         List<PropertyInsurance> actualMixedCase = insuranceSearchService.searchPropertyInsuranceByName("TestFirstName", null);
         //THEN
-        verify(mockPropertyInsuranceRepo).findByFirstName("^\\QTESTFIRSTNAME\\E$");
-        verify(mockPropertyInsuranceRepo).findByFirstName("^\\Qtestfirstname\\E$");
-        verify(mockPropertyInsuranceRepo).findByFirstName("^\\QTestFirstName\\E$");
+        verify(mockPropertyInsuranceRepo).findByFirstName("TESTFIRSTNAME");
+        verify(mockPropertyInsuranceRepo).findByFirstName("testfirstname");
+        verify(mockPropertyInsuranceRepo).findByFirstName("TestFirstName");
         assertEquals(expected, actualUpperCase);
         assertEquals(expected, actualLowerCase);
         assertEquals(expected, actualMixedCase);
@@ -250,8 +258,8 @@ class InsuranceSearchServiceTest {
 
         List<PropertyInsurance> expected = List.of(propertyInsurance);
         when(mockPropertyInsuranceRepo.findByFamilyName(ArgumentMatchers.anyString())).thenAnswer(invocation -> {
-            String familyNameRegex = invocation.getArgument(0);
-            if (familyNameRegex.equals("^\\QTESTFAMILYNAME\\E$") || familyNameRegex.equals("^\\Qtestfamilyname\\E$") || familyNameRegex.equals("^\\QTestFamilyName\\E$")) {
+            String familyName = invocation.getArgument(0);
+            if (familyName.equals("TESTFAMILYNAME") || familyName.equals("testfamilyname") || familyName.equals("TestFamilyName")) {
                 return expected;
             } else {
                 return Collections.emptyList();
@@ -262,9 +270,9 @@ class InsuranceSearchServiceTest {
         List<PropertyInsurance> actualLowerCase = insuranceSearchService.searchPropertyInsuranceByName(null, "testfamilyname");
         List<PropertyInsurance> actualMixedCase = insuranceSearchService.searchPropertyInsuranceByName(null, "TestFamilyName");
         //THEN
-        verify(mockPropertyInsuranceRepo).findByFamilyName("^\\QTESTFAMILYNAME\\E$");
-        verify(mockPropertyInsuranceRepo).findByFamilyName("^\\Qtestfamilyname\\E$");
-        verify(mockPropertyInsuranceRepo).findByFamilyName("^\\QTestFamilyName\\E$");
+        verify(mockPropertyInsuranceRepo).findByFamilyName("TESTFAMILYNAME");
+        verify(mockPropertyInsuranceRepo).findByFamilyName("testfamilyname");
+        verify(mockPropertyInsuranceRepo).findByFamilyName("TestFamilyName");
         assertEquals(expected, actualUpperCase);
         assertEquals(expected, actualLowerCase);
         assertEquals(expected, actualMixedCase);
@@ -295,11 +303,11 @@ class InsuranceSearchServiceTest {
         List<PropertyInsurance> expected = List.of(propertyInsurance);
         when(mockPropertyInsuranceRepo.findByFirstNameAndFamilyName(ArgumentMatchers.anyString(), ArgumentMatchers.anyString()))
                 .thenAnswer(invocation -> {
-                    String firstNameRegex = invocation.getArgument(0);
-                    String familyNameRegex = invocation.getArgument(1);
-                    if ((firstNameRegex.equals("^\\QTESTFIRSTNAME\\E$") && familyNameRegex.equals("^\\QTESTFAMILYNAME\\E$")) ||
-                            (firstNameRegex.equals("^\\Qtestfirstname\\E$") && familyNameRegex.equals("^\\Qtestfamilyname\\E$")) ||
-                            (firstNameRegex.equals("^\\QTestFirstName\\E$") && familyNameRegex.equals("^\\QTestFamilyName\\E$"))) {
+                    String firstName = invocation.getArgument(0);
+                    String familyName = invocation.getArgument(1);
+                    if ((firstName.equals("TESTFIRSTNAME") && familyName.equals("TESTFAMILYNAME")) ||
+                            (firstName.equals("testfirstname") && familyName.equals("testfamilyname")) ||
+                            (firstName.equals("TestFirstName") && familyName.equals("TestFamilyName"))) {
                         return expected;
                     } else {
                         return Collections.emptyList();
@@ -310,9 +318,9 @@ class InsuranceSearchServiceTest {
         List<PropertyInsurance> actualLowerCase = insuranceSearchService.searchPropertyInsuranceByName("testfirstname", "testfamilyname");
         List<PropertyInsurance> actualMixedCase = insuranceSearchService.searchPropertyInsuranceByName("TestFirstName", "TestFamilyName");
         //THEN
-        verify(mockPropertyInsuranceRepo).findByFirstNameAndFamilyName("^\\QTESTFIRSTNAME\\E$", "^\\QTESTFAMILYNAME\\E$");
-        verify(mockPropertyInsuranceRepo).findByFirstNameAndFamilyName("^\\Qtestfirstname\\E$", "^\\Qtestfamilyname\\E$");
-        verify(mockPropertyInsuranceRepo).findByFirstNameAndFamilyName("^\\QTestFirstName\\E$", "^\\QTestFamilyName\\E$");
+        verify(mockPropertyInsuranceRepo).findByFirstNameAndFamilyName("TESTFIRSTNAME", "TESTFAMILYNAME");
+        verify(mockPropertyInsuranceRepo).findByFirstNameAndFamilyName("testfirstname", "testfamilyname");
+        verify(mockPropertyInsuranceRepo).findByFirstNameAndFamilyName("TestFirstName", "TestFamilyName");
         assertEquals(expected, actualUpperCase);
         assertEquals(expected, actualLowerCase);
         assertEquals(expected, actualMixedCase);
@@ -354,8 +362,8 @@ class InsuranceSearchServiceTest {
 
         List<VehicleInsurance> expected = List.of(vehicleInsurance);
         when(mockVehicleInsuranceRepo.findByFirstName(ArgumentMatchers.anyString())).thenAnswer(invocation -> {
-            String firstNameRegex = invocation.getArgument(0);
-            if (firstNameRegex.equals("^\\QTESTFIRSTNAME\\E$") || firstNameRegex.equals("^\\Qtestfirstname\\E$") || firstNameRegex.equals("^\\QTestFirstName\\E$")) {
+            String firstName = invocation.getArgument(0);
+            if (firstName.equals("TESTFIRSTNAME") || firstName.equals("testfirstname") || firstName.equals("TestFirstName")) {
                 return expected;
             } else {
                 return Collections.emptyList();
@@ -366,9 +374,9 @@ class InsuranceSearchServiceTest {
         List<VehicleInsurance> actualLowerCase = insuranceSearchService.searchVehicleInsuranceByName("testfirstname", null);
         List<VehicleInsurance> actualMixedCase = insuranceSearchService.searchVehicleInsuranceByName("TestFirstName", null);
         //THEN
-        verify(mockVehicleInsuranceRepo).findByFirstName("^\\QTESTFIRSTNAME\\E$");
-        verify(mockVehicleInsuranceRepo).findByFirstName("^\\Qtestfirstname\\E$");
-        verify(mockVehicleInsuranceRepo).findByFirstName("^\\QTestFirstName\\E$");
+        verify(mockVehicleInsuranceRepo).findByFirstName("TESTFIRSTNAME");
+        verify(mockVehicleInsuranceRepo).findByFirstName("testfirstname");
+        verify(mockVehicleInsuranceRepo).findByFirstName("TestFirstName");
         assertEquals(expected, actualUpperCase);
         assertEquals(expected, actualLowerCase);
         assertEquals(expected, actualMixedCase);
@@ -399,8 +407,8 @@ class InsuranceSearchServiceTest {
 
         List<VehicleInsurance> expected = List.of(vehicleInsurance);
         when(mockVehicleInsuranceRepo.findByFamilyName(ArgumentMatchers.anyString())).thenAnswer(invocation -> {
-            String familyNameRegex = invocation.getArgument(0);
-            if (familyNameRegex.equals("^\\QTESTFAMILYNAME\\E$") || familyNameRegex.equals("^\\Qtestfamilyname\\E$") || familyNameRegex.equals("^\\QTestFamilyName\\E$")) {
+            String familyName = invocation.getArgument(0);
+            if (familyName.equals("TESTFAMILYNAME") || familyName.equals("testfamilyname") || familyName.equals("TestFamilyName")) {
                 return expected;
             } else {
                 return Collections.emptyList();
@@ -411,9 +419,9 @@ class InsuranceSearchServiceTest {
         List<VehicleInsurance> actualLowerCase = insuranceSearchService.searchVehicleInsuranceByName(null, "testfamilyname");
         List<VehicleInsurance> actualMixedCase = insuranceSearchService.searchVehicleInsuranceByName(null, "TestFamilyName");
         //THEN
-        verify(mockVehicleInsuranceRepo).findByFamilyName("^\\QTESTFAMILYNAME\\E$");
-        verify(mockVehicleInsuranceRepo).findByFamilyName("^\\Qtestfamilyname\\E$");
-        verify(mockVehicleInsuranceRepo).findByFamilyName("^\\QTestFamilyName\\E$");
+        verify(mockVehicleInsuranceRepo).findByFamilyName("TESTFAMILYNAME");
+        verify(mockVehicleInsuranceRepo).findByFamilyName("testfamilyname");
+        verify(mockVehicleInsuranceRepo).findByFamilyName("TestFamilyName");
         assertEquals(expected, actualUpperCase);
         assertEquals(expected, actualLowerCase);
         assertEquals(expected, actualMixedCase);
@@ -445,11 +453,11 @@ class InsuranceSearchServiceTest {
         List<VehicleInsurance> expected = List.of(vehicleInsurance);
         when(mockVehicleInsuranceRepo.findByFirstNameAndFamilyName(ArgumentMatchers.anyString(), ArgumentMatchers.anyString()))
                 .thenAnswer(invocation -> {
-                    String firstNameRegex = invocation.getArgument(0);
-                    String familyNameRegex = invocation.getArgument(1);
-                    if ((firstNameRegex.equals("^\\QTESTFIRSTNAME\\E$") && familyNameRegex.equals("^\\QTESTFAMILYNAME\\E$")) ||
-                            (firstNameRegex.equals("^\\Qtestfirstname\\E$") && familyNameRegex.equals("^\\Qtestfamilyname\\E$")) ||
-                            (firstNameRegex.equals("^\\QTestFirstName\\E$") && familyNameRegex.equals("^\\QTestFamilyName\\E$"))) {
+                    String firstName = invocation.getArgument(0);
+                    String familyName = invocation.getArgument(1);
+                    if ((firstName.equals("TESTFIRSTNAME") && familyName.equals("TESTFAMILYNAME")) ||
+                            (firstName.equals("testfirstname") && familyName.equals("testfamilyname")) ||
+                            (firstName.equals("TestFirstName") && familyName.equals("TestFamilyName"))) {
                         return expected;
                     } else {
                         return Collections.emptyList();
@@ -460,9 +468,9 @@ class InsuranceSearchServiceTest {
         List<VehicleInsurance> actualLowerCase = insuranceSearchService.searchVehicleInsuranceByName("testfirstname", "testfamilyname");
         List<VehicleInsurance> actualMixedCase = insuranceSearchService.searchVehicleInsuranceByName("TestFirstName", "TestFamilyName");
         //THEN
-        verify(mockVehicleInsuranceRepo).findByFirstNameAndFamilyName("^\\QTESTFIRSTNAME\\E$", "^\\QTESTFAMILYNAME\\E$");
-        verify(mockVehicleInsuranceRepo).findByFirstNameAndFamilyName("^\\Qtestfirstname\\E$", "^\\Qtestfamilyname\\E$");
-        verify(mockVehicleInsuranceRepo).findByFirstNameAndFamilyName("^\\QTestFirstName\\E$", "^\\QTestFamilyName\\E$");
+        verify(mockVehicleInsuranceRepo).findByFirstNameAndFamilyName("TESTFIRSTNAME", "TESTFAMILYNAME");
+        verify(mockVehicleInsuranceRepo).findByFirstNameAndFamilyName("testfirstname", "testfamilyname");
+        verify(mockVehicleInsuranceRepo).findByFirstNameAndFamilyName("TestFirstName", "TestFamilyName");
         assertEquals(expected, actualUpperCase);
         assertEquals(expected, actualLowerCase);
         assertEquals(expected, actualMixedCase);
@@ -515,6 +523,81 @@ class InsuranceSearchServiceTest {
         assertTrue(actual.vehicleInsurances().isEmpty());
     }
 
+    @Test
+    void searchAllInsurancesByName_whenOneSearchExceedsDeadline_thenReturnPartialResponse() {
+        //GIVEN
+        InsuranceSearchService deadlineSearchService = new InsuranceSearchService(mockLifeInsuranceRepo, mockPropertyInsuranceRepo, mockVehicleInsuranceRepo,
+                Executors.newVirtualThreadPerTaskExecutor(), new SearchProperties(Duration.ofMillis(200)));
+        VehicleInsurance vehicleInsurance = VehicleInsurance.builder()
+                .id("1")
+                .firstName("TestFirstName")
+                .build();
+        when(mockLifeInsuranceRepo.findByFirstName("TestFirstName")).thenAnswer(invocation -> {
+            Thread.sleep(5_000);
+            return List.of();
+        });
+        when(mockPropertyInsuranceRepo.findByFirstName("TestFirstName")).thenThrow(new IllegalStateException("unavailable"));
+        when(mockVehicleInsuranceRepo.findByFirstName("TestFirstName")).thenReturn(List.of(vehicleInsurance));
+        //WHEN
+        AllInsurancesResponse actual = deadlineSearchService.searchAllInsurancesByName("TestFirstName", null);
+        //THEN
+        assertTrue(actual.lifeInsurances().isEmpty());
+        assertTrue(actual.propertyInsurances().isEmpty());
+        assertEquals(List.of(vehicleInsurance), actual.vehicleInsurances());
+        assertEquals(List.of(InsuranceType.LIFE, InsuranceType.PROPERTY), actual.unavailableTypes());
+        assertEquals(List.of(InsuranceType.LIFE), actual.timedOutTypes());
+    }
+
+    @Test
+    void searchAllInsurancesByName_whenRequestDeadlineOutlastsSearchDeadline_thenSendQueriesUnderTheSearchDeadline() {
+        //GIVEN
+        List<QueryDeadline> queryDeadlines = new CopyOnWriteArrayList<>();
+        when(mockLifeInsuranceRepo.findByFirstName("TestFirstName")).thenAnswer(invocation -> {
+            queryDeadlines.add(QueryDeadline.current());
+            return List.of();
+        });
+        //WHEN
+        try (QueryDeadline.Scope ignored = QueryDeadline.start("search", Duration.ofSeconds(30)).bind()) {
+            insuranceSearchService.searchAllInsurancesByName("TestFirstName", null);
+        }
+        //THEN
+        assertEquals(1, queryDeadlines.size());
+        assertEquals("search", queryDeadlines.get(0).endpoint());
+        assertTrue(queryDeadlines.get(0).remainingMillis() <= 2_000);
+    }
+
+    @Test
+    void searchAllInsurancesByName_whenRequestDeadlineEndsFirst_thenKeepIt() {
+        //GIVEN
+        List<QueryDeadline> queryDeadlines = new CopyOnWriteArrayList<>();
+        when(mockLifeInsuranceRepo.findByFirstName("TestFirstName")).thenAnswer(invocation -> {
+            queryDeadlines.add(QueryDeadline.current());
+            return List.of();
+        });
+        QueryDeadline requestDeadline = QueryDeadline.start("search", Duration.ofSeconds(1));
+        //WHEN
+        try (QueryDeadline.Scope ignored = requestDeadline.bind()) {
+            insuranceSearchService.searchAllInsurancesByName("TestFirstName", null);
+        }
+        //THEN
+        assertEquals(List.of(requestDeadline), queryDeadlines);
+    }
+
+    @Test
+    void searchAllInsurancesByName_whenQueriesAreCutOffOrFail_thenReportOnlyCutOffQueriesAsTimedOut() {
+        //GIVEN
+        InsuranceSearchService deadlineSearchService = new InsuranceSearchService(mockLifeInsuranceRepo, mockPropertyInsuranceRepo, mockVehicleInsuranceRepo,
+                Executors.newVirtualThreadPerTaskExecutor(), new SearchProperties(Duration.ofSeconds(5)));
+        when(mockLifeInsuranceRepo.findByFirstName("TestFirstName")).thenThrow(new QueryTimeoutException("maxTimeMS expired"));
+        when(mockPropertyInsuranceRepo.findByFirstName("TestFirstName")).thenThrow(new DataAccessResourceFailureException("down"));
+        when(mockVehicleInsuranceRepo.findByFirstName("TestFirstName")).thenThrow(new QueryTimeoutException("maxTimeMS expired"));
+        //WHEN
+        AllInsurancesResponse actual = deadlineSearchService.searchAllInsurancesByName("TestFirstName", null);
+        //THEN
+        assertEquals(List.of(InsuranceType.LIFE, InsuranceType.PROPERTY, InsuranceType.VEHICLE), actual.unavailableTypes());
+        assertEquals(List.of(InsuranceType.LIFE, InsuranceType.VEHICLE), actual.timedOutTypes());
+    }
+
     @Test
     void searchAllInsurancesByName_whenFirstNameAsInput_thenReturnMatchingResults() {
         //GIVEN
@@ -580,24 +663,24 @@ class InsuranceSearchServiceTest {
         List<VehicleInsurance> expectedVehicleInsurances = List.of(vehicleInsurance);
 
         when(mockLifeInsuranceRepo.findByFirstName(ArgumentMatchers.anyString())).thenAnswer(invocation -> {
-            String firstNameRegex = invocation.getArgument(0);
-            if (firstNameRegex.equals("^\\QTESTFIRSTNAME\\E$") || firstNameRegex.equals("^\\Qtestfirstname\\E$") || firstNameRegex.equals("^\\QTestFirstName\\E$")) {
+            String firstName = invocation.getArgument(0);
+            if (firstName.equals("TESTFIRSTNAME") || firstName.equals("testfirstname") || firstName.equals("TestFirstName")) {
                 return expectedLifeInsurances;
             } else {
                 return Collections.emptyList();
             }
         });
         when(mockPropertyInsuranceRepo.findByFirstName(ArgumentMatchers.anyString())).thenAnswer(invocation -> {
-            String firstNameRegex = invocation.getArgument(0);
-            if (firstNameRegex.equals("^\\QTESTFIRSTNAME\\E$") || firstNameRegex.equals("^\\Qtestfirstname\\E$") || firstNameRegex.equals("^\\QTestFirstName\\E$")) {
+            String firstName = invocation.getArgument(0);
+            if (firstName.equals("TESTFIRSTNAME") || firstName.equals("testfirstname") || firstName.equals("TestFirstName")) {
                 return expectedPropertyInsurances;
             } else {
                 return Collections.emptyList();
             }
         });
         when(mockVehicleInsuranceRepo.findByFirstName(ArgumentMatchers.anyString())).thenAnswer(invocation -> {
-            String firstNameRegex = invocation.getArgument(0);
-            if (firstNameRegex.equals("^\\QTESTFIRSTNAME\\E$") || firstNameRegex.equals("^\\Qtestfirstname\\E$") || firstNameRegex.equals("^\\QTestFirstName\\E$")) {
+            String firstName = invocation.getArgument(0);
+            if (firstName.equals("TESTFIRSTNAME") || firstName.equals("testfirstname") || firstName.equals("TestFirstName")) {
                 return expectedVehicleInsurances;
             } else {
                 return Collections.emptyList();
@@ -690,24 +773,24 @@ class InsuranceSearchServiceTest {
         List<VehicleInsurance> expectedVehicleInsurances = List.of(vehicleInsurance);
 
         when(mockLifeInsuranceRepo.findByFamilyName(ArgumentMatchers.anyString())).thenAnswer(invocation -> {
-            String familyNameRegex = invocation.getArgument(0);
-            if (familyNameRegex.equals("^\\QTESTFAMILYNAME\\E$") || familyNameRegex.equals("^\\Qtestfamilyname\\E$") || familyNameRegex.equals("^\\QTestFamilyName\\E$")) {
+            String familyName = invocation.getArgument(0);
+            if (familyName.equals("TESTFAMILYNAME") || familyName.equals("testfamilyname") || familyName.equals("TestFamilyName")) {
                 return expectedLifeInsurances;
             } else {
                 return Collections.emptyList();
             }
         });
         when(mockPropertyInsuranceRepo.findByFamilyName(ArgumentMatchers.anyString())).thenAnswer(invocation -> {
-            String familyNameRegex = invocation.getArgument(0);
-            if (familyNameRegex.equals("^\\QTESTFAMILYNAME\\E$") || familyNameRegex.equals("^\\Qtestfamilyname\\E$") || familyNameRegex.equals("^\\QTestFamilyName\\E$")) {
+            String familyName = invocation.getArgument(0);
+            if (familyName.equals("TESTFAMILYNAME") || familyName.equals("testfamilyname") || familyName.equals("TestFamilyName")) {
                 return expectedPropertyInsurances;
             } else {
                 return Collections.emptyList();
             }
         });
         when(mockVehicleInsuranceRepo.findByFamilyName(ArgumentMatchers.anyString())).thenAnswer(invocation -> {
-            String familyNameRegex = invocation.getArgument(0);
-            if (familyNameRegex.equals("^\\QTESTFAMILYNAME\\E$") || familyNameRegex.equals("^\\Qtestfamilyname\\E$") || familyNameRegex.equals("^\\QTestFamilyName\\E$")) {
+            String familyName = invocation.getArgument(0);
+            if (familyName.equals("TESTFAMILYNAME") || familyName.equals("testfamilyname") || familyName.equals("TestFamilyName")) {
                 return expectedVehicleInsurances;
             } else {
                 return Collections.emptyList();
@@ -801,11 +884,11 @@ class InsuranceSearchServiceTest {
 
         when(mockLifeInsuranceRepo.findByFirstNameAndFamilyName(ArgumentMatchers.anyString(), ArgumentMatchers.anyString()))
                 .thenAnswer(invocation -> {
-                    String firstNameRegex = invocation.getArgument(0);
-                    String familyNameRegex = invocation.getArgument(1);
-                    if ((firstNameRegex.equals("^\\QTESTFIRSTNAME\\E$") && familyNameRegex.equals("^\\QTESTFAMILYNAME\\E$")) ||
-                            (firstNameRegex.equals("^\\Qtestfirstname\\E$") && familyNameRegex.equals("^\\Qtestfamilyname\\E$")) ||
-                            (firstNameRegex.equals("^\\QTestFirstName\\E$") && familyNameRegex.equals("^\\QTestFamilyName\\E$"))) {
+                    String firstName = invocation.getArgument(0);
+                    String familyName = invocation.getArgument(1);
+                    if ((firstName.equals("TESTFIRSTNAME") && familyName.equals("TESTFAMILYNAME")) ||
+                            (firstName.equals("testfirstname") && familyName.equals("testfamilyname")) ||
+                            (firstName.equals("TestFirstName") && familyName.equals("TestFamilyName"))) {
                         return expectedLifeInsurances;
                     } else {
                         return Collections.emptyList();
@@ -813,11 +896,11 @@ class InsuranceSearchServiceTest {
                 });
         when(mockPropertyInsuranceRepo.findByFirstNameAndFamilyName(ArgumentMatchers.anyString(), ArgumentMatchers.anyString()))
                 .thenAnswer(invocation -> {
-                    String firstNameRegex = invocation.getArgument(0);
-                    String familyNameRegex = invocation.getArgument(1);
-                    if ((firstNameRegex.equals("^\\QTESTFIRSTNAME\\E$") && familyNameRegex.equals("^\\QTESTFAMILYNAME\\E$")) ||
-                            (firstNameRegex.equals("^\\Qtestfirstname\\E$") && familyNameRegex.equals("^\\Qtestfamilyname\\E$")) ||
-                            (firstNameRegex.equals("^\\QTestFirstName\\E$") && familyNameRegex.equals("^\\QTestFamilyName\\E$"))) {
+                    String firstName = invocation.getArgument(0);
+                    String familyName = invocation.getArgument(1);
+                    if ((firstName.equals("TESTFIRSTNAME") && familyName.equals("TESTFAMILYNAME")) ||
+                            (firstName.equals("testfirstname") && familyName.equals("testfamilyname")) ||
+                            (firstName.equals("TestFirstName") && familyName.equals("TestFamilyName"))) {
                         return expectedPropertyInsurances;
                     } else {
                         return Collections.emptyList();
@@ -825,11 +908,11 @@ class InsuranceSearchServiceTest {
                 });
         when(mockVehicleInsuranceRepo.findByFirstNameAndFamilyName(ArgumentMatchers.anyString(), ArgumentMatchers.anyString()))
                 .thenAnswer(invocation -> {
-                    String firstNameRegex = invocation.getArgument(0);
-                    String familyNameRegex = invocation.getArgument(1);
-                    if ((firstNameRegex.equals("^\\QTESTFIRSTNAME\\E$") && familyNameRegex.equals("^\\QTESTFAMILYNAME\\E$")) ||
-                            (firstNameRegex.equals("^\\Qtestfirstname\\E$") && familyNameRegex.equals("^\\Qtestfamilyname\\E$")) ||
-                            (firstNameRegex.equals("^\\QTestFirstName\\E$") && familyNameRegex.equals("^\\QTestFamilyName\\E$"))) {
+                    String firstName = invocation.getArgument(0);
+                    String familyName = invocation.getArgument(1);
+                    if ((firstName.equals("TESTFIRSTNAME") && familyName.equals("TESTFAMILYNAME")) ||
+                            (firstName.equals("testfirstname") && familyName.equals("testfamilyname")) ||
+                            (firstName.equals("TestFirstName") && familyName.equals("TestFamilyName"))) {
                         return expectedVehicleInsurances;
                     } else {
                         return Collections.emptyList();
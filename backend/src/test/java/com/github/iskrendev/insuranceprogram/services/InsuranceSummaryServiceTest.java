@@ -2,6 +2,9 @@ package com.github.iskrendev.insuranceprogram.services;
 
 import com.github.iskrendev.insuranceprogram.enums.InsuranceType;
 import com.github.iskrendev.insuranceprogram.models.InsuranceSummaryDTO;
+import com.github.iskrendev.insuranceprogram.models.InsuranceTotals;
+import com.github.iskrendev.insuranceprogram.models.PortfolioReconciliationReport;
+import com.github.iskrendev.insuranceprogram.models.PortfolioSummary;
 import com.github.iskrendev.insuranceprogram.models.LifeInsurance;
 import com.github.iskrendev.insuranceprogram.models.PropertyInsurance;
 import com.github.iskrendev.insuranceprogram.models.VehicleInsurance;
@@ -11,8 +14,11 @@ import com.github.iskrendev.insuranceprogram.repositories.VehicleInsuranceRepo;
 import org.junit.jupiter.api.Test;
 
 import java.math.BigDecimal;
+import java.time.Instant;
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -21,7 +27,8 @@ class InsuranceSummaryServiceTest {
     private final LifeInsuranceRepo mockLifeInsuranceRepo = mock(LifeInsuranceRepo.class);
     private final PropertyInsuranceRepo mockPropertyInsuranceRepo = mock(PropertyInsuranceRepo.class);
     private final VehicleInsuranceRepo mockVehicleInsuranceRepo = mock(VehicleInsuranceRepo.class);
-    private final InsuranceSummaryService insuranceSummaryService = new InsuranceSummaryService(mockLifeInsuranceRepo, mockPropertyInsuranceRepo, mockVehicleInsuranceRepo);
+    private final PortfolioCounterService mockPortfolioCounterService = mock(PortfolioCounterService.class);
+    private final InsuranceSummaryService insuranceSummaryService = new InsuranceSummaryService(mockLifeInsuranceRepo, mockPropertyInsuranceRepo, mockVehicleInsuranceRepo, mockPortfolioCounterService);
 
     @Test
     void countLifeInsurances_whenNoLifeInsurancesInRepo_thenReturn0() {
@@ -67,9 +74,9 @@ class InsuranceSummaryServiceTest {
 
     @Test
     void calculateTotalInsuranceAmount_whenNoInsurancesInLists_thenReturn0() {
-        when(mockLifeInsuranceRepo.findAll()).thenReturn(List.of());
-        when(mockPropertyInsuranceRepo.findAll()).thenReturn(List.of());
-        when(mockVehicleInsuranceRepo.findAll()).thenReturn(List.of());
+        when(mockLifeInsuranceRepo.aggregateTotals()).thenReturn(Optional.empty());
+        when(mockPropertyInsuranceRepo.aggregateTotals()).thenReturn(Optional.empty());
+        when(mockVehicleInsuranceRepo.aggregateTotals()).thenReturn(Optional.empty());
         BigDecimal totalAmount = insuranceSummaryService.calculateTotalInsuranceAmount();
         assertEquals(BigDecimal.ZERO, totalAmount);
     }
@@ -138,9 +145,9 @@ class InsuranceSummaryServiceTest {
                 .add(propertyInsurance.calculateInsuranceAmount())
                 .add(vehicleInsurance.calculateInsuranceAmount());
         //WHEN
-        when(mockLifeInsuranceRepo.findAll()).thenReturn(List.of(lifeInsurance));
-        when(mockPropertyInsuranceRepo.findAll()).thenReturn(List.of(propertyInsurance));
-        when(mockVehicleInsuranceRepo.findAll()).thenReturn(List.of(vehicleInsurance));
+        when(mockLifeInsuranceRepo.aggregateTotals()).thenReturn(Optional.of(new InsuranceTotals(1L, lifeInsurance.calculateInsuranceAmount())));
+        when(mockPropertyInsuranceRepo.aggregateTotals()).thenReturn(Optional.of(new InsuranceTotals(1L, propertyInsurance.calculateInsuranceAmount())));
+        when(mockVehicleInsuranceRepo.aggregateTotals()).thenReturn(Optional.of(new InsuranceTotals(1L, vehicleInsurance.calculateInsuranceAmount())));
         BigDecimal actual = insuranceSummaryService.calculateTotalInsuranceAmount();
         //THEN
         assertEquals(expected, actual);
@@ -149,9 +156,7 @@ class InsuranceSummaryServiceTest {
     @Test
     void getInsuranceSummary_whenNoInsurancesInRepos_thenReturn0() {
         //GIVEN
-        when(mockLifeInsuranceRepo.count()).thenReturn(0L);
-        when(mockPropertyInsuranceRepo.count()).thenReturn(0L);
-        when(mockVehicleInsuranceRepo.count()).thenReturn(0L);
+        when(mockPortfolioCounterService.getSummary()).thenReturn(new PortfolioSummary("portfolio", Map.of(), Map.of(), 0));
         //WHEN
         InsuranceSummaryDTO actual = insuranceSummaryService.getInsuranceSummary();
         //THEN
@@ -222,13 +227,12 @@ class InsuranceSummaryServiceTest {
                 .licensePlateNumber("AB 123 CD")
                 .build();
 
-        when(mockLifeInsuranceRepo.findAll()).thenReturn(List.of(lifeInsurance));
-        when(mockPropertyInsuranceRepo.findAll()).thenReturn(List.of(propertyInsurance));
-        when(mockVehicleInsuranceRepo.findAll()).thenReturn(List.of(vehicleInsurance));
-
-        when(mockLifeInsuranceRepo.count()).thenReturn(1L);
-        when(mockPropertyInsuranceRepo.count()).thenReturn(1L);
-        when(mockVehicleInsuranceRepo.count()).thenReturn(1L);
+        PortfolioSummary portfolioSummary = new PortfolioSummary("portfolio",
+                Map.of(InsuranceType.LIFE, 1L, InsuranceType.PROPERTY, 1L, InsuranceType.VEHICLE, 1L),
+                Map.of(InsuranceType.LIFE, lifeInsurance.calculateInsuranceAmount(),
+                        InsuranceType.PROPERTY, propertyInsurance.calculateInsuranceAmount(),
+                        InsuranceType.VEHICLE, vehicleInsurance.calculateInsuranceAmount()), 0);
+        when(mockPortfolioCounterService.getSummary()).thenReturn(portfolioSummary);
 
         BigDecimal expectedTotalAmount = lifeInsurance.calculateInsuranceAmount()
                 .add(propertyInsurance.calculateInsuranceAmount())
@@ -241,4 +245,20 @@ class InsuranceSummaryServiceTest {
         assertEquals(1L, actual.propertyInsuranceCount());
         assertEquals(1L, actual.vehicleInsuranceCount());
     }
+
+    @Test
+    void getInsuranceSummary_whenCalled_thenReadsCountersInsteadOfCollections() {
+        when(mockPortfolioCounterService.getSummary()).thenReturn(new PortfolioSummary("portfolio", Map.of(), Map.of(), 0));
+        insuranceSummaryService.getInsuranceSummary();
+        verify(mockPortfolioCounterService).getSummary();
+        verifyNoInteractions(mockLifeInsuranceRepo, mockPropertyInsuranceRepo, mockVehicleInsuranceRepo);
+    }
+
+    @Test
+    void reconcileInsuranceSummary_whenCalled_thenDelegateToCounters() {
+        PortfolioReconciliationReport expected = new PortfolioReconciliationReport(Instant.now(), true, List.of());
+        when(mockPortfolioCounterService.reconcile()).thenReturn(expected);
+        PortfolioReconciliationReport actual = insuranceSummaryService.reconcileInsuranceSummary();
+        assertEquals(expected, actual);
+    }
 }
\ No newline at end of file
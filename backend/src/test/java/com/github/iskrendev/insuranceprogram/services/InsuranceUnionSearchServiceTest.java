@@ -0,0 +1,94 @@
+package com.github.iskrendev.insuranceprogram.services;
+
+import com.github.iskrendev.insuranceprogram.config.InsuranceQueryProperties;
+import com.github.iskrendev.insuranceprogram.enums.InsuranceType;
+import com.github.iskrendev.insuranceprogram.exceptions.InvalidSearchCriteriaException;
+import com.github.iskrendev.insuranceprogram.models.Insurance;
+import com.github.iskrendev.insuranceprogram.models.LifeInsurance;
+import com.github.iskrendev.insuranceprogram.models.PropertyInsurance;
+import com.github.iskrendev.insuranceprogram.models.VehicleInsurance;
+import org.bson.Document;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.AggregationResults;
+import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
+import org.springframework.data.mongodb.core.convert.MongoCustomConversions;
+import org.springframework.data.mongodb.core.convert.NoOpDbRefResolver;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class InsuranceUnionSearchServiceTest {
+    private final MongoTemplate mockMongoTemplate = mock(MongoTemplate.class);
+    private final InsuranceUnionSearchService insuranceUnionSearchService = new InsuranceUnionSearchService(mockMongoTemplate,
+            new InsuranceQueryProperties(50, 500));
+
+    @BeforeEach
+    void setUp() {
+        when(mockMongoTemplate.getCollectionName(LifeInsurance.class)).thenReturn("life_insurance");
+        when(mockMongoTemplate.getCollectionName(PropertyInsurance.class)).thenReturn("property_insurance");
+        when(mockMongoTemplate.getCollectionName(VehicleInsurance.class)).thenReturn("vehicle_insurance");
+    }
+
+    @Test
+    void topInsurancesAggregation_whenSortingByFamilyName_thenLimitEachBranchAndTheUnion() {
+        //WHEN
+        Aggregation actual = insuranceUnionSearchService.topInsurancesAggregation(null, "Meier", "familyName", Sort.Direction.ASC, 5);
+        //THEN
+        List<Document> pipeline = actual.toPipeline(Aggregation.DEFAULT_CONTEXT);
+        Document sort = new Document("familyName", 1).append("firstName", 1).append("_id", 1);
+        List<Document> lifeBranch = List.of(
+                new Document("$match", new Document("familyName", "Meier")),
+                new Document("$sort", sort),
+                new Document("$limit", 5L),
+                new Document("$addFields", new Document("type", "LIFE")));
+        assertEquals(lifeBranch, pipeline.subList(0, 4));
+        Document propertyUnion = pipeline.get(4).get("$unionWith", Document.class);
+        assertEquals("property_insurance", propertyUnion.getString("coll"));
+        assertEquals(new Document("$addFields", new Document("type", "PROPERTY")), propertyUnion.getList("pipeline", Document.class).get(3));
+        assertEquals("vehicle_insurance", pipeline.get(5).get("$unionWith", Document.class).getString("coll"));
+        assertEquals(List.of(new Document("$sort", sort), new Document("$limit", 5L)), pipeline.subList(6, 8));
+        assertTrue(actual.getOptions().getCollation().isPresent());
+    }
+
+    @Test
+    void topInsurancesAggregation_whenInputIsInvalid_thenThrowInvalidSearchCriteriaException() {
+        assertThrows(InvalidSearchCriteriaException.class,
+                () -> insuranceUnionSearchService.topInsurancesAggregation("", null, "familyName", Sort.Direction.ASC, 5));
+        assertThrows(InvalidSearchCriteriaException.class,
+                () -> insuranceUnionSearchService.topInsurancesAggregation("Anna", null, "email", Sort.Direction.ASC, 5));
+        assertThrows(InvalidSearchCriteriaException.class,
+                () -> insuranceUnionSearchService.topInsurancesAggregation("Anna", null, "familyName", Sort.Direction.ASC, 501));
+    }
+
+    @Test
+    void searchTopInsurancesByName_whenRowsOfSeveralTypes_thenReadEachAsItsType() {
+        //GIVEN
+        MongoCustomConversions conversions = new MongoCustomConversions(List.of());
+        MongoMappingContext mappingContext = new MongoMappingContext();
+        mappingContext.setSimpleTypeHolder(conversions.getSimpleTypeHolder());
+        MappingMongoConverter converter = new MappingMongoConverter(NoOpDbRefResolver.INSTANCE, mappingContext);
+        converter.setCustomConversions(conversions);
+        converter.afterPropertiesSet();
+        when(mockMongoTemplate.getConverter()).thenReturn(converter);
+        List<Document> rows = List.of(
+                new Document("_id", "2").append("firstName", "Anna").append("familyName", "Meier").append("type", "VEHICLE")
+                        .append("licensePlateNumber", "B-AM 1"),
+                new Document("_id", "1").append("firstName", "Anna").append("familyName", "Meier").append("type", "LIFE"));
+        when(mockMongoTemplate.aggregate(any(Aggregation.class), eq("life_insurance"), eq(Document.class)))
+                .thenReturn(new AggregationResults<>(rows, new Document()));
+        //WHEN
+        List<Insurance> actual = insuranceUnionSearchService.searchTopInsurancesByName("Anna", "Meier", "familyName", Sort.Direction.ASC, 2);
+        //THEN
+        assertEquals(VehicleInsurance.builder().id("2").firstName("Anna").familyName("Meier").type(InsuranceType.VEHICLE)
+                .licensePlateNumber("B-AM 1").build(), actual.get(0));
+        assertEquals(LifeInsurance.builder().id("1").firstName("Anna").familyName("Meier").type(InsuranceType.LIFE).build(), actual.get(1));
+    }
+}
@@ -5,7 +5,13 @@ import com.github.iskrendev.insuranceprogram.exceptions.NoSuchInsuranceException
 import com.github.iskrendev.insuranceprogram.models.LifeInsurance;
 import com.github.iskrendev.insuranceprogram.models.LifeInsuranceUpdateDTO;
 import com.github.iskrendev.insuranceprogram.repositories.LifeInsuranceRepo;
+import org.bson.Document;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
@@ -17,7 +23,11 @@ import static org.mockito.Mockito.*;
 
 class LifeInsuranceServiceTest {
     private final LifeInsuranceRepo mockLifeInsuranceRepo = mock(LifeInsuranceRepo.class);
-    private final LifeInsuranceService lifeInsuranceService = new LifeInsuranceService(mockLifeInsuranceRepo);
+    private final PortfolioCounterService mockPortfolioCounterService = mock(PortfolioCounterService.class);
+    private final NameSuggestionService mockNameSuggestionService = mock(NameSuggestionService.class);
+    private final InsurancePaginationService mockInsurancePaginationService = mock(InsurancePaginationService.class);
+    private final MongoTemplate mockMongoTemplate = mock(MongoTemplate.class);
+    private final LifeInsuranceService lifeInsuranceService = new LifeInsuranceService(mockLifeInsuranceRepo, mockPortfolioCounterService, mockNameSuggestionService, mockInsurancePaginationService, mockMongoTemplate);
 
     @Test
     void getAllLifeInsurances_whenNoLifeInsuranceIsInList_thenReturnEmptyList() {
@@ -116,6 +126,8 @@ class LifeInsuranceServiceTest {
         //THEN
         LifeInsurance actual = lifeInsuranceService.addLifeInsurance(expected);
         verify(mockLifeInsuranceRepo).save(expected);
+        verify(mockPortfolioCounterService).recordAdded(InsuranceType.LIFE, expected.calculateInsuranceAmount());
+        verify(mockNameSuggestionService).recordAdded(expected);
         assertEquals(expected, actual);
     }
 
@@ -201,15 +213,17 @@ class LifeInsuranceServiceTest {
                 .healthConditionDetails("")
                 .build();
 
-        when(mockLifeInsuranceRepo.findById("1")).thenReturn(Optional.of(lifeInsuranceBefore));
-        when(mockLifeInsuranceRepo.save(any(LifeInsurance.class))).thenReturn(updatedLifeInsurance);
+        when(mockMongoTemplate.findAndModify(any(Query.class), any(Update.class), any(FindAndModifyOptions.class), eq(LifeInsurance.class))).thenReturn(lifeInsuranceBefore);
 
         // WHEN
         LifeInsurance actual = lifeInsuranceService.updateLifeInsurance(updatedLifeInsurance.id(), lifeInsuranceUpdateDTO);
 
         // THEN
-        verify(mockLifeInsuranceRepo).findById("1");
-        verify(mockLifeInsuranceRepo).save(updatedLifeInsurance);
+        verify(mockMongoTemplate).findAndModify(any(Query.class), any(Update.class), any(FindAndModifyOptions.class), eq(LifeInsurance.class));
+        verify(mockLifeInsuranceRepo, never()).findById(any());
+        verify(mockLifeInsuranceRepo, never()).save(any(LifeInsurance.class));
+        verify(mockPortfolioCounterService).recordUpdated(InsuranceType.LIFE,
+                lifeInsuranceBefore.calculateInsuranceAmount(), updatedLifeInsurance.calculateInsuranceAmount());
         assertEquals(updatedLifeInsurance, actual);
     }
 
@@ -230,16 +244,94 @@ class LifeInsuranceServiceTest {
                 .healthConditionDetails("")
                 .build();
 
-        when(mockLifeInsuranceRepo.findById("invalidId")).thenReturn(Optional.empty());
+        when(mockMongoTemplate.findAndModify(any(Query.class), any(Update.class), any(FindAndModifyOptions.class), eq(LifeInsurance.class))).thenReturn(null);
         assertThrows(NoSuchInsuranceException.class, () -> lifeInsuranceService.updateLifeInsurance("invalidId", lifeInsuranceUpdateDTO));
-        verify(mockLifeInsuranceRepo).findById("invalidId");
         verify(mockLifeInsuranceRepo, never()).save(any(LifeInsurance.class));
+        verify(mockPortfolioCounterService).beginWrite();
+        verifyNoMoreInteractions(mockPortfolioCounterService);
     }
 
     @Test
-    void deleteLifeInsurance() {
+    void patchLifeInsurance_whenOnlySomeFieldsAreGiven_thenSetOnlyThoseFields() {
+        // GIVEN
+        LifeInsurance lifeInsuranceBefore = LifeInsurance.builder()
+                .id("1")
+                .firstName("TestFirstName")
+                .familyName("TestFamilyName")
+                .city("Testcity")
+                .type(InsuranceType.LIFE)
+                .duration(12)
+                .paymentPerMonth(BigDecimal.valueOf(100))
+                .startDate(LocalDate.of(2024, 1, 1))
+                .build();
+
+        LifeInsuranceUpdateDTO lifeInsuranceUpdateDTO = LifeInsuranceUpdateDTO.builder()
+                .city("NewTestCity")
+                .duration(24)
+                .healthConditionDetails("Asthma")
+                .build();
+
+        LifeInsurance expected = LifeInsurance.builder()
+                .id("1")
+                .firstName("TestFirstName")
+                .familyName("TestFamilyName")
+                .city("NewTestCity")
+                .type(InsuranceType.LIFE)
+                .duration(24)
+                .paymentPerMonth(BigDecimal.valueOf(100))
+                .startDate(LocalDate.of(2024, 1, 1))
+                .healthConditionDetails("Asthma")
+                .build();
+
+        ArgumentCaptor<Update> updateCaptor = ArgumentCaptor.forClass(Update.class);
+        when(mockMongoTemplate.findAndModify(any(Query.class), updateCaptor.capture(), any(FindAndModifyOptions.class), eq(LifeInsurance.class)))
+                .thenReturn(lifeInsuranceBefore);
+
+        // WHEN
+        LifeInsurance actual = lifeInsuranceService.patchLifeInsurance("1", lifeInsuranceUpdateDTO);
+
+        // THEN
+        assertEquals(new Document("$set", new Document("city", "NewTestCity").append("duration", 24).append("healthConditionDetails", "Asthma")),
+                updateCaptor.getValue().getUpdateObject());
+        verify(mockPortfolioCounterService).recordUpdated(InsuranceType.LIFE, BigDecimal.valueOf(1200), BigDecimal.valueOf(2400));
+        assertEquals(expected, actual);
+    }
+
+    @Test
+    void patchLifeInsurance_whenInsuranceIdDoesNotExistsInDb_thenThrowException() {
+        LifeInsuranceUpdateDTO lifeInsuranceUpdateDTO = LifeInsuranceUpdateDTO.builder()
+                .city("NewTestCity")
+                .build();
+
+        when(mockMongoTemplate.findAndModify(any(Query.class), any(Update.class), any(FindAndModifyOptions.class), eq(LifeInsurance.class)))
+                .thenReturn(null);
+        assertThrows(NoSuchInsuranceException.class, () -> lifeInsuranceService.patchLifeInsurance("invalidId", lifeInsuranceUpdateDTO));
+        verify(mockPortfolioCounterService).beginWrite();
+        verifyNoMoreInteractions(mockPortfolioCounterService);
+    }
+
+    @Test
+    void deleteLifeInsurance_whenInsuranceExists_thenDecrementCounters() {
         String lifeInsuranceId = "1";
+        LifeInsurance lifeInsurance = LifeInsurance.builder()
+                .id(lifeInsuranceId)
+                .type(InsuranceType.LIFE)
+                .duration(12)
+                .paymentPerMonth(BigDecimal.valueOf(100))
+                .build();
+        when(mockLifeInsuranceRepo.removeById(lifeInsuranceId)).thenReturn(Optional.of(lifeInsurance));
         lifeInsuranceService.deleteLifeInsurance(lifeInsuranceId);
-        verify(mockLifeInsuranceRepo).deleteById(lifeInsuranceId);
+        verify(mockLifeInsuranceRepo).removeById(lifeInsuranceId);
+        verify(mockPortfolioCounterService).recordRemoved(InsuranceType.LIFE, BigDecimal.valueOf(1200));
+        verify(mockNameSuggestionService).recordRemoved(lifeInsurance);
+    }
+
+    @Test
+    void deleteLifeInsurance_whenInsuranceDoesNotExist_thenLeaveCountersUnchanged() {
+        when(mockLifeInsuranceRepo.removeById("invalidId")).thenReturn(Optional.empty());
+        lifeInsuranceService.deleteLifeInsurance("invalidId");
+        verify(mockLifeInsuranceRepo).removeById("invalidId");
+        verify(mockPortfolioCounterService).beginWrite();
+        verifyNoMoreInteractions(mockPortfolioCounterService);
     }
 }
\ No newline at end of file
@@ -0,0 +1,113 @@
+package com.github.iskrendev.insuranceprogram.services;
+
+import com.github.iskrendev.insuranceprogram.config.SuggestionProperties;
+import com.github.iskrendev.insuranceprogram.enums.InsuranceType;
+import com.github.iskrendev.insuranceprogram.enums.NameField;
+import com.github.iskrendev.insuranceprogram.models.LifeInsurance;
+import com.github.iskrendev.insuranceprogram.models.NameSuggestion;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class NameSuggestionIndexTest {
+    private final NameSuggestionIndex index = new NameSuggestionIndex(new SuggestionProperties(3, 2, 2));
+
+    private static LifeInsurance lifeInsurance(String firstName, String familyName) {
+        return LifeInsurance.builder().firstName(firstName).familyName(familyName).type(InsuranceType.LIFE).build();
+    }
+
+    @Test
+    void suggest_whenNamesShareThePrefix_thenRankByPolicyCountAcrossFields() {
+        //GIVEN
+        index.adjust(NameField.FIRST_NAME, "Anna", 3);
+        index.adjust(NameField.FAMILY_NAME, "Andersen", 5);
+        index.adjust(NameField.FIRST_NAME, "Anton", 1);
+        index.adjust(NameField.FIRST_NAME, "Bert", 9);
+        //WHEN
+        List<NameSuggestion> actual = index.suggest("AN", 10);
+        //THEN
+        assertEquals(List.of(
+                new NameSuggestion("Andersen", NameField.FAMILY_NAME, 5),
+                new NameSuggestion("Anna", NameField.FIRST_NAME, 3)), actual);
+    }
+
+    @Test
+    void suggest_whenNameIsAddedAfterCachingThePrefix_thenReturnIt() {
+        //GIVEN
+        index.add(lifeInsurance("Anna", "Berg"));
+        assertEquals(1, index.suggest("a", 2).size());
+        //WHEN
+        index.add(lifeInsurance("anna", "Albers"));
+        //THEN
+        assertEquals(List.of(
+                new NameSuggestion("Anna", NameField.FIRST_NAME, 2),
+                new NameSuggestion("Albers", NameField.FAMILY_NAME, 1)), index.suggest("a", 2));
+    }
+
+    @Test
+    void suggest_whenPrefixMatchesNoName_thenDoNotCacheIt() {
+        //GIVEN
+        index.add(lifeInsurance("Anna", "Berg"));
+        //WHEN
+        index.suggest("a", 2);
+        index.suggest("zq", 2);
+        index.suggest("\u4e00", 2);
+        //THEN
+        assertEquals(1, index.cachedPrefixCount());
+    }
+
+    @Test
+    void suggest_whenNameIsAddedBetweenRankingAndCaching_thenDoNotCacheTheStaleRanking() {
+        //GIVEN
+        NameSuggestionIndex racingIndex = new NameSuggestionIndex(new SuggestionProperties(3, 2, 2)) {
+            private boolean written;
+
+            @Override
+            List<NameSuggestion> rank(String prefix) {
+                List<NameSuggestion> ranked = super.rank(prefix);
+                if (!written) {
+                    written = true;
+                    add(lifeInsurance("Anna", "Albers"));
+                }
+                return ranked;
+            }
+        };
+        racingIndex.add(lifeInsurance("Anna", "Berg"));
+        //WHEN
+        List<NameSuggestion> stale = racingIndex.suggest("a", 2);
+        //THEN
+        assertEquals(List.of(new NameSuggestion("Anna", NameField.FIRST_NAME, 1)), stale);
+        assertEquals(0, racingIndex.cachedPrefixCount());
+        assertEquals(List.of(
+                new NameSuggestion("Anna", NameField.FIRST_NAME, 2),
+                new NameSuggestion("Albers", NameField.FAMILY_NAME, 1)), racingIndex.suggest("a", 2));
+    }
+
+    @Test
+    void remove_whenLastPolicyOfNameIsRemoved_thenStopSuggestingIt() {
+        //GIVEN
+        index.add(lifeInsurance("Anna", "Berg"));
+        //WHEN
+        index.remove(lifeInsurance("Anna", "Berg"));
+        //THEN
+        assertEquals(List.of(), index.suggest("an", 5));
+        assertEquals(0, index.size(NameField.FIRST_NAME));
+    }
+
+    @Test
+    void adjust_whenIndexIsFull_thenIgnoreNewNamesButCountKnownOnes() {
+        //GIVEN
+        index.adjust(NameField.FIRST_NAME, "Anna", 1);
+        index.adjust(NameField.FIRST_NAME, "Ben", 1);
+        index.adjust(NameField.FIRST_NAME, "Carl", 1);
+        //WHEN
+        index.adjust(NameField.FIRST_NAME, "Dora", 1);
+        index.adjust(NameField.FIRST_NAME, "Anna", 1);
+        //THEN
+        assertEquals(3, index.size(NameField.FIRST_NAME));
+        assertEquals(List.of(), index.suggest("Dora", 1));
+        assertEquals(List.of(new NameSuggestion("Anna", NameField.FIRST_NAME, 2)), index.suggest("Anna", 1));
+    }
+}
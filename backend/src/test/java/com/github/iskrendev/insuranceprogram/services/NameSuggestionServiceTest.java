@@ -0,0 +1,115 @@
+package com.github.iskrendev.insuranceprogram.services;
+
+import com.github.iskrendev.insuranceprogram.config.SuggestionProperties;
+import com.github.iskrendev.insuranceprogram.enums.InsuranceType;
+import com.github.iskrendev.insuranceprogram.enums.NameField;
+import com.github.iskrendev.insuranceprogram.exceptions.InvalidSearchCriteriaException;
+import com.github.iskrendev.insuranceprogram.models.LifeInsurance;
+import com.github.iskrendev.insuranceprogram.models.NameSuggestion;
+import com.github.iskrendev.insuranceprogram.models.PropertyInsurance;
+import com.github.iskrendev.insuranceprogram.models.VehicleInsurance;
+import org.bson.Document;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class NameSuggestionServiceTest {
+    private final MongoTemplate mockMongoTemplate = mock(MongoTemplate.class);
+
+    private NameSuggestionService nameSuggestionService() {
+        when(mockMongoTemplate.getCollectionName(LifeInsurance.class)).thenReturn("life_insurance");
+        when(mockMongoTemplate.getCollectionName(PropertyInsurance.class)).thenReturn("property_insurance");
+        when(mockMongoTemplate.getCollectionName(VehicleInsurance.class)).thenReturn("vehicle_insurance");
+        return new NameSuggestionService(mockMongoTemplate, new SuggestionProperties(100, 10, 2));
+    }
+
+    private static LifeInsurance lifeInsurance(String firstName, String familyName) {
+        return LifeInsurance.builder().firstName(firstName).familyName(familyName).type(InsuranceType.LIFE).build();
+    }
+
+    @Test
+    void suggest_whenPrefixIsBlank_thenThrowInvalidSearchCriteriaException() {
+        //GIVEN
+        NameSuggestionService nameSuggestionService = nameSuggestionService();
+        //WHEN & THEN
+        assertThrows(InvalidSearchCriteriaException.class, () -> nameSuggestionService.suggest(" ", 5));
+    }
+
+    @Test
+    void rebuild_whenCollectionsHoldNames_thenSuggestThemWithTheirPolicyCounts() {
+        //GIVEN
+        NameSuggestionService nameSuggestionService = nameSuggestionService();
+        when(mockMongoTemplate.aggregateStream(any(Aggregation.class), anyString(), eq(Document.class)))
+                .thenAnswer(invocation -> Stream.of(new Document("_id", "Anna").append("count", 2)));
+        //WHEN
+        nameSuggestionService.rebuild();
+        //THEN
+        assertEquals(List.of(
+                new NameSuggestion("Anna", NameField.FIRST_NAME, 6),
+                new NameSuggestion("Anna", NameField.FAMILY_NAME, 6)), nameSuggestionService.suggest("ann", 5));
+    }
+
+    @Test
+    void rebuild_whenWritesArriveDuringTheRebuild_thenCountEachOnce() {
+        //GIVEN
+        NameSuggestionService nameSuggestionService = nameSuggestionService();
+        VehicleInsurance vehicleInsurance = VehicleInsurance.builder()
+                .firstName("Zoe").familyName("Zander").type(InsuranceType.VEHICLE).build();
+        when(mockMongoTemplate.aggregateStream(any(Aggregation.class), eq("life_insurance"), eq(Document.class)))
+                .thenAnswer(invocation -> {
+                    if (invocation.getArgument(0).toString().contains("firstName")) {
+                        nameSuggestionService.recordAdded(vehicleInsurance);
+                    }
+                    return Stream.empty();
+                });
+        when(mockMongoTemplate.aggregateStream(any(Aggregation.class), eq("property_insurance"), eq(Document.class)))
+                .thenAnswer(invocation -> Stream.empty());
+        when(mockMongoTemplate.aggregateStream(any(Aggregation.class), eq("vehicle_insurance"), eq(Document.class)))
+                .thenAnswer(invocation -> {
+                    if (invocation.getArgument(0).toString().contains("firstName")) {
+                        nameSuggestionService.recordAdded(lifeInsurance("Lea", "Lang"));
+                        return Stream.of(new Document("_id", "Zoe").append("count", 1));
+                    }
+                    return Stream.of(new Document("_id", "Zander").append("count", 1));
+                });
+        //WHEN
+        nameSuggestionService.rebuild();
+        //THEN
+        assertEquals(List.of(new NameSuggestion("Zoe", NameField.FIRST_NAME, 1)), nameSuggestionService.suggest("zoe", 5));
+        assertEquals(List.of(new NameSuggestion("Zander", NameField.FAMILY_NAME, 1)), nameSuggestionService.suggest("zan", 5));
+        assertEquals(List.of(new NameSuggestion("Lea", NameField.FIRST_NAME, 1)), nameSuggestionService.suggest("lea", 5));
+    }
+
+    @Test
+    void rebuild_whenMongoIsUnavailable_thenKeepServingTheCurrentIndex() {
+        //GIVEN
+        NameSuggestionService nameSuggestionService = nameSuggestionService();
+        nameSuggestionService.recordAdded(lifeInsurance("Anna", "Berg"));
+        when(mockMongoTemplate.aggregateStream(any(Aggregation.class), anyString(), eq(Document.class)))
+                .thenThrow(new DataAccessResourceFailureException("down"));
+        //WHEN
+        nameSuggestionService.rebuild();
+        //THEN
+        assertEquals(List.of(new NameSuggestion("Anna", NameField.FIRST_NAME, 1)), nameSuggestionService.suggest("a", 5));
+    }
+
+    @Test
+    void recordUpdated_whenNameChanges_thenMoveThePolicyToTheNewName() {
+        //GIVEN
+        NameSuggestionService nameSuggestionService = nameSuggestionService();
+        nameSuggestionService.recordAdded(lifeInsurance("Anna", "Berg"));
+        //WHEN
+        nameSuggestionService.recordUpdated(lifeInsurance("Anna", "Berg"), lifeInsurance("Anne", "Berg"));
+        //THEN
+        assertEquals(List.of(new NameSuggestion("Anne", NameField.FIRST_NAME, 1)), nameSuggestionService.suggest("ann", 5));
+        assertEquals(List.of(new NameSuggestion("Berg", NameField.FAMILY_NAME, 1)), nameSuggestionService.suggest("b", 5));
+    }
+}
@@ -0,0 +1,103 @@
+package com.github.iskrendev.insuranceprogram.services;
+
+import com.github.iskrendev.insuranceprogram.config.PaymentPerMonthMigrationProperties;
+import com.github.iskrendev.insuranceprogram.enums.MigrationStatus;
+import com.github.iskrendev.insuranceprogram.models.LifeInsurance;
+import com.github.iskrendev.insuranceprogram.models.MigrationProgress;
+import com.github.iskrendev.insuranceprogram.models.PropertyInsurance;
+import com.github.iskrendev.insuranceprogram.models.VehicleInsurance;
+import com.mongodb.bulk.BulkWriteResult;
+import org.bson.Document;
+import org.bson.types.Decimal128;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class PaymentPerMonthMigrationServiceTest {
+    private final MongoTemplate mockMongoTemplate = mock(MongoTemplate.class);
+    private final BulkOperations mockBulkOperations = mock(BulkOperations.class);
+    private final PaymentPerMonthMigrationProperties properties = new PaymentPerMonthMigrationProperties(false, 2, Duration.ZERO);
+    private PaymentPerMonthMigrationService migrationService;
+
+    @BeforeEach
+    void setUp() {
+        when(mockMongoTemplate.getCollectionName(LifeInsurance.class)).thenReturn("life_insurance");
+        when(mockMongoTemplate.getCollectionName(PropertyInsurance.class)).thenReturn("property_insurance");
+        when(mockMongoTemplate.getCollectionName(VehicleInsurance.class)).thenReturn("vehicle_insurance");
+        when(mockMongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, "life_insurance")).thenReturn(mockBulkOperations);
+        migrationService = new PaymentPerMonthMigrationService(mockMongoTemplate, properties);
+    }
+
+    @Test
+    void getProgress_whenMigrationHasNotStarted_thenAllCollectionsArePending() {
+        List<MigrationProgress> actual = migrationService.getProgress();
+        assertEquals(3, actual.size());
+        assertTrue(actual.stream().allMatch(progress -> progress.status() == MigrationStatus.PENDING));
+    }
+
+    @Test
+    void migrateCollection_whenStringValuesExist_thenRewriteThemAsDecimal128InBatches() {
+        //GIVEN
+        when(mockMongoTemplate.count(any(Query.class), eq("life_insurance"))).thenReturn(3L);
+        when(mockMongoTemplate.find(any(Query.class), eq(Document.class), eq("life_insurance")))
+                .thenReturn(List.of(new Document("_id", "1").append("paymentPerMonth", "100"),
+                        new Document("_id", "2").append("paymentPerMonth", "99.50")))
+                .thenReturn(List.of(new Document("_id", "3").append("paymentPerMonth", "12.3")))
+                .thenReturn(List.of());
+        when(mockBulkOperations.execute())
+                .thenReturn(BulkWriteResult.acknowledged(0, 2, 0, 2, List.of(), List.of()))
+                .thenReturn(BulkWriteResult.acknowledged(0, 1, 0, 1, List.of(), List.of()));
+        //WHEN
+        MigrationProgress actual = migrationService.migrateCollection("life_insurance");
+        //THEN
+        verify(mockBulkOperations).updateOne(any(Query.class), eq(Update.update("paymentPerMonth", new Decimal128(new BigDecimal("99.50")))));
+        verify(mockBulkOperations, times(3)).updateOne(any(Query.class), any(Update.class));
+        verify(mockBulkOperations, times(2)).execute();
+        assertEquals(new MigrationProgress("life_insurance", MigrationStatus.COMPLETED, 3, 3, 0), actual);
+    }
+
+    @Test
+    void migrateCollection_whenBatchesFollowEachOther_thenContinueAfterTheLastIdInIdOrder() {
+        //GIVEN
+        when(mockMongoTemplate.find(any(Query.class), eq(Document.class), eq("life_insurance")))
+                .thenReturn(List.of(new Document("_id", "1").append("paymentPerMonth", "abc"),
+                        new Document("_id", "2").append("paymentPerMonth", "100")))
+                .thenReturn(List.of());
+        when(mockBulkOperations.execute()).thenReturn(BulkWriteResult.acknowledged(0, 1, 0, 1, List.of(), List.of()));
+        ArgumentCaptor<Query> queries = ArgumentCaptor.forClass(Query.class);
+        //WHEN
+        MigrationProgress actual = migrationService.migrateCollection("life_insurance");
+        //THEN
+        verify(mockMongoTemplate, times(2)).find(queries.capture(), eq(Document.class), eq("life_insurance"));
+        Query secondBatch = queries.getAllValues().get(1);
+        assertEquals(new Document("$gt", "2"), secondBatch.getQueryObject().get("_id"));
+        assertEquals(new Document("_id", 1), secondBatch.getSortObject());
+        assertEquals(1, actual.failed());
+    }
+
+    @Test
+    void migrateCollection_whenValueIsNotADecimal_thenSkipItAndReportFailure() {
+        //GIVEN
+        when(mockMongoTemplate.count(any(Query.class), eq("life_insurance"))).thenReturn(1L);
+        when(mockMongoTemplate.find(any(Query.class), eq(Document.class), eq("life_insurance")))
+                .thenReturn(List.of(new Document("_id", "1").append("paymentPerMonth", "abc")))
+                .thenReturn(List.of());
+        //WHEN
+        MigrationProgress actual = migrationService.migrateCollection("life_insurance");
+        //THEN
+        verify(mockBulkOperations, never()).execute();
+        assertEquals(new MigrationProgress("life_insurance", MigrationStatus.COMPLETED, 1, 0, 1), actual);
+    }
+}
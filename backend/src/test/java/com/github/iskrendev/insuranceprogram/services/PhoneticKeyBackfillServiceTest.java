@@ -0,0 +1,56 @@
+package com.github.iskrendev.insuranceprogram.services;
+
+import com.github.iskrendev.insuranceprogram.config.FuzzySearchProperties;
+import com.github.iskrendev.insuranceprogram.models.LifeInsurance;
+import com.github.iskrendev.insuranceprogram.models.PropertyInsurance;
+import com.github.iskrendev.insuranceprogram.models.VehicleInsurance;
+import com.github.iskrendev.insuranceprogram.repositories.PhoneticKeys;
+import com.mongodb.bulk.BulkWriteResult;
+import org.bson.Document;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class PhoneticKeyBackfillServiceTest {
+    private final MongoTemplate mockMongoTemplate = mock(MongoTemplate.class);
+    private final BulkOperations mockBulkOperations = mock(BulkOperations.class);
+
+    private PhoneticKeyBackfillService phoneticKeyBackfillService() {
+        when(mockMongoTemplate.getCollectionName(LifeInsurance.class)).thenReturn("life_insurance");
+        when(mockMongoTemplate.getCollectionName(PropertyInsurance.class)).thenReturn("property_insurance");
+        when(mockMongoTemplate.getCollectionName(VehicleInsurance.class)).thenReturn("vehicle_insurance");
+        return new PhoneticKeyBackfillService(mockMongoTemplate, new FuzzySearchProperties(2, 100, true, 2));
+    }
+
+    @Test
+    void backfill_whenDocumentsLackKeys_thenSetThemBatchByBatchAfterTheLastId() {
+        //GIVEN
+        PhoneticKeyBackfillService phoneticKeyBackfillService = phoneticKeyBackfillService();
+        ArgumentCaptor<Query> queries = ArgumentCaptor.forClass(Query.class);
+        when(mockMongoTemplate.find(queries.capture(), eq(Document.class), eq("life_insurance")))
+                .thenReturn(List.of(new Document("_id", 1).append("firstName", "Anna").append("familyName", "Meyer"),
+                        new Document("_id", 2).append("familyName", "Maier")))
+                .thenReturn(List.of());
+        when(mockMongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, "life_insurance")).thenReturn(mockBulkOperations);
+        when(mockBulkOperations.execute()).thenReturn(BulkWriteResult.acknowledged(0, 0, 0, 2, List.of(), List.of()));
+        //WHEN
+        long actual = phoneticKeyBackfillService.backfill("life_insurance");
+        //THEN
+        assertEquals(2, actual);
+        verify(mockBulkOperations).updateOne(
+                Query.query(Criteria.where("_id").is(1).and("firstName").is("Anna").and("familyName").is("Meyer")),
+                new Update().set(PhoneticKeys.FIRST_NAME, "06").set(PhoneticKeys.FAMILY_NAME, "67"));
+        verify(mockBulkOperations).updateOne(any(Query.class), eq(new Update().set(PhoneticKeys.FAMILY_NAME, "67")));
+        assertTrue(queries.getAllValues().get(1).getQueryObject().toJson().contains("{\"_id\": {\"$gt\": 2}}"));
+    }
+}
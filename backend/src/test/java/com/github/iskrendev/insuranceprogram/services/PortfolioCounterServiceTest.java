@@ -0,0 +1,223 @@
+package com.github.iskrendev.insuranceprogram.services;
+
+import com.github.iskrendev.insuranceprogram.enums.InsuranceType;
+import com.github.iskrendev.insuranceprogram.models.InsuranceTotals;
+import com.github.iskrendev.insuranceprogram.models.PortfolioReconciliationReport;
+import com.github.iskrendev.insuranceprogram.models.PortfolioSummary;
+import com.github.iskrendev.insuranceprogram.repositories.LifeInsuranceRepo;
+import com.github.iskrendev.insuranceprogram.repositories.PortfolioSummaryRepo;
+import com.github.iskrendev.insuranceprogram.repositories.PropertyInsuranceRepo;
+import com.github.iskrendev.insuranceprogram.repositories.VehicleInsuranceRepo;
+import com.mongodb.client.result.UpdateResult;
+import org.bson.Document;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.math.BigDecimal;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class PortfolioCounterServiceTest {
+    private final MongoTemplate mockMongoTemplate = mock(MongoTemplate.class);
+    private final PortfolioSummaryRepo mockPortfolioSummaryRepo = mock(PortfolioSummaryRepo.class);
+    private final LifeInsuranceRepo mockLifeInsuranceRepo = mock(LifeInsuranceRepo.class);
+    private final PropertyInsuranceRepo mockPropertyInsuranceRepo = mock(PropertyInsuranceRepo.class);
+    private final VehicleInsuranceRepo mockVehicleInsuranceRepo = mock(VehicleInsuranceRepo.class);
+    private final PortfolioCounterService portfolioCounterService = new PortfolioCounterService(mockMongoTemplate,
+            mockPortfolioSummaryRepo, mockLifeInsuranceRepo, mockPropertyInsuranceRepo, mockVehicleInsuranceRepo);
+
+    @Test
+    void recordAdded_whenCalled_thenIncrementCountAndAmount() {
+        portfolioCounterService.recordAdded(InsuranceType.LIFE, BigDecimal.valueOf(4800));
+        Update expected = new Update().inc("counts.LIFE", 1L).inc("amounts.LIFE", BigDecimal.valueOf(4800)).inc("version", 1);
+        verify(mockMongoTemplate).updateFirst(any(Query.class), eq(expected), eq(PortfolioSummary.class));
+    }
+
+    @Test
+    void recordUpdated_whenAmountChanged_thenIncrementAmountByDelta() {
+        portfolioCounterService.recordUpdated(InsuranceType.VEHICLE, BigDecimal.valueOf(1200), BigDecimal.valueOf(1000));
+        Update expected = new Update().inc("counts.VEHICLE", 0L).inc("amounts.VEHICLE", BigDecimal.valueOf(-200)).inc("version", 1);
+        verify(mockMongoTemplate).updateFirst(any(Query.class), eq(expected), eq(PortfolioSummary.class));
+    }
+
+    @Test
+    void recordUpdated_whenAmountUnchanged_thenSkipUpdate() {
+        portfolioCounterService.recordUpdated(InsuranceType.VEHICLE, BigDecimal.valueOf(1200), new BigDecimal("1200.00"));
+        verifyNoInteractions(mockMongoTemplate);
+    }
+
+    @Test
+    void recordRemoved_whenCalled_thenDecrementCountAndAmount() {
+        portfolioCounterService.recordRemoved(InsuranceType.PROPERTY, BigDecimal.valueOf(4800));
+        Update expected = new Update().inc("counts.PROPERTY", -1L).inc("amounts.PROPERTY", BigDecimal.valueOf(-4800)).inc("version", 1);
+        verify(mockMongoTemplate).updateFirst(any(Query.class), eq(expected), eq(PortfolioSummary.class));
+    }
+
+    @Test
+    void getSummary_whenCountersExist_thenReturnThemWithoutAggregating() {
+        PortfolioSummary expected = new PortfolioSummary("portfolio", Map.of(InsuranceType.LIFE, 2L), Map.of(InsuranceType.LIFE, BigDecimal.TEN), 0);
+        when(mockPortfolioSummaryRepo.findById("portfolio")).thenReturn(Optional.of(expected));
+        PortfolioSummary actual = portfolioCounterService.getSummary();
+        assertEquals(expected, actual);
+        verifyNoInteractions(mockLifeInsuranceRepo, mockPropertyInsuranceRepo, mockVehicleInsuranceRepo);
+    }
+
+    @Test
+    void getSummary_whenCountersAreMissing_thenBuildThemFromCollections() {
+        ArgumentCaptor<PortfolioSummary> inserted = ArgumentCaptor.forClass(PortfolioSummary.class);
+        when(mockPortfolioSummaryRepo.findById("portfolio"))
+                .thenReturn(Optional.empty())
+                .thenReturn(Optional.empty())
+                .thenAnswer(invocation -> Optional.of(inserted.getValue()));
+        when(mockLifeInsuranceRepo.aggregateTotals()).thenReturn(Optional.of(new InsuranceTotals(2L, BigDecimal.valueOf(9600))));
+        when(mockPropertyInsuranceRepo.aggregateTotals()).thenReturn(Optional.empty());
+        when(mockVehicleInsuranceRepo.aggregateTotals()).thenReturn(Optional.of(new InsuranceTotals(1L, BigDecimal.valueOf(1200))));
+        when(mockPortfolioSummaryRepo.insert(inserted.capture())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        PortfolioSummary actual = portfolioCounterService.getSummary();
+
+        assertEquals(2L, actual.count(InsuranceType.LIFE));
+        assertEquals(0L, actual.count(InsuranceType.PROPERTY));
+        assertEquals(1L, actual.count(InsuranceType.VEHICLE));
+        assertEquals(BigDecimal.valueOf(10800), actual.totalAmount());
+        verify(mockPortfolioSummaryRepo).insert(actual);
+    }
+
+    @Test
+    void reconcile_whenStoredCountersDrifted_thenReportDriftAndRebuild() {
+        PortfolioSummary stored = new PortfolioSummary("portfolio",
+                Map.of(InsuranceType.LIFE, 3L, InsuranceType.PROPERTY, 0L, InsuranceType.VEHICLE, 1L),
+                Map.of(InsuranceType.LIFE, BigDecimal.valueOf(9000), InsuranceType.PROPERTY, BigDecimal.ZERO, InsuranceType.VEHICLE, BigDecimal.valueOf(1200)), 7);
+        when(mockPortfolioSummaryRepo.findById("portfolio")).thenReturn(Optional.of(stored));
+        when(mockLifeInsuranceRepo.aggregateTotals()).thenReturn(Optional.of(new InsuranceTotals(2L, BigDecimal.valueOf(9600))));
+        when(mockVehicleInsuranceRepo.aggregateTotals()).thenReturn(Optional.of(new InsuranceTotals(1L, BigDecimal.valueOf(1200))));
+        when(mockMongoTemplate.updateFirst(any(Query.class), any(Update.class), eq(PortfolioSummary.class)))
+                .thenReturn(UpdateResult.acknowledged(1, 1L, null));
+        ArgumentCaptor<Query> query = ArgumentCaptor.forClass(Query.class);
+        ArgumentCaptor<Update> update = ArgumentCaptor.forClass(Update.class);
+
+        PortfolioReconciliationReport actual = portfolioCounterService.reconcile();
+
+        assertTrue(actual.countersExisted());
+        assertEquals(1, actual.drift().size());
+        assertEquals(InsuranceType.LIFE, actual.drift().get(0).type());
+        assertEquals(3L, actual.drift().get(0).storedCount());
+        assertEquals(2L, actual.drift().get(0).actualCount());
+        verify(mockMongoTemplate).updateFirst(query.capture(), update.capture(), eq(PortfolioSummary.class));
+        assertTrue(query.getValue().getQueryObject().toJson().contains("\"version\": 7"));
+        Document increments = (Document) update.getValue().getUpdateObject().get("$inc");
+        assertEquals(-1L, increments.get("counts.LIFE"));
+        assertEquals(BigDecimal.valueOf(600), increments.get("amounts.LIFE"));
+        assertEquals(0L, increments.get("counts.VEHICLE"));
+        verify(mockPortfolioSummaryRepo, never()).save(any(PortfolioSummary.class));
+    }
+
+    @Test
+    void reconcile_whenCountersChangeWhileAggregating_thenStartOverAgainstTheNewVersion() {
+        PortfolioSummary stored = new PortfolioSummary("portfolio", Map.of(InsuranceType.LIFE, 3L), Map.of(InsuranceType.LIFE, BigDecimal.TEN), 7);
+        PortfolioSummary changed = new PortfolioSummary("portfolio", Map.of(InsuranceType.LIFE, 4L), Map.of(InsuranceType.LIFE, BigDecimal.TEN), 8);
+        when(mockPortfolioSummaryRepo.findById("portfolio")).thenReturn(Optional.of(stored)).thenReturn(Optional.of(changed));
+        when(mockLifeInsuranceRepo.aggregateTotals()).thenReturn(Optional.of(new InsuranceTotals(2L, BigDecimal.TEN)));
+        when(mockMongoTemplate.updateFirst(any(Query.class), any(Update.class), eq(PortfolioSummary.class)))
+                .thenReturn(UpdateResult.acknowledged(0, 0L, null))
+                .thenReturn(UpdateResult.acknowledged(1, 1L, null));
+        ArgumentCaptor<Update> update = ArgumentCaptor.forClass(Update.class);
+
+        PortfolioReconciliationReport actual = portfolioCounterService.reconcile();
+
+        assertEquals(4L, actual.drift().get(0).storedCount());
+        verify(mockMongoTemplate, times(2)).updateFirst(any(Query.class), update.capture(), eq(PortfolioSummary.class));
+        assertEquals(-2L, ((Document) update.getValue().getUpdateObject().get("$inc")).get("counts.LIFE"));
+    }
+
+    @Test
+    void reconcile_whenCountersNeverSettle_thenGiveUpWithoutCorrecting() {
+        when(mockPortfolioSummaryRepo.findById("portfolio"))
+                .thenReturn(Optional.of(new PortfolioSummary("portfolio", Map.of(InsuranceType.LIFE, 3L), Map.of(), 7)));
+        when(mockLifeInsuranceRepo.aggregateTotals()).thenReturn(Optional.of(new InsuranceTotals(2L, BigDecimal.ZERO)));
+        when(mockMongoTemplate.updateFirst(any(Query.class), any(Update.class), eq(PortfolioSummary.class)))
+                .thenReturn(UpdateResult.acknowledged(0, 0L, null));
+
+        assertThrows(OptimisticLockingFailureException.class, portfolioCounterService::reconcile);
+        verify(mockMongoTemplate, times(PortfolioCounterService.RECONCILE_ATTEMPTS))
+                .updateFirst(any(Query.class), any(Update.class), eq(PortfolioSummary.class));
+    }
+
+    private AtomicReference<PortfolioSummary> storedCounters(long lifeCount) {
+        AtomicReference<PortfolioSummary> stored = new AtomicReference<>(
+                new PortfolioSummary("portfolio", Map.of(InsuranceType.LIFE, lifeCount), Map.of(InsuranceType.LIFE, BigDecimal.ZERO), 7));
+        when(mockPortfolioSummaryRepo.findById("portfolio")).thenAnswer(invocation -> Optional.of(stored.get()));
+        when(mockMongoTemplate.updateFirst(any(Query.class), any(Update.class), eq(PortfolioSummary.class))).thenAnswer(invocation -> {
+            Document increments = (Document) invocation.getArgument(1, Update.class).getUpdateObject().get("$inc");
+            PortfolioSummary current = stored.get();
+            long count = current.count(InsuranceType.LIFE) + ((Number) increments.get("counts.LIFE")).longValue();
+            stored.set(new PortfolioSummary("portfolio", Map.of(InsuranceType.LIFE, count), current.amounts(), current.version() + 1));
+            return UpdateResult.acknowledged(1, 1L, null);
+        });
+        return stored;
+    }
+
+    /**
+     * Stores a life policy, then increments the counters for it after {@code incrementDelayMillis} on another thread.
+     */
+    private void writeLifePolicy(AtomicLong lifePolicies, long incrementDelayMillis, CountDownLatch saved) {
+        PortfolioCounterService.PendingWrite write = portfolioCounterService.beginWrite();
+        lifePolicies.incrementAndGet();
+        saved.countDown();
+        new Thread(() -> {
+            try (write) {
+                Thread.sleep(incrementDelayMillis);
+                portfolioCounterService.recordAdded(InsuranceType.LIFE, BigDecimal.ZERO);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }).start();
+    }
+
+    @Test
+    void reconcile_whenAWriteIncrementsAfterTheReconciliationStarted_thenCountItOnce() throws Exception {
+        AtomicReference<PortfolioSummary> stored = storedCounters(2L);
+        AtomicLong lifePolicies = new AtomicLong(2L);
+        when(mockLifeInsuranceRepo.aggregateTotals())
+                .thenAnswer(invocation -> Optional.of(new InsuranceTotals(lifePolicies.get(), BigDecimal.ZERO)));
+        CountDownLatch saved = new CountDownLatch(1);
+        writeLifePolicy(lifePolicies, 200, saved);
+        saved.await();
+
+        PortfolioReconciliationReport actual = portfolioCounterService.reconcile();
+
+        assertTrue(actual.drift().isEmpty());
+        assertEquals(3L, stored.get().count(InsuranceType.LIFE));
+        verify(mockMongoTemplate, times(1)).updateFirst(any(Query.class), any(Update.class), eq(PortfolioSummary.class));
+    }
+
+    @Test
+    void reconcile_whenAWriteOverlapsTheCorrection_thenCheckAgainOnceItFinished() {
+        AtomicReference<PortfolioSummary> stored = storedCounters(1L);
+        AtomicLong lifePolicies = new AtomicLong(2L);
+        // The first aggregation sees a policy stored by a write that increments the counters only after the correction.
+        when(mockLifeInsuranceRepo.aggregateTotals())
+                .thenAnswer(invocation -> {
+                    writeLifePolicy(lifePolicies, 100, new CountDownLatch(1));
+                    return Optional.of(new InsuranceTotals(lifePolicies.get(), BigDecimal.ZERO));
+                })
+                .thenAnswer(invocation -> Optional.of(new InsuranceTotals(lifePolicies.get(), BigDecimal.ZERO)));
+
+        PortfolioReconciliationReport actual = portfolioCounterService.reconcile();
+
+        assertEquals(1L, actual.drift().get(0).storedCount());
+        assertEquals(3L, stored.get().count(InsuranceType.LIFE));
+    }
+}
@@ -5,7 +5,13 @@ import com.github.iskrendev.insuranceprogram.exceptions.NoSuchInsuranceException
 import com.github.iskrendev.insuranceprogram.models.PropertyInsurance;
 import com.github.iskrendev.insuranceprogram.models.PropertyInsuranceUpdateDTO;
 import com.github.iskrendev.insuranceprogram.repositories.PropertyInsuranceRepo;
+import org.bson.Document;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
@@ -17,7 +23,11 @@ import static org.mockito.Mockito.*;
 
 class PropertyInsuranceServiceTest {
     private final PropertyInsuranceRepo mockPropertyInsuranceRepo = mock(PropertyInsuranceRepo.class);
-    private final PropertyInsuranceService propertyInsuranceService = new PropertyInsuranceService(mockPropertyInsuranceRepo);
+    private final PortfolioCounterService mockPortfolioCounterService = mock(PortfolioCounterService.class);
+    private final NameSuggestionService mockNameSuggestionService = mock(NameSuggestionService.class);
+    private final InsurancePaginationService mockInsurancePaginationService = mock(InsurancePaginationService.class);
+    private final MongoTemplate mockMongoTemplate = mock(MongoTemplate.class);
+    private final PropertyInsuranceService propertyInsuranceService = new PropertyInsuranceService(mockPropertyInsuranceRepo, mockPortfolioCounterService, mockNameSuggestionService, mockInsurancePaginationService, mockMongoTemplate);
 
     @Test
     void getAllPropertyInsurances_whenNoPropertyInsuranceIsInList_thenReturnEmptyList() {
@@ -119,6 +129,8 @@ class PropertyInsuranceServiceTest {
         //THEN
         PropertyInsurance actual = propertyInsuranceService.addPropertyInsurance(expected);
         verify(mockPropertyInsuranceRepo).save(expected);
+        verify(mockPortfolioCounterService).recordAdded(InsuranceType.PROPERTY, expected.calculateInsuranceAmount());
+        verify(mockNameSuggestionService).recordAdded(expected);
         assertEquals(expected, actual);
     }
 
@@ -208,15 +220,17 @@ class PropertyInsuranceServiceTest {
                 .constructionYear(1994)
                 .build();
 
-        when(mockPropertyInsuranceRepo.findById("1")).thenReturn(Optional.of(propertyInsuranceBefore));
-        when(mockPropertyInsuranceRepo.save(any(PropertyInsurance.class))).thenReturn(updatedPropertyInsurance);
+        when(mockMongoTemplate.findAndModify(any(Query.class), any(Update.class), any(FindAndModifyOptions.class), eq(PropertyInsurance.class))).thenReturn(propertyInsuranceBefore);
 
         // WHEN
         PropertyInsurance actual = propertyInsuranceService.updatePropertyInsurance(updatedPropertyInsurance.id(), propertyInsuranceUpdateDTO);
 
         // THEN
-        verify(mockPropertyInsuranceRepo).findById("1");
-        verify(mockPropertyInsuranceRepo).save(updatedPropertyInsurance);
+        verify(mockMongoTemplate).findAndModify(any(Query.class), any(Update.class), any(FindAndModifyOptions.class), eq(PropertyInsurance.class));
+        verify(mockPropertyInsuranceRepo, never()).findById(any());
+        verify(mockPropertyInsuranceRepo, never()).save(any(PropertyInsurance.class));
+        verify(mockPortfolioCounterService).recordUpdated(InsuranceType.PROPERTY,
+                propertyInsuranceBefore.calculateInsuranceAmount(), updatedPropertyInsurance.calculateInsuranceAmount());
         assertEquals(updatedPropertyInsurance, actual);
     }
 
@@ -238,16 +252,94 @@ class PropertyInsuranceServiceTest {
                 .constructionYear(1994)
                 .build();
 
-        when(mockPropertyInsuranceRepo.findById("invalidId")).thenReturn(Optional.empty());
+        when(mockMongoTemplate.findAndModify(any(Query.class), any(Update.class), any(FindAndModifyOptions.class), eq(PropertyInsurance.class))).thenReturn(null);
         assertThrows(NoSuchInsuranceException.class, () -> propertyInsuranceService.updatePropertyInsurance("invalidId", propertyInsuranceUpdateDTO));
-        verify(mockPropertyInsuranceRepo).findById("invalidId");
         verify(mockPropertyInsuranceRepo, never()).save(any(PropertyInsurance.class));
+        verify(mockPortfolioCounterService).beginWrite();
+        verifyNoMoreInteractions(mockPortfolioCounterService);
     }
 
     @Test
-    void deletePropertyInsurance() {
+    void patchPropertyInsurance_whenOnlySomeFieldsAreGiven_thenSetOnlyThoseFields() {
+        // GIVEN
+        PropertyInsurance propertyInsuranceBefore = PropertyInsurance.builder()
+                .id("1")
+                .firstName("TestFirstName")
+                .familyName("TestFamilyName")
+                .city("Testcity")
+                .type(InsuranceType.PROPERTY)
+                .duration(12)
+                .paymentPerMonth(BigDecimal.valueOf(100))
+                .startDate(LocalDate.of(2024, 1, 1))
+                .build();
+
+        PropertyInsuranceUpdateDTO propertyInsuranceUpdateDTO = PropertyInsuranceUpdateDTO.builder()
+                .city("NewTestCity")
+                .duration(24)
+                .propertyAddress("New str. 7")
+                .build();
+
+        PropertyInsurance expected = PropertyInsurance.builder()
+                .id("1")
+                .firstName("TestFirstName")
+                .familyName("TestFamilyName")
+                .city("NewTestCity")
+                .type(InsuranceType.PROPERTY)
+                .duration(24)
+                .paymentPerMonth(BigDecimal.valueOf(100))
+                .startDate(LocalDate.of(2024, 1, 1))
+                .propertyAddress("New str. 7")
+                .build();
+
+        ArgumentCaptor<Update> updateCaptor = ArgumentCaptor.forClass(Update.class);
+        when(mockMongoTemplate.findAndModify(any(Query.class), updateCaptor.capture(), any(FindAndModifyOptions.class), eq(PropertyInsurance.class)))
+                .thenReturn(propertyInsuranceBefore);
+
+        // WHEN
+        PropertyInsurance actual = propertyInsuranceService.patchPropertyInsurance("1", propertyInsuranceUpdateDTO);
+
+        // THEN
+        assertEquals(new Document("$set", new Document("city", "NewTestCity").append("duration", 24).append("propertyAddress", "New str. 7")),
+                updateCaptor.getValue().getUpdateObject());
+        verify(mockPortfolioCounterService).recordUpdated(InsuranceType.PROPERTY, BigDecimal.valueOf(1200), BigDecimal.valueOf(2400));
+        assertEquals(expected, actual);
+    }
+
+    @Test
+    void patchPropertyInsurance_whenInsuranceIdDoesNotExistsInDb_thenThrowException() {
+        PropertyInsuranceUpdateDTO propertyInsuranceUpdateDTO = PropertyInsuranceUpdateDTO.builder()
+                .city("NewTestCity")
+                .build();
+
+        when(mockMongoTemplate.findAndModify(any(Query.class), any(Update.class), any(FindAndModifyOptions.class), eq(PropertyInsurance.class)))
+                .thenReturn(null);
+        assertThrows(NoSuchInsuranceException.class, () -> propertyInsuranceService.patchPropertyInsurance("invalidId", propertyInsuranceUpdateDTO));
+        verify(mockPortfolioCounterService).beginWrite();
+        verifyNoMoreInteractions(mockPortfolioCounterService);
+    }
+
+    @Test
+    void deletePropertyInsurance_whenInsuranceExists_thenDecrementCounters() {
         String propertyInsuranceId = "1";
+        PropertyInsurance propertyInsurance = PropertyInsurance.builder()
+                .id(propertyInsuranceId)
+                .type(InsuranceType.PROPERTY)
+                .duration(12)
+                .paymentPerMonth(BigDecimal.valueOf(100))
+                .build();
+        when(mockPropertyInsuranceRepo.removeById(propertyInsuranceId)).thenReturn(Optional.of(propertyInsurance));
         propertyInsuranceService.deletePropertyInsurance(propertyInsuranceId);
-        verify(mockPropertyInsuranceRepo).deleteById(propertyInsuranceId);
+        verify(mockPropertyInsuranceRepo).removeById(propertyInsuranceId);
+        verify(mockPortfolioCounterService).recordRemoved(InsuranceType.PROPERTY, BigDecimal.valueOf(1200));
+        verify(mockNameSuggestionService).recordRemoved(propertyInsurance);
+    }
+
+    @Test
+    void deletePropertyInsurance_whenInsuranceDoesNotExist_thenLeaveCountersUnchanged() {
+        when(mockPropertyInsuranceRepo.removeById("invalidId")).thenReturn(Optional.empty());
+        propertyInsuranceService.deletePropertyInsurance("invalidId");
+        verify(mockPropertyInsuranceRepo).removeById("invalidId");
+        verify(mockPortfolioCounterService).beginWrite();
+        verifyNoMoreInteractions(mockPortfolioCounterService);
     }
 }
\ No newline at end of file
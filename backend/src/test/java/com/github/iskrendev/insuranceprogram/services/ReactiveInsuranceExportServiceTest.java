@@ -0,0 +1,112 @@
+package com.github.iskrendev.insuranceprogram.services;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.iskrendev.insuranceprogram.enums.InsuranceType;
+import com.github.iskrendev.insuranceprogram.exceptions.AllInsurancesRetrievalException;
+import com.github.iskrendev.insuranceprogram.models.LifeInsurance;
+import com.github.iskrendev.insuranceprogram.models.PropertyInsurance;
+import com.github.iskrendev.insuranceprogram.models.VehicleInsurance;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class ReactiveInsuranceExportServiceTest {
+    private final ReactiveMongoTemplate mockReactiveMongoTemplate = mock(ReactiveMongoTemplate.class);
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final ReactiveInsuranceExportService reactiveInsuranceExportService =
+            new ReactiveInsuranceExportService(mockReactiveMongoTemplate, objectMapper);
+
+    private void givenInsurances(int lifeInsurances) {
+        when(mockReactiveMongoTemplate.find(any(Query.class), eq(LifeInsurance.class)))
+                .thenReturn(Flux.range(1, lifeInsurances)
+                        .map(i -> LifeInsurance.builder().id("life-" + i).type(InsuranceType.LIFE).build()));
+        when(mockReactiveMongoTemplate.find(any(Query.class), eq(PropertyInsurance.class)))
+                .thenReturn(Flux.just(PropertyInsurance.builder().id("2").type(InsuranceType.PROPERTY).build()));
+        when(mockReactiveMongoTemplate.find(any(Query.class), eq(VehicleInsurance.class)))
+                .thenReturn(Flux.empty());
+    }
+
+    private static String join(Flux<DataBuffer> buffers) {
+        return DataBufferUtils.join(buffers)
+                .map(buffer -> {
+                    String text = buffer.toString(StandardCharsets.UTF_8);
+                    DataBufferUtils.release(buffer);
+                    return text;
+                })
+                .block();
+    }
+
+    @Test
+    void streamAllInsurancesAsJson_whenInsurancesExist_thenStreamAllInsurancesResponseShape() throws Exception {
+        //GIVEN
+        givenInsurances(2);
+        //WHEN
+        String json = join(reactiveInsuranceExportService.streamAllInsurancesAsJson(DefaultDataBufferFactory.sharedInstance));
+        //THEN
+        JsonNode actual = objectMapper.readTree(json);
+        assertEquals("life-1", actual.get("lifeInsurances").get(0).get("id").asText());
+        assertEquals("life-2", actual.get("lifeInsurances").get(1).get("id").asText());
+        assertEquals("2", actual.get("propertyInsurances").get(0).get("id").asText());
+        assertEquals(0, actual.get("vehicleInsurances").size());
+    }
+
+    @Test
+    void streamAllInsurancesAsJson_whenNoInsurancesExist_thenStreamEmptyLists() throws Exception {
+        //GIVEN
+        givenInsurances(0);
+        when(mockReactiveMongoTemplate.find(any(Query.class), eq(PropertyInsurance.class))).thenReturn(Flux.empty());
+        //WHEN
+        String json = join(reactiveInsuranceExportService.streamAllInsurancesAsJson(DefaultDataBufferFactory.sharedInstance));
+        //THEN
+        assertEquals("{\"lifeInsurances\":[],\"propertyInsurances\":[],\"vehicleInsurances\":[]}", json);
+    }
+
+    @Test
+    void streamAllInsurancesAsNdjson_whenInsurancesExist_thenStreamOneLinePerInsurance() {
+        //GIVEN
+        givenInsurances(2);
+        //WHEN
+        String ndjson = join(reactiveInsuranceExportService.streamAllInsurancesAsNdjson(DefaultDataBufferFactory.sharedInstance));
+        //THEN
+        assertEquals(3, ndjson.lines().count());
+        assertTrue(ndjson.endsWith("\n"));
+    }
+
+    @Test
+    void streamAllInsurancesAsJson_whenFirstQueryFails_thenFailBeforeEmittingAnything() {
+        //GIVEN
+        when(mockReactiveMongoTemplate.find(any(Query.class), eq(LifeInsurance.class)))
+                .thenReturn(Flux.error(new DataAccessResourceFailureException("down")));
+        //WHEN & THEN
+        StepVerifier.create(reactiveInsuranceExportService.streamAllInsurancesAsJson(DefaultDataBufferFactory.sharedInstance))
+                .expectError(AllInsurancesRetrievalException.class)
+                .verify();
+    }
+
+    @Test
+    void streamAllInsurancesAsNdjson_whenClientRequestsOneDocument_thenReadOnlyOneDocument() {
+        //GIVEN
+        givenInsurances(1000);
+        //WHEN & THEN
+        StepVerifier.create(reactiveInsuranceExportService.streamAllInsurancesAsNdjson(DefaultDataBufferFactory.sharedInstance), 1)
+                .consumeNextWith(DataBufferUtils::release)
+                .thenCancel()
+                .verify();
+        verify(mockReactiveMongoTemplate, never()).find(any(Query.class), eq(PropertyInsurance.class));
+    }
+}
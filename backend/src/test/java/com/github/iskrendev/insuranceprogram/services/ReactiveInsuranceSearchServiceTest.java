@@ -0,0 +1,117 @@
+package com.github.iskrendev.insuranceprogram.services;
+
+import com.github.iskrendev.insuranceprogram.config.SearchProperties;
+import com.github.iskrendev.insuranceprogram.enums.InsuranceType;
+import com.github.iskrendev.insuranceprogram.exceptions.InvalidSearchCriteriaException;
+import com.github.iskrendev.insuranceprogram.models.LifeInsurance;
+import com.github.iskrendev.insuranceprogram.models.PropertyInsurance;
+import com.github.iskrendev.insuranceprogram.models.VehicleInsurance;
+import com.github.iskrendev.insuranceprogram.repositories.ReactiveLifeInsuranceRepo;
+import com.github.iskrendev.insuranceprogram.repositories.ReactivePropertyInsuranceRepo;
+import com.github.iskrendev.insuranceprogram.repositories.ReactiveVehicleInsuranceRepo;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.QueryTimeoutException;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class ReactiveInsuranceSearchServiceTest {
+    private final ReactiveLifeInsuranceRepo mockLifeInsuranceRepo = mock(ReactiveLifeInsuranceRepo.class);
+    private final ReactivePropertyInsuranceRepo mockPropertyInsuranceRepo = mock(ReactivePropertyInsuranceRepo.class);
+    private final ReactiveVehicleInsuranceRepo mockVehicleInsuranceRepo = mock(ReactiveVehicleInsuranceRepo.class);
+
+    private final ReactiveInsuranceSearchService reactiveInsuranceSearchService = new ReactiveInsuranceSearchService(
+            mockLifeInsuranceRepo, mockPropertyInsuranceRepo, mockVehicleInsuranceRepo,
+            new SearchProperties(Duration.ofMillis(200)));
+
+    private final LifeInsurance lifeInsurance = LifeInsurance.builder().id("1").familyName("Doe").type(InsuranceType.LIFE).build();
+    private final PropertyInsurance propertyInsurance = PropertyInsurance.builder().id("2").familyName("Doe").type(InsuranceType.PROPERTY).build();
+    private final VehicleInsurance vehicleInsurance = VehicleInsurance.builder().id("3").familyName("Doe").type(InsuranceType.VEHICLE).build();
+
+    @Test
+    void searchLifeInsuranceByName_whenNoFirstOrFamilyNameAsInput_throwsInvalidSearchCriteriaException() {
+        assertThrows(InvalidSearchCriteriaException.class,
+                () -> reactiveInsuranceSearchService.searchLifeInsuranceByName(null, ""));
+
+        verifyNoInteractions(mockLifeInsuranceRepo);
+    }
+
+    @Test
+    void searchLifeInsuranceByName_whenBothNamesAsInput_thenQueryBothNames() {
+        //GIVEN
+        when(mockLifeInsuranceRepo.findByFirstNameAndFamilyName("John", "Doe")).thenReturn(Flux.just(lifeInsurance));
+        //WHEN & THEN
+        StepVerifier.create(reactiveInsuranceSearchService.searchLifeInsuranceByName("John", "Doe"))
+                .expectNext(lifeInsurance)
+                .verifyComplete();
+        verify(mockLifeInsuranceRepo, never()).findByFamilyName(any());
+    }
+
+    @Test
+    void searchAllInsurancesByName_whenAllTypesAnswer_thenReturnAllMatches() {
+        //GIVEN
+        when(mockLifeInsuranceRepo.findByFamilyName("Doe")).thenReturn(Flux.just(lifeInsurance));
+        when(mockPropertyInsuranceRepo.findByFamilyName("Doe")).thenReturn(Flux.just(propertyInsurance));
+        when(mockVehicleInsuranceRepo.findByFamilyName("Doe")).thenReturn(Flux.just(vehicleInsurance));
+        //WHEN & THEN
+        StepVerifier.create(reactiveInsuranceSearchService.searchAllInsurancesByName(null, "Doe"))
+                .assertNext(response -> {
+                    assertEquals(List.of(lifeInsurance), response.lifeInsurances());
+                    assertEquals(List.of(propertyInsurance), response.propertyInsurances());
+                    assertEquals(List.of(vehicleInsurance), response.vehicleInsurances());
+                    assertTrue(response.unavailableTypes().isEmpty());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    void searchAllInsurancesByName_whenOneTypeFailsAndOneMissesDeadline_thenReturnPartialResult() {
+        //GIVEN
+        when(mockLifeInsuranceRepo.findByFamilyName("Doe")).thenReturn(Flux.just(lifeInsurance));
+        when(mockPropertyInsuranceRepo.findByFamilyName("Doe")).thenReturn(Flux.error(new DataAccessResourceFailureException("down")));
+        when(mockVehicleInsuranceRepo.findByFamilyName("Doe")).thenReturn(Flux.never());
+        //WHEN & THEN
+        StepVerifier.create(reactiveInsuranceSearchService.searchAllInsurancesByName(null, "Doe"))
+                .assertNext(response -> {
+                    assertEquals(List.of(lifeInsurance), response.lifeInsurances());
+                    assertTrue(response.propertyInsurances().isEmpty());
+                    assertTrue(response.vehicleInsurances().isEmpty());
+                    assertEquals(List.of(InsuranceType.PROPERTY, InsuranceType.VEHICLE), response.unavailableTypes());
+                    assertEquals(List.of(InsuranceType.VEHICLE), response.timedOutTypes());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    void searchAllInsurancesByName_whenEveryTypeFails_thenReportOnlyCutOffQueriesAsTimedOut() {
+        //GIVEN
+        when(mockLifeInsuranceRepo.findByFamilyName("Doe")).thenReturn(Flux.error(new DataAccessResourceFailureException("down")));
+        when(mockPropertyInsuranceRepo.findByFamilyName("Doe")).thenReturn(Flux.error(new DataAccessResourceFailureException("down")));
+        when(mockVehicleInsuranceRepo.findByFamilyName("Doe")).thenReturn(Flux.error(new QueryTimeoutException("maxTimeMS expired")));
+        //WHEN & THEN
+        StepVerifier.create(reactiveInsuranceSearchService.searchAllInsurancesByName(null, "Doe"))
+                .assertNext(response -> {
+                    assertEquals(List.of(InsuranceType.LIFE, InsuranceType.PROPERTY, InsuranceType.VEHICLE), response.unavailableTypes());
+                    assertEquals(List.of(InsuranceType.VEHICLE), response.timedOutTypes());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    void streamAllInsurancesByName_whenMatchesInEveryType_thenStreamThemInTypeOrder() {
+        //GIVEN
+        when(mockLifeInsuranceRepo.findByFirstName("John")).thenReturn(Flux.just(lifeInsurance));
+        when(mockPropertyInsuranceRepo.findByFirstName("John")).thenReturn(Flux.just(propertyInsurance));
+        when(mockVehicleInsuranceRepo.findByFirstName("John")).thenReturn(Flux.just(vehicleInsurance));
+        //WHEN & THEN
+        StepVerifier.create(reactiveInsuranceSearchService.streamAllInsurancesByName("John", null))
+                .expectNext(lifeInsurance, propertyInsurance, vehicleInsurance)
+                .verifyComplete();
+    }
+}
@@ -5,7 +5,13 @@ import com.github.iskrendev.insuranceprogram.exceptions.NoSuchInsuranceException
 import com.github.iskrendev.insuranceprogram.models.VehicleInsurance;
 import com.github.iskrendev.insuranceprogram.models.VehicleInsuranceUpdateDTO;
 import com.github.iskrendev.insuranceprogram.repositories.VehicleInsuranceRepo;
+import org.bson.Document;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
@@ -17,7 +23,11 @@ import static org.mockito.Mockito.*;
 
 class VehicleInsuranceServiceTest {
     private final VehicleInsuranceRepo mockVehicleInsuranceRepo = mock(VehicleInsuranceRepo.class);
-    private final VehicleInsuranceService vehicleInsuranceService = new VehicleInsuranceService(mockVehicleInsuranceRepo);
+    private final PortfolioCounterService mockPortfolioCounterService = mock(PortfolioCounterService.class);
+    private final NameSuggestionService mockNameSuggestionService = mock(NameSuggestionService.class);
+    private final InsurancePaginationService mockInsurancePaginationService = mock(InsurancePaginationService.class);
+    private final MongoTemplate mockMongoTemplate = mock(MongoTemplate.class);
+    private final VehicleInsuranceService vehicleInsuranceService = new VehicleInsuranceService(mockVehicleInsuranceRepo, mockPortfolioCounterService, mockNameSuggestionService, mockInsurancePaginationService, mockMongoTemplate);
 
     @Test
     void getAllVehicleInsurances_whenNoVehicleInsuranceIsInList_thenReturnEmptyList() {
@@ -122,6 +132,8 @@ class VehicleInsuranceServiceTest {
         //THEN
         VehicleInsurance actual = vehicleInsuranceService.addVehicleInsurance(expected);
         verify(mockVehicleInsuranceRepo).save(expected);
+        verify(mockPortfolioCounterService).recordAdded(InsuranceType.VEHICLE, expected.calculateInsuranceAmount());
+        verify(mockNameSuggestionService).recordAdded(expected);
         assertEquals(expected, actual);
     }
 
@@ -215,15 +227,17 @@ class VehicleInsuranceServiceTest {
                 .licensePlateNumber("AB 123 CD")
                 .build();
 
-        when(mockVehicleInsuranceRepo.findById("1")).thenReturn(Optional.of(vehicleInsuranceBefore));
-        when(mockVehicleInsuranceRepo.save(any(VehicleInsurance.class))).thenReturn(updatedVehicleInsurance);
+        when(mockMongoTemplate.findAndModify(any(Query.class), any(Update.class), any(FindAndModifyOptions.class), eq(VehicleInsurance.class))).thenReturn(vehicleInsuranceBefore);
 
         // WHEN
         VehicleInsurance actual = vehicleInsuranceService.updateVehicleInsurance(updatedVehicleInsurance.id(), vehicleInsuranceUpdateDTO);
 
         // THEN
-        verify(mockVehicleInsuranceRepo).findById("1");
-        verify(mockVehicleInsuranceRepo).save(updatedVehicleInsurance);
+        verify(mockMongoTemplate).findAndModify(any(Query.class), any(Update.class), any(FindAndModifyOptions.class), eq(VehicleInsurance.class));
+        verify(mockVehicleInsuranceRepo, never()).findById(any());
+        verify(mockVehicleInsuranceRepo, never()).save(any(VehicleInsurance.class));
+        verify(mockPortfolioCounterService).recordUpdated(InsuranceType.VEHICLE,
+                vehicleInsuranceBefore.calculateInsuranceAmount(), updatedVehicleInsurance.calculateInsuranceAmount());
         assertEquals(updatedVehicleInsurance, actual);
     }
 
@@ -246,16 +260,94 @@ class VehicleInsuranceServiceTest {
                 .licensePlateNumber("AB 123 CD")
                 .build();
 
-        when(mockVehicleInsuranceRepo.findById("invalidId")).thenReturn(Optional.empty());
+        when(mockMongoTemplate.findAndModify(any(Query.class), any(Update.class), any(FindAndModifyOptions.class), eq(VehicleInsurance.class))).thenReturn(null);
         assertThrows(NoSuchInsuranceException.class, () -> vehicleInsuranceService.updateVehicleInsurance("invalidId", vehicleInsuranceUpdateDTO));
-        verify(mockVehicleInsuranceRepo).findById("invalidId");
         verify(mockVehicleInsuranceRepo, never()).save(any(VehicleInsurance.class));
+        verify(mockPortfolioCounterService).beginWrite();
+        verifyNoMoreInteractions(mockPortfolioCounterService);
     }
 
     @Test
-    void deleteVehicleInsurance() {
+    void patchVehicleInsurance_whenOnlySomeFieldsAreGiven_thenSetOnlyThoseFields() {
+        // GIVEN
+        VehicleInsurance vehicleInsuranceBefore = VehicleInsurance.builder()
+                .id("1")
+                .firstName("TestFirstName")
+                .familyName("TestFamilyName")
+                .city("Testcity")
+                .type(InsuranceType.VEHICLE)
+                .duration(12)
+                .paymentPerMonth(BigDecimal.valueOf(100))
+                .startDate(LocalDate.of(2024, 1, 1))
+                .build();
+
+        VehicleInsuranceUpdateDTO vehicleInsuranceUpdateDTO = VehicleInsuranceUpdateDTO.builder()
+                .city("NewTestCity")
+                .duration(24)
+                .licensePlateNumber("XY 987 Z")
+                .build();
+
+        VehicleInsurance expected = VehicleInsurance.builder()
+                .id("1")
+                .firstName("TestFirstName")
+                .familyName("TestFamilyName")
+                .city("NewTestCity")
+                .type(InsuranceType.VEHICLE)
+                .duration(24)
+                .paymentPerMonth(BigDecimal.valueOf(100))
+                .startDate(LocalDate.of(2024, 1, 1))
+                .licensePlateNumber("XY 987 Z")
+                .build();
+
+        ArgumentCaptor<Update> updateCaptor = ArgumentCaptor.forClass(Update.class);
+        when(mockMongoTemplate.findAndModify(any(Query.class), updateCaptor.capture(), any(FindAndModifyOptions.class), eq(VehicleInsurance.class)))
+                .thenReturn(vehicleInsuranceBefore);
+
+        // WHEN
+        VehicleInsurance actual = vehicleInsuranceService.patchVehicleInsurance("1", vehicleInsuranceUpdateDTO);
+
+        // THEN
+        assertEquals(new Document("$set", new Document("city", "NewTestCity").append("duration", 24).append("licensePlateNumber", "XY 987 Z")),
+                updateCaptor.getValue().getUpdateObject());
+        verify(mockPortfolioCounterService).recordUpdated(InsuranceType.VEHICLE, BigDecimal.valueOf(1200), BigDecimal.valueOf(2400));
+        assertEquals(expected, actual);
+    }
+
+    @Test
+    void patchVehicleInsurance_whenInsuranceIdDoesNotExistsInDb_thenThrowException() {
+        VehicleInsuranceUpdateDTO vehicleInsuranceUpdateDTO = VehicleInsuranceUpdateDTO.builder()
+                .city("NewTestCity")
+                .build();
+
+        when(mockMongoTemplate.findAndModify(any(Query.class), any(Update.class), any(FindAndModifyOptions.class), eq(VehicleInsurance.class)))
+                .thenReturn(null);
+        assertThrows(NoSuchInsuranceException.class, () -> vehicleInsuranceService.patchVehicleInsurance("invalidId", vehicleInsuranceUpdateDTO));
+        verify(mockPortfolioCounterService).beginWrite();
+        verifyNoMoreInteractions(mockPortfolioCounterService);
+    }
+
+    @Test
+    void deleteVehicleInsurance_whenInsuranceExists_thenDecrementCounters() {
         String vehicleInsuranceId = "1";
+        VehicleInsurance vehicleInsurance = VehicleInsurance.builder()
+                .id(vehicleInsuranceId)
+                .type(InsuranceType.VEHICLE)
+                .duration(12)
+                .paymentPerMonth(BigDecimal.valueOf(100))
+                .build();
+        when(mockVehicleInsuranceRepo.removeById(vehicleInsuranceId)).thenReturn(Optional.of(vehicleInsurance));
         vehicleInsuranceService.deleteVehicleInsurance(vehicleInsuranceId);
-        verify(mockVehicleInsuranceRepo).deleteById(vehicleInsuranceId);
+        verify(mockVehicleInsuranceRepo).removeById(vehicleInsuranceId);
+        verify(mockPortfolioCounterService).recordRemoved(InsuranceType.VEHICLE, BigDecimal.valueOf(1200));
+        verify(mockNameSuggestionService).recordRemoved(vehicleInsurance);
+    }
+
+    @Test
+    void deleteVehicleInsurance_whenInsuranceDoesNotExist_thenLeaveCountersUnchanged() {
+        when(mockVehicleInsuranceRepo.removeById("invalidId")).thenReturn(Optional.empty());
+        vehicleInsuranceService.deleteVehicleInsurance("invalidId");
+        verify(mockVehicleInsuranceRepo).removeById("invalidId");
+        verify(mockPortfolioCounterService).beginWrite();
+        verifyNoMoreInteractions(mockPortfolioCounterService);
     }
 }
\ No newline at end of file
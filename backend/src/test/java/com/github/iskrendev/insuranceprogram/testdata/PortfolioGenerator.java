@@ -0,0 +1,422 @@
+package com.github.iskrendev.insuranceprogram.testdata;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.github.iskrendev.insuranceprogram.enums.InsuranceType;
+import com.github.iskrendev.insuranceprogram.models.Insurance;
+import com.github.iskrendev.insuranceprogram.models.LifeInsurance;
+import com.github.iskrendev.insuranceprogram.models.PropertyInsurance;
+import com.github.iskrendev.insuranceprogram.models.VehicleInsurance;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.Normalizer;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.SplittableRandom;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+/**
+ * Generates reproducible synthetic portfolios for load and scale tests.
+ * <p>
+ * Every document is derived from the seed, its insurance type and its index only, so the n-th document of a type is the
+ * same no matter how many documents are generated, in which order, or on how many threads. Ids are deterministic
+ * ObjectId strings (see {@link #id(InsuranceType, long)}), which lets load tests address documents without reading
+ * them back first.
+ * <p>
+ * Family names follow a Zipf distribution over common German surnames, cities are weighted by population and carry
+ * matching zip code ranges, area codes and license plate prefixes, and premiums are log-normally distributed.
+ * <p>
+ * Documents written directly into MongoDB bypass the portfolio counters, so callers should rebuild them afterwards.
+ */
+public final class PortfolioGenerator {
+    public static final LocalDate REFERENCE_DATE = LocalDate.of(2024, 1, 1);
+    public static final int DEFAULT_BATCH_SIZE = 1_000;
+
+    private static final int ID_TIMESTAMP = (int) REFERENCE_DATE.atStartOfDay().toEpochSecond(ZoneOffset.UTC);
+    private static final int MAX_POLICY_AGE_DAYS = 15 * 365;
+
+    private static final String[] COMMON_FAMILY_NAMES = {
+            "Müller", "Schmidt", "Schneider", "Fischer", "Weber", "Meyer", "Wagner", "Becker", "Schulz", "Hoffmann",
+            "Schäfer", "Koch", "Bauer", "Richter", "Klein", "Wolf", "Schröder", "Neumann", "Schwarz", "Zimmermann",
+            "Braun", "Krüger", "Hofmann", "Hartmann", "Lange", "Schmitt", "Werner", "Schmitz", "Krause", "Meier",
+            "Lehmann", "Schmid", "Schulze", "Maier", "Köhler", "Herrmann", "König", "Walter", "Mayer", "Huber",
+            "Kaiser", "Fuchs", "Peters", "Lang", "Scholz", "Möller", "Weiß", "Jung", "Hahn", "Schubert",
+            "Vogel", "Friedrich", "Keller", "Günther", "Frank", "Berger", "Winkler", "Roth", "Beck", "Lorenz",
+            "Baumann", "Franke", "Albrecht", "Schuster", "Simon", "Ludwig", "Böhm", "Winter", "Kraus", "Martin",
+            "Schumacher", "Krämer", "Vogt", "Stein", "Jäger", "Otto", "Sommer", "Groß", "Seidel", "Heinrich",
+            "Brandt", "Haas", "Schreiber", "Graf", "Schulte", "Dietrich", "Ziegler", "Kuhn", "Kühn", "Pohl",
+            "Engel", "Horn", "Busch", "Bergmann", "Thomas", "Voigt", "Sauer", "Arnold", "Wolff", "Pfeiffer"};
+    private static final String[] RARE_FAMILY_NAME_STEMS = {
+            "Alt", "Berg", "Eich", "Feld", "Gold", "Grün", "Hoch", "Kirch", "Lin", "Mühl",
+            "Ober", "Ros", "Schön", "Sonn", "Stein", "Wald", "Wein", "Wester", "Wiesen", "Zell"};
+    private static final String[] RARE_FAMILY_NAME_ENDINGS = {
+            "bach", "berger", "brand", "dorf", "felder", "hagen", "hauser", "hofer", "horst", "mann",
+            "meier", "ner", "reiter", "steiner", "thaler"};
+    private static final String[] FAMILY_NAMES = familyNames();
+    private static final String[] FIRST_NAMES = {
+            "Maria", "Thomas", "Anna", "Michael", "Julia", "Andreas", "Laura", "Stefan", "Sarah", "Christian",
+            "Lisa", "Alexander", "Katharina", "Daniel", "Sabine", "Markus", "Nicole", "Jan", "Claudia", "Tobias",
+            "Emma", "Lukas", "Sophie", "Felix", "Lena", "Jonas", "Mia", "Leon", "Hannah", "Paul",
+            "Petra", "Jürgen", "Monika", "Uwe", "Birgit", "Frank", "Andrea", "Klaus", "Ursula", "Wolfgang"};
+    private static final City[] CITIES = {
+            new City("Berlin", 10115, 14199, "30", "B", 3_755),
+            new City("Hamburg", 20095, 22769, "40", "HH", 1_892),
+            new City("München", 80331, 81929, "89", "M", 1_512),
+            new City("Köln", 50667, 51149, "221", "K", 1_084),
+            new City("Frankfurt am Main", 60306, 60599, "69", "F", 773),
+            new City("Stuttgart", 70173, 70629, "711", "S", 633),
+            new City("Düsseldorf", 40210, 40629, "211", "D", 629),
+            new City("Leipzig", 4103, 4357, "341", "L", 616),
+            new City("Dortmund", 44135, 44388, "231", "DO", 593),
+            new City("Essen", 45127, 45359, "201", "E", 584),
+            new City("Bremen", 28195, 28779, "421", "HB", 569),
+            new City("Dresden", 1067, 1328, "351", "DD", 563),
+            new City("Hannover", 30159, 30669, "511", "H", 548),
+            new City("Nürnberg", 90402, 90491, "911", "N", 523),
+            new City("Rostock", 18055, 18147, "381", "HRO", 210),
+            new City("Freiburg im Breisgau", 79098, 79117, "761", "FR", 236)};
+    private static final int TOTAL_CITY_WEIGHT = Arrays.stream(CITIES).mapToInt(City::weight).sum();
+    private static final String[] STREETS = {
+            "Hauptstraße", "Schulstraße", "Gartenstraße", "Bahnhofstraße", "Dorfstraße", "Bergstraße", "Birkenweg",
+            "Lindenstraße", "Kirchstraße", "Waldstraße", "Ringstraße", "Schillerstraße", "Goethestraße", "Mühlenweg",
+            "Wiesenweg", "Am Markt", "Rosenstraße", "Friedhofstraße", "Parkstraße", "Feldstraße"};
+    private static final String[] HEALTH_CONDITIONS = {
+            "Hypertension", "Type 2 diabetes", "Asthma", "Former smoker", "Back surgery", "Allergies"};
+    private static final String[] PROPERTY_TYPES = {"Apartment", "House", "Condominium", "Townhouse", "Commercial"};
+    private static final int[] PROPERTY_TYPE_WEIGHTS = {45, 30, 12, 10, 3};
+    private static final String[][] VEHICLES = {
+            {"Volkswagen", "Golf"}, {"Volkswagen", "Polo"}, {"Volkswagen", "Passat"}, {"Volkswagen", "Tiguan"},
+            {"Mercedes-Benz", "C-Klasse"}, {"Mercedes-Benz", "A-Klasse"}, {"BMW", "3er"}, {"BMW", "1er"},
+            {"Audi", "A4"}, {"Audi", "A3"}, {"Opel", "Corsa"}, {"Opel", "Astra"}, {"Ford", "Focus"},
+            {"Ford", "Fiesta"}, {"Skoda", "Octavia"}, {"Seat", "Leon"}, {"Toyota", "Yaris"}, {"Tesla", "Model 3"}};
+
+    private static final Zipf FAMILY_NAME_RANKS = new Zipf(FAMILY_NAMES.length, 1.0);
+    private static final Zipf FIRST_NAME_RANKS = new Zipf(FIRST_NAMES.length, 0.6);
+    private static final Zipf VEHICLE_RANKS = new Zipf(VEHICLES.length, 0.8);
+
+    private final long[] typeSeeds = new long[InsuranceType.values().length];
+
+    public PortfolioGenerator(long seed) {
+        SplittableRandom seeds = new SplittableRandom(seed);
+        for (int i = 0; i < typeSeeds.length; i++) {
+            typeSeeds[i] = seeds.nextLong();
+        }
+    }
+
+    /**
+     * Returns the id the generator assigns to the document at {@code index}, independent of the seed.
+     */
+    public static String id(InsuranceType type, long index) {
+        return String.format("%08x%02x%014x", ID_TIMESTAMP, type.ordinal(), index);
+    }
+
+    /**
+     * Returns the family name with the given popularity rank, 0 being the most frequent one.
+     */
+    public static String familyNameAtRank(int rank) {
+        return FAMILY_NAMES[rank];
+    }
+
+    public static int familyNameCount() {
+        return FAMILY_NAMES.length;
+    }
+
+    public Stream<LifeInsurance> lifeInsurances(long count) {
+        return LongStream.range(0, count).mapToObj(this::lifeInsurance);
+    }
+
+    public Stream<PropertyInsurance> propertyInsurances(long count) {
+        return LongStream.range(0, count).mapToObj(this::propertyInsurance);
+    }
+
+    public Stream<VehicleInsurance> vehicleInsurances(long count) {
+        return LongStream.range(0, count).mapToObj(this::vehicleInsurance);
+    }
+
+    public Stream<? extends Insurance> insurances(InsuranceType type, long count) {
+        return switch (type) {
+            case LIFE -> lifeInsurances(count);
+            case PROPERTY -> propertyInsurances(count);
+            case VEHICLE -> vehicleInsurances(count);
+        };
+    }
+
+    public Insurance insurance(InsuranceType type, long index) {
+        return switch (type) {
+            case LIFE -> lifeInsurance(index);
+            case PROPERTY -> propertyInsurance(index);
+            case VEHICLE -> vehicleInsurance(index);
+        };
+    }
+
+    public LifeInsurance lifeInsurance(long index) {
+        SplittableRandom random = random(InsuranceType.LIFE, index);
+        Customer customer = customer(random, index);
+        LocalDate startDate = startDate(random);
+        int duration = 12 * (10 + random.nextInt(31));
+        boolean hasHealthIssues = random.nextInt(100) < 18;
+        return LifeInsurance.builder()
+                .id(id(InsuranceType.LIFE, index))
+                .firstName(customer.firstName())
+                .familyName(customer.familyName())
+                .zipCode(customer.zipCode())
+                .city(customer.city().name())
+                .address(customer.address())
+                .telephone(customer.telephone())
+                .email(customer.email())
+                .type(InsuranceType.LIFE)
+                .duration(duration)
+                .paymentPerMonth(premium(random, 45, 0.6))
+                .startDate(startDate)
+                .endDate(startDate.plusMonths(duration))
+                .hasHealthIssues(hasHealthIssues)
+                .healthConditionDetails(hasHealthIssues ? pick(random, HEALTH_CONDITIONS) : "")
+                .build();
+    }
+
+    public PropertyInsurance propertyInsurance(long index) {
+        SplittableRandom random = random(InsuranceType.PROPERTY, index);
+        Customer customer = customer(random, index);
+        LocalDate startDate = startDate(random);
+        int duration = 12 * (1 + random.nextInt(10));
+        String propertyAddress = random.nextInt(100) < 80
+                ? customer.address()
+                : pick(random, STREETS) + " " + (1 + random.nextInt(199)) + ", " + customer.city().name();
+        return PropertyInsurance.builder()
+                .id(id(InsuranceType.PROPERTY, index))
+                .firstName(customer.firstName())
+                .familyName(customer.familyName())
+                .zipCode(customer.zipCode())
+                .city(customer.city().name())
+                .address(customer.address())
+                .telephone(customer.telephone())
+                .email(customer.email())
+                .type(InsuranceType.PROPERTY)
+                .duration(duration)
+                .paymentPerMonth(premium(random, 22, 0.5))
+                .startDate(startDate)
+                .endDate(startDate.plusMonths(duration))
+                .propertyType(PROPERTY_TYPES[weighted(random, PROPERTY_TYPE_WEIGHTS)])
+                .propertyAddress(propertyAddress)
+                .constructionYear(Math.max(1890, REFERENCE_DATE.getYear() - (int) Math.abs(random.nextGaussian() * 45)))
+                .build();
+    }
+
+    public VehicleInsurance vehicleInsurance(long index) {
+        SplittableRandom random = random(InsuranceType.VEHICLE, index);
+        Customer customer = customer(random, index);
+        LocalDate startDate = startDate(random);
+        int duration = random.nextInt(100) < 70 ? 12 : 12 * (2 + random.nextInt(2));
+        String[] vehicle = VEHICLES[VEHICLE_RANKS.sample(random)];
+        return VehicleInsurance.builder()
+                .id(id(InsuranceType.VEHICLE, index))
+                .firstName(customer.firstName())
+                .familyName(customer.familyName())
+                .zipCode(customer.zipCode())
+                .city(customer.city().name())
+                .address(customer.address())
+                .telephone(customer.telephone())
+                .email(customer.email())
+                .type(InsuranceType.VEHICLE)
+                .duration(duration)
+                .paymentPerMonth(premium(random, 55, 0.45))
+                .startDate(startDate)
+                .endDate(startDate.plusMonths(duration))
+                .vehicleMake(vehicle[0])
+                .vehicleModel(vehicle[1])
+                .vehicleYear(startDate.getYear() - Math.min(20, (int) Math.abs(random.nextGaussian() * 7)))
+                .licensePlateNumber(licensePlate(random, customer.city()))
+                .build();
+    }
+
+    /**
+     * Writes {@code count} documents of {@code type} as newline-delimited JSON, the format accepted by
+     * {@code /api/import/{type}}.
+     */
+    public void writeNdjson(InsuranceType type, long count, OutputStream out, ObjectMapper objectMapper) throws IOException {
+        try (JsonGenerator generator = objectMapper.createGenerator(out).disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+             Stream<? extends Insurance> insurances = insurances(type, count)) {
+            generator.setRootValueSeparator(null);
+            Iterator<? extends Insurance> iterator = insurances.iterator();
+            while (iterator.hasNext()) {
+                generator.writeObject(iterator.next());
+                generator.writeRaw('\n');
+            }
+        }
+    }
+
+    public void insert(MongoTemplate mongoTemplate, InsuranceType type, long count) {
+        insert(mongoTemplate, type, count, DEFAULT_BATCH_SIZE);
+    }
+
+    /**
+     * Inserts {@code count} documents of {@code type} with unordered bulk inserts of {@code batchSize} documents.
+     */
+    public void insert(MongoTemplate mongoTemplate, InsuranceType type, long count, int batchSize) {
+        Class<? extends Insurance> entityClass = entityClass(type);
+        try (Stream<? extends Insurance> insurances = insurances(type, count)) {
+            List<Insurance> batch = new ArrayList<>(batchSize);
+            Iterator<? extends Insurance> iterator = insurances.iterator();
+            while (iterator.hasNext()) {
+                batch.add(iterator.next());
+                if (batch.size() == batchSize || !iterator.hasNext()) {
+                    mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, entityClass)
+                            .insert(batch)
+                            .execute();
+                    batch = new ArrayList<>(batchSize);
+                }
+            }
+        }
+    }
+
+    /**
+     * Writes {@code life_insurance.ndjson}, {@code property_insurance.ndjson} and {@code vehicle_insurance.ndjson} into
+     * a directory. Arguments: {@code <output directory> <documents per type> [seed]}.
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.err.println("Usage: PortfolioGenerator <output directory> <documents per type> [seed]");
+            System.exit(1);
+        }
+        Path directory = Files.createDirectories(Path.of(args[0]));
+        long count = Long.parseLong(args[1]);
+        PortfolioGenerator generator = new PortfolioGenerator(args.length > 2 ? Long.parseLong(args[2]) : 42L);
+        ObjectMapper objectMapper = JsonMapper.builder()
+                .findAndAddModules()
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+        for (InsuranceType type : InsuranceType.values()) {
+            Path file = directory.resolve(type.name().toLowerCase(Locale.ROOT) + "_insurance.ndjson");
+            try (OutputStream out = Files.newOutputStream(file)) {
+                generator.writeNdjson(type, count, out, objectMapper);
+            }
+            System.out.println("Wrote " + count + " documents to " + file);
+        }
+    }
+
+    public static Class<? extends Insurance> entityClass(InsuranceType type) {
+        return switch (type) {
+            case LIFE -> LifeInsurance.class;
+            case PROPERTY -> PropertyInsurance.class;
+            case VEHICLE -> VehicleInsurance.class;
+        };
+    }
+
+    private SplittableRandom random(InsuranceType type, long index) {
+        return new SplittableRandom(typeSeeds[type.ordinal()] + index * 0x9E3779B97F4A7C15L);
+    }
+
+    private static Customer customer(SplittableRandom random, long index) {
+        String firstName = FIRST_NAMES[FIRST_NAME_RANKS.sample(random)];
+        String familyName = FAMILY_NAMES[FAMILY_NAME_RANKS.sample(random)];
+        City city = CITIES[weightedCity(random)];
+        String zipCode = String.format("%05d", city.zipFrom() + random.nextInt(city.zipTo() - city.zipFrom() + 1));
+        String address = pick(random, STREETS) + " " + (1 + random.nextInt(199));
+        String telephone = "0" + city.areaCode() + " " + (100_000 + random.nextInt(9_900_000));
+        String email = ascii(firstName) + "." + ascii(familyName) + index + "@example.com";
+        return new Customer(firstName, familyName, city, zipCode, address, telephone, email);
+    }
+
+    private static LocalDate startDate(SplittableRandom random) {
+        return REFERENCE_DATE.minusDays(random.nextInt(MAX_POLICY_AGE_DAYS));
+    }
+
+    private static BigDecimal premium(SplittableRandom random, double median, double sigma) {
+        double value = Math.max(5, median * Math.exp(sigma * random.nextGaussian()));
+        return BigDecimal.valueOf(value).setScale(2, RoundingMode.HALF_UP);
+    }
+
+    private static String licensePlate(SplittableRandom random, City city) {
+        char first = (char) ('A' + random.nextInt(26));
+        char second = (char) ('A' + random.nextInt(26));
+        return city.plate() + " " + first + second + " " + (1 + random.nextInt(9_999));
+    }
+
+    private static int weightedCity(SplittableRandom random) {
+        int value = random.nextInt(TOTAL_CITY_WEIGHT);
+        for (int i = 0; i < CITIES.length; i++) {
+            value -= CITIES[i].weight();
+            if (value < 0) {
+                return i;
+            }
+        }
+        return CITIES.length - 1;
+    }
+
+    private static int weighted(SplittableRandom random, int[] weights) {
+        int value = random.nextInt(Arrays.stream(weights).sum());
+        for (int i = 0; i < weights.length; i++) {
+            value -= weights[i];
+            if (value < 0) {
+                return i;
+            }
+        }
+        return weights.length - 1;
+    }
+
+    private static String pick(SplittableRandom random, String[] values) {
+        return values[random.nextInt(values.length)];
+    }
+
+    private static String ascii(String name) {
+        String transliterated = name.toLowerCase(Locale.ROOT)
+                .replace("ä", "ae")
+                .replace("ö", "oe")
+                .replace("ü", "ue")
+                .replace("ß", "ss");
+        return Normalizer.normalize(transliterated, Normalizer.Form.NFD).replaceAll("[^a-z]", "");
+    }
+
+    private static String[] familyNames() {
+        List<String> names = new ArrayList<>(Arrays.asList(COMMON_FAMILY_NAMES));
+        for (String ending : RARE_FAMILY_NAME_ENDINGS) {
+            for (String stem : RARE_FAMILY_NAME_STEMS) {
+                names.add(stem + ending);
+            }
+        }
+        return names.toArray(String[]::new);
+    }
+
+    private record City(String name, int zipFrom, int zipTo, String areaCode, String plate, int weight) {
+    }
+
+    private record Customer(String firstName, String familyName, City city, String zipCode, String address,
+                            String telephone, String email) {
+    }
+
+    private static final class Zipf {
+        private final double[] cumulative;
+
+        Zipf(int size, double exponent) {
+            cumulative = new double[size];
+            double total = 0;
+            for (int rank = 0; rank < size; rank++) {
+                total += 1 / Math.pow(rank + 1, exponent);
+                cumulative[rank] = total;
+            }
+            for (int rank = 0; rank < size; rank++) {
+                cumulative[rank] /= total;
+            }
+        }
+
+        int sample(SplittableRandom random) {
+            int index = Arrays.binarySearch(cumulative, random.nextDouble());
+            return Math.min(index >= 0 ? index : -index - 1, cumulative.length - 1);
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package com.github.iskrendev.insuranceprogram.testdata;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.github.iskrendev.insuranceprogram.enums.InsuranceType;
+import com.github.iskrendev.insuranceprogram.models.LifeInsurance;
+import com.github.iskrendev.insuranceprogram.models.VehicleInsurance;
+import com.github.iskrendev.insuranceprogram.models.VehicleInsuranceDTO;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class PortfolioGeneratorTest {
+    private final ObjectMapper objectMapper = JsonMapper.builder()
+            .findAndAddModules()
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+            .build();
+
+    @Test
+    void lifeInsurances_whenSameSeed_thenGenerateSameDocuments() {
+        //GIVEN
+        PortfolioGenerator first = new PortfolioGenerator(7);
+        PortfolioGenerator second = new PortfolioGenerator(7);
+        //WHEN
+        List<LifeInsurance> expected = first.lifeInsurances(100).toList();
+        List<LifeInsurance> actual = second.lifeInsurances(100).toList();
+        //THEN
+        assertEquals(expected, actual);
+        assertEquals(expected.get(42), second.lifeInsurance(42));
+    }
+
+    @Test
+    void lifeInsurances_whenDifferentSeed_thenGenerateDifferentDocuments() {
+        //WHEN
+        List<LifeInsurance> first = new PortfolioGenerator(7).lifeInsurances(100).toList();
+        List<LifeInsurance> second = new PortfolioGenerator(8).lifeInsurances(100).toList();
+        //THEN
+        assertNotEquals(first, second);
+        assertEquals(first.get(0).id(), second.get(0).id());
+    }
+
+    @Test
+    void insurances_whenGenerated_thenDocumentsAreConsistent() {
+        //GIVEN
+        PortfolioGenerator generator = new PortfolioGenerator(42);
+        //WHEN
+        List<VehicleInsurance> actual = generator.vehicleInsurances(1_000).toList();
+        //THEN
+        for (VehicleInsurance vehicleInsurance : actual) {
+            assertTrue(ObjectId.isValid(vehicleInsurance.id()), vehicleInsurance.id());
+            assertEquals(InsuranceType.VEHICLE, vehicleInsurance.type());
+            assertEquals(vehicleInsurance.startDate().plusMonths(vehicleInsurance.duration()), vehicleInsurance.endDate());
+            assertFalse(vehicleInsurance.startDate().isAfter(PortfolioGenerator.REFERENCE_DATE));
+            assertTrue(vehicleInsurance.paymentPerMonth().signum() > 0);
+            assertEquals(2, vehicleInsurance.paymentPerMonth().scale());
+            assertTrue(vehicleInsurance.zipCode().matches("\\d{5}"), vehicleInsurance.zipCode());
+            assertTrue(vehicleInsurance.email().matches("[a-z]+\\.[a-z]+\\d+@example\\.com"), vehicleInsurance.email());
+        }
+        assertEquals(1_000, actual.stream().map(VehicleInsurance::id).distinct().count());
+    }
+
+    @Test
+    void lifeInsurances_whenGeneratingManyDocuments_thenFamilyNamesAreZipfSkewed() {
+        //WHEN
+        Map<String, Long> actual = new PortfolioGenerator(42).lifeInsurances(50_000)
+                .collect(Collectors.groupingBy(LifeInsurance::familyName, Collectors.counting()));
+        //THEN
+        long mostFrequent = actual.get(PortfolioGenerator.familyNameAtRank(0));
+        long tenthMostFrequent = actual.get(PortfolioGenerator.familyNameAtRank(9));
+        assertEquals(mostFrequent, actual.values().stream().mapToLong(Long::longValue).max().orElseThrow());
+        assertTrue(mostFrequent > 5 * tenthMostFrequent / 2, mostFrequent + " vs " + tenthMostFrequent);
+        assertTrue(actual.size() > PortfolioGenerator.familyNameCount() / 2);
+    }
+
+    @Test
+    void writeNdjson_whenWritingDocuments_thenWriteOneImportableLinePerDocument() throws Exception {
+        //GIVEN
+        PortfolioGenerator generator = new PortfolioGenerator(42);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        //WHEN
+        generator.writeNdjson(InsuranceType.VEHICLE, 25, out, objectMapper);
+        //THEN
+        List<String> lines = out.toString(StandardCharsets.UTF_8).lines().toList();
+        assertEquals(25, lines.size());
+        VehicleInsuranceDTO actual = objectMapper.readValue(lines.get(3), VehicleInsuranceDTO.class);
+        VehicleInsurance expected = generator.vehicleInsurance(3);
+        assertEquals(expected.familyName(), actual.familyName());
+        assertEquals(expected.startDate(), actual.startDate());
+        assertEquals(expected.licensePlateNumber(), actual.licensePlateNumber());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void insert_whenCountExceedsBatchSize_thenInsertUnorderedBatches() {
+        //GIVEN
+        MongoTemplate mockMongoTemplate = mock(MongoTemplate.class);
+        BulkOperations mockBulkOperations = mock(BulkOperations.class);
+        when(mockMongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, LifeInsurance.class)).thenReturn(mockBulkOperations);
+        when(mockBulkOperations.insert(anyList())).thenReturn(mockBulkOperations);
+        ArgumentCaptor<List<LifeInsurance>> batchCaptor = ArgumentCaptor.forClass(List.class);
+        PortfolioGenerator generator = new PortfolioGenerator(42);
+        //WHEN
+        generator.insert(mockMongoTemplate, InsuranceType.LIFE, 25, 10);
+        //THEN
+        verify(mockBulkOperations, times(3)).insert(batchCaptor.capture());
+        verify(mockBulkOperations, times(3)).execute();
+        assertEquals(List.of(10, 10, 5), batchCaptor.getAllValues().stream().map(List::size).toList());
+        assertEquals(generator.lifeInsurances(25).toList(),
+                batchCaptor.getAllValues().stream().flatMap(List::stream).toList());
+    }
+}